@@ -0,0 +1,66 @@
+package com.example.pre_view.domain.auth.jwt;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.pre_view.domain.auth.config.JwtKeyConfig;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * JWT 서명/검증 알고리즘별 비용 비교 (HS256 vs EdDSA vs ES256)
+ *
+ * JwtKeyRing + JwtTokenProvider를 그대로 사용하므로, 요청마다 실제로 수행되는
+ * Access Token 발급(sign)과 JwtAuthenticationFilter의 검증(verify) 비용을 측정합니다.
+ * 비대칭 알고리즘은 키를 설정하지 않아 기동 시 생성되는 임시 키 쌍을 사용합니다.
+ *
+ * 실행: ./gradlew jmh --args="JwtSigningBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtSigningBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-at-least-32-bytes-long";
+    private static final long ACCESS_EXPIRATION = 900_000L;
+    private static final long REFRESH_EXPIRATION = 1_209_600_000L;
+
+    @Param({"HS256", "EdDSA", "ES256"})
+    private String algorithm;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        JwtKeyConfig config = new JwtKeyConfig();
+        config.setAlgorithm(algorithm);
+
+        jwtTokenProvider = new JwtTokenProvider(new JwtKeyRing(config, SECRET), ACCESS_EXPIRATION, REFRESH_EXPIRATION);
+        accessToken = jwtTokenProvider.createAccessToken("1", "ROLE_USER", "device-1");
+    }
+
+    @Benchmark
+    public String sign() {
+        return jwtTokenProvider.createAccessToken("1", "ROLE_USER", "device-1");
+    }
+
+    @Benchmark
+    public Claims verify() {
+        return jwtTokenProvider.getValidClaims(accessToken).orElseThrow();
+    }
+}
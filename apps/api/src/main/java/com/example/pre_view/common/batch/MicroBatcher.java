@@ -0,0 +1,191 @@
+package com.example.pre_view.common.batch;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 동시 요청 마이크로 배칭
+ *
+ * 같은 키로 들어온 요청을 최대 maxWaitMillis 동안 또는 maxBatchSize개가 찰 때까지 모아
+ * 한 번의 배치 호출로 처리하고, 결과를 요청 순서대로 각 호출자에게 돌려줍니다.
+ * GPU 추론 서버처럼 배치 크기가 처리량을 좌우하는 백엔드 앞에 두어,
+ * 부하가 있을 때 처리량을 높이고 추가 지연은 maxWaitMillis 이내로 제한합니다.
+ *
+ * - 키: 한 배치로 묶을 수 있는 요청 단위 (예: 같은 언어의 STT 요청)
+ * - 배치 처리 함수는 입력과 같은 크기, 같은 순서의 결과를 반환해야 함
+ * - 배치 처리는 가상 스레드에서 실행되어 다음 배치 수집을 막지 않음
+ * - close 이후의 요청과 close 시점에 모이던 배치는 RejectedExecutionException으로 완료
+ *
+ * @param <T> 요청 타입
+ * @param <R> 결과 타입
+ */
+@Slf4j
+public class MicroBatcher<T, R> implements AutoCloseable {
+
+    /**
+     * 배치 처리 함수
+     */
+    @FunctionalInterface
+    public interface BatchHandler<T, R> {
+        List<R> handle(String key, List<T> items) throws Exception;
+    }
+
+    private final String name;
+    private final int maxBatchSize;
+    private final long maxWaitMillis;
+    private final BatchHandler<T, R> handler;
+
+    private final Map<String, Batch> openBatches = new HashMap<>();
+    private final ScheduledExecutorService timer;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private boolean closed;  // openBatches 락으로 보호
+
+    // 메트릭
+    private final DistributionSummary batchSizeSummary;
+    private final Timer batchTimer;
+
+    public MicroBatcher(String name, int maxBatchSize, long maxWaitMillis, BatchHandler<T, R> handler,
+            MeterRegistry meterRegistry) {
+        this.name = name;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.maxWaitMillis = Math.max(0, maxWaitMillis);
+        this.handler = handler;
+        this.timer = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofVirtual().name(name + "-batch-timer").factory());
+
+        this.batchSizeSummary = DistributionSummary.builder(name + ".batch.size")
+                .description("배치 호출 1회당 요청 수")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder(name + ".batch.duration")
+                .description("배치 호출 처리 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청 등록 (현재 열린 배치에 합류하거나 새 배치 시작)
+     *
+     * @param key 배치 키 (같은 키끼리만 묶음)
+     * @param item 요청
+     * @return 배치 처리 후 완료되는 결과
+     */
+    public CompletableFuture<R> submit(String key, T item) {
+        CompletableFuture<R> future = new CompletableFuture<>();
+        Batch full = null;
+        synchronized (openBatches) {
+            if (closed) {
+                future.completeExceptionally(closedException());
+                return future;
+            }
+            Batch batch = openBatches.get(key);
+            if (batch == null) {
+                batch = new Batch(key);
+                if (maxBatchSize > 1) {
+                    Batch scheduled = batch;
+                    batch.flushTask = timer.schedule(() -> flush(scheduled), maxWaitMillis, TimeUnit.MILLISECONDS);
+                }
+                openBatches.put(key, batch);
+            }
+            batch.items.add(item);
+            batch.futures.add(future);
+            if (batch.items.size() >= maxBatchSize) {
+                openBatches.remove(key);
+                full = batch;
+            }
+        }
+
+        if (full != null) {
+            if (full.flushTask != null) {
+                full.flushTask.cancel(false);
+            }
+            dispatch(full);
+        }
+        return future;
+    }
+
+    private void flush(Batch batch) {
+        synchronized (openBatches) {
+            // 이미 가득 차서 전송된 배치면 무시
+            if (!openBatches.remove(batch.key, batch)) {
+                return;
+            }
+        }
+        dispatch(batch);
+    }
+
+    private void dispatch(Batch batch) {
+        try {
+            executor.execute(() -> process(batch));
+        } catch (RejectedExecutionException e) {
+            // close와 동시에 가득 찬 배치
+            batch.futures.forEach(future -> future.completeExceptionally(e));
+        }
+    }
+
+    private void process(Batch batch) {
+        batchSizeSummary.record(batch.items.size());
+        Timer.Sample sample = Timer.start();
+        try {
+            List<R> results = handler.handle(batch.key, batch.items);
+            if (results == null || results.size() != batch.items.size()) {
+                throw new IllegalStateException("배치 결과 수 불일치 - expected: " + batch.items.size()
+                        + ", actual: " + (results == null ? 0 : results.size()));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                batch.futures.get(i).complete(results.get(i));
+            }
+        } catch (Throwable e) {
+            log.warn("{} 배치 처리 실패 - size: {}, error: {}", name, batch.items.size(), e.getMessage());
+            batch.futures.forEach(future -> future.completeExceptionally(e));
+        } finally {
+            sample.stop(batchTimer);
+        }
+    }
+
+    /**
+     * 새 요청을 거절하고, 모이던 배치의 요청은 처리하지 않고 실패로 완료
+     */
+    @Override
+    public void close() {
+        List<Batch> pending;
+        synchronized (openBatches) {
+            closed = true;
+            pending = new ArrayList<>(openBatches.values());
+            openBatches.clear();
+        }
+        timer.shutdownNow();
+        executor.shutdownNow();
+
+        RejectedExecutionException rejected = closedException();
+        pending.forEach(batch -> batch.futures.forEach(future -> future.completeExceptionally(rejected)));
+    }
+
+    private RejectedExecutionException closedException() {
+        return new RejectedExecutionException(name + " 배치 처리기가 종료되었습니다.");
+    }
+
+    private final class Batch {
+
+        private final String key;
+        private final List<T> items = new ArrayList<>();
+        private final List<CompletableFuture<R>> futures = new ArrayList<>();
+        private ScheduledFuture<?> flushTask;
+
+        private Batch(String key) {
+            this.key = key;
+        }
+    }
+}
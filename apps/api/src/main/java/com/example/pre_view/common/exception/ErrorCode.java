@@ -18,6 +18,7 @@ public enum ErrorCode {
     // 공통
     INVALID_INPUT(HttpStatus.BAD_REQUEST, "C001", "잘못된 입력값입니다."),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "C002", "서버 오류가 발생했습니다."),
+    REQUEST_DEADLINE_EXCEEDED(HttpStatus.GATEWAY_TIMEOUT, "C003", "요청 처리 시간이 초과되었습니다. 잠시 후 다시 시도해주세요."),
 
     // 인증/인가 (Auth)
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "AUTH001", "인증이 필요합니다."),
@@ -27,6 +28,7 @@ public enum ErrorCode {
     INVALID_TOKEN_TYPE(HttpStatus.BAD_REQUEST, "AUTH005", "잘못된 토큰 타입입니다."),
     ACCESS_DENIED(HttpStatus.FORBIDDEN, "AUTH006", "접근 권한이 없습니다."),
     ACCOUNT_LOCKED(HttpStatus.TOO_MANY_REQUESTS, "AUTH007", "로그인 시도 횟수를 초과했습니다. 5분 후 다시 시도해주세요."),
+    AUTH_SERVICE_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "AUTH008", "인증 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     // 회원 (Member)
     MEMBER_NOT_FOUND(HttpStatus.NOT_FOUND, "M001", "회원을 찾을 수 없습니다."),
@@ -53,16 +55,20 @@ public enum ErrorCode {
     FILE_UPLOAD_ERROR(HttpStatus.BAD_REQUEST, "F001", "파일 업로드 중 오류가 발생했습니다."),
     INVALID_FILE_TYPE(HttpStatus.BAD_REQUEST, "F002", "지원하지 않는 파일 형식입니다. PDF 파일만 업로드 가능합니다."),
     FILE_READ_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "F003", "파일 읽기 중 오류가 발생했습니다."),
+    DOCUMENT_PROCESSING(HttpStatus.CONFLICT, "F004", "업로드한 문서를 처리하는 중입니다. 잠시 후 다시 시도해주세요."),
 
     // TTS (Text-to-Speech)
     TTS_SERVICE_ERROR(HttpStatus.SERVICE_UNAVAILABLE, "TTS001", "음성 생성 서비스 오류입니다."),
     TTS_TEXT_TOO_LONG(HttpStatus.BAD_REQUEST, "TTS002", "텍스트가 너무 깁니다. (최대 2000자)"),
+    TTS_SERVICE_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "TTS003", "음성 생성 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     // STT (Speech-to-Text)
     STT_SERVICE_ERROR(HttpStatus.SERVICE_UNAVAILABLE, "STT001", "음성 인식 서비스 오류입니다."),
     STT_AUDIO_TOO_LONG(HttpStatus.BAD_REQUEST, "STT002", "오디오가 너무 깁니다. (최대 60초)"),
     STT_INVALID_AUDIO_FORMAT(HttpStatus.BAD_REQUEST, "STT003", "지원하지 않는 오디오 형식입니다."),
     STT_AUDIO_TOO_LARGE(HttpStatus.BAD_REQUEST, "STT004", "오디오 파일이 너무 큽니다. (최대 10MB)"),
+    STT_STREAM_NOT_FOUND(HttpStatus.NOT_FOUND, "STT005", "음성 스트리밍 세션을 찾을 수 없거나 만료되었습니다."),
+    STT_SERVICE_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "STT006", "음성 인식 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     // Voice Server (음성 서버)
     VOICE_SERVER_NOT_AVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "VOICE001", "음성 서버가 설정되지 않았거나 비활성화 상태입니다."),
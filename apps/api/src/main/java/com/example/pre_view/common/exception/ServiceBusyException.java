@@ -0,0 +1,18 @@
+package com.example.pre_view.common.exception;
+
+import lombok.Getter;
+
+/**
+ * 서버 과부하로 요청을 처리할 수 없을 때 사용하는 예외
+ * GlobalExceptionHandler에서 Retry-After 헤더와 함께 응답합니다.
+ */
+@Getter
+public class ServiceBusyException extends BusinessException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceBusyException(ErrorCode errorCode, long retryAfterSeconds) {
+        super(errorCode);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -9,6 +9,13 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClient;
 
+import com.example.pre_view.common.exception.BusinessException;
+import com.example.pre_view.common.exception.ErrorCode;
+import com.example.pre_view.common.resilience.DeadlineConfig;
+import com.example.pre_view.common.resilience.DeadlineContext;
+
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.micrometer.core.instrument.Counter;
 import tools.jackson.databind.json.JsonMapper;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -20,6 +27,7 @@ import lombok.extern.slf4j.Slf4j;
 public class GroqChatService {
 
     private final GroqConfig config;
+    private final DeadlineConfig deadlineConfig;
     private final JsonMapper objectMapper;
     private RestClient restClient;
 
@@ -27,9 +35,14 @@ public class GroqChatService {
     private Counter primaryModelCounter;
     private Counter fallbackModelCounter;
     private Counter rateLimitCounter;
+    private final Counter promptTokensCounter;
+    private final Counter cachedPromptTokensCounter;
+    private final Counter completionTokensCounter;
 
-    public GroqChatService(GroqConfig config, JsonMapper objectMapper, MeterRegistry meterRegistry) {
+    public GroqChatService(GroqConfig config, DeadlineConfig deadlineConfig, JsonMapper objectMapper,
+            MeterRegistry meterRegistry) {
         this.config = config;
+        this.deadlineConfig = deadlineConfig;
         this.objectMapper = objectMapper;
 
         this.primaryModelCounter = Counter.builder("groq.model.primary")
@@ -41,6 +54,20 @@ public class GroqChatService {
         this.rateLimitCounter = Counter.builder("groq.ratelimit.hit")
                 .description("Rate limit 발생 횟수")
                 .register(meterRegistry);
+
+        // 토큰 사용량 (cached / prompt 비율로 프롬프트 캐시 적중률 확인)
+        this.promptTokensCounter = Counter.builder("groq.tokens")
+                .description("Groq API 사용 토큰 수")
+                .tag("type", "prompt")
+                .register(meterRegistry);
+        this.cachedPromptTokensCounter = Counter.builder("groq.tokens")
+                .description("Groq API 사용 토큰 수")
+                .tag("type", "cached")
+                .register(meterRegistry);
+        this.completionTokensCounter = Counter.builder("groq.tokens")
+                .description("Groq API 사용 토큰 수")
+                .tag("type", "completion")
+                .register(meterRegistry);
     }
 
     @PostConstruct
@@ -63,8 +90,15 @@ public class GroqChatService {
     /**
      * 채팅 완료 요청 (Failover 지원)
      * Primary 모델에서 429 에러 시 Fallback 모델로 자동 전환
+     * Groq 장애가 이어지면 서킷 브레이커가 호출을 차단하고, 동시 호출 수는 벌크헤드로 제한합니다.
+     * 요청 마감 시각이 있으면 남은 시간으로 타임아웃을 줄이고, 시간이 모자라면 Fallback 모델 전환을 생략합니다.
      */
+    @CircuitBreaker(name = "groqApi")
+    @Bulkhead(name = "groqApi")
     public <T> T chatCompletion(String systemPrompt, String userPrompt, Class<T> responseType) {
+        Duration minAttemptTime = Duration.ofMillis(deadlineConfig.getMinAttemptTime());
+        DeadlineContext.checkRemaining(minAttemptTime);
+
         // 1차: Primary 모델 시도
         try {
             String response = callGroqApi(config.getPrimaryModel(), systemPrompt, userPrompt);
@@ -78,6 +112,12 @@ public class GroqChatService {
             log.warn("Primary 모델 호출 실패 - model: {}, error: {}", config.getPrimaryModel(), e.getMessage());
         }
 
+        // 마감 시각이 임박하면 Fallback 모델을 호출하지 않음
+        if (!DeadlineContext.hasRemaining(minAttemptTime)) {
+            log.warn("요청 마감 시각 임박 - Fallback 모델 전환 생략 - model: {}", config.getFallbackModel());
+            throw new BusinessException(ErrorCode.REQUEST_DEADLINE_EXCEEDED);
+        }
+
         // 2차: Fallback 모델 시도
         try {
             String response = callGroqApi(config.getFallbackModel(), systemPrompt, userPrompt);
@@ -96,6 +136,9 @@ public class GroqChatService {
 
     /**
      * Groq API 직접 호출
+     *
+     * 메시지는 system → user 순서로 보내며, 프롬프트 템플릿은 면접 컨텍스트/문서/지시사항처럼
+     * 턴마다 바뀌지 않는 내용을 앞에, 턴별 내용을 뒤에 두어 공급자 측 프롬프트 캐시의 공통 접두사를 최대화합니다.
      */
     private String callGroqApi(String model, String systemPrompt, String userPrompt) {
         Map<String, Object> request = Map.of(
@@ -111,18 +154,61 @@ public class GroqChatService {
 
         log.debug("Groq API 호출 - model: {}", model);
 
-        Map<String, Object> response = restClient.post()
+        Map<String, Object> response = restClientFor(DeadlineContext.timeoutFor(Duration.ofMillis(config.getTimeout())))
+                .post()
                 .uri("/chat/completions")
                 .body(request)
                 .retrieve()
                 .body(Map.class);
 
+        recordUsage(model, response.get("usage"));
+
         // 응답에서 content 추출
         List<Map<String, Object>> choices = (List<Map<String, Object>>) response.get("choices");
         Map<String, Object> message = (Map<String, Object>) choices.get(0).get("message");
         return (String) message.get("content");
     }
 
+    /**
+     * 응답 usage 필드의 토큰 사용량 기록
+     * prompt_tokens_details.cached_tokens는 공급자 프롬프트 캐시에서 재사용된 입력 토큰 수입니다.
+     */
+    private void recordUsage(String model, Object usageField) {
+        if (!(usageField instanceof Map<?, ?> usage)) {
+            return;
+        }
+        long promptTokens = tokenCount(usage.get("prompt_tokens"));
+        long completionTokens = tokenCount(usage.get("completion_tokens"));
+        long cachedTokens = usage.get("prompt_tokens_details") instanceof Map<?, ?> details
+                ? tokenCount(details.get("cached_tokens"))
+                : 0;
+
+        promptTokensCounter.increment(promptTokens);
+        cachedPromptTokensCounter.increment(cachedTokens);
+        completionTokensCounter.increment(completionTokens);
+        log.debug("Groq 토큰 사용량 - model: {}, prompt: {}, cached: {}, completion: {}",
+                model, promptTokens, cachedTokens, completionTokens);
+    }
+
+    private static long tokenCount(Object value) {
+        return value instanceof Number number ? number.longValue() : 0;
+    }
+
+    /**
+     * 호출 타임아웃에 맞는 RestClient (설정 타임아웃보다 짧을 때만 별도 요청 팩토리 사용)
+     */
+    private RestClient restClientFor(Duration timeout) {
+        if (timeout.toMillis() >= config.getTimeout()) {
+            return restClient;
+        }
+        // 0은 무제한을 뜻하므로 최소 1ms로 제한
+        Duration bounded = Duration.ofMillis(Math.max(1, timeout.toMillis()));
+        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+        factory.setConnectTimeout(bounded);
+        factory.setReadTimeout(bounded);
+        return restClient.mutate().requestFactory(factory).build();
+    }
+
     /**
      * JSON 응답을 객체로 파싱
      */
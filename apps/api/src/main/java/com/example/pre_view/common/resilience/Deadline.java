@@ -0,0 +1,50 @@
+package com.example.pre_view.common.resilience;
+
+import java.time.Duration;
+
+/**
+ * 요청 처리 마감 시각
+ *
+ * 하위 호출의 타임아웃은 남은 시간을 넘지 않도록 cap으로 계산합니다.
+ */
+public final class Deadline {
+
+    private final long deadlineNanos;
+
+    private Deadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * 지금부터 timeout 후에 끝나는 마감 시각
+     */
+    public static Deadline after(Duration timeout) {
+        return new Deadline(System.nanoTime() + Math.max(0, timeout.toNanos()));
+    }
+
+    /**
+     * 남은 시간 (지났으면 0)
+     */
+    public Duration remaining() {
+        return Duration.ofNanos(Math.max(0, deadlineNanos - System.nanoTime()));
+    }
+
+    public boolean isExpired() {
+        return deadlineNanos - System.nanoTime() <= 0;
+    }
+
+    /**
+     * 설정된 타임아웃과 남은 시간 중 짧은 쪽
+     */
+    public Duration cap(Duration timeout) {
+        Duration remaining = remaining();
+        return remaining.compareTo(timeout) < 0 ? remaining : timeout;
+    }
+
+    /**
+     * 둘 중 먼저 끝나는 마감 시각
+     */
+    Deadline earlier(Deadline other) {
+        return deadlineNanos - other.deadlineNanos <= 0 ? this : other;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.pre_view.common.resilience;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 요청 마감 시각 설정
+ *
+ * application.yaml의 resilience.deadline.* 속성을 바인딩합니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "resilience.deadline")
+public class DeadlineConfig {
+
+    /**
+     * 답변 제출 요청 전체 처리 시간 (밀리초, 기본값: 90초)
+     * STT → AI 피드백 → 면접 에이전트 호출과 모든 재시도를 합친 상한입니다.
+     */
+    private long answerTimeout = 90000;
+
+    /**
+     * 새 시도를 시작하는 데 필요한 최소 남은 시간 (밀리초, 기본값: 3초)
+     * 남은 시간이 이보다 적으면 재시도와 Fallback 모델 전환을 생략합니다.
+     */
+    private long minAttemptTime = 3000;
+}
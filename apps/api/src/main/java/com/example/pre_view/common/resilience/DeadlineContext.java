@@ -0,0 +1,94 @@
+package com.example.pre_view.common.resilience;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import com.example.pre_view.common.exception.BusinessException;
+import com.example.pre_view.common.exception.ErrorCode;
+
+/**
+ * 요청 단위 마감 시각 전파
+ *
+ * 컨트롤러에서 마감 시각을 열면 같은 스레드에서 이어지는 Facade → STT/AI 서비스 → 외부 API 호출이
+ * 남은 시간으로 타임아웃을 계산하고, 시간이 모자라면 재시도/Fallback 모델 전환을 생략합니다.
+ * 마감 시각이 없는 호출(백그라운드 작업 등)은 기존 설정 타임아웃을 그대로 사용합니다.
+ */
+public final class DeadlineContext {
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private DeadlineContext() {
+    }
+
+    /**
+     * 마감 시각 시작 (이미 바깥 마감 시각이 있으면 더 이른 쪽을 사용)
+     *
+     * @param timeout 지금부터 허용할 처리 시간
+     * @return 닫으면 이전 마감 시각으로 복원되는 범위
+     */
+    public static Scope open(Duration timeout) {
+        Deadline previous = CURRENT.get();
+        Deadline deadline = Deadline.after(timeout);
+        CURRENT.set(previous != null ? previous.earlier(deadline) : deadline);
+        return new Scope(previous);
+    }
+
+    public static Optional<Deadline> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    /**
+     * 호출 타임아웃 계산 (마감 시각이 있으면 남은 시간 이내로 제한)
+     */
+    public static Duration timeoutFor(Duration timeout) {
+        Deadline deadline = CURRENT.get();
+        return deadline != null ? deadline.cap(timeout) : timeout;
+    }
+
+    /**
+     * 남은 시간이 minimum 이상인지 여부 (마감 시각이 없으면 항상 true)
+     */
+    public static boolean hasRemaining(Duration minimum) {
+        Deadline deadline = CURRENT.get();
+        return deadline == null || deadline.remaining().compareTo(minimum) >= 0;
+    }
+
+    /**
+     * 남은 시간이 minimum보다 적으면 호출하지 않고 실패
+     *
+     * @throws BusinessException REQUEST_DEADLINE_EXCEEDED
+     */
+    public static void checkRemaining(Duration minimum) {
+        if (!hasRemaining(minimum)) {
+            throw new BusinessException(ErrorCode.REQUEST_DEADLINE_EXCEEDED);
+        }
+    }
+
+    /**
+     * 마감 시각 초과로 발생한 예외인지 여부
+     */
+    public static boolean isDeadlineExceeded(Throwable e) {
+        return e instanceof BusinessException be && be.getErrorCode() == ErrorCode.REQUEST_DEADLINE_EXCEEDED;
+    }
+
+    /**
+     * 마감 시각 범위 (try-with-resources로 사용)
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final Deadline previous;
+
+        private Scope(Deadline previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.pre_view.common.resilience;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.github.resilience4j.common.circuitbreaker.configuration.CircuitBreakerConfigCustomizer;
+import io.github.resilience4j.common.retry.configuration.RetryConfigCustomizer;
+import io.github.resilience4j.retry.RetryRegistry;
+
+/**
+ * Resilience4j 인스턴스 공통 설정
+ *
+ * 기본 설정은 application.yaml의 resilience4j.* 에서 관리하고,
+ * YAML로 표현할 수 없는 판단 로직만 인스턴스별 Customizer로 추가합니다.
+ * - Retry: 재시도 여부를 계층 간 공유 재시도 예산(RetryBudget)으로 판단
+ * - CircuitBreaker: 벌크헤드 거부와 클라이언트 오류(4xx)는 실패율 집계에서 제외
+ */
+@Configuration
+public class ResilienceConfig {
+
+    @Bean
+    public RetryConfigCustomizer aiServiceRetryBudget(RetryBudget retryBudget, ObjectProvider<RetryRegistry> retryRegistry) {
+        return budgeted("aiServiceRetry", retryBudget, retryRegistry);
+    }
+
+    @Bean
+    public RetryConfigCustomizer llmServiceRetryBudget(RetryBudget retryBudget, ObjectProvider<RetryRegistry> retryRegistry) {
+        return budgeted("llmServiceRetry", retryBudget, retryRegistry);
+    }
+
+    @Bean
+    public RetryConfigCustomizer sttServiceRetryBudget(RetryBudget retryBudget, ObjectProvider<RetryRegistry> retryRegistry) {
+        return budgeted("sttServiceRetry", retryBudget, retryRegistry);
+    }
+
+    @Bean
+    public RetryConfigCustomizer ttsServiceRetryBudget(RetryBudget retryBudget, ObjectProvider<RetryRegistry> retryRegistry) {
+        return budgeted("ttsServiceRetry", retryBudget, retryRegistry);
+    }
+
+    @Bean
+    public CircuitBreakerConfigCustomizer groqApiCircuitBreaker() {
+        return ignoringClientErrors("groqApi");
+    }
+
+    @Bean
+    public CircuitBreakerConfigCustomizer llmServiceCircuitBreaker() {
+        return ignoringClientErrors("llmService");
+    }
+
+    @Bean
+    public CircuitBreakerConfigCustomizer sttServiceCircuitBreaker() {
+        return ignoringClientErrors("sttService");
+    }
+
+    @Bean
+    public CircuitBreakerConfigCustomizer ttsServiceCircuitBreaker() {
+        return ignoringClientErrors("ttsService");
+    }
+
+    /**
+     * 최대 시도 횟수는 YAML 설정이 반영된 인스턴스에서 조회 (레지스트리가 Customizer에 의존하므로 지연 조회)
+     */
+    private static RetryConfigCustomizer budgeted(String retryName, RetryBudget retryBudget,
+            ObjectProvider<RetryRegistry> retryRegistry) {
+        return RetryConfigCustomizer.of(retryName,
+                builder -> builder.retryOnException(e -> retryBudget.tryAcquire(retryName,
+                        retryRegistry.getObject().retry(retryName).getRetryConfig().getMaxAttempts(), e)));
+    }
+
+    private static CircuitBreakerConfigCustomizer ignoringClientErrors(String circuitBreakerName) {
+        return CircuitBreakerConfigCustomizer.of(circuitBreakerName,
+                builder -> builder.ignoreException(UpstreamFailures::isIgnoredByCircuitBreaker));
+    }
+}
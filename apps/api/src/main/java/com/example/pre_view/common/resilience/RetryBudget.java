@@ -0,0 +1,166 @@
+package com.example.pre_view.common.resilience;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 계층 간 공유 재시도 예산
+ *
+ * AiInterviewService → LlmService처럼 @Retry가 겹친 호출에서 재시도가 곱해지지 않도록,
+ * 모든 재시도 계층이 같은 예산에서 토큰을 꺼내 씁니다.
+ * - 요청 예산: 가장 바깥 @Retry 호출부터 끝날 때까지 모든 계층을 합쳐 maxRetriesPerRequest회까지만 재시도
+ * - 전역 예산: 요청 1건마다 ratio만큼 토큰을 적립하고 재시도 1회에 1개 사용 (장애 시 재시도 폭주 방지)
+ * - 마감 시각: 요청의 남은 시간이 한 번의 시도에 모자라면 재시도하지 않음
+ * - 거부/클라이언트 오류/마감 시각 초과는 예산을 쓰지 않고 바로 Fallback으로 넘김
+ * - 계층의 마지막 시도 실패는 어차피 재시도하지 않으므로 예산을 쓰지 않음
+ *   (Resilience4j는 시도 횟수 확인 전에 retryOnException을 호출하므로 계층별 시도 횟수를 직접 셈)
+ *
+ * 요청 범위는 RetryBudgetAspect가 @Retry 메서드 호출을 감싸 스레드 단위로 관리합니다.
+ */
+@Slf4j
+@Component
+public class RetryBudget {
+
+    private final RetryBudgetConfig config;
+    private final DeadlineConfig deadlineConfig;
+    private final ThreadLocal<Scope> currentScope = new ThreadLocal<>();
+    private double tokens;
+
+    // 메트릭
+    private final Counter retryAllowedCounter;
+    private final Counter requestBudgetDeniedCounter;
+    private final Counter globalBudgetDeniedCounter;
+    private final Counter deadlineDeniedCounter;
+
+    public RetryBudget(RetryBudgetConfig config, DeadlineConfig deadlineConfig, MeterRegistry meterRegistry) {
+        this.config = config;
+        this.deadlineConfig = deadlineConfig;
+        this.tokens = config.getMaxTokens();
+
+        Gauge.builder("resilience.retry.budget.tokens", this, RetryBudget::availableTokens)
+                .description("전역 재시도 예산 잔여 토큰")
+                .register(meterRegistry);
+        this.retryAllowedCounter = Counter.builder("resilience.retry.budget.allowed")
+                .description("예산 내에서 허용된 재시도 횟수")
+                .register(meterRegistry);
+        this.requestBudgetDeniedCounter = Counter.builder("resilience.retry.budget.denied")
+                .description("재시도 예산 소진 또는 마감 시각 임박으로 거부된 재시도 횟수")
+                .tag("scope", "request")
+                .register(meterRegistry);
+        this.globalBudgetDeniedCounter = Counter.builder("resilience.retry.budget.denied")
+                .description("재시도 예산 소진 또는 마감 시각 임박으로 거부된 재시도 횟수")
+                .tag("scope", "global")
+                .register(meterRegistry);
+        this.deadlineDeniedCounter = Counter.builder("resilience.retry.budget.denied")
+                .description("재시도 예산 소진 또는 마감 시각 임박으로 거부된 재시도 횟수")
+                .tag("scope", "deadline")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 재시도 허용 여부 판단 (허용 시 요청/전역 예산에서 1회 차감)
+     *
+     * @param retryName 재시도 인스턴스 이름 (로그용)
+     * @param maxAttempts 해당 재시도 인스턴스의 최대 시도 횟수
+     * @param e 실패 원인
+     */
+    public boolean tryAcquire(String retryName, int maxAttempts, Throwable e) {
+        if (UpstreamFailures.isRejected(e) || UpstreamFailures.isClientError(e)
+                || DeadlineContext.isDeadlineExceeded(e)) {
+            return false;
+        }
+
+        Scope scope = currentScope.get();
+        if (scope != null && scope.recordFailedAttempt() >= maxAttempts) {
+            // 마지막 시도: Resilience4j가 시도 횟수 초과로 바로 실패 처리하므로 예산을 쓰지 않음
+            return true;
+        }
+        if (!DeadlineContext.hasRemaining(Duration.ofMillis(deadlineConfig.getMinAttemptTime()))) {
+            deadlineDeniedCounter.increment();
+            log.debug("요청 마감 시각 임박, 재시도 생략 - retry: {}", retryName);
+            return false;
+        }
+
+        if (scope != null && scope.remaining <= 0) {
+            requestBudgetDeniedCounter.increment();
+            log.debug("요청 재시도 예산 소진 - retry: {}", retryName);
+            return false;
+        }
+        if (!withdraw()) {
+            globalBudgetDeniedCounter.increment();
+            log.warn("전역 재시도 예산 소진, 재시도 생략 - retry: {}", retryName);
+            return false;
+        }
+
+        if (scope != null) {
+            scope.remaining--;
+        }
+        retryAllowedCounter.increment();
+        return true;
+    }
+
+    /**
+     * 요청 범위 시작 (이미 바깥 계층의 범위가 있으면 그 범위를 함께 사용)
+     */
+    Scope openScope() {
+        Scope scope = currentScope.get();
+        if (scope == null) {
+            scope = new Scope(config.getMaxRetriesPerRequest());
+            currentScope.set(scope);
+            deposit();
+        }
+        scope.failedAttempts.push(new int[1]);
+        return scope;
+    }
+
+    private synchronized void deposit() {
+        tokens = Math.min(config.getMaxTokens(), tokens + config.getRatio());
+    }
+
+    private synchronized boolean withdraw() {
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+
+    private synchronized double availableTokens() {
+        return tokens;
+    }
+
+    /**
+     * 요청 1건의 재시도 범위 (가장 바깥 계층이 닫을 때 해제)
+     */
+    final class Scope implements AutoCloseable {
+
+        private int remaining;
+
+        // 계층별 실패한 시도 수 (맨 앞이 현재 재시도 판단 중인 가장 안쪽 계층)
+        private final Deque<int[]> failedAttempts = new ArrayDeque<>();
+
+        private Scope(int remaining) {
+            this.remaining = remaining;
+        }
+
+        private int recordFailedAttempt() {
+            return ++failedAttempts.element()[0];
+        }
+
+        @Override
+        public void close() {
+            failedAttempts.pop();
+            if (failedAttempts.isEmpty()) {
+                currentScope.remove();
+            }
+        }
+    }
+}
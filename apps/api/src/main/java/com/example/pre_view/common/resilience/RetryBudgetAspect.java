@@ -0,0 +1,32 @@
+package com.example.pre_view.common.resilience;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @Retry 메서드 호출을 재시도 예산 범위로 감싸는 Aspect
+ *
+ * Resilience4j RetryAspect(LOWEST_PRECEDENCE - 4)보다 바깥에서 실행되어,
+ * 재시도 판단 시점에 현재 요청의 예산을 조회할 수 있도록 합니다.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.LOWEST_PRECEDENCE - 5)
+public class RetryBudgetAspect {
+
+    private final RetryBudget retryBudget;
+
+    @Around("@annotation(io.github.resilience4j.retry.annotation.Retry)")
+    public Object withinBudget(ProceedingJoinPoint joinPoint) throws Throwable {
+        try (RetryBudget.Scope scope = retryBudget.openScope()) {
+            return joinPoint.proceed();
+        }
+    }
+}
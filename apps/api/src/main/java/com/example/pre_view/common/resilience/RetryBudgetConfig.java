@@ -0,0 +1,39 @@
+package com.example.pre_view.common.resilience;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 재시도 예산 설정
+ *
+ * application.yaml의 resilience.retry-budget.* 속성을 바인딩합니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "resilience.retry-budget")
+public class RetryBudgetConfig {
+
+    /**
+     * 요청 1건당 적립되는 재시도 토큰 (기본값: 0.2 → 전체 재시도는 요청의 약 20% 이내)
+     */
+    private double ratio = 0.2;
+
+    /**
+     * 적립 가능한 최대 토큰 수 (기본값: 20, 장애 직후 허용되는 재시도 버스트 상한)
+     */
+    private int maxTokens = 20;
+
+    /**
+     * 요청 1건이 모든 계층을 합쳐 사용할 수 있는 최대 재시도 횟수 (기본값: 2)
+     */
+    private int maxRetriesPerRequest = 2;
+
+    /**
+     * 서킷 브레이커/벌크헤드가 요청을 거부했을 때 Retry-After 헤더 값 (초, 기본값: 5)
+     */
+    private long rejectedRetryAfterSeconds = 5;
+}
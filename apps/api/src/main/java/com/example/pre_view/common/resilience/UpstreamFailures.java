@@ -0,0 +1,57 @@
+package com.example.pre_view.common.resilience;
+
+import com.example.pre_view.common.exception.BusinessException;
+import com.example.pre_view.common.exception.ErrorCode;
+import com.example.pre_view.common.exception.ServiceBusyException;
+
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+
+/**
+ * 외부 AI 서버(LLM/STT/TTS) 호출 실패 분류
+ *
+ * - 거부: 서킷 브레이커가 열려 있거나 벌크헤드가 가득 차 호출하지 않은 경우 (재시도/실패 집계 제외)
+ * - 클라이언트 오류: 입력 검증 실패 등 4xx BusinessException (재시도해도 결과가 같으므로 제외)
+ * - 마감 시각 초과: 요청에 남은 시간이 없어 호출하지 않은 경우 (재시도/실패 집계 제외)
+ */
+public final class UpstreamFailures {
+
+    private UpstreamFailures() {
+    }
+
+    /**
+     * 서킷 브레이커/벌크헤드에 의해 호출이 거부되었는지 여부
+     */
+    public static boolean isRejected(Throwable e) {
+        return e instanceof CallNotPermittedException || e instanceof BulkheadFullException;
+    }
+
+    /**
+     * 재시도해도 결과가 바뀌지 않는 클라이언트 오류인지 여부
+     */
+    public static boolean isClientError(Throwable e) {
+        return e instanceof BusinessException be && be.getErrorCode().getStatus().is4xxClientError();
+    }
+
+    /**
+     * 서킷 브레이커 실패율 집계에서 제외할 예외 여부
+     */
+    public static boolean isIgnoredByCircuitBreaker(Throwable e) {
+        return e instanceof BulkheadFullException || isClientError(e) || DeadlineContext.isDeadlineExceeded(e);
+    }
+
+    /**
+     * Fallback에서 던질 예외로 변환
+     * 클라이언트 오류/마감 시각 초과는 그대로, 거부는 503 + Retry-After, 그 외는 서비스 오류로 변환합니다.
+     */
+    public static BusinessException toBusinessException(Throwable e, ErrorCode serviceError, ErrorCode busyError,
+            long retryAfterSeconds) {
+        if (isClientError(e) || DeadlineContext.isDeadlineExceeded(e)) {
+            return (BusinessException) e;
+        }
+        if (isRejected(e)) {
+            return new ServiceBusyException(busyError, retryAfterSeconds);
+        }
+        return new BusinessException(serviceError);
+    }
+}
@@ -0,0 +1,195 @@
+package com.example.pre_view.common.retrieval;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.example.pre_view.common.service.TokenEstimator;
+
+/**
+ * 문서 1건의 청크 단위 BM25 역색인
+ *
+ * 이력서/포트폴리오 텍스트를 줄·문단 경계에 맞춰 청크로 나누고, 청크별 단어 빈도로 역색인을 만듭니다.
+ * - 영문/숫자는 단어 단위, 한글은 조사가 붙어도 매칭되도록 2글자(bigram) 단위로 색인
+ * - 점수: BM25 (k1=1.2, b=0.75)
+ *
+ * 생성 후에는 변경되지 않으므로 여러 스레드에서 동시에 조회할 수 있습니다.
+ */
+public final class Bm25Index {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final List<String> chunks;
+    private final int[] chunkTokens;
+    private final int[] chunkLengths;
+    private final Map<String, List<Posting>> postings;
+    private final double averageLength;
+
+    private Bm25Index(List<String> chunks) {
+        this.chunks = List.copyOf(chunks);
+        this.chunkTokens = new int[chunks.size()];
+        this.chunkLengths = new int[chunks.size()];
+        this.postings = new HashMap<>();
+
+        long totalLength = 0;
+        for (int i = 0; i < chunks.size(); i++) {
+            chunkTokens[i] = TokenEstimator.estimate(chunks.get(i));
+
+            Map<String, Integer> frequencies = new HashMap<>();
+            List<String> terms = terms(chunks.get(i));
+            terms.forEach(term -> frequencies.merge(term, 1, Integer::sum));
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), key -> new ArrayList<>())
+                        .add(new Posting(i, entry.getValue()));
+            }
+            chunkLengths[i] = terms.size();
+            totalLength += terms.size();
+        }
+        this.averageLength = chunks.isEmpty() ? 0 : (double) totalLength / chunks.size();
+    }
+
+    /**
+     * 텍스트를 청크로 나누어 색인 생성
+     *
+     * @param text      문서 전체 텍스트
+     * @param maxTokens 청크 1개의 최대 토큰 수
+     */
+    public static Bm25Index build(String text, int maxTokens) {
+        return new Bm25Index(text == null ? List.of() : chunk(text, Math.max(1, maxTokens)));
+    }
+
+    /**
+     * 질의에 대한 청크별 BM25 점수 (인덱스는 청크 순서)
+     */
+    public double[] score(String query) {
+        double[] scores = new double[chunks.size()];
+        if (chunks.isEmpty()) {
+            return scores;
+        }
+
+        for (String term : terms(query).stream().distinct().toList()) {
+            List<Posting> matches = postings.get(term);
+            if (matches == null) {
+                continue;
+            }
+            double idf = Math.log(1 + (chunks.size() - matches.size() + 0.5) / (matches.size() + 0.5));
+            for (Posting posting : matches) {
+                double tf = posting.frequency();
+                double norm = K1 * (1 - B + B * chunkLengths[posting.chunk()] / averageLength);
+                scores[posting.chunk()] += idf * tf * (K1 + 1) / (tf + norm);
+            }
+        }
+        return scores;
+    }
+
+    public int size() {
+        return chunks.size();
+    }
+
+    public String chunk(int index) {
+        return chunks.get(index);
+    }
+
+    /**
+     * 청크의 추정 토큰 수
+     */
+    public int tokens(int index) {
+        return chunkTokens[index];
+    }
+
+    /**
+     * 색인/검색 단어 분리 (영문/숫자는 단어, 한글은 bigram)
+     */
+    static List<String> terms(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+
+        String lower = text.toLowerCase(Locale.ROOT);
+        int i = 0;
+        while (i < lower.length()) {
+            char c = lower.charAt(i);
+            if (isHangul(c)) {
+                int start = i;
+                while (i < lower.length() && isHangul(lower.charAt(i))) {
+                    i++;
+                }
+                if (i - start == 1) {
+                    terms.add(lower.substring(start, i));
+                }
+                for (int j = start; j + 1 < i; j++) {
+                    terms.add(lower.substring(j, j + 2));
+                }
+            } else if (Character.isLetterOrDigit(c)) {
+                int start = i;
+                while (i < lower.length() && isWordChar(lower.charAt(i))) {
+                    i++;
+                }
+                terms.add(lower.substring(start, i));
+            } else {
+                i++;
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * 줄·문단 경계를 유지하며 maxTokens 이하의 청크로 분할
+     */
+    private static List<String> chunk(String text, int maxTokens) {
+        List<String> chunks = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        int currentTokens = 0;
+
+        for (String line : text.split("\n")) {
+            if (line.isBlank()) {
+                currentTokens = flush(chunks, current);
+                continue;
+            }
+            int tokens = TokenEstimator.estimate(line);
+            if (currentTokens + tokens > maxTokens) {
+                currentTokens = flush(chunks, current);
+            }
+            // 한 줄이 청크 크기보다 길면 잘라서 별도 청크로 저장
+            while (tokens > maxTokens) {
+                String head = TokenEstimator.truncate(line, maxTokens);
+                if (head.isEmpty()) {
+                    break;
+                }
+                chunks.add(head);
+                line = line.substring(head.length());
+                tokens = TokenEstimator.estimate(line);
+            }
+            if (current.length() > 0) {
+                current.append("\n");
+            }
+            current.append(line);
+            currentTokens += tokens;
+        }
+        flush(chunks, current);
+        return chunks;
+    }
+
+    private static int flush(List<String> chunks, StringBuilder current) {
+        if (!current.toString().isBlank()) {
+            chunks.add(current.toString());
+        }
+        current.setLength(0);
+        return 0;
+    }
+
+    private static boolean isWordChar(char c) {
+        return (Character.isLetterOrDigit(c) && !isHangul(c)) || c == '+' || c == '#';
+    }
+
+    private static boolean isHangul(char c) {
+        return c >= '가' && c <= '힣';
+    }
+
+    private record Posting(int chunk, int frequency) {
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.pre_view.common.retrieval;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.example.pre_view.common.service.PromptContextConfig;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이력서/포트폴리오 검색 인덱스 저장소
+ *
+ * 파일 업로드 시점에 BM25 인덱스를 만들어 두고, 프롬프트 생성 시에는 만들어 둔 인덱스를 재사용합니다.
+ * - 문서 텍스트의 SHA-256으로 저장하므로 같은 문서를 참조하는 면접끼리 인덱스를 공유
+ * - 없으면(서버 재시작 후 첫 조회 등) 조회 시 생성
+ * - 최근 사용 순으로 최대 MAX_ENTRIES개만 유지 (인메모리, 인스턴스별)
+ */
+@Slf4j
+@Component
+public class DocumentIndexStore {
+
+    private static final int MAX_ENTRIES = 2000;
+
+    private final PromptContextConfig config;
+    private final Timer buildTimer;
+
+    private final Map<String, Bm25Index> indexes = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Bm25Index> eldest) {
+                    return size() > MAX_ENTRIES;
+                }
+            });
+
+    public DocumentIndexStore(PromptContextConfig config, MeterRegistry meterRegistry) {
+        this.config = config;
+        this.buildTimer = Timer.builder("document.index.build")
+                .description("이력서/포트폴리오 검색 인덱스 생성 시간")
+                .register(meterRegistry);
+        Gauge.builder("document.index.entries", indexes, Map::size)
+                .description("메모리에 보관 중인 문서 검색 인덱스 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 문서 인덱스 조회 (없으면 생성 후 저장)
+     *
+     * @param text 문서 텍스트
+     * @return 인덱스, 텍스트가 비어 있으면 null
+     */
+    public Bm25Index get(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        String key = sha256(text);
+        Bm25Index index = indexes.get(key);
+        if (index != null) {
+            return index;
+        }
+
+        // 동시에 같은 문서를 처음 조회하면 중복 생성될 수 있으나 결과가 같으므로 허용
+        index = buildTimer.record(() -> Bm25Index.build(text, config.getChunkTokens()));
+        indexes.put(key, index);
+        log.debug("문서 검색 인덱스 생성 - chunks: {}, 텍스트 길이: {} 문자", index.size(), text.length());
+        return index;
+    }
+
+    private static String sha256(String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
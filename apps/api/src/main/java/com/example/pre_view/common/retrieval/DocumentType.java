@@ -0,0 +1,17 @@
+package com.example.pre_view.common.retrieval;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 검색 인덱스 대상 문서 유형
+ */
+@Getter
+@RequiredArgsConstructor
+public enum DocumentType {
+
+    RESUME("이력서"),
+    PORTFOLIO("포트폴리오");
+
+    private final String description;
+}
@@ -0,0 +1,57 @@
+package com.example.pre_view.common.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 면접 에이전트 프롬프트 컨텍스트 예산 설정
+ *
+ * application.yaml의 prompt.context.* 속성을 바인딩합니다.
+ * 토큰 수는 TokenEstimator의 추정값 기준입니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "prompt.context")
+public class PromptContextConfig {
+
+    /**
+     * Q&A 히스토리에 사용할 최대 토큰 수 (기본값: 2000)
+     */
+    private int historyTokenBudget = 2000;
+
+    /**
+     * 원문 그대로 유지할 최근 질문-답변 수 (기본값: 2)
+     * 그보다 오래된 질문-답변은 요약으로 압축합니다.
+     */
+    private int recentTurns = 2;
+
+    /**
+     * 오래된 질문-답변 1건의 요약 최대 토큰 수 (기본값: 80)
+     * 요약은 질문/답변 앞부분을 절반씩 잘라 남기는 방식입니다.
+     */
+    private int summaryTokens = 80;
+
+    /**
+     * 이력서/포트폴리오 각각에 사용할 최대 토큰 수 (기본값: 1000)
+     */
+    private int documentTokenBudget = 1000;
+
+    /**
+     * 이력서/포트폴리오를 나누는 청크 1개의 최대 토큰 수 (기본값: 150)
+     */
+    private int chunkTokens = 150;
+
+    /**
+     * 현재 주제와 관련된 문서 청크를 프롬프트 뒷부분에 추가할 최대 개수 (기본값: 3)
+     */
+    private int topicChunks = 3;
+
+    /**
+     * 현재 주제 관련 문서 청크에 사용할 최대 토큰 수 (기본값: 400)
+     */
+    private int topicTokenBudget = 400;
+}
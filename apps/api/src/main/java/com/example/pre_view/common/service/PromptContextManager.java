@@ -0,0 +1,275 @@
+package com.example.pre_view.common.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.springframework.stereotype.Component;
+
+import com.example.pre_view.common.retrieval.Bm25Index;
+import com.example.pre_view.common.retrieval.DocumentIndexStore;
+import com.example.pre_view.common.retrieval.DocumentType;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 면접 에이전트 프롬프트 컨텍스트 관리자
+ *
+ * 면접이 길어져도 프롬프트 크기가 토큰 예산 안에서 일정하게 유지되도록 합니다.
+ * - Q&A 히스토리: 최근 recentTurns개는 원문 그대로, 그 이전은 질문/답변 앞부분만 남긴 요약으로 압축하고,
+ *   예산을 넘으면 가장 오래된 요약부터 생략 (요약은 LLM 요약이 아닌 앞부분 잘라내기이므로 답변 뒷부분 내용은 빠짐)
+ * - 이력서/포트폴리오: 업로드 시 만든 BM25 청크 인덱스에서 면접 컨텍스트(포지션, 기술스택)와
+ *   관련도가 높은 청크부터 예산 안에서 골라 원래 순서대로 배치 (앞 2000자를 자르던 방식 대체)
+ * - 현재 주제: 위 섹션에 빠진 청크 중 마지막 질문-답변과 관련된 청크 몇 개를 프롬프트 뒷부분에 추가
+ */
+@Component
+@RequiredArgsConstructor
+public class PromptContextManager {
+
+    private static final String ELLIPSIS = "…";
+
+    // 최근 질문-답변 1건의 머리말("[질문 N]", "[답변]")과 말줄임표 2개의 토큰 수
+    private static final int TURN_OVERHEAD_TOKENS = 12;
+
+    // 생략 안내 줄 "(이전 질문 N개 생략)"의 토큰 수
+    private static final int OMISSION_NOTE_TOKENS = 10;
+
+    private final PromptContextConfig config;
+    private final DocumentIndexStore documentIndexStore;
+
+    /**
+     * 예산 안에서 관련도 높은 부분만 남긴 문서 섹션 선택
+     *
+     * 문서가 예산보다 길면 업로드 시 만들어 둔 BM25 인덱스에서 질의와 관련도가 높은 청크부터 고르고,
+     * 관련 청크가 없으면 문서 앞쪽 청크부터 채웁니다. 고른 청크는 원래 순서대로 배치합니다.
+     *
+     * @param type        문서 유형
+     * @param text        문서 전체 텍스트 (nullable)
+     * @param query       관련도 판단 기준 (면접 컨텍스트)
+     */
+    public DocumentSelection selectDocument(DocumentType type, String text, String query) {
+        if (text == null || text.isBlank()) {
+            return DocumentSelection.EMPTY;
+        }
+
+        String header = "**" + type.getDescription() + " 내용:**\n";
+        int budget = config.getDocumentTokenBudget();
+        if (TokenEstimator.estimate(text) <= budget) {
+            return new DocumentSelection(type, header + text, null, Set.of());
+        }
+
+        Bm25Index index = documentIndexStore.get(text);
+        Set<Integer> selected = new TreeSet<>();
+        int used = 0;
+        for (int chunk : rank(index, query)) {
+            if (used + index.tokens(chunk) <= budget) {
+                selected.add(chunk);
+                used += index.tokens(chunk);
+            }
+        }
+
+        String section = header + selected.stream().map(index::chunk).collect(Collectors.joining("\n"))
+                + "\n(관련도가 낮은 내용 일부 생략)";
+        return new DocumentSelection(type, section, index, Set.copyOf(selected));
+    }
+
+    /**
+     * 현재 주제와 관련된 문서 청크 섹션 생성
+     *
+     * 고정 문서 섹션에 포함되지 않은 청크 중 현재 주제(마지막 질문-답변 등)와 관련도가 높은 청크를
+     * topicChunks개, topicTokenBudget 이내로 골라 프롬프트 뒷부분에 덧붙입니다.
+     *
+     * @return 관련 청크가 없으면 빈 문자열
+     */
+    public String topicSection(List<DocumentSelection> documents, String topic) {
+        if (topic == null || topic.isBlank()) {
+            return "";
+        }
+
+        record Candidate(DocumentSelection document, int chunk, double score) {
+        }
+        List<Candidate> candidates = new ArrayList<>();
+        for (DocumentSelection document : documents) {
+            if (document.index() == null) {
+                continue;
+            }
+            double[] scores = document.index().score(topic);
+            for (int i = 0; i < scores.length; i++) {
+                if (scores[i] > 0 && !document.includedChunks().contains(i)) {
+                    candidates.add(new Candidate(document, i, scores[i]));
+                }
+            }
+        }
+        candidates.sort(Comparator.comparingDouble(Candidate::score).reversed());
+
+        StringBuilder section = new StringBuilder();
+        int used = 0;
+        int count = 0;
+        for (Candidate candidate : candidates) {
+            if (count >= config.getTopicChunks()) {
+                break;
+            }
+            int tokens = candidate.document().index().tokens(candidate.chunk());
+            if (used + tokens > config.getTopicTokenBudget()) {
+                continue;
+            }
+            section.append("- (").append(candidate.document().type().getDescription()).append(") ")
+                    .append(candidate.document().index().chunk(candidate.chunk())).append("\n");
+            used += tokens;
+            count++;
+        }
+        return section.isEmpty() ? "" : "**현재 주제 관련 문서 내용:**\n" + section;
+    }
+
+    /**
+     * 청크를 관련도 높은 순(동점이면 문서 앞쪽 순)으로 정렬
+     */
+    private static List<Integer> rank(Bm25Index index, String query) {
+        double[] scores = index.score(query);
+        return IntStream.range(0, index.size()).boxed()
+                .sorted(Comparator.<Integer>comparingDouble(i -> -scores[i]).thenComparingInt(i -> i))
+                .toList();
+    }
+
+    /**
+     * 면접 1건·단계 1개의 히스토리 상태 생성
+     */
+    ConversationHistory newHistory() {
+        return new ConversationHistory();
+    }
+
+    /**
+     * 토큰 예산 안에서 Q&A 히스토리 생성
+     *
+     * 이전 호출에서 만든 요약은 재사용하고, 최근 구간을 벗어난 질문-답변만 새로 요약합니다.
+     * 최근 질문-답변은 1건당 (예산 - 생략 안내 줄) / recentTurns 이내로 잘라, 머리말과 생략 안내 줄까지 합쳐
+     * historyTokenBudget을 넘지 않습니다.
+     */
+    String renderHistory(ConversationHistory history, List<String> questions, List<String> answers) {
+        int size = Math.min(questions.size(), answers.size());
+        int recentStart = Math.max(0, size - config.getRecentTurns());
+        List<Summary> summaries = history.update(questions, answers, size, recentStart, this::summarize);
+
+        int budget = config.getHistoryTokenBudget() - OMISSION_NOTE_TOKENS;
+        int perTurnBudget = budget / Math.max(1, config.getRecentTurns());
+        int perTextLimit = Math.max(1, (perTurnBudget - TURN_OVERHEAD_TOKENS) / 2);
+        StringBuilder recent = new StringBuilder();
+        for (int i = recentStart; i < size; i++) {
+            recent.append("[질문 ").append(i + 1).append("]\n")
+                    .append(limit(questions.get(i), perTextLimit)).append("\n")
+                    .append("[답변]\n")
+                    .append(limit(answers.get(i), perTextLimit)).append("\n\n");
+        }
+
+        // 최신 요약부터 남은 예산만큼 포함
+        int remaining = budget - TokenEstimator.estimate(recent);
+        int first = summaries.size();
+        while (first > 0 && summaries.get(first - 1).tokens() <= remaining) {
+            first--;
+            remaining -= summaries.get(first).tokens();
+        }
+
+        StringBuilder result = new StringBuilder(recent.length() + 64 * (summaries.size() - first + 1));
+        if (first > 0) {
+            result.append("(이전 질문 ").append(first).append("개 생략)\n");
+        }
+        for (int i = first; i < summaries.size(); i++) {
+            result.append(summaries.get(i).text()).append("\n");
+        }
+        if (first < summaries.size()) {
+            result.append("\n");
+        }
+        return result.append(recent).toString();
+    }
+
+    /**
+     * 질문-답변 1건을 요약 (LLM 호출 없이 질문/답변 앞부분을 summaryTokens의 절반씩 잘라 남기는 잘라내기 요약)
+     */
+    private Summary summarize(int index, String question, String answer) {
+        int half = Math.max(1, config.getSummaryTokens() / 2);
+        String text = "[질문 " + (index + 1) + " 요약] Q: " + limit(compact(question), half)
+                + " / A: " + limit(compact(answer), half);
+        return new Summary(text, TokenEstimator.estimate(text));
+    }
+
+    private static String compact(String text) {
+        return text == null ? "" : text.strip().replaceAll("\\s+", " ");
+    }
+
+    private static String limit(String text, int maxTokens) {
+        String truncated = TokenEstimator.truncate(text, maxTokens);
+        return Objects.equals(truncated, text) ? text : truncated + ELLIPSIS;
+    }
+
+    /**
+     * 프롬프트에 포함할 문서 섹션 선택 결과
+     *
+     * @param index          문서가 예산을 넘어 청크를 골랐을 때의 인덱스 (전체를 포함했으면 null)
+     * @param includedChunks section에 포함된 청크 번호
+     */
+    public record DocumentSelection(DocumentType type, String section, Bm25Index index, Set<Integer> includedChunks) {
+
+        static final DocumentSelection EMPTY = new DocumentSelection(null, "", null, Set.of());
+    }
+
+    /**
+     * 요약된 질문-답변 1건
+     */
+    record Summary(String text, int tokens) {
+    }
+
+    @FunctionalInterface
+    interface Summarizer {
+        Summary summarize(int index, String question, String answer);
+    }
+
+    /**
+     * 면접 1건·단계 1개의 Q&A 히스토리 요약 상태
+     *
+     * 요약은 한 번 만들면 바뀌지 않으므로 누적해 두고, 히스토리가 이전 호출의 연장이 아니면 처음부터 다시 만듭니다.
+     */
+    static final class ConversationHistory {
+
+        private final List<Summary> summaries = new ArrayList<>();
+        private int pairCount;
+        private String lastQuestion;
+        private String lastAnswer;
+
+        private ConversationHistory() {
+        }
+
+        private synchronized List<Summary> update(List<String> questions, List<String> answers,
+                int size, int summarizeUntil, Summarizer summarizer) {
+            if (!isContinuation(questions, answers, size)) {
+                summaries.clear();
+            }
+            for (int i = summaries.size(); i < summarizeUntil; i++) {
+                summaries.add(summarizer.summarize(i, questions.get(i), answers.get(i)));
+            }
+
+            pairCount = size;
+            if (size > 0) {
+                lastQuestion = questions.get(size - 1);
+                lastAnswer = answers.get(size - 1);
+            }
+            return List.copyOf(summaries);
+        }
+
+        /**
+         * 이번 히스토리가 이전 호출 히스토리의 연장인지 확인 (마지막 질문-답변 비교)
+         */
+        private boolean isContinuation(List<String> questions, List<String> answers, int size) {
+            if (pairCount == 0) {
+                return true;
+            }
+            return pairCount <= size
+                    && Objects.equals(lastQuestion, questions.get(pairCount - 1))
+                    && Objects.equals(lastAnswer, answers.get(pairCount - 1));
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.pre_view.common.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 미리 컴파일된 프롬프트 템플릿
+ *
+ * 템플릿 문자열을 로드 시점에 리터럴/플레이스홀더 세그먼트 목록으로 분해해 두고,
+ * 렌더링 시 한 번의 순회로 필요한 크기만큼 미리 잡아 둔 버퍼에 이어 붙입니다.
+ * - 플레이스홀더 형식: {name} (영문자로 시작하는 영숫자 이름만 인식, JSON 예시의 중괄호는 리터럴로 유지)
+ * - 파라미터에 없는 플레이스홀더는 원문({name}) 그대로 출력
+ * - 치환된 값 안의 {name}은 다시 치환하지 않음
+ */
+public final class PromptTemplate {
+
+    private final List<Segment> segments;
+    private final int literalLength;
+
+    private PromptTemplate(List<Segment> segments) {
+        this.segments = List.copyOf(segments);
+        this.literalLength = segments.stream()
+                .filter(segment -> !segment.isPlaceholder())
+                .mapToInt(segment -> segment.text().length())
+                .sum();
+    }
+
+    /**
+     * 템플릿 문자열을 세그먼트 목록으로 컴파일
+     */
+    public static PromptTemplate compile(String source) {
+        List<Segment> segments = new ArrayList<>();
+        int literalStart = 0;
+        int i = 0;
+        while (i < source.length()) {
+            int end = placeholderEnd(source, i);
+            if (end < 0) {
+                i++;
+                continue;
+            }
+            addLiteral(segments, source.substring(literalStart, i));
+            segments.add(new Segment(source.substring(i + 1, end), true));
+            i = end + 1;
+            literalStart = i;
+        }
+        addLiteral(segments, source.substring(literalStart));
+        return new PromptTemplate(segments);
+    }
+
+    /**
+     * 플레이스홀더를 치환하여 프롬프트 생성
+     *
+     * @param params 치환할 파라미터 맵 (null 값은 빈 문자열로 치환)
+     */
+    public String render(Map<String, String> params) {
+        int capacity = literalLength;
+        for (Segment segment : segments) {
+            if (segment.isPlaceholder()) {
+                capacity += valueOf(segment, params).length();
+            }
+        }
+
+        StringBuilder result = new StringBuilder(capacity);
+        for (Segment segment : segments) {
+            result.append(segment.isPlaceholder() ? valueOf(segment, params) : segment.text());
+        }
+        return result.toString();
+    }
+
+    /**
+     * 일부 플레이스홀더만 미리 치환한 템플릿 생성
+     *
+     * 면접 컨텍스트처럼 여러 번 재사용되는 값을 고정해 두고,
+     * 나머지 플레이스홀더만 매 호출 치환할 때 사용합니다.
+     */
+    public PromptTemplate bind(Map<String, String> params) {
+        List<Segment> bound = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        for (Segment segment : segments) {
+            if (segment.isPlaceholder() && !params.containsKey(segment.text())) {
+                addLiteral(bound, literal.toString());
+                literal.setLength(0);
+                bound.add(segment);
+            } else {
+                literal.append(segment.isPlaceholder() ? valueOf(segment, params) : segment.text());
+            }
+        }
+        addLiteral(bound, literal.toString());
+        return new PromptTemplate(bound);
+    }
+
+    private static String valueOf(Segment placeholder, Map<String, String> params) {
+        if (!params.containsKey(placeholder.text())) {
+            return "{" + placeholder.text() + "}";
+        }
+        String value = params.get(placeholder.text());
+        return value != null ? value : "";
+    }
+
+    /**
+     * start 위치가 플레이스홀더 시작이면 닫는 중괄호 위치, 아니면 -1
+     */
+    private static int placeholderEnd(String source, int start) {
+        if (source.charAt(start) != '{' || start + 1 >= source.length()
+                || !isAsciiLetter(source.charAt(start + 1))) {
+            return -1;
+        }
+        for (int i = start + 2; i < source.length(); i++) {
+            char c = source.charAt(i);
+            if (c == '}') {
+                return i;
+            }
+            if (!isAsciiLetter(c) && !(c >= '0' && c <= '9')) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static void addLiteral(List<Segment> segments, String text) {
+        if (!text.isEmpty()) {
+            segments.add(new Segment(text, false));
+        }
+    }
+
+    /**
+     * 템플릿 조각 (placeholder가 true면 text는 플레이스홀더 이름)
+     */
+    private record Segment(String text, boolean isPlaceholder) {
+    }
+}
@@ -2,15 +2,22 @@ package com.example.pre_view.common.service;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
 
+import com.example.pre_view.common.retrieval.DocumentType;
+import com.example.pre_view.common.service.PromptContextManager.DocumentSelection;
 import com.example.pre_view.domain.interview.enums.InterviewPhase;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 
@@ -19,15 +26,54 @@ import lombok.extern.slf4j.Slf4j;
  *
  * resources/prompts/ 폴더의 텍스트 파일을 로드하고,
  * 플레이스홀더를 실제 값으로 치환하여 프롬프트를 생성합니다.
+ *
+ * 템플릿은 로드 시점에 PromptTemplate으로 미리 컴파일해 한 번의 순회로 렌더링합니다.
+ * 면접 진행 중 프롬프트는 면접별로 컨텍스트/이력서/포트폴리오를 미리 치환한 템플릿과
+ * Q&A 히스토리 요약을 캐싱해 두고, 매 턴 새로 추가된 질문-답변만 반영합니다.
+ * 이력서/포트폴리오와 Q&A 히스토리의 토큰 예산은 PromptContextManager가 관리합니다.
+ *
+ * 공급자 측 프롬프트 캐시를 위해 템플릿은 면접 컨텍스트 → 이력서/포트폴리오 → 지시사항 순으로
+ * 턴마다 바뀌지 않는 내용을 앞에 두고, 질문-답변/히스토리처럼 턴마다 바뀌는 내용은 마지막에 둡니다.
+ * 같은 면접의 프롬프트는 이 앞부분이 바이트 단위로 동일하므로 템플릿 수정 시 이 순서를 유지해야 합니다.
  */
 @Slf4j
 @Service
 public class PromptTemplateService {
 
     private static final String PROMPTS_PATH = "prompts/";
+    private static final int MAX_CACHED_INTERVIEWS = 1000;
 
     // 캐싱을 위한 Map
     private final Map<String, String> promptCache = new ConcurrentHashMap<>();
+    private final Map<String, PromptTemplate> compiledCache = new ConcurrentHashMap<>();
+
+    // 면접별 진행 중 프롬프트 캐시 (LRU, 오래 사용하지 않은 면접부터 제거)
+    private final Map<Long, ContinuePrompt> continuePromptCache = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, ContinuePrompt> eldest) {
+                    return size() > MAX_CACHED_INTERVIEWS;
+                }
+            });
+
+    private final PromptContextManager contextManager;
+
+    // 메트릭
+    private final DistributionSummary firstQuestionPromptTokens;
+    private final DistributionSummary continuePromptTokens;
+
+    public PromptTemplateService(PromptContextManager contextManager, MeterRegistry meterRegistry) {
+        this.contextManager = contextManager;
+
+        this.firstQuestionPromptTokens = DistributionSummary.builder("ai.prompt.tokens")
+                .description("면접 에이전트 User Prompt 추정 토큰 수")
+                .tag("prompt", "first-question")
+                .register(meterRegistry);
+        this.continuePromptTokens = DistributionSummary.builder("ai.prompt.tokens")
+                .description("면접 에이전트 User Prompt 추정 토큰 수")
+                .tag("prompt", "continue")
+                .register(meterRegistry);
+    }
 
     @PostConstruct
     public void init() {
@@ -55,7 +101,7 @@ public class PromptTemplateService {
 
         for (String fileName : promptFiles) {
             try {
-                loadPrompt(fileName);
+                compiledPrompt(fileName);
                 log.debug("프롬프트 로드 완료: {}", fileName);
             } catch (Exception e) {
                 log.warn("프롬프트 로드 실패 (나중에 다시 시도): {}", fileName);
@@ -75,6 +121,13 @@ public class PromptTemplateService {
         return promptCache.computeIfAbsent(fileName, this::loadPromptFromFile);
     }
 
+    /**
+     * 컴파일된 프롬프트 템플릿을 반환합니다.
+     */
+    private PromptTemplate compiledPrompt(String fileName) {
+        return compiledCache.computeIfAbsent(fileName, name -> PromptTemplate.compile(loadPrompt(name)));
+    }
+
     /**
      * 파일에서 프롬프트를 읽어옵니다.
      */
@@ -96,13 +149,7 @@ public class PromptTemplateService {
      * @return 치환된 프롬프트
      */
     public String fillTemplate(String template, Map<String, String> params) {
-        String result = template;
-        for (Map.Entry<String, String> entry : params.entrySet()) {
-            String placeholder = "{" + entry.getKey() + "}";
-            String value = entry.getValue() != null ? entry.getValue() : "";
-            result = result.replace(placeholder, value);
-        }
-        return result;
+        return PromptTemplate.compile(template).render(params);
     }
 
     /**
@@ -128,12 +175,11 @@ public class PromptTemplateService {
             case CLOSING -> "feedback-user-closing.txt";
         };
 
-        String template = loadPrompt(fileName);
         Map<String, String> params = Map.of(
                 "question", question,
                 "answer", answer
         );
-        return fillTemplate(template, params);
+        return compiledPrompt(fileName).render(params);
     }
 
     /**
@@ -144,12 +190,11 @@ public class PromptTemplateService {
      * @return 완성된 리포트 프롬프트
      */
     public String buildReportUserPrompt(String position, String qnaContent) {
-        String template = loadPrompt("report-user.txt");
         Map<String, String> params = Map.of(
                 "position", position,
                 "qnaContent", qnaContent
         );
-        return fillTemplate(template, params);
+        return compiledPrompt("report-user.txt").render(params);
     }
 
     /**
@@ -174,8 +219,6 @@ public class PromptTemplateService {
             String portfolioText,
             int followUpCount) {
 
-        String template = loadPrompt("interview-agent-user-first-question.txt");
-
         // 브릿지 섹션 생성
         String bridgeSection = "";
         if (bridgeAnswer != null && !bridgeAnswer.isBlank()) {
@@ -188,20 +231,6 @@ public class PromptTemplateService {
                     """.formatted(bridgeAnswer);
         }
 
-        // 이력서 섹션
-        String resumeSection = "";
-        if (resumeText != null && !resumeText.isBlank()) {
-            String truncated = resumeText.substring(0, Math.min(resumeText.length(), 2000));
-            resumeSection = "**이력서 내용:**\n" + truncated;
-        }
-
-        // 포트폴리오 섹션
-        String portfolioSection = "";
-        if (portfolioText != null && !portfolioText.isBlank()) {
-            String truncated = portfolioText.substring(0, Math.min(portfolioText.length(), 2000));
-            portfolioSection = "**포트폴리오 내용:**\n" + truncated;
-        }
-
         // 이력서/포트폴리오 없는 경우 안내
         String noDocumentNotice = "";
         if ((resumeText == null || resumeText.isBlank()) &&
@@ -212,22 +241,37 @@ public class PromptTemplateService {
                     """;
         }
 
+        List<DocumentSelection> documents = List.of(
+                contextManager.selectDocument(DocumentType.RESUME, resumeText, interviewContext),
+                contextManager.selectDocument(DocumentType.PORTFOLIO, portfolioText, interviewContext));
+
         Map<String, String> params = Map.of(
                 "bridgeSection", bridgeSection,
+                "topicSection", contextManager.topicSection(documents, bridgeAnswer),
                 "interviewContext", interviewContext,
-                "resumeSection", resumeSection,
-                "portfolioSection", portfolioSection,
+                "resumeSection", documents.get(0).section(),
+                "portfolioSection", documents.get(1).section(),
                 "noDocumentNotice", noDocumentNotice,
                 "followUpCount", String.valueOf(followUpCount)
         );
 
-        return fillTemplate(template, params);
+        String prompt = compiledPrompt("interview-agent-user-first-question.txt").render(params);
+        firstQuestionPromptTokens.record(TokenEstimator.estimate(prompt));
+        return prompt;
     }
 
     /**
      * 면접 에이전트 User Prompt를 생성합니다 (면접 진행 중).
+     *
+     * 같은 면접·단계의 이전 호출에서 만든 프롬프트 앞부분과 Q&A 히스토리 요약을 재사용하고,
+     * 새로 추가된 질문-답변만 반영합니다. 단계나 컨텍스트/문서가 바뀌면 처음부터 다시 만듭니다.
+     * 히스토리는 토큰 예산 안에서 최근 질문-답변은 원문, 그 이전은 요약으로 구성됩니다.
+     *
+     * @param interviewId 면접 ID (null이면 캐싱하지 않음)
      */
     public String buildInterviewAgentContinuePrompt(
+            Long interviewId,
+            InterviewPhase phase,
             String interviewContext,
             String resumeText,
             String portfolioText,
@@ -235,41 +279,39 @@ public class PromptTemplateService {
             List<String> previousAnswers,
             int followUpCount) {
 
-        String template = loadPrompt("interview-agent-user-continue.txt");
-
-        // 이력서 섹션
-        String resumeSection = "";
-        if (resumeText != null && !resumeText.isBlank()) {
-            String truncated = resumeText.substring(0, Math.min(resumeText.length(), 2000));
-            resumeSection = "**이력서 내용:**\n" + truncated;
-        }
-
-        // 포트폴리오 섹션
-        String portfolioSection = "";
-        if (portfolioText != null && !portfolioText.isBlank()) {
-            String truncated = portfolioText.substring(0, Math.min(portfolioText.length(), 2000));
-            portfolioSection = "**포트폴리오 내용:**\n" + truncated;
-        }
-
-        // Q&A 히스토리 생성
-        StringBuilder qaHistory = new StringBuilder();
-        int minSize = Math.min(previousQuestions.size(), previousAnswers.size());
-        for (int i = 0; i < minSize; i++) {
-            qaHistory.append(String.format("[질문 %d]\n", i + 1));
-            qaHistory.append(previousQuestions.get(i)).append("\n");
-            qaHistory.append("[답변]\n");
-            qaHistory.append(previousAnswers.get(i)).append("\n\n");
+        int documentsHash = Objects.hash(interviewContext, resumeText, portfolioText);
+        ContinuePrompt prompt = interviewId != null ? continuePromptCache.get(interviewId) : null;
+        if (prompt == null || prompt.phase() != phase || prompt.documentsHash() != documentsHash) {
+            List<DocumentSelection> documents = List.of(
+                    contextManager.selectDocument(DocumentType.RESUME, resumeText, interviewContext),
+                    contextManager.selectDocument(DocumentType.PORTFOLIO, portfolioText, interviewContext));
+            prompt = new ContinuePrompt(phase, documentsHash, compiledPrompt("interview-agent-user-continue.txt")
+                    .bind(Map.of(
+                            "interviewContext", interviewContext,
+                            "resumeSection", documents.get(0).section(),
+                            "portfolioSection", documents.get(1).section())),
+                    documents,
+                    contextManager.newHistory());
+            if (interviewId != null) {
+                continuePromptCache.put(interviewId, prompt);
+            }
         }
 
-        Map<String, String> params = Map.of(
-                "interviewContext", interviewContext,
-                "resumeSection", resumeSection,
-                "portfolioSection", portfolioSection,
-                "qaHistory", qaHistory.toString(),
-                "followUpCount", String.valueOf(followUpCount)
-        );
+        String userPrompt = prompt.template().render(Map.of(
+                "topicSection", contextManager.topicSection(prompt.documents(),
+                        lastTurn(previousQuestions, previousAnswers)),
+                "qaHistory", contextManager.renderHistory(prompt.history(), previousQuestions, previousAnswers),
+                "followUpCount", String.valueOf(followUpCount)));
+        continuePromptTokens.record(TokenEstimator.estimate(userPrompt));
+        return userPrompt;
+    }
 
-        return fillTemplate(template, params);
+    /**
+     * 마지막 질문-답변 (현재 주제 관련 문서 검색 질의)
+     */
+    private static String lastTurn(List<String> questions, List<String> answers) {
+        int size = Math.min(questions.size(), answers.size());
+        return size == 0 ? null : questions.get(size - 1) + "\n" + answers.get(size - 1);
     }
 
     /**
@@ -278,7 +320,22 @@ public class PromptTemplateService {
     public void refreshCache() {
         log.info("프롬프트 캐시 새로고침 시작");
         promptCache.clear();
+        compiledCache.clear();
+        continuePromptCache.clear();
         preloadPrompts();
         log.info("프롬프트 캐시 새로고침 완료");
     }
+
+    /**
+     * 면접 1건의 진행 중 프롬프트 캐시
+     *
+     * 컨텍스트/이력서/포트폴리오를 미리 치환한 템플릿, 선택된 문서 청크, 누적된 Q&A 히스토리 요약을 보관합니다.
+     */
+    private record ContinuePrompt(
+            InterviewPhase phase,
+            int documentsHash,
+            PromptTemplate template,
+            List<DocumentSelection> documents,
+            PromptContextManager.ConversationHistory history) {
+    }
 }
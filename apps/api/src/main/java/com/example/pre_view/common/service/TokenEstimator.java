@@ -0,0 +1,75 @@
+package com.example.pre_view.common.service;
+
+/**
+ * 프롬프트 토큰 수 추정기
+ *
+ * Groq(Qwen/Llama)와 LLM 서비스의 모델마다 BPE 어휘가 달라 정확한 토크나이저를 하나로 고정할 수 없으므로,
+ * 두 계열 토크나이저의 평균적인 분할 결과에 맞춘 문자 기반 추정값을 사용합니다.
+ * - 영문/숫자: 연속된 4글자당 1토큰
+ * - 한글 등 비ASCII 문자: 1글자당 1토큰
+ * - 구두점/기호: 1글자당 1토큰, 공백은 앞뒤 토큰에 포함되는 것으로 보고 세지 않음
+ */
+public final class TokenEstimator {
+
+    private static final int ASCII_CHARS_PER_TOKEN = 4;
+
+    private TokenEstimator() {
+    }
+
+    /**
+     * 텍스트의 토큰 수 추정
+     */
+    public static int estimate(CharSequence text) {
+        if (text == null) {
+            return 0;
+        }
+
+        int tokens = 0;
+        int asciiRun = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isAsciiWordChar(c)) {
+                asciiRun++;
+                continue;
+            }
+            tokens += tokensOf(asciiRun);
+            asciiRun = 0;
+            if (!Character.isWhitespace(c) && !Character.isLowSurrogate(c)) {
+                tokens++;
+            }
+        }
+        return tokens + tokensOf(asciiRun);
+    }
+
+    /**
+     * 추정 토큰 수가 maxTokens를 넘지 않도록 앞부분만 남김
+     */
+    public static String truncate(String text, int maxTokens) {
+        if (text == null || estimate(text) <= maxTokens) {
+            return text;
+        }
+
+        int low = 0;
+        int high = text.length();
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (estimate(text.subSequence(0, mid)) <= maxTokens) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        if (low > 0 && Character.isHighSurrogate(text.charAt(low - 1))) {
+            low--;
+        }
+        return text.substring(0, low);
+    }
+
+    private static int tokensOf(int asciiRun) {
+        return (asciiRun + ASCII_CHARS_PER_TOKEN - 1) / ASCII_CHARS_PER_TOKEN;
+    }
+
+    private static boolean isAsciiWordChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+}
@@ -42,7 +42,8 @@ public class CorsConfig {
         config.setAllowCredentials(true);
 
         // 브라우저가 접근할 수 있는 응답 헤더
-        config.setExposedHeaders(List.of("Authorization"));
+        // (음성 스트리밍: ETag, Range 응답 헤더, 재생 길이)
+        config.setExposedHeaders(List.of("Authorization", "ETag", "Accept-Ranges", "Content-Range", "X-Audio-Duration"));
 
         // preflight 요청 캐시 시간 (1시간)
         config.setMaxAge(3600L);
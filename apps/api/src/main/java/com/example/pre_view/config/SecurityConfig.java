@@ -11,10 +11,12 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfigurationSource;
 
+import com.example.pre_view.domain.auth.config.PasswordHashingConfig;
 import com.example.pre_view.domain.auth.jwt.JwtAuthenticationFilter;
 import com.example.pre_view.domain.auth.oauth2.OAuth2SuccessHandler;
 import com.example.pre_view.domain.auth.oauth2.OAuth2UserServiceImpl;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -50,6 +52,9 @@ public class SecurityConfig {
 
                 // 경로별 인가 설정
                 .authorizeHttpRequests(auth -> auth
+                        // 비동기 응답(StreamingResponseBody)의 재디스패치는 최초 요청에서 이미 인가됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // 인증 없이 접근 가능한 경로
                         .requestMatchers(
                                 "/",
@@ -97,9 +102,10 @@ public class SecurityConfig {
     /**
      * 비밀번호 암호화
      * BCrypt: 단방향 해시 + Salt 자동 생성
+     * cost factor는 password-hashing.bcrypt-strength로 조정 (변경 시 로그인 성공 시점에 재해싱)
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingConfig passwordHashingConfig) {
+        return new BCryptPasswordEncoder(passwordHashingConfig.getBcryptStrength());
     }
 }
@@ -52,8 +52,8 @@ public record AdminInterviewResponse(
                 interview.getCurrentPhase(),
                 interview.getCurrentPhase() != null ? interview.getCurrentPhase().getDescription() : null,
                 interview.getTotalQuestions(),
-                interview.getResumeText() != null && !interview.getResumeText().isBlank(),
-                interview.getPortfolioText() != null && !interview.getPortfolioText().isBlank(),
+                interview.hasResume(),
+                interview.hasPortfolio(),
                 interview.hasAiReport(),
                 interview.getCreatedAt(),
                 interview.getUpdatedAt()
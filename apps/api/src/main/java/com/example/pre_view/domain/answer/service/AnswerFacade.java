@@ -8,6 +8,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import com.example.pre_view.common.exception.BusinessException;
 import com.example.pre_view.common.exception.ErrorCode;
+import com.example.pre_view.common.resilience.DeadlineContext;
 import com.example.pre_view.domain.answer.dto.AiFeedbackResponse;
 import com.example.pre_view.domain.answer.dto.AnswerCreateRequest;
 import com.example.pre_view.domain.answer.dto.AnswerResponse;
@@ -20,8 +21,10 @@ import com.example.pre_view.domain.interview.service.AiInterviewService;
 import com.example.pre_view.domain.question.entity.Question;
 import com.example.pre_view.domain.question.repository.QuestionRepository;
 import com.example.pre_view.domain.question.service.QuestionService;
+import com.example.pre_view.domain.stt.dto.SttStreamStatusResponse;
 import com.example.pre_view.domain.stt.dto.TranscriptionResponse;
 import com.example.pre_view.domain.stt.service.SttService;
+import com.example.pre_view.domain.stt.service.StreamingSttService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,6 +36,8 @@ import lombok.extern.slf4j.Slf4j;
  * - 비즈니스 흐름 조율 (AI 호출 → DB 저장)
  * - 트랜잭션 없이 외부 API 호출 수행
  * - 실제 DB 작업은 AnswerService에 위임
+ * - 컨트롤러가 연 요청 마감 시각(DeadlineContext)은 같은 스레드의 STT/AI 호출로 그대로 전달되어,
+ *   앞 단계가 시간을 많이 쓰면 뒤 단계는 재시도 없이 짧은 타임아웃이나 Fallback으로 처리됨
  */
 @Slf4j
 @Service
@@ -47,6 +52,7 @@ public class AnswerFacade {
     private final AnswerService answerService;
     private final QuestionService questionService;
     private final SttService sttService;
+    private final StreamingSttService streamingSttService;
 
     /**
      * 답변 생성 및 처리
@@ -62,30 +68,10 @@ public class AnswerFacade {
         log.info("답변 생성 시작 - interviewId: {}, questionId: {}, memberId: {}", interviewId, questionId, memberId);
 
         // 1. 면접 권한 검증
-        Interview interview = interviewRepository.findByIdAndMemberIdAndDeletedFalse(interviewId, memberId)
-                .orElseThrow(() -> {
-                    boolean exists = interviewRepository.findByIdAndDeletedFalse(interviewId).isPresent();
-                    if (exists) {
-                        log.warn("면접 접근 권한 없음 - interviewId: {}, memberId: {}", interviewId, memberId);
-                        return new BusinessException(ErrorCode.ACCESS_DENIED);
-                    }
-                    log.warn("면접을 찾을 수 없음 - interviewId: {}", interviewId);
-                    return new BusinessException(ErrorCode.INTERVIEW_NOT_FOUND);
-                });
+        Interview interview = findInterview(interviewId, memberId);
 
         // 2. 질문 조회 및 검증
-        Question question = questionRepository.findByIdWithInterview(questionId)
-                .orElseThrow(() -> {
-                    log.warn("질문을 찾을 수 없음 - questionId: {}", questionId);
-                    return new BusinessException(ErrorCode.QUESTION_NOT_FOUND);
-                });
-
-        // 보안 검증: 질문이 해당 면접에 속하는지 확인
-        if (!question.getInterview().getId().equals(interviewId)) {
-            log.warn("면접 ID 불일치 - 요청된 interviewId: {}, 실제 interviewId: {}",
-                    interviewId, question.getInterview().getId());
-            throw new BusinessException(ErrorCode.QUESTION_NOT_FOUND);
-        }
+        Question question = findQuestion(interviewId, questionId);
         InterviewPhase phase = question.getPhase();
 
         // 3. AI 피드백 생성 (트랜잭션 밖)
@@ -132,6 +118,7 @@ public class AnswerFacade {
                 phase, followUpDepth, previousQuestions.size());
 
         AiInterviewAgentResponse agentResponse = aiInterviewService.processInterviewStep(
+                interview.getId(),
                 phase,
                 null,  // bridgeAnswer는 첫 질문에만 사용
                 interview.buildContext(),
@@ -186,6 +173,8 @@ public class AnswerFacade {
         TranscriptionResponse transcription = sttService.transcribe(audioFile, language);
         log.info("STT 전사 완료 - 텍스트 길이: {}, 신뢰도: {}, 오디오 길이: {}초",
                 transcription.text().length(), transcription.confidence(), transcription.duration());
+        DeadlineContext.current().ifPresent(deadline ->
+                log.debug("STT 이후 남은 처리 시간 - {}ms", deadline.remaining().toMillis()));
 
         // 2. 변환된 텍스트로 AnswerCreateRequest 생성
         AnswerCreateRequest request = new AnswerCreateRequest(transcription.text());
@@ -199,4 +188,92 @@ public class AnswerFacade {
 
         return response;
     }
+
+    /**
+     * 스트리밍 음성 답변 시작
+     * 녹음 시작 시 호출하여 스트리밍 STT 세션을 연결
+     *
+     * @param interviewId 면접 ID (보안 검증용)
+     * @param questionId 질문 ID
+     * @param memberId 현재 사용자 ID (권한 검증용)
+     * @param language 언어 코드 (ko, en, ja, zh)
+     * @return 스트리밍 세션 상태
+     */
+    public SttStreamStatusResponse startAudioAnswerStream(Long interviewId, Long questionId, Long memberId,
+                                                          String language) {
+        findInterview(interviewId, memberId);
+        findQuestion(interviewId, questionId);
+        return streamingSttService.start(interviewId, questionId, memberId, language);
+    }
+
+    /**
+     * 스트리밍 음성 답변 청크 전달 (녹음 중 반복 호출)
+     *
+     * @param sessionId 스트리밍 세션 ID
+     * @param chunk PCM int16 16kHz mono 오디오 청크
+     * @return 누적된 부분 전사 결과를 포함한 세션 상태
+     */
+    public SttStreamStatusResponse appendAudioAnswerChunk(Long interviewId, Long questionId, Long memberId,
+                                                          String sessionId, byte[] chunk) {
+        return streamingSttService.append(sessionId, interviewId, questionId, memberId, chunk);
+    }
+
+    /**
+     * 스트리밍 음성 답변 완료
+     * 녹음 중 누적된 전사 결과로 기존 답변 생성 로직 호출
+     *
+     * @param sessionId 스트리밍 세션 ID
+     * @return 답변 응답 DTO
+     */
+    public AnswerResponse completeAudioAnswerStream(Long interviewId, Long questionId, Long memberId,
+                                                    String sessionId) {
+        TranscriptionResponse transcription = streamingSttService.finish(sessionId, interviewId, questionId, memberId);
+        log.info("스트리밍 STT 전사 완료 - 텍스트 길이: {}, 오디오 길이: {}초",
+                transcription.text().length(), transcription.duration());
+
+        AnswerResponse response = createAnswer(interviewId, questionId, memberId,
+                new AnswerCreateRequest(transcription.text()));
+
+        log.info("스트리밍 음성 답변 생성 완료 - interviewId: {}, questionId: {}, answerId: {}, score: {}",
+                interviewId, questionId, response.id(), response.score());
+        return response;
+    }
+
+    /**
+     * 스트리밍 음성 답변 취소
+     *
+     * @param sessionId 스트리밍 세션 ID
+     */
+    public void cancelAudioAnswerStream(Long interviewId, Long questionId, Long memberId, String sessionId) {
+        streamingSttService.cancel(sessionId, interviewId, questionId, memberId);
+    }
+
+    private Interview findInterview(Long interviewId, Long memberId) {
+        return interviewRepository.findByIdAndMemberIdAndDeletedFalse(interviewId, memberId)
+                .orElseThrow(() -> {
+                    boolean exists = interviewRepository.findByIdAndDeletedFalse(interviewId).isPresent();
+                    if (exists) {
+                        log.warn("면접 접근 권한 없음 - interviewId: {}, memberId: {}", interviewId, memberId);
+                        return new BusinessException(ErrorCode.ACCESS_DENIED);
+                    }
+                    log.warn("면접을 찾을 수 없음 - interviewId: {}", interviewId);
+                    return new BusinessException(ErrorCode.INTERVIEW_NOT_FOUND);
+                });
+    }
+
+    private Question findQuestion(Long interviewId, Long questionId) {
+        Question question = questionRepository.findByIdWithInterview(questionId)
+                .orElseThrow(() -> {
+                    log.warn("질문을 찾을 수 없음 - questionId: {}", questionId);
+                    return new BusinessException(ErrorCode.QUESTION_NOT_FOUND);
+                });
+
+        // 보안 검증: 질문이 해당 면접에 속하는지 확인
+        if (!question.getInterview().getId().equals(interviewId)) {
+            log.warn("면접 ID 불일치 - 요청된 interviewId: {}, 실제 interviewId: {}",
+                    interviewId, question.getInterview().getId());
+            throw new BusinessException(ErrorCode.QUESTION_NOT_FOUND);
+        }
+        return question;
+    }
 }
@@ -17,6 +17,7 @@ import com.example.pre_view.domain.question.dto.QuestionResponse;
 import com.example.pre_view.domain.question.entity.Question;
 import com.example.pre_view.domain.question.repository.QuestionRepository;
 import com.example.pre_view.domain.question.service.QuestionService;
+import com.example.pre_view.domain.tts.service.TtsAudioService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,6 +31,7 @@ import lombok.extern.slf4j.Slf4j;
  * - 트랜잭션 관리
  *
  * 참고: 외부 API 호출은 AnswerFacade에서 수행하고, 이 서비스는 순수 DB 작업만 담당합니다.
+ *       (새 질문의 TTS 합성은 비동기로 시작만 하고 기다리지 않습니다.)
  */
 @Slf4j
 @Service
@@ -39,6 +41,7 @@ public class AnswerService {
     private final AnswerRepository answerRepository;
     private final QuestionRepository questionRepository;
     private final QuestionService questionService;
+    private final TtsAudioService ttsAudioService;
 
     /**
      * Template 단계용 답변 저장 (OPENING, CLOSING)
@@ -158,6 +161,9 @@ public class AnswerService {
             log.info("Agent가 새 질문 생성 - interviewId: {}, questionId: {}, phase: {}",
                     interview.getId(), saved.getId(), phase);
 
+            // 클라이언트가 음성을 요청하기 전에 합성 시작
+            ttsAudioService.prefetch(saved.getContent());
+
             return AnswerResponse.of(savedAnswer, QuestionResponse.from(saved));
         }
 
@@ -0,0 +1,80 @@
+package com.example.pre_view.domain.auth.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * JWT 서명 키 설정
+ *
+ * application.yaml의 jwt.* 속성 중 서명 알고리즘과 키 목록을 바인딩합니다.
+ *
+ * 키 교체(rotation) 절차:
+ * 1. 새 키를 keys에 추가 (모든 노드에 배포, 아직 검증 전용)
+ * 2. active-key-id를 새 키로 변경 → 이후 발급 토큰은 새 키로 서명
+ * 3. 이전 키에 verify-until 지정 (Refresh Token 유효기간 이상) → 기간 이후 자동으로 검증 거부
+ *
+ * HS256에서 EdDSA/ES256으로 전환할 때는 jwt.secret을 그대로 두고 legacy-hmac-verify-until을 지정하면
+ * 그 시각까지 기존 HS256 토큰(kid: hs-default)을 검증 전용으로 계속 허용합니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "jwt")
+public class JwtKeyConfig {
+
+    /**
+     * 서명 알고리즘 (HS256 | EdDSA | ES256, 기본값: HS256)
+     * HS256은 jwt.secret을 사용하며 기존 토큰과 호환됩니다.
+     */
+    private String algorithm = "HS256";
+
+    /**
+     * 서명에 사용할 키 ID (kid), 비어있으면 keys의 첫 번째 키
+     */
+    private String activeKeyId;
+
+    /**
+     * 비대칭 키 목록 (EdDSA/ES256)
+     * 비어있으면 기동 시 임시 키 쌍을 생성합니다 (개발용, 단일 인스턴스 전용).
+     */
+    private List<Key> keys = new ArrayList<>();
+
+    /**
+     * EdDSA/ES256 모드에서 기존 HS256 토큰 검증 허용 종료 시각 (ISO-8601, 예: 2026-01-08T00:00:00Z)
+     * 비어있으면 HS256 토큰과 kid 없는 토큰을 허용하지 않습니다.
+     */
+    private String legacyHmacVerifyUntil;
+
+    @Getter
+    @Setter
+    public static class Key {
+
+        /**
+         * 키 ID (JWT 헤더의 kid)
+         */
+        private String kid;
+
+        /**
+         * 개인 키 (PKCS#8 DER, Base64)
+         * 검증 전용 노드(엣지 필터 등)에서는 비워둡니다.
+         */
+        private String privateKey;
+
+        /**
+         * 공개 키 (X.509 DER, Base64)
+         */
+        private String publicKey;
+
+        /**
+         * 검증 허용 종료 시각 (ISO-8601, 예: 2026-01-01T00:00:00Z)
+         * 교체된 이전 키의 overlap window 종료 시점, 비어있으면 무기한
+         */
+        private String verifyUntil;
+    }
+}
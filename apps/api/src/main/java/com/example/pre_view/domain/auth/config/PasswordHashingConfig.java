@@ -0,0 +1,45 @@
+package com.example.pre_view.domain.auth.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 비밀번호 해싱(BCrypt) 설정
+ *
+ * application.yaml의 password-hashing.* 속성을 바인딩합니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "password-hashing")
+public class PasswordHashingConfig {
+
+    /**
+     * BCrypt cost factor (기본값: 10, 1 증가할 때마다 연산량 2배)
+     */
+    private int bcryptStrength = 10;
+
+    /**
+     * 해싱 전용 스레드 수 (기본값: CPU 코어 수의 절반)
+     * 로그인 폭주 시에도 나머지 코어는 면접 트래픽에 남겨둡니다.
+     */
+    private int poolSize = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    /**
+     * 대기열 최대 길이 (기본값: 64), 초과 시 503 응답
+     */
+    private int queueCapacity = 64;
+
+    /**
+     * 503 응답 시 Retry-After 헤더 값 (초, 기본값: 2)
+     */
+    private long retryAfterSeconds = 2;
+
+    /**
+     * 로그인 성공 시 저장된 해시의 cost가 설정과 다르면 재해싱 (기본값: true)
+     */
+    private boolean rehashOnLogin = true;
+}
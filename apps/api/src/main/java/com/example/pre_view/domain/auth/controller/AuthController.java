@@ -1,7 +1,12 @@
 package com.example.pre_view.domain.auth.controller;
 
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
@@ -20,6 +25,7 @@ import com.example.pre_view.domain.auth.jwt.JwtTokenProvider;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -31,6 +37,7 @@ import lombok.extern.slf4j.Slf4j;
  * - POST /api/v1/auth/login   : 로그인
  * - POST /api/v1/auth/reissue : Access Token 재발급
  * - POST /api/v1/auth/logout  : 로그아웃
+ * - GET  /api/v1/auth/jwks    : 토큰 검증용 공개 키 (JWKS)
  */
 @Slf4j
 @Tag(name = "Auth", description = "인증 API")
@@ -61,10 +68,12 @@ public class AuthController {
     @Operation(summary = "로그인", description = "이메일/비밀번호로 로그인합니다.")
     @PostMapping("/login")
     public ResponseEntity<ApiResponse<TokenResponse>> login(
-            @Valid @RequestBody LoginRequest request
+            @Valid @RequestBody LoginRequest request,
+            HttpServletRequest httpRequest
     ) {
         log.info("로그인 API 호출 - email: {}", request.email());
-        TokenResponse response = authService.login(request);
+        // prod에서는 forward-headers-strategy로 프록시 뒤 실제 클라이언트 IP가 반영됨
+        TokenResponse response = authService.login(request, httpRequest.getRemoteAddr());
         return ResponseEntity.ok(ApiResponse.ok(response));
     }
 
@@ -89,7 +98,7 @@ public class AuthController {
     /**
      * 로그아웃
      *
-     * Access Token을 블랙리스트에 등록하고 Refresh Token을 삭제합니다.
+     * 회원의 기존 Access Token을 폐기하고 Refresh Token을 삭제합니다.
      * Authorization 헤더에 Access Token을 포함해야 합니다.
      */
     @Operation(summary = "로그아웃", description = "현재 토큰을 무효화합니다.")
@@ -113,4 +122,18 @@ public class AuthController {
         authService.logout(accessToken);
         return ResponseEntity.ok(ApiResponse.ok("로그아웃 되었습니다."));
     }
+
+    /**
+     * 토큰 검증용 공개 키 집합 (JWKS)
+     *
+     * 표준 JWKS 형식({"keys": [...]})으로 응답하므로 ApiResponse로 감싸지 않습니다.
+     * 서명 키 없이 토큰을 검증하는 엣지 필터/사이드카가 사용합니다.
+     */
+    @Operation(summary = "JWKS 조회", description = "Access Token 검증용 공개 키 집합을 조회합니다.")
+    @GetMapping("/jwks")
+    public ResponseEntity<Map<String, Object>> getJwkSet() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(10)).cachePublic())
+                .body(jwtTokenProvider.getJwkSet());
+    }
 }
@@ -10,9 +10,10 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import com.example.pre_view.domain.auth.service.AccessTokenBlacklistService;
+import com.example.pre_view.domain.auth.service.TokenRevocationService;
 import com.example.pre_view.domain.auth.util.CookieUtils;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -37,7 +38,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final String BEARER_PREFIX = "Bearer ";
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final AccessTokenBlacklistService blacklistService;
+    private final TokenRevocationService tokenRevocationService;
     private final CookieUtils cookieUtils;
 
     @Override
@@ -50,24 +51,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 1. 헤더에서 토큰 추출
         String token = resolveToken(request);
 
-        // 2. 토큰 검증 및 인증 처리
-        if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
-
-            // 3. 블랙리스트 확인 (로그아웃된 토큰인지)
-            if (blacklistService.isBlacklisted(token)) {
-                log.warn("블랙리스트에 등록된 토큰입니다.");
-                // 인증 정보 설정하지 않고 다음 필터로 진행
-                // → SecurityConfig에서 인증 필요한 경로면 401 반환
-            } else {
-                // 4. 토큰 타입 확인 (Access Token만 허용)
-                String tokenType = jwtTokenProvider.getTokenType(token);
-                if (!"access".equals(tokenType)) {
-                    log.warn("Access Token이 아닙니다. type: {}", tokenType);
-                } else {
-                    // 5. SecurityContext에 인증 정보 설정
-                    setAuthentication(token);
-                }
-            }
+        // 2. 토큰 검증 (서명/만료 검증과 Claims 추출을 한 번의 파싱으로 처리)
+        if (StringUtils.hasText(token)) {
+            jwtTokenProvider.getValidClaims(token).ifPresent(this::authenticate);
         }
 
         filterChain.doFilter(request, response);
@@ -92,6 +78,31 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         return null;
     }
 
+    /**
+     * 토큰 타입과 폐기 여부를 확인한 뒤 인증 정보 설정
+     */
+    private void authenticate(Claims claims) {
+        // 3. 토큰 타입 확인 (Access Token만 허용)
+        String tokenType = claims.get("type", String.class);
+        if (!"access".equals(tokenType)) {
+            log.warn("Access Token이 아닙니다. type: {}", tokenType);
+            return;
+        }
+
+        // 4. 폐기 여부 확인 (회원 또는 현재 세션의 로그아웃 이전에 발급된 토큰인지)
+        String memberId = claims.getSubject();
+        String sessionId = claims.get("sid", String.class);
+        if (tokenRevocationService.isRevoked(memberId, sessionId, jwtTokenProvider.getIssuedAt(claims))) {
+            log.warn("폐기된 토큰입니다. memberId: {}", memberId);
+            // 인증 정보 설정하지 않고 다음 필터로 진행
+            // → SecurityConfig에서 인증 필요한 경로면 401 반환
+            return;
+        }
+
+        // 5. SecurityContext에 인증 정보 설정
+        setAuthentication(memberId, claims.get("role", String.class));
+    }
+
     /**
      * SecurityContext에 인증 정보 설정
      *
@@ -100,10 +111,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
      * - credentials: 비밀번호 (JWT에서는 불필요하므로 null)
      * - authorities: 권한 목록
      */
-    private void setAuthentication(String token) {
-        String memberId = jwtTokenProvider.getMemberId(token);
-        String role = jwtTokenProvider.getRole(token);
-
+    private void setAuthentication(String memberId, String role) {
         // 권한 설정 (예: ROLE_USER → SimpleGrantedAuthority)
         List<SimpleGrantedAuthority> authorities = List.of(
                 new SimpleGrantedAuthority(role)
@@ -0,0 +1,303 @@
+package com.example.pre_view.domain.auth.jwt;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.crypto.SecretKey;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.example.pre_view.domain.auth.config.JwtKeyConfig;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.Locator;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * JWT 서명/검증 키 집합
+ *
+ * - HS256 (기본): jwt.secret 하나로 서명/검증 (기존 방식, 모든 노드가 secret 필요)
+ * - EdDSA / ES256: 개인 키로 서명, 공개 키로 검증
+ *   → 검증만 하는 노드(엣지 필터, 사이드카)는 공개 키 또는 JWKS만 있으면 됨
+ *
+ * 모든 토큰 헤더에 kid를 기록하고, 검증 시 kid로 키를 찾습니다.
+ * 이전 키는 verify-until까지 검증에만 사용되어 교체 중에도 기존 세션이 유지됩니다.
+ * HS256에서 비대칭 알고리즘으로 전환한 경우 jwt.secret과 legacy-hmac-verify-until(절대 시각)이 모두
+ * 설정되어 있을 때만 HS256 키를 같은 방식으로 검증 전용(kid: hs-default)으로 등록하여
+ * 전환 전에 발급된 토큰을 그 시각까지 받아들입니다. 그 외에는 HS256 토큰과 kid 없는 토큰을 거부합니다.
+ */
+@Slf4j
+@Component
+public class JwtKeyRing {
+
+    private static final String HMAC_KEY_ID = "hs-default";
+
+    private final SigningAlgorithm algorithm;
+    private final String activeKeyId;
+    private final Key signingKey;
+    private final Map<String, VerificationKey> verificationKeys = new LinkedHashMap<>();
+    private final Locator<Key> keyLocator;
+
+    public JwtKeyRing(
+            JwtKeyConfig config,
+            @Value("${jwt.secret:}") String secret
+    ) {
+        this.algorithm = SigningAlgorithm.from(config.getAlgorithm());
+
+        if (algorithm == SigningAlgorithm.HS256) {
+            this.activeKeyId = HMAC_KEY_ID;
+            this.signingKey = createHmacKey(secret);
+            verificationKeys.put(HMAC_KEY_ID, new VerificationKey(signingKey, null));
+        } else if (config.getKeys().isEmpty()) {
+            KeyPair keyPair = generateKeyPair();
+            this.activeKeyId = "ephemeral-" + Long.toString(System.currentTimeMillis(), 36);
+            this.signingKey = keyPair.getPrivate();
+            verificationKeys.put(activeKeyId, new VerificationKey(keyPair.getPublic(), null));
+            log.warn("JWT 서명 키가 설정되지 않아 임시 {} 키를 생성했습니다. 재시작 시 기존 토큰이 무효화됩니다. kid: {}",
+                    algorithm, activeKeyId);
+        } else {
+            this.activeKeyId = StringUtils.hasText(config.getActiveKeyId())
+                    ? config.getActiveKeyId()
+                    : config.getKeys().get(0).getKid();
+            this.signingKey = loadAsymmetricKeys(config.getKeys());
+        }
+        if (algorithm != SigningAlgorithm.HS256) {
+            registerLegacyHmacKey(secret, config.getLegacyHmacVerifyUntil());
+        }
+
+        this.keyLocator = new LocatorAdapter<>() {
+            @Override
+            protected Key locate(JwsHeader header) {
+                return findVerificationKey(header.getKeyId());
+            }
+        };
+
+        log.info("JWT 키 설정 완료 - algorithm: {}, activeKid: {}, 검증 키 수: {}",
+                algorithm, activeKeyId, verificationKeys.size());
+    }
+
+    /**
+     * 활성 키로 서명 (kid 헤더 포함)
+     *
+     * @throws IllegalStateException 개인 키가 없는 검증 전용 노드인 경우
+     */
+    public JwtBuilder sign(JwtBuilder builder) {
+        if (signingKey == null) {
+            throw new IllegalStateException("서명 키가 없는 검증 전용 설정입니다. kid: " + activeKeyId);
+        }
+
+        JwtBuilder withKeyId = builder.header().keyId(activeKeyId).and();
+        if (signingKey instanceof SecretKey secretKey) {
+            // 키 길이에 맞는 HMAC 알고리즘 자동 선택 (기존 토큰과 동일)
+            return withKeyId.signWith(secretKey);
+        }
+        return withKeyId.signWith((PrivateKey) signingKey, algorithm.signatureAlgorithm);
+    }
+
+    /**
+     * JwtParser용 키 조회기 (헤더의 kid → 검증 키)
+     */
+    public Locator<Key> keyLocator() {
+        return keyLocator;
+    }
+
+    /**
+     * 공개 키 집합 (JWKS 형식, RFC 7517)
+     *
+     * HS256 모드에서는 대칭 키를 공개할 수 없으므로 빈 집합을 반환합니다.
+     */
+    public Map<String, Object> getJwkSet() {
+        Instant now = Instant.now();
+        List<Map<String, Object>> keys = verificationKeys.entrySet().stream()
+                .filter(entry -> entry.getValue().key() instanceof PublicKey)
+                .filter(entry -> entry.getValue().isUsableAt(now))
+                .map(entry -> toJwk(entry.getKey(), (PublicKey) entry.getValue().key()))
+                .toList();
+        return Map.of("keys", keys);
+    }
+
+    private Key findVerificationKey(String kid) {
+        // kid 없는 토큰: kid 도입 전 HS256으로 발급된 기존 토큰만 허용
+        // (HS256 모드이거나 전환 유예 기간으로 HS256 키가 등록된 경우, 아니면 거부)
+        VerificationKey key = verificationKeys.get(kid != null ? kid : HMAC_KEY_ID);
+        if (key == null) {
+            throw new JwtException(kid != null
+                    ? "알 수 없는 서명 키입니다. kid: " + kid
+                    : "kid가 없는 토큰은 허용하지 않습니다.");
+        }
+        if (!key.isUsableAt(Instant.now())) {
+            throw new JwtException("검증 기간이 지난 서명 키입니다. kid: " + kid);
+        }
+        return key.key();
+    }
+
+    /**
+     * 임시 키 쌍 생성 (JWKS 변환과 같은 곡선: Ed25519 / P-256)
+     */
+    private KeyPair generateKeyPair() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance(algorithm.keyFactoryAlgorithm);
+            if (algorithm == SigningAlgorithm.ES256) {
+                generator.initialize(new ECGenParameterSpec("secp256r1"));
+            }
+            return generator.generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("JWT 임시 키를 생성할 수 없습니다: " + e.getMessage(), e);
+        }
+    }
+
+    private SecretKey createHmacKey(String secret) {
+        // JWT Secret 키 길이 검증 (HMAC-SHA256: 최소 256비트 = 32바이트)
+        if (secret == null || secret.getBytes().length < 32) {
+            throw new IllegalArgumentException(
+                "JWT Secret 키는 최소 32바이트(256비트) 이상이어야 합니다. 현재: " +
+                (secret == null ? "null" : secret.getBytes().length + "바이트")
+            );
+        }
+        return Keys.hmacShaKeyFor(secret.getBytes());
+    }
+
+    /**
+     * 비대칭 알고리즘 전환 전 HS256 키를 검증 전용으로 등록 (교체된 이전 키와 같은 verify-until 방식)
+     *
+     * 종료 시각을 기동 시각에서 계산하면 재시작할 때마다 허용 기간이 늘어나므로,
+     * secret과 명시적인 legacy-hmac-verify-until이 모두 있을 때만 등록합니다.
+     */
+    private void registerLegacyHmacKey(String secret, String configuredVerifyUntil) {
+        if (!StringUtils.hasText(secret) || !StringUtils.hasText(configuredVerifyUntil)) {
+            if (StringUtils.hasText(secret)) {
+                log.warn("legacy-hmac-verify-until이 없어 기존 HS256 토큰을 허용하지 않습니다.");
+            }
+            return;
+        }
+        Instant verifyUntil = Instant.parse(configuredVerifyUntil);
+        if (!Instant.now().isBefore(verifyUntil)) {
+            return;
+        }
+        verificationKeys.putIfAbsent(HMAC_KEY_ID, new VerificationKey(createHmacKey(secret), verifyUntil));
+        log.info("기존 HS256 토큰을 검증 전용으로 허용합니다. kid: {}, verify-until: {}", HMAC_KEY_ID, verifyUntil);
+    }
+
+    /**
+     * 설정된 키 목록을 검증 키로 등록하고 활성 키의 개인 키를 반환
+     */
+    private PrivateKey loadAsymmetricKeys(List<JwtKeyConfig.Key> keys) {
+        PrivateKey activePrivateKey = null;
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance(algorithm.keyFactoryAlgorithm);
+            for (JwtKeyConfig.Key key : keys) {
+                if (!StringUtils.hasText(key.getKid()) || !StringUtils.hasText(key.getPublicKey())) {
+                    throw new IllegalArgumentException("JWT 키에는 kid와 public-key가 필요합니다.");
+                }
+                PublicKey publicKey = keyFactory.generatePublic(
+                        new X509EncodedKeySpec(Base64.getDecoder().decode(key.getPublicKey())));
+                Instant verifyUntil = StringUtils.hasText(key.getVerifyUntil())
+                        ? Instant.parse(key.getVerifyUntil())
+                        : null;
+                verificationKeys.put(key.getKid(), new VerificationKey(publicKey, verifyUntil));
+
+                if (key.getKid().equals(activeKeyId) && StringUtils.hasText(key.getPrivateKey())) {
+                    activePrivateKey = keyFactory.generatePrivate(
+                            new PKCS8EncodedKeySpec(Base64.getDecoder().decode(key.getPrivateKey())));
+                }
+            }
+        } catch (GeneralSecurityException e) {
+            throw new IllegalArgumentException("JWT 키를 읽을 수 없습니다: " + e.getMessage(), e);
+        }
+
+        if (!verificationKeys.containsKey(activeKeyId)) {
+            throw new IllegalArgumentException("active-key-id에 해당하는 키가 없습니다: " + activeKeyId);
+        }
+        if (activePrivateKey == null) {
+            log.info("활성 키의 개인 키가 없어 검증 전용으로 동작합니다. kid: {}", activeKeyId);
+        }
+        return activePrivateKey;
+    }
+
+    private Map<String, Object> toJwk(String kid, PublicKey publicKey) {
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        if (publicKey instanceof ECPublicKey ecPublicKey) {
+            jwk.put("kty", "EC");
+            jwk.put("crv", "P-256");
+            jwk.put("x", base64Url(toUnsignedBytes(ecPublicKey.getW().getAffineX(), 32)));
+            jwk.put("y", base64Url(toUnsignedBytes(ecPublicKey.getW().getAffineY(), 32)));
+        } else {
+            // Ed25519 X.509 인코딩: 고정 헤더 + 32바이트 원시 공개 키
+            byte[] encoded = publicKey.getEncoded();
+            jwk.put("kty", "OKP");
+            jwk.put("crv", "Ed25519");
+            jwk.put("x", base64Url(Arrays.copyOfRange(encoded, encoded.length - 32, encoded.length)));
+        }
+        jwk.put("use", "sig");
+        jwk.put("alg", algorithm.jwaName);
+        jwk.put("kid", kid);
+        return jwk;
+    }
+
+    private static byte[] toUnsignedBytes(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        byte[] result = new byte[length];
+        int copyLength = Math.min(bytes.length, length);
+        System.arraycopy(bytes, bytes.length - copyLength, result, length - copyLength, copyLength);
+        return result;
+    }
+
+    private static String base64Url(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private record VerificationKey(Key key, Instant verifyUntil) {
+        boolean isUsableAt(Instant now) {
+            return verifyUntil == null || now.isBefore(verifyUntil);
+        }
+    }
+
+    private enum SigningAlgorithm {
+        HS256("HS256", null, null),
+        EDDSA("EdDSA", "Ed25519", Jwts.SIG.EdDSA),
+        ES256("ES256", "EC", Jwts.SIG.ES256);
+
+        private final String jwaName;
+        private final String keyFactoryAlgorithm;
+        private final SignatureAlgorithm signatureAlgorithm;
+
+        SigningAlgorithm(String jwaName, String keyFactoryAlgorithm, SignatureAlgorithm signatureAlgorithm) {
+            this.jwaName = jwaName;
+            this.keyFactoryAlgorithm = keyFactoryAlgorithm;
+            this.signatureAlgorithm = signatureAlgorithm;
+        }
+
+        static SigningAlgorithm from(String name) {
+            for (SigningAlgorithm value : values()) {
+                if (value.jwaName.equalsIgnoreCase(name)) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("지원하지 않는 JWT 알고리즘입니다: " + name);
+        }
+    }
+}
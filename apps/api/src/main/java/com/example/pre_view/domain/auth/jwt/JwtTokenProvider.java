@@ -1,8 +1,9 @@
 package com.example.pre_view.domain.auth.jwt;
 
 import java.util.Date;
-
-import javax.crypto.SecretKey;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -10,8 +11,8 @@ import org.springframework.stereotype.Component;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -19,29 +20,33 @@ import lombok.extern.slf4j.Slf4j;
  *
  * Access Token: 짧은 유효기간 (15분), 인증에 사용
  * Refresh Token: 긴 유효기간 (7일), Access Token 재발급용
+ *
+ * 서명 키 관리(알고리즘, kid, 키 교체)는 JwtKeyRing이 담당
  */
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
-    private final SecretKey secretKey;
+    /**
+     * 밀리초 단위 발급 시각 클레임 (표준 iat는 초 단위라 로그아웃 직후 같은 초에 발급된 토큰을 구분할 수 없음)
+     */
+    private static final String ISSUED_AT_MILLIS_CLAIM = "iat_ms";
+
+    private final JwtKeyRing keyRing;
+    private final JwtParser parser;
     private final long accessExpiration;
     private final long refreshExpiration;
 
     public JwtTokenProvider(
-            @Value("${jwt.secret}") String secret,
+            JwtKeyRing keyRing,
             @Value("${jwt.access-expiration}") long accessExpiration,
             @Value("${jwt.refresh-expiration}") long refreshExpiration
     ) {
-        // JWT Secret 키 길이 검증 (HMAC-SHA256: 최소 256비트 = 32바이트)
-        if (secret == null || secret.getBytes().length < 32) {
-            throw new IllegalArgumentException(
-                "JWT Secret 키는 최소 32바이트(256비트) 이상이어야 합니다. 현재: " +
-                (secret == null ? "null" : secret.getBytes().length + "바이트")
-            );
-        }
-
-        this.secretKey = Keys.hmacShaKeyFor(secret.getBytes());
+        this.keyRing = keyRing;
+        // JwtParser는 불변/스레드 안전하므로 한 번만 생성하여 재사용
+        this.parser = Jwts.parser()
+                .keyLocator(keyRing.keyLocator())     // 헤더의 kid로 검증 키 선택
+                .build();
         this.accessExpiration = accessExpiration;
         this.refreshExpiration = refreshExpiration;
     }
@@ -51,36 +56,41 @@ public class JwtTokenProvider {
      *
      * @param memberId 사용자 식별자
      * @param role 사용자 권한 (ROLE_USER, ROLE_ADMIN)
+     * @param deviceId 로그인 세션(기기) 식별자
      * @return JWT Access Token
      */
-    public String createAccessToken(String memberId, String role) {
+    public String createAccessToken(String memberId, String role, String deviceId) {
         Date now = new Date();
         Date expiry = new Date(now.getTime() + accessExpiration);
 
-        return Jwts.builder()
+        return keyRing.sign(Jwts.builder()
                 .subject(memberId)                    // sub: 토큰 주체 (사용자 ID)
                 .claim("role", role)                  // 커스텀 클레임: 권한
                 .claim("type", "access")              // 토큰 타입 구분
+                .claim("sid", deviceId)               // 세션(기기) 식별자
+                .claim(ISSUED_AT_MILLIS_CLAIM, now.getTime())  // 토큰 폐기 판정용 밀리초 발급 시간
                 .issuedAt(now)                        // iat: 발급 시간
-                .expiration(expiry)                   // exp: 만료 시간
-                .signWith(secretKey)                  // 서명
-                .compact();
+                .expiration(expiry))                  // exp: 만료 시간
+                .compact();                           // 활성 키로 서명 (kid 헤더 포함)
     }
 
     /**
      * Refresh Token 생성
      * Access Token보다 정보가 적음 (role 없음)
+     * sid로 Refresh 세션 저장소의 기기 세션을 O(1)로 찾음
+     * jti(무작위 ID)로 같은 초에 연속 재발급해도 매번 다른 토큰이 되도록 보장 (재사용 감지가 토큰 값 비교에 의존)
      */
-    public String createRefreshToken(String memberId) {
+    public String createRefreshToken(String memberId, String deviceId) {
         Date now = new Date();
         Date expiry = new Date(now.getTime() + refreshExpiration);
 
-        return Jwts.builder()
+        return keyRing.sign(Jwts.builder()
                 .subject(memberId)
+                .id(UUID.randomUUID().toString())
                 .claim("type", "refresh")
+                .claim("sid", deviceId)
                 .issuedAt(now)
-                .expiration(expiry)
-                .signWith(secretKey)
+                .expiration(expiry))
                 .compact();
     }
 
@@ -105,15 +115,48 @@ public class JwtTokenProvider {
         return parseClaims(token).get("type", String.class);
     }
 
+    /**
+     * 토큰에서 세션(기기) 식별자 추출 (sid 클레임이 없는 이전 토큰은 null)
+     */
+    public String getDeviceId(String token) {
+        return parseClaims(token).get("sid", String.class);
+    }
+
+    /**
+     * 토큰 발급 시각 (밀리초 정밀도)
+     *
+     * iat_ms 클레임이 없는 이전 토큰은 초 단위 iat를 반환합니다 (해당 초의 시작 시각으로 간주).
+     */
+    public Date getIssuedAt(Claims claims) {
+        Long issuedAtMillis = claims.get(ISSUED_AT_MILLIS_CLAIM, Long.class);
+        return issuedAtMillis != null ? new Date(issuedAtMillis) : claims.getIssuedAt();
+    }
+
     /**
      * 토큰의 남은 유효시간 반환 (밀리초)
-     * Blacklist 등록 시 TTL 설정에 사용
+     * 로그아웃 시 폐기 필요 여부 판단에 사용
      */
     public long getRemainingTime(String token) {
         Date expiration = parseClaims(token).getExpiration();
         return expiration.getTime() - System.currentTimeMillis();
     }
 
+    /**
+     * 서명과 만료를 검증하고 Claims 반환 (요청 필터에서 한 번만 파싱하기 위해 사용)
+     *
+     * @return 유효하면 Claims, 유효하지 않으면 empty
+     */
+    public Optional<Claims> getValidClaims(String token) {
+        try {
+            return Optional.of(parseClaims(token));
+        } catch (ExpiredJwtException e) {
+            log.warn("만료된 JWT 토큰입니다.");
+        } catch (JwtException e) {
+            log.warn("유효하지 않은 JWT 토큰입니다: {}", e.getMessage());
+        }
+        return Optional.empty();
+    }
+
     /**
      * 토큰 유효성 검증
      *
@@ -161,10 +204,14 @@ public class JwtTokenProvider {
      * JWT 파싱 및 Claims 추출
      */
     private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    /**
+     * 검증용 공개 키 집합 (JWKS)
+     * 서명 키 없이 토큰을 검증하는 외부 컴포넌트에 제공
+     */
+    public Map<String, Object> getJwkSet() {
+        return keyRing.getJwkSet();
     }
 }
@@ -47,11 +47,12 @@ public class OAuth2SuccessHandler implements AuthenticationSuccessHandler {
         String role = oAuth2User.getRole();
 
         // 1. JWT 토큰 생성
-        String accessToken = jwtTokenProvider.createAccessToken(memberId, role);
-        String refreshToken = jwtTokenProvider.createRefreshToken(memberId);
+        String deviceId = RefreshTokenService.newDeviceId();
+        String accessToken = jwtTokenProvider.createAccessToken(memberId, role, deviceId);
+        String refreshToken = jwtTokenProvider.createRefreshToken(memberId, deviceId);
 
         // 2. Refresh Token을 Redis에 저장
-        refreshTokenService.save(memberId, refreshToken);
+        refreshTokenService.save(memberId, deviceId, refreshToken);
 
         log.info("OAuth2 로그인 JWT 발급 - memberId: {}", memberId);
 
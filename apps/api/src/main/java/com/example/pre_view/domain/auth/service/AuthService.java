@@ -1,11 +1,11 @@
 package com.example.pre_view.domain.auth.service;
 
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.pre_view.common.exception.BusinessException;
 import com.example.pre_view.common.exception.ErrorCode;
+import com.example.pre_view.common.exception.ServiceBusyException;
 import com.example.pre_view.domain.auth.dto.LoginRequest;
 import com.example.pre_view.domain.auth.dto.SignupRequest;
 import com.example.pre_view.domain.auth.dto.TokenResponse;
@@ -22,7 +22,7 @@ import lombok.extern.slf4j.Slf4j;
  * - 회원가입 (이메일/비밀번호)
  * - 로그인 (이메일/비밀번호)
  * - 토큰 재발급 (Refresh Token Rotation)
- * - 로그아웃 (Access Token 블랙리스트 등록)
+ * - 로그아웃 (회원 단위 Access Token 폐기)
  */
 @Slf4j
 @Service
@@ -31,10 +31,10 @@ public class AuthService {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final RefreshTokenService refreshTokenService;
-    private final AccessTokenBlacklistService blacklistService;
+    private final TokenRevocationService tokenRevocationService;
     private final LoginAttemptService loginAttemptService;
     private final MemberRepository memberRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
 
     /**
      * 일반 회원가입
@@ -49,7 +49,7 @@ public class AuthService {
         }
 
         // 2. 비밀번호 암호화
-        String encodedPassword = passwordEncoder.encode(request.password());
+        String encodedPassword = passwordHashingService.encode(request.password());
 
         // 3. 회원 생성 및 저장
         Member member = Member.createLocalMember(request.email(), request.name(), encodedPassword);
@@ -62,49 +62,51 @@ public class AuthService {
      * 일반 로그인
      *
      * Brute Force 공격 방지를 위해 로그인 시도 횟수를 제한합니다.
-     * 5회 실패 시 5분간 계정이 잠금됩니다.
+     * 5분 내 이메일당 5회, IP당 20회를 초과하면 비밀번호 검증 전에 거부됩니다.
+     *
+     * BCrypt 대기/연산 동안 DB 커넥션을 점유하지 않도록 트랜잭션 없이 수행합니다.
      *
      * @param request 이메일, 비밀번호
+     * @param clientIp 요청 IP
      * @return 토큰 쌍
      */
-    @Transactional(readOnly = true)
-    public TokenResponse login(LoginRequest request) {
+    public TokenResponse login(LoginRequest request, String clientIp) {
         String email = request.email();
 
-        // 1. 계정 잠금 확인
-        if (loginAttemptService.isLocked(email)) {
-            log.warn("잠금된 계정 로그인 시도 - email: {}", email);
-            throw new BusinessException(ErrorCode.ACCOUNT_LOCKED);
-        }
+        // 1. 시도 한도 확인 및 기록 (한도 초과 시 BCrypt 연산 없이 거부)
+        LoginAttemptService.LoginAttempt attempt = loginAttemptService.acquire(email, clientIp);
 
         // 2. 이메일로 회원 조회
         Member member = memberRepository.findByEmail(email)
-                .orElseThrow(() -> {
-                    loginAttemptService.recordFailedAttempt(email);
-                    return new BusinessException(ErrorCode.INVALID_CREDENTIALS);
-                });
+                .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_CREDENTIALS));
 
         // 3. 비밀번호가 설정된 회원인지 확인 (OAuth 전용 회원 체크)
         if (!member.hasPassword()) {
             throw new BusinessException(ErrorCode.INVALID_LOGIN_METHOD);
         }
 
-        // 4. 비밀번호 검증
-        if (!passwordEncoder.matches(request.password(), member.getPassword())) {
-            loginAttemptService.recordFailedAttempt(email);
+        // 4. 비밀번호 검증 (실패 시 기록된 시도가 그대로 남음)
+        if (!passwordHashingService.matches(request.password(), member.getPassword())) {
             throw new BusinessException(ErrorCode.INVALID_CREDENTIALS);
         }
 
         // 5. 로그인 성공 - 시도 횟수 초기화
-        loginAttemptService.resetAttempts(email);
+        loginAttemptService.recordSuccess(attempt);
+
+        // 5-1. BCrypt cost 설정이 바뀌었으면 새 cost로 재해싱
+        if (passwordHashingService.needsRehash(member.getPassword())) {
+            rehashPassword(member, request.password());
+        }
 
         // 6. JWT 토큰 발급
+        // 로그인마다 새 기기 세션을 만들어 다른 기기의 세션은 유지
         String memberId = String.valueOf(member.getId());
-        String accessToken = jwtTokenProvider.createAccessToken(memberId, member.getRole().getKey());
-        String refreshToken = jwtTokenProvider.createRefreshToken(memberId);
+        String deviceId = RefreshTokenService.newDeviceId();
+        String accessToken = jwtTokenProvider.createAccessToken(memberId, member.getRole().getKey(), deviceId);
+        String refreshToken = jwtTokenProvider.createRefreshToken(memberId, deviceId);
 
-        // 7. Refresh Token Redis에 저장
-        refreshTokenService.save(memberId, refreshToken);
+        // 7. Refresh 세션 저장 (세션 수 상한 초과 시 가장 오래된 세션 제거)
+        refreshTokenService.save(memberId, deviceId, refreshToken);
 
         log.info("로그인 완료 - memberId: {}", memberId);
 
@@ -116,9 +118,8 @@ public class AuthService {
      *
      * 흐름:
      * 1. Refresh Token 유효성 검증
-     * 2. Redis에 저장된 토큰과 일치하는지 확인 (탈취 방지)
-     * 3. 새로운 Access Token, Refresh Token 발급
-     * 4. Redis에 새 Refresh Token 저장 (Rotation)
+     * 2. 기기 세션의 저장 토큰이 일치할 때만 새 Refresh Token으로 교체 (탈취 방지, 원자적 CAS)
+     * 3. 새로운 Access Token 발급
      *
      * @param refreshToken 클라이언트가 보낸 Refresh Token
      * @return 새로운 토큰 쌍
@@ -136,25 +137,26 @@ public class AuthService {
             throw new BusinessException(ErrorCode.INVALID_TOKEN_TYPE);
         }
 
-        // 3. memberId 추출 및 Redis 저장 토큰과 비교
+        // 3. memberId, deviceId 추출 (sid 없는 이전 형식 토큰은 재로그인 필요)
         String memberId = jwtTokenProvider.getMemberId(refreshToken);
-        if (!refreshTokenService.validateToken(memberId, refreshToken)) {
-            // 저장된 토큰과 다름 → 탈취 가능성 → 모든 토큰 무효화
-            log.warn("Refresh Token 불일치 - 탈취 가능성. memberId: {}", memberId);
-            refreshTokenService.delete(memberId);
+        String deviceId = jwtTokenProvider.getDeviceId(refreshToken);
+        if (deviceId == null) {
+            throw new BusinessException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
+
+        // 4. Refresh Token Rotation (저장된 토큰과 다르면 세션 삭제 후 거부)
+        String newRefreshToken = jwtTokenProvider.createRefreshToken(memberId, deviceId);
+        if (!refreshTokenService.rotate(memberId, deviceId, refreshToken, newRefreshToken)) {
+            log.warn("Refresh Token 불일치 - 탈취 가능성. memberId: {}, deviceId: {}", memberId, deviceId);
             throw new BusinessException(ErrorCode.INVALID_REFRESH_TOKEN);
         }
 
-        // 4. 회원 정보 조회 (role 가져오기)
+        // 5. 회원 정보 조회 (role 가져오기)
         Member member = memberRepository.findById(Long.parseLong(memberId))
                 .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
 
-        // 5. 새 토큰 발급
-        String newAccessToken = jwtTokenProvider.createAccessToken(memberId, member.getRole().getKey());
-        String newRefreshToken = jwtTokenProvider.createRefreshToken(memberId);
-
-        // 6. Refresh Token Rotation (Redis에 새 토큰 저장)
-        refreshTokenService.save(memberId, newRefreshToken);
+        // 6. 새 Access Token 발급
+        String newAccessToken = jwtTokenProvider.createAccessToken(memberId, member.getRole().getKey(), deviceId);
 
         log.info("토큰 재발급 완료 - memberId: {}", memberId);
 
@@ -165,24 +167,49 @@ public class AuthService {
      * 로그아웃
      *
      * 흐름:
-     * 1. Access Token을 블랙리스트에 등록 (남은 유효시간만큼)
-     * 2. Redis에서 Refresh Token 삭제
+     * 1. 현재 세션(sid)의 토큰 폐기 기준 시각 갱신 (이 기기에서 발급된 Access Token만 무효화)
+     * 2. 현재 기기의 Refresh 세션 삭제 (다른 기기는 Access/Refresh Token 모두 계속 사용)
+     *
+     * sid 없는 이전 형식 토큰은 세션을 구분할 수 없으므로 회원 전체 토큰을 폐기합니다.
      *
      * @param accessToken 로그아웃할 Access Token
      */
     public void logout(String accessToken) {
         // 1. Access Token에서 정보 추출
         String memberId = jwtTokenProvider.getMemberId(accessToken);
+        String deviceId = jwtTokenProvider.getDeviceId(accessToken);
         long remainingTime = jwtTokenProvider.getRemainingTime(accessToken);
 
-        // 2. Access Token 블랙리스트 등록
+        // 2. 세션 단위 토큰 폐기 (만료된 토큰이면 이미 무효이므로 생략)
         if (remainingTime > 0) {
-            blacklistService.add(accessToken, memberId, remainingTime);
+            if (deviceId != null) {
+                tokenRevocationService.revokeSession(memberId, deviceId);
+            } else {
+                tokenRevocationService.revokeAll(memberId);
+            }
         }
 
-        // 3. Refresh Token 삭제
-        refreshTokenService.delete(memberId);
+        // 3. Refresh 세션 삭제 (sid 없는 이전 토큰이면 전체 세션 삭제)
+        if (deviceId != null) {
+            refreshTokenService.delete(memberId, deviceId);
+        } else {
+            refreshTokenService.deleteAll(memberId);
+        }
 
         log.info("로그아웃 완료 - memberId: {}", memberId);
     }
+
+    /**
+     * 새 cost로 비밀번호 재해싱
+     * 해싱 풀이 포화 상태면 로그인은 성공시키고 다음 로그인으로 미룹니다.
+     */
+    private void rehashPassword(Member member, String rawPassword) {
+        try {
+            member.setPassword(passwordHashingService.encode(rawPassword));
+            memberRepository.save(member);
+            log.info("비밀번호 재해싱 완료 - memberId: {}", member.getId());
+        } catch (ServiceBusyException e) {
+            log.warn("해싱 풀 포화로 재해싱 생략 - memberId: {}", member.getId());
+        }
+    }
 }
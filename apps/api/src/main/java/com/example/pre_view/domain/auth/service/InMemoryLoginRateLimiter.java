@@ -0,0 +1,127 @@
+package com.example.pre_view.domain.auth.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인메모리 슬라이딩 윈도우 로그인 제한 (prod 프로필용)
+ *
+ * 키별 윈도우를 불변 리스트로 두고 AtomicReference CAS로 교체하는 lock-free 구현입니다.
+ * 여러 키 중 뒤쪽 키에서 거부되면 앞서 기록한 시도를 되돌려 전체를 all-or-nothing으로 맞춥니다.
+ * 유휴 윈도우 정리는 키별 computeIfPresent로 처리하고, 기록 도중 정리(또는 reset)로 맵에서 빠진
+ * 윈도우에 기록했으면 새 윈도우에 다시 기록하여 시도가 유실되지 않게 합니다.
+ */
+@Component
+@Profile("prod")
+public class InMemoryLoginRateLimiter implements LoginRateLimiter {
+
+    static final int EVICTION_THRESHOLD = 1_000;
+
+    private final ConcurrentHashMap<String, SlidingWindow> windows = new ConcurrentHashMap<>();
+
+    @Override
+    public long tryAcquire(List<Limit> limits, Duration window, String attemptId) {
+        long now = System.currentTimeMillis();
+        long windowMs = window.toMillis();
+
+        List<SlidingWindow> acquired = new ArrayList<>(limits.size());
+        for (Limit limit : limits) {
+            SlidingWindow slidingWindow;
+            long retryAfterMs;
+            do {
+                slidingWindow = windows.computeIfAbsent(limit.key(), key -> new SlidingWindow());
+                retryAfterMs = slidingWindow.tryAdd(now, windowMs, limit.maxAttempts(), attemptId);
+            } while (windows.get(limit.key()) != slidingWindow);
+            if (retryAfterMs > 0) {
+                acquired.forEach(w -> w.remove(attemptId));
+                return retryAfterMs;
+            }
+            acquired.add(slidingWindow);
+        }
+
+        evictIdleWindows(now, windowMs);
+        return 0L;
+    }
+
+    @Override
+    public void release(String key, String attemptId) {
+        SlidingWindow slidingWindow = windows.get(key);
+        if (slidingWindow != null) {
+            slidingWindow.remove(attemptId);
+        }
+    }
+
+    @Override
+    public void reset(String key) {
+        windows.remove(key);
+    }
+
+    /**
+     * 윈도우가 빈 키 정리 (Redis TTL 역할)
+     * 키 수가 적을 때는 생략하여 요청 경로 비용을 줄임
+     * 유휴 확인과 제거를 키별로 원자적으로 처리하여, 확인 직후 기록된 시도가 있는 윈도우는 제거하지 않음
+     */
+    private void evictIdleWindows(long now, long windowMs) {
+        if (windows.size() < EVICTION_THRESHOLD) {
+            return;
+        }
+        for (String key : windows.keySet()) {
+            windows.computeIfPresent(key,
+                    (k, slidingWindow) -> slidingWindow.isIdle(now, windowMs) ? null : slidingWindow);
+        }
+    }
+
+    /**
+     * 보관 중인 키 수 (유휴 윈도우 정리 확인용)
+     */
+    int windowCount() {
+        return windows.size();
+    }
+
+    private record Attempt(String id, long timestamp) {
+    }
+
+    private static final class SlidingWindow {
+
+        private final AtomicReference<List<Attempt>> attempts = new AtomicReference<>(List.of());
+
+        long tryAdd(long now, long windowMs, int maxAttempts, String attemptId) {
+            while (true) {
+                List<Attempt> current = attempts.get();
+                List<Attempt> alive = current.stream()
+                        .filter(attempt -> attempt.timestamp() > now - windowMs)
+                        .toList();
+
+                if (alive.size() >= maxAttempts) {
+                    // 만료된 항목만 정리 (실패해도 다음 호출에서 다시 정리됨)
+                    attempts.compareAndSet(current, alive);
+                    return Math.max(1L, alive.get(0).timestamp() + windowMs - now);
+                }
+
+                List<Attempt> updated = new ArrayList<>(alive.size() + 1);
+                updated.addAll(alive);
+                updated.add(new Attempt(attemptId, now));
+                if (attempts.compareAndSet(current, List.copyOf(updated))) {
+                    return 0L;
+                }
+            }
+        }
+
+        void remove(String attemptId) {
+            attempts.updateAndGet(current -> current.stream()
+                    .filter(attempt -> !attempt.id().equals(attemptId))
+                    .toList());
+        }
+
+        boolean isIdle(long now, long windowMs) {
+            List<Attempt> current = attempts.get();
+            return current.isEmpty() || current.get(current.size() - 1).timestamp() <= now - windowMs;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.pre_view.domain.auth.service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인메모리 Refresh 세션 저장소 (prod 프로필용)
+ *
+ * memberId → (deviceId → 세션) 2단계 맵
+ * 회원 단위 갱신은 ConcurrentHashMap.compute로 원자적으로 처리하고,
+ * 교체는 세션 값 비교 후 replace(key, old, new)로 O(1) CAS를 수행합니다.
+ */
+@Component
+@Profile("prod")
+public class InMemoryRefreshSessionStore implements RefreshSessionStore {
+
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, Session>> sessionsByMember = new ConcurrentHashMap<>();
+
+    @Override
+    public int put(String memberId, String deviceId, String tokenHash, long expiresAtMs, int maxSessions) {
+        long now = System.currentTimeMillis();
+        int[] evicted = {0};
+
+        sessionsByMember.compute(memberId, (key, sessions) -> {
+            ConcurrentHashMap<String, Session> updated = sessions != null ? sessions : new ConcurrentHashMap<>();
+            updated.put(deviceId, new Session(tokenHash, expiresAtMs));
+            updated.values().removeIf(session -> session.expiresAtMs() <= now);
+
+            int excess = updated.size() - maxSessions;
+            if (excess > 0) {
+                List<String> oldest = updated.entrySet().stream()
+                        .sorted(Comparator.comparingLong(entry -> entry.getValue().expiresAtMs()))
+                        .limit(excess)
+                        .map(Map.Entry::getKey)
+                        .toList();
+                oldest.forEach(updated::remove);
+                evicted[0] = excess;
+            }
+            return updated;
+        });
+
+        return evicted[0];
+    }
+
+    @Override
+    public boolean replace(String memberId, String deviceId, String expectedHash, String newHash, long newExpiresAtMs) {
+        Map<String, Session> sessions = sessionsByMember.get(memberId);
+        if (sessions == null) {
+            return false;
+        }
+
+        Session current = sessions.get(deviceId);
+        if (current == null) {
+            return false;
+        }
+        if (!current.tokenHash().equals(expectedHash) || current.expiresAtMs() <= System.currentTimeMillis()) {
+            sessions.remove(deviceId, current);
+            return false;
+        }
+        return sessions.replace(deviceId, current, new Session(newHash, newExpiresAtMs));
+    }
+
+    @Override
+    public void remove(String memberId, String deviceId) {
+        sessionsByMember.computeIfPresent(memberId, (key, sessions) -> {
+            sessions.remove(deviceId);
+            return sessions.isEmpty() ? null : sessions;
+        });
+    }
+
+    @Override
+    public void removeAll(String memberId) {
+        sessionsByMember.remove(memberId);
+    }
+
+    private record Session(String tokenHash, long expiresAtMs) {
+    }
+}
@@ -1,86 +1,88 @@
 package com.example.pre_view.domain.auth.service;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
 
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
+import com.example.pre_view.common.exception.BusinessException;
+import com.example.pre_view.common.exception.ErrorCode;
+
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
- * 로그인 시도 제한 서비스 (Brute Force 방지)
+ * 로그인 시도 제한 서비스 (Brute Force / Credential Stuffing 방지)
+ *
+ * 슬라이딩 윈도우(5분) 내 시도 횟수를 이메일과 클라이언트 IP 두 기준으로 제한합니다.
+ * - 이메일: 5회 (특정 계정 대상 공격 차단)
+ * - IP: 20회 (여러 계정을 돌아가며 시도하는 공격 차단)
  *
- * Redis 저장 구조:
- * - Key: "login_attempt:{email}"
- * - Value: 시도 횟수 (String)
- * - TTL: 5분 (잠금 해제 시간)
+ * 시도는 비밀번호 검증(BCrypt) 전에 원자적으로 기록되므로,
+ * 동시 요청 폭주 시에도 한도를 넘는 요청은 BCrypt 연산 없이 거부됩니다.
+ * 로그인에 성공하면 해당 시도를 되돌립니다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class LoginAttemptService {
 
-    private static final String KEY_PREFIX = "login_attempt:";
-    private static final int MAX_ATTEMPTS = 5;
-    private static final Duration LOCK_DURATION = Duration.ofMinutes(5);
+    private static final String EMAIL_KEY_PREFIX = "login_attempt:email:";
+    private static final String IP_KEY_PREFIX = "login_attempt:ip:";
+    private static final int MAX_ATTEMPTS_PER_EMAIL = 5;
+    private static final int MAX_ATTEMPTS_PER_IP = 20;
+    private static final Duration WINDOW = Duration.ofMinutes(5);
 
-    private final StringRedisTemplate redisTemplate;
+    private final LoginRateLimiter rateLimiter;
 
     /**
-     * 로그인 시도 횟수 증가
+     * 로그인 시도 기록 (한도 초과 시 거부)
      *
      * @param email 로그인 시도한 이메일
+     * @param clientIp 요청 IP
+     * @return 성공 시 recordSuccess에 전달할 시도 정보
+     * @throws BusinessException ACCOUNT_LOCKED - 윈도우 내 시도 한도 초과
      */
-    public void recordFailedAttempt(String email) {
-        String key = KEY_PREFIX + email;
-        Long attempts = redisTemplate.opsForValue().increment(key);
-
-        // 첫 번째 실패 시 TTL 설정
-        if (attempts != null && attempts == 1) {
-            redisTemplate.expire(key, LOCK_DURATION);
-        }
+    public LoginAttempt acquire(String email, String clientIp) {
+        LoginAttempt attempt = new LoginAttempt(
+                UUID.randomUUID().toString(),
+                EMAIL_KEY_PREFIX + email,
+                IP_KEY_PREFIX + clientIp
+        );
 
-        log.debug("로그인 실패 기록 - email: {}, 시도 횟수: {}", email, attempts);
-    }
+        long retryAfterMs = rateLimiter.tryAcquire(
+                List.of(
+                        new LoginRateLimiter.Limit(attempt.emailKey(), MAX_ATTEMPTS_PER_EMAIL),
+                        new LoginRateLimiter.Limit(attempt.ipKey(), MAX_ATTEMPTS_PER_IP)
+                ),
+                WINDOW,
+                attempt.id()
+        );
 
-    /**
-     * 계정이 잠겨있는지 확인
-     *
-     * @param email 확인할 이메일
-     * @return true면 잠금 상태
-     */
-    public boolean isLocked(String email) {
-        String key = KEY_PREFIX + email;
-        String attempts = redisTemplate.opsForValue().get(key);
-
-        if (attempts == null) {
-            return false;
+        if (retryAfterMs > 0) {
+            long retryAfterSeconds = Math.max(1, Duration.ofMillis(retryAfterMs).toSeconds());
+            log.warn("로그인 시도 한도 초과 - email: {}, ip: {}, 재시도까지: {}초", email, clientIp, retryAfterSeconds);
+            throw new BusinessException(ErrorCode.ACCOUNT_LOCKED,
+                    "로그인 시도 횟수를 초과했습니다. " + retryAfterSeconds + "초 후 다시 시도해주세요.");
         }
 
-        return Integer.parseInt(attempts) >= MAX_ATTEMPTS;
+        return attempt;
     }
 
     /**
-     * 로그인 성공 시 시도 횟수 초기화
-     *
-     * @param email 로그인 성공한 이메일
+     * 로그인 성공 처리
+     * 이메일 기준 시도 횟수를 초기화하고, IP 기준 윈도우에서는 이번 시도만 제거
      */
-    public void resetAttempts(String email) {
-        String key = KEY_PREFIX + email;
-        redisTemplate.delete(key);
-        log.debug("로그인 시도 횟수 초기화 - email: {}", email);
+    public void recordSuccess(LoginAttempt attempt) {
+        rateLimiter.reset(attempt.emailKey());
+        rateLimiter.release(attempt.ipKey(), attempt.id());
+        log.debug("로그인 시도 횟수 초기화 - key: {}", attempt.emailKey());
     }
 
     /**
-     * 남은 잠금 시간 조회 (초 단위)
-     *
-     * @param email 확인할 이메일
-     * @return 남은 잠금 시간 (초), 잠금 상태가 아니면 0
+     * 기록된 로그인 시도
      */
-    public long getRemainingLockTime(String email) {
-        String key = KEY_PREFIX + email;
-        Long ttl = redisTemplate.getExpire(key);
-        return ttl != null && ttl > 0 ? ttl : 0;
+    public record LoginAttempt(String id, String emailKey, String ipKey) {
     }
 }
@@ -0,0 +1,37 @@
+package com.example.pre_view.domain.auth.service;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 슬라이딩 윈도우 기반 로그인 시도 제한 저장소
+ *
+ * 여러 키(이메일, IP)의 한도 확인과 시도 기록을 하나의 원자적 연산으로 처리합니다.
+ * - Redis 환경: Lua 스크립트 1회 호출 (RedisLoginRateLimiter)
+ * - prod 인메모리 환경: CAS 기반 lock-free 구현 (InMemoryLoginRateLimiter)
+ */
+public interface LoginRateLimiter {
+
+    /**
+     * 모든 키가 한도 미만이면 시도를 기록하고, 하나라도 한도에 도달했으면 기록하지 않음
+     *
+     * @param limits 키별 윈도우 내 최대 시도 횟수
+     * @param window 슬라이딩 윈도우 크기
+     * @param attemptId 시도 식별자 (성공 시 release에 사용)
+     * @return 0이면 허용, 양수면 재시도까지 남은 시간 (밀리초)
+     */
+    long tryAcquire(List<Limit> limits, Duration window, String attemptId);
+
+    /**
+     * 기록된 시도 하나를 윈도우에서 제거
+     */
+    void release(String key, String attemptId);
+
+    /**
+     * 키의 윈도우 전체 초기화
+     */
+    void reset(String key);
+
+    record Limit(String key, int maxAttempts) {
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.pre_view.domain.auth.service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import com.example.pre_view.common.exception.BusinessException;
+import com.example.pre_view.common.exception.ErrorCode;
+import com.example.pre_view.common.exception.ServiceBusyException;
+import com.example.pre_view.domain.auth.config.PasswordHashingConfig;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비밀번호 해싱 서비스 (BCrypt 전용 스레드 풀)
+ *
+ * BCrypt는 의도적으로 CPU를 많이 쓰는 연산이라, 가상 스레드에서 그대로 실행하면
+ * 로그인 폭주 시 모든 코어가 해싱에 묶여 면접 API까지 느려집니다.
+ * 고정 크기 풀 + 제한된 대기열에서만 실행하고, 대기열이 가득 차면 503(Retry-After)으로 거부합니다.
+ */
+@Slf4j
+@Service
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingConfig config;
+    private final ThreadPoolExecutor executor;
+
+    // 메트릭
+    private final Timer hashingTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHashingService(
+            PasswordEncoder passwordEncoder,
+            PasswordHashingConfig config,
+            MeterRegistry meterRegistry
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.config = config;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                config.getPoolSize(),
+                config.getPoolSize(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(config.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        // 메트릭 등록
+        this.hashingTimer = Timer.builder("auth.password.hashing.duration")
+                .description("비밀번호 해싱/검증 소요 시간 (대기 포함)")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.password.hashing.rejected")
+                .description("대기열 초과로 거부된 해싱 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.hashing.queue.size", executor, e -> e.getQueue().size())
+                .description("해싱 대기열 길이")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("해싱 중인 스레드 수")
+                .register(meterRegistry);
+
+        log.info("비밀번호 해싱 풀 초기화 - poolSize: {}, queueCapacity: {}, bcryptStrength: {}",
+                config.getPoolSize(), config.getQueueCapacity(), config.getBcryptStrength());
+    }
+
+    /**
+     * 비밀번호 해싱
+     *
+     * @throws ServiceBusyException 대기열이 가득 찬 경우 (503)
+     */
+    public String encode(String rawPassword) {
+        return execute(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * 비밀번호 검증
+     *
+     * @throws ServiceBusyException 대기열이 가득 찬 경우 (503)
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 저장된 해시의 cost가 현재 설정과 다른지 확인
+     * BCrypt 해시 형식: $2a$10$... (4~5번째 문자가 cost)
+     */
+    public boolean needsRehash(String encodedPassword) {
+        if (!config.isRehashOnLogin() || encodedPassword == null || encodedPassword.length() < 7) {
+            return false;
+        }
+        try {
+            int cost = Integer.parseInt(encodedPassword.substring(4, 6));
+            return cost != config.getBcryptStrength();
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Timer.Sample sample = Timer.start();
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("비밀번호 해싱 대기열 초과 - queue: {}", executor.getQueue().size());
+            throw new ServiceBusyException(ErrorCode.AUTH_SERVICE_BUSY, config.getRetryAfterSeconds());
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        } finally {
+            sample.stop(hashingTimer);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.pre_view.domain.auth.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Redis 슬라이딩 윈도우 로그인 제한 (Lua 스크립트)
+ *
+ * Redis 저장 구조:
+ * - Key: "login_attempt:email:{email}", "login_attempt:ip:{ip}"
+ * - Type: Sorted Set (member: 시도 ID, score: 시도 시각 ms)
+ * - TTL: 윈도우 크기 (마지막 시도 기준)
+ *
+ * 확인(ZCARD)과 기록(ZADD)을 스크립트 한 번으로 처리하므로
+ * 동시 요청이 모두 확인을 통과한 뒤 한도를 초과하는 경쟁 조건이 없습니다.
+ */
+@Component
+@Profile("!prod")
+@RequiredArgsConstructor
+public class RedisLoginRateLimiter implements LoginRateLimiter {
+
+    /**
+     * KEYS: 제한 대상 키 목록
+     * ARGV[1]: 현재 시각(ms), ARGV[2]: 윈도우(ms), ARGV[3]: 시도 ID, ARGV[4..]: 키별 최대 시도 횟수
+     * 반환: 0(허용) 또는 재시도까지 남은 시간(ms)
+     */
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = RedisScript.of("""
+            local now = tonumber(ARGV[1])
+            local window = tonumber(ARGV[2])
+            local retryAfter = 0
+            for i = 1, #KEYS do
+              redis.call('ZREMRANGEBYSCORE', KEYS[i], '-inf', now - window)
+              if redis.call('ZCARD', KEYS[i]) >= tonumber(ARGV[3 + i]) then
+                local oldest = redis.call('ZRANGE', KEYS[i], 0, 0, 'WITHSCORES')
+                local wait = tonumber(oldest[2]) + window - now
+                if wait > retryAfter then retryAfter = wait end
+              end
+            end
+            if retryAfter > 0 then return retryAfter end
+            for i = 1, #KEYS do
+              redis.call('ZADD', KEYS[i], now, ARGV[3])
+              redis.call('PEXPIRE', KEYS[i], window)
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public long tryAcquire(List<Limit> limits, Duration window, String attemptId) {
+        List<String> keys = new ArrayList<>(limits.size());
+        List<String> args = new ArrayList<>(limits.size() + 3);
+        args.add(String.valueOf(System.currentTimeMillis()));
+        args.add(String.valueOf(window.toMillis()));
+        args.add(attemptId);
+        for (Limit limit : limits) {
+            keys.add(limit.key());
+            args.add(String.valueOf(limit.maxAttempts()));
+        }
+
+        Long retryAfterMs = redisTemplate.execute(ACQUIRE_SCRIPT, keys, args.toArray());
+        return retryAfterMs != null ? retryAfterMs : 0L;
+    }
+
+    @Override
+    public void release(String key, String attemptId) {
+        redisTemplate.opsForZSet().remove(key, attemptId);
+    }
+
+    @Override
+    public void reset(String key) {
+        redisTemplate.delete(key);
+    }
+}
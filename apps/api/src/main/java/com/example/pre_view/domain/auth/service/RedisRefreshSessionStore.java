@@ -0,0 +1,116 @@
+package com.example.pre_view.domain.auth.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis Refresh 세션 저장소
+ *
+ * Redis 저장 구조:
+ * - Key: "refresh_session:{memberId}"
+ * - Type: Hash (field: deviceId, value: "{SHA-256 hex}:{만료 시각 ms}")
+ * - TTL: Refresh Token 유효기간 (마지막 저장/교체 기준)
+ *
+ * 필드별 TTL은 값에 기록한 만료 시각으로 판정하고, 만료된 필드는 저장 시점에 정리합니다.
+ */
+@Component
+@Profile("!prod")
+public class RedisRefreshSessionStore implements RefreshSessionStore {
+
+    private static final String KEY_PREFIX = "refresh_session:";
+
+    /**
+     * ARGV[1]: deviceId, ARGV[2]: 저장 값, ARGV[3]: 현재 시각(ms), ARGV[4]: 최대 세션 수, ARGV[5]: 키 TTL(ms)
+     * 반환: 상한 초과로 제거된 세션 수
+     */
+    private static final RedisScript<Long> PUT_SCRIPT = RedisScript.of("""
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+            local now = tonumber(ARGV[3])
+            local entries = redis.call('HGETALL', KEYS[1])
+            local live = {}
+            for i = 1, #entries, 2 do
+              local expiresAt = tonumber(string.match(entries[i + 1], ':(%d+)$'))
+              if expiresAt <= now then
+                redis.call('HDEL', KEYS[1], entries[i])
+              else
+                table.insert(live, {entries[i], expiresAt})
+              end
+            end
+            local excess = #live - tonumber(ARGV[4])
+            if excess > 0 then
+              table.sort(live, function(a, b) return a[2] < b[2] end)
+              for i = 1, excess do
+                redis.call('HDEL', KEYS[1], live[i][1])
+              end
+            else
+              excess = 0
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[5])
+            return excess
+            """, Long.class);
+
+    /**
+     * ARGV[1]: deviceId, ARGV[2]: 기대 해시, ARGV[3]: 새 저장 값, ARGV[4]: 현재 시각(ms), ARGV[5]: 키 TTL(ms)
+     * 반환: 1(교체), 0(불일치/만료 → 세션 삭제)
+     */
+    private static final RedisScript<Long> REPLACE_SCRIPT = RedisScript.of("""
+            local current = redis.call('HGET', KEYS[1], ARGV[1])
+            if not current then return 0 end
+            local hash, expiresAt = string.match(current, '^(.*):(%d+)$')
+            if hash ~= ARGV[2] or tonumber(expiresAt) <= tonumber(ARGV[4]) then
+              redis.call('HDEL', KEYS[1], ARGV[1])
+              return 0
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[3])
+            redis.call('PEXPIRE', KEYS[1], ARGV[5])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final long refreshExpiration;
+
+    public RedisRefreshSessionStore(
+            StringRedisTemplate redisTemplate,
+            @Value("${jwt.refresh-expiration}") long refreshExpiration
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.refreshExpiration = refreshExpiration;
+    }
+
+    @Override
+    public int put(String memberId, String deviceId, String tokenHash, long expiresAtMs, int maxSessions) {
+        Long evicted = redisTemplate.execute(PUT_SCRIPT, List.of(KEY_PREFIX + memberId),
+                deviceId,
+                tokenHash + ":" + expiresAtMs,
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(maxSessions),
+                String.valueOf(refreshExpiration));
+        return evicted != null ? evicted.intValue() : 0;
+    }
+
+    @Override
+    public boolean replace(String memberId, String deviceId, String expectedHash, String newHash, long newExpiresAtMs) {
+        Long replaced = redisTemplate.execute(REPLACE_SCRIPT, List.of(KEY_PREFIX + memberId),
+                deviceId,
+                expectedHash,
+                newHash + ":" + newExpiresAtMs,
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(refreshExpiration));
+        return replaced != null && replaced == 1L;
+    }
+
+    @Override
+    public void remove(String memberId, String deviceId) {
+        redisTemplate.opsForHash().delete(KEY_PREFIX + memberId, deviceId);
+    }
+
+    @Override
+    public void removeAll(String memberId) {
+        redisTemplate.delete(KEY_PREFIX + memberId);
+    }
+}
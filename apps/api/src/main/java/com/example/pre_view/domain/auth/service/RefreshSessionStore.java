@@ -0,0 +1,33 @@
+package com.example.pre_view.domain.auth.service;
+
+/**
+ * 회원별 Refresh 세션 저장소 (deviceId → 토큰 해시)
+ *
+ * - Redis 환경: HASH + Lua 스크립트 (RedisRefreshSessionStore)
+ * - prod 인메모리 환경: ConcurrentHashMap (InMemoryRefreshSessionStore)
+ *
+ * 세션마다 만료 시각을 함께 저장하여 기기별 TTL을 적용하고,
+ * 저장 시 만료된 세션 정리와 세션 수 상한 적용을 한 번에 처리합니다.
+ */
+public interface RefreshSessionStore {
+
+    /**
+     * 세션 저장 (같은 deviceId면 덮어쓰기)
+     * 상한을 넘으면 만료가 가장 임박한(가장 오래된) 세션부터 제거
+     *
+     * @return 상한 초과로 제거된 세션 수
+     */
+    int put(String memberId, String deviceId, String tokenHash, long expiresAtMs, int maxSessions);
+
+    /**
+     * 저장된 해시가 expectedHash이고 만료되지 않았을 때만 newHash로 교체 (compare-and-set)
+     * 일치하지 않으면 재사용된 토큰으로 보고 해당 세션을 삭제
+     *
+     * @return 교체 성공 여부
+     */
+    boolean replace(String memberId, String deviceId, String expectedHash, String newHash, long newExpiresAtMs);
+
+    void remove(String memberId, String deviceId);
+
+    void removeAll(String memberId);
+}
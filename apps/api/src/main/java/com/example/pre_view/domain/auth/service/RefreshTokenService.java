@@ -1,82 +1,96 @@
 package com.example.pre_view.domain.auth.service;
 
-import java.time.Duration;
-import java.util.Optional;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
 import lombok.extern.slf4j.Slf4j;
 
 /**
- * Refresh Token 저장소 (RedisTemplate 방식)
+ * Refresh Token 세션 관리
  *
- * Redis 저장 구조:
- * - Key: "refresh:{memberId}"
- * - Value: JWT 토큰 문자열
- * - TTL: 7일 (application.yaml에서 설정)
- *
- * Repository 방식 대비 장점:
- * 1. 메모리 효율: 단순 key-value로 저장 (Hash + Set 오버헤드 없음)
- * 2. 명시적 제어: Redis 명령어가 어떻게 실행되는지 명확
- * 3. 성능: 불필요한 보조 인덱스 생성 없음
+ * 회원별로 기기(deviceId)마다 하나의 세션을 두어 여러 기기에서 동시에 로그인할 수 있습니다.
+ * - 토큰 원문 대신 SHA-256 해시만 저장 (저장 공간 절약, 저장소 유출 시에도 토큰 재사용 불가)
+ * - deviceId는 로그인 시 발급되어 토큰의 sid 클레임으로 전달되므로 조회가 O(1)
+ * - 회원당 세션 수 상한 초과 시 가장 오래된 세션부터 제거
  */
 @Slf4j
 @Service
 public class RefreshTokenService {
 
-    private static final String KEY_PREFIX = "refresh:";
-
-    private final StringRedisTemplate redisTemplate;
+    private final RefreshSessionStore sessionStore;
     private final long refreshExpiration;
+    private final int maxSessionsPerMember;
 
     public RefreshTokenService(
-            StringRedisTemplate redisTemplate,
-            @Value("${jwt.refresh-expiration}") long refreshExpiration
+            RefreshSessionStore sessionStore,
+            @Value("${jwt.refresh-expiration}") long refreshExpiration,
+            @Value("${jwt.max-sessions-per-member:5}") int maxSessionsPerMember
     ) {
-        this.redisTemplate = redisTemplate;
+        this.sessionStore = sessionStore;
         this.refreshExpiration = refreshExpiration;
+        this.maxSessionsPerMember = maxSessionsPerMember;
+    }
+
+    /**
+     * 새 로그인 세션의 deviceId 생성
+     */
+    public static String newDeviceId() {
+        return UUID.randomUUID().toString();
     }
 
     /**
-     * Refresh Token 저장
-     * 기존 토큰이 있으면 덮어쓰기 (자동 Rotation)
+     * 기기 세션 저장 (로그인 시)
      */
-    public void save(String memberId, String token) {
-        String key = KEY_PREFIX + memberId;
-        // 밀리초 → Duration 변환
-        Duration ttl = Duration.ofMillis(refreshExpiration);
+    public void save(String memberId, String deviceId, String token) {
+        int evicted = sessionStore.put(memberId, deviceId, hash(token),
+                System.currentTimeMillis() + refreshExpiration, maxSessionsPerMember);
 
-        redisTemplate.opsForValue().set(key, token, ttl);
-        log.debug("Refresh Token 저장 - memberId: {}, TTL: {}일", memberId, ttl.toDays());
+        if (evicted > 0) {
+            log.info("세션 수 상한 초과로 오래된 세션 제거 - memberId: {}, 제거 수: {}", memberId, evicted);
+        }
+        log.debug("Refresh 세션 저장 - memberId: {}, deviceId: {}", memberId, deviceId);
     }
 
     /**
-     * memberId로 Refresh Token 조회
+     * Refresh Token Rotation
+     * 저장된 토큰이 oldToken일 때만 newToken으로 교체하며,
+     * 일치하지 않으면 탈취된 이전 토큰 재사용으로 보고 해당 기기 세션을 삭제합니다.
+     *
+     * @return 교체 성공 여부
      */
-    public Optional<String> findByMemberId(String memberId) {
-        String key = KEY_PREFIX + memberId;
-        String token = redisTemplate.opsForValue().get(key);
-        return Optional.ofNullable(token);
+    public boolean rotate(String memberId, String deviceId, String oldToken, String newToken) {
+        return sessionStore.replace(memberId, deviceId, hash(oldToken), hash(newToken),
+                System.currentTimeMillis() + refreshExpiration);
     }
 
     /**
-     * Refresh Token 삭제 (로그아웃 시)
+     * 기기 세션 삭제 (로그아웃 시)
      */
-    public void delete(String memberId) {
-        String key = KEY_PREFIX + memberId;
-        Boolean deleted = redisTemplate.delete(key);
-        log.debug("Refresh Token 삭제 - memberId: {}, 결과: {}", memberId, deleted);
+    public void delete(String memberId, String deviceId) {
+        sessionStore.remove(memberId, deviceId);
+        log.debug("Refresh 세션 삭제 - memberId: {}, deviceId: {}", memberId, deviceId);
     }
 
     /**
-     * 토큰 값이 저장된 토큰과 일치하는지 검증
-     * Token Rotation 시 탈취된 이전 토큰 사용 방지
+     * 회원의 모든 기기 세션 삭제
      */
-    public boolean validateToken(String memberId, String token) {
-        return findByMemberId(memberId)
-                .map(savedToken -> savedToken.equals(token))
-                .orElse(false);
+    public void deleteAll(String memberId) {
+        sessionStore.removeAll(memberId);
+        log.debug("Refresh 세션 전체 삭제 - memberId: {}", memberId);
+    }
+
+    private String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
     }
 }
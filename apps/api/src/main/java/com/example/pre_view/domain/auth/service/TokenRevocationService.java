@@ -0,0 +1,147 @@
+package com.example.pre_view.domain.auth.service;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회원/세션 단위 토큰 폐기(Revocation) 서비스
+ *
+ * 토큰 문자열 전체를 키로 저장하던 블랙리스트 대신,
+ * "이 시각 이전에 발급된 토큰은 무효" 라는 기준 시각(epoch)만 저장합니다.
+ * 기준 시각은 회원 전체(모든 기기)와 세션(sid, 기기) 단위로 각각 둘 수 있으며,
+ * 로그아웃은 현재 세션만 폐기하므로 다른 기기의 Access Token은 계속 유효합니다.
+ * JwtAuthenticationFilter는 토큰의 밀리초 발급 시각과 이 기준 시각을 비교하므로,
+ * 로그아웃 직후 같은 초에 다시 로그인해 발급받은 토큰은 폐기되지 않습니다.
+ *
+ * Redis 저장 구조:
+ * - Key: "token_revoked_before:{memberId}" (회원 전체), "token_revoked_before:{memberId}:{sid}" (세션)
+ * - Value: 폐기 기준 시각 (epoch milliseconds)
+ * - TTL: Access Token 유효기간 (그 이후에는 이전 토큰이 모두 만료되므로 불필요)
+ *
+ * 저장 공간이 토큰 수가 아닌 회원/세션 수에 비례하고,
+ * 토큰마다 (캐시된) 조회 두 번으로 폐기 여부를 판정할 수 있습니다.
+ *
+ * 로컬 캐시:
+ * - 요청마다 Redis를 조회하지 않도록 짧은 TTL로 조회 결과를 캐싱
+ * - 폐기 기록이 없는 회원도 0으로 캐싱 (negative caching)
+ * - 같은 인스턴스에서의 폐기는 즉시 반영, 다른 인스턴스에는 최대 캐시 TTL만큼 지연
+ */
+@Slf4j
+@Service
+public class TokenRevocationService {
+
+    private static final String KEY_PREFIX = "token_revoked_before:";
+    private static final long NOT_REVOKED = 0L;
+    private static final int MAX_LOCAL_ENTRIES = 10_000;
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration revocationTtl;
+    private final long localCacheTtlNanos;
+    private final ConcurrentHashMap<String, CachedEpoch> localCache = new ConcurrentHashMap<>();
+
+    public TokenRevocationService(
+            StringRedisTemplate redisTemplate,
+            @Value("${jwt.access-expiration}") long accessExpiration,
+            @Value("${jwt.revocation-cache-ttl:5000}") long localCacheTtlMs
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.revocationTtl = Duration.ofMillis(accessExpiration);
+        this.localCacheTtlNanos = Duration.ofMillis(localCacheTtlMs).toNanos();
+    }
+
+    /**
+     * 회원의 현재까지 발급된 모든 Access Token 폐기 (모든 기기)
+     *
+     * 현재 시각(밀리초) 이전에 발급된 토큰이 폐기 대상이며, 이후 발급된 토큰은 유효합니다.
+     *
+     * @param memberId 토큰 소유자
+     */
+    public void revokeAll(String memberId) {
+        long revokedBefore = revoke(memberId);
+        log.debug("회원 토큰 폐기 - memberId: {}, revokedBefore: {}", memberId, revokedBefore);
+    }
+
+    /**
+     * 한 세션(기기)에서 현재까지 발급된 Access Token 폐기 (로그아웃)
+     *
+     * 같은 회원의 다른 세션에서 발급된 토큰은 영향을 받지 않습니다.
+     *
+     * @param memberId 토큰 소유자
+     * @param sessionId 토큰의 sid (기기 식별자)
+     */
+    public void revokeSession(String memberId, String sessionId) {
+        long revokedBefore = revoke(sessionKey(memberId, sessionId));
+        log.debug("세션 토큰 폐기 - memberId: {}, sid: {}, revokedBefore: {}", memberId, sessionId, revokedBefore);
+    }
+
+    /**
+     * 토큰이 폐기되었는지 확인
+     *
+     * @param memberId 토큰 소유자
+     * @param sessionId 토큰의 sid (sid 없는 이전 형식 토큰이면 null, 회원 단위 폐기만 확인)
+     * @param issuedAt 토큰 발급 시각 (밀리초 정밀도, 초 단위 iat만 있는 토큰은 해당 초의 시작 시각)
+     * @return true면 회원 또는 세션의 폐기 기준 시각 이전에 발급된 토큰 → 접근 차단 필요
+     */
+    public boolean isRevoked(String memberId, String sessionId, Date issuedAt) {
+        if (isIssuedBefore(getRevokedBefore(memberId), issuedAt)) {
+            return true;
+        }
+        return sessionId != null && isIssuedBefore(getRevokedBefore(sessionKey(memberId, sessionId)), issuedAt);
+    }
+
+    private boolean isIssuedBefore(long revokedBefore, Date issuedAt) {
+        if (revokedBefore == NOT_REVOKED) {
+            return false;
+        }
+        // iat가 없는 토큰은 발급 시각을 판단할 수 없으므로 폐기된 것으로 간주
+        if (issuedAt == null) {
+            return true;
+        }
+        return issuedAt.getTime() < revokedBefore;
+    }
+
+    private long revoke(String key) {
+        long revokedBefore = System.currentTimeMillis();
+
+        redisTemplate.opsForValue().set(KEY_PREFIX + key, String.valueOf(revokedBefore), revocationTtl);
+        cache(key, revokedBefore);
+        return revokedBefore;
+    }
+
+    private long getRevokedBefore(String key) {
+        CachedEpoch cached = localCache.get(key);
+        if (cached != null && !cached.isExpired()) {
+            return cached.revokedBefore();
+        }
+
+        String value = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+        long revokedBefore = value != null ? Long.parseLong(value) : NOT_REVOKED;
+        cache(key, revokedBefore);
+        return revokedBefore;
+    }
+
+    private static String sessionKey(String memberId, String sessionId) {
+        return memberId + ":" + sessionId;
+    }
+
+    private void cache(String key, long revokedBefore) {
+        // 캐시 무한 증가 방지: 상한 초과 시 비우고 Redis에서 다시 채움
+        if (localCache.size() >= MAX_LOCAL_ENTRIES) {
+            localCache.clear();
+        }
+        localCache.put(key, new CachedEpoch(revokedBefore, System.nanoTime() + localCacheTtlNanos));
+    }
+
+    private record CachedEpoch(long revokedBefore, long expiresAtNanos) {
+        boolean isExpired() {
+            return System.nanoTime() - expiresAtNanos > 0;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.pre_view.domain.file.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 문서 업로드 백그라운드 처리 설정
+ *
+ * application.yaml의 file.ingestion.* 속성을 바인딩합니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "file.ingestion")
+public class DocumentIngestionConfig {
+
+    /**
+     * 업로드 파일을 처리 전까지 보관할 디렉토리
+     */
+    private String storageDir = System.getProperty("java.io.tmpdir") + "/pre-view/uploads";
+
+    /**
+     * 면접 시작 시 처리 중인 문서를 기다릴 최대 시간 (밀리초, 기본값: 30초)
+     * 이 시간 안에 끝나지 않으면 면접 시작 요청을 거절합니다.
+     */
+    private long awaitTimeout = 30000;
+
+    /**
+     * 처리가 끝난 상태 정보를 보관할 시간 (밀리초, 기본값: 1시간)
+     */
+    private long statusRetention = 3600000;
+}
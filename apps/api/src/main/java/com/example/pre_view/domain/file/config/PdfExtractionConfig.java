@@ -0,0 +1,41 @@
+package com.example.pre_view.domain.file.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * PDF 텍스트 추출 설정
+ *
+ * application.yaml의 file.pdf.* 속성을 바인딩합니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "file.pdf")
+public class PdfExtractionConfig {
+
+    /**
+     * 추출할 최대 문자 수 (기본값: 30000자)
+     * 도달하면 남은 페이지는 추출하지 않습니다. 프롬프트에는 이 중 관련 청크만 사용됩니다.
+     */
+    private int maxCharacters = 30000;
+
+    /**
+     * 작업 1개가 추출할 페이지 수 (기본값: 4페이지)
+     */
+    private int pagesPerTask = 4;
+
+    /**
+     * 동시에 추출할 최대 작업 수 (기본값: 4)
+     * 작업마다 문서를 따로 열므로 메모리 사용량은 이 값 × maxMainMemoryBytes 이내입니다.
+     */
+    private int parallelism = 4;
+
+    /**
+     * 문서 1개가 힙에 캐시할 최대 바이트 (기본값: 16MB, 초과분은 임시 파일 사용)
+     */
+    private long maxMainMemoryBytes = 16L * 1024 * 1024;
+}
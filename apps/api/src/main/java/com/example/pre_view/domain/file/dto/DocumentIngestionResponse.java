@@ -0,0 +1,40 @@
+package com.example.pre_view.domain.file.dto;
+
+import java.time.LocalDateTime;
+
+import com.example.pre_view.common.retrieval.DocumentType;
+import com.example.pre_view.domain.file.enums.IngestionStatus;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 문서 처리 진행 상태 응답 DTO
+ */
+@Schema(description = "이력서/포트폴리오 처리 진행 상태")
+public record DocumentIngestionResponse(
+
+        @Schema(description = "면접 ID", example = "1")
+        Long interviewId,
+
+        @Schema(description = "문서 유형", example = "RESUME")
+        DocumentType documentType,
+
+        @Schema(description = "처리 단계", example = "EXTRACTING")
+        IngestionStatus status,
+
+        @Schema(description = "처리 단계 설명", example = "텍스트 추출")
+        String statusDescription,
+
+        @Schema(description = "진행률 (%)", example = "35")
+        int progress,
+
+        @Schema(description = "추출된 텍스트 길이 (완료 시)", example = "12840")
+        Integer textLength,
+
+        @Schema(description = "실패 사유 (실패 시)", example = "파일 읽기 중 오류가 발생했습니다.")
+        String errorMessage,
+
+        @Schema(description = "업로드 시각")
+        LocalDateTime requestedAt
+) {
+}
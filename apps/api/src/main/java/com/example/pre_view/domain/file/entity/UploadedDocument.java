@@ -0,0 +1,56 @@
+package com.example.pre_view.domain.file.entity;
+
+import com.example.pre_view.common.BaseEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 업로드 문서 (콘텐츠 주소 저장)
+ *
+ * - 업로드 파일 바이트의 SHA-256으로 식별하며, 같은 파일은 한 번만 추출·저장
+ *   (문서 참조 도입 전 텍스트를 백필한 문서는 원본 파일이 없어 추출된 텍스트(UTF-8)의 SHA-256으로 식별)
+ * - 면접은 텍스트를 복사하지 않고 이 문서를 참조 (같은 이력서를 여러 면접에서 공유)
+ * - 내용이 바뀌지 않으므로 수정 메서드 없음 (다른 파일은 다른 문서)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+    name = "uploaded_document",
+    uniqueConstraints = {
+        @UniqueConstraint(
+            name = "uk_uploaded_document_content_hash",
+            columnNames = {"content_hash"}
+        )
+    }
+)
+public class UploadedDocument extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 업로드 파일 바이트의 SHA-256 (hex), 백필 문서는 텍스트의 SHA-256
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    // 추출·정리된 텍스트
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String text;
+
+    @Builder
+    public UploadedDocument(String contentHash, String text) {
+        this.contentHash = contentHash;
+        this.text = text;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.pre_view.domain.file.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 문서 처리 단계
+ *
+ * 업로드된 이력서/포트폴리오는 추출 → 정리 → 색인 → 저장 순서로 백그라운드에서 처리됩니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum IngestionStatus {
+    QUEUED("처리 대기", 0),
+    EXTRACTING("텍스트 추출", 10),
+    CLEANING("텍스트 정리", 60),
+    INDEXING("검색 인덱스 생성", 75),
+    SAVING("저장", 90),
+    COMPLETED("완료", 100),
+    FAILED("실패", 100);
+
+    private final String description;
+    private final int progress;  // 단계 시작 시점의 진행률 (%)
+
+    public boolean isDone() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.pre_view.domain.file.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.example.pre_view.domain.file.entity.UploadedDocument;
+
+public interface UploadedDocumentRepository extends JpaRepository<UploadedDocument, Long> {
+
+    /**
+     * 파일 바이트 해시(백필 문서는 텍스트 해시)로 이미 저장된 문서를 조회합니다.
+     * 같은 파일을 다시 업로드하면 추출을 건너뛰고 이 문서를 재사용합니다.
+     */
+    Optional<UploadedDocument> findByContentHash(String contentHash);
+}
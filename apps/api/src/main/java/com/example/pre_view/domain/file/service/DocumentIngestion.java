@@ -0,0 +1,89 @@
+package com.example.pre_view.domain.file.service;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+
+import com.example.pre_view.common.retrieval.DocumentType;
+import com.example.pre_view.domain.file.dto.DocumentIngestionResponse;
+import com.example.pre_view.domain.file.enums.IngestionStatus;
+
+/**
+ * 업로드된 문서 1개의 백그라운드 처리 작업
+ *
+ * 처리 스레드가 상태를 갱신하고, 요청 스레드는 상태 조회와 완료 대기에 사용합니다.
+ */
+final class DocumentIngestion {
+
+    private final Long interviewId;
+    private final DocumentType documentType;
+    private final Path storedFile;
+    private final String contentHash;
+    private final LocalDateTime requestedAt = LocalDateTime.now();
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+    private volatile IngestionStatus status = IngestionStatus.QUEUED;
+    private volatile int progress = IngestionStatus.QUEUED.getProgress();
+    private volatile Integer textLength;
+    private volatile String errorMessage;
+    private volatile long finishedAtMillis;
+
+    DocumentIngestion(Long interviewId, DocumentType documentType, Path storedFile, String contentHash) {
+        this.interviewId = interviewId;
+        this.documentType = documentType;
+        this.storedFile = storedFile;
+        this.contentHash = contentHash;
+    }
+
+    Path storedFile() {
+        return storedFile;
+    }
+
+    String contentHash() {
+        return contentHash;
+    }
+
+    CompletableFuture<Void> completion() {
+        return completion;
+    }
+
+    IngestionStatus status() {
+        return status;
+    }
+
+    long finishedAtMillis() {
+        return finishedAtMillis;
+    }
+
+    void moveTo(IngestionStatus next) {
+        this.status = next;
+        this.progress = next.getProgress();
+    }
+
+    /**
+     * 현재 단계 안에서의 진행률 갱신 (다음 단계 시작 진행률 미만까지만)
+     */
+    void updateProgress(int progress) {
+        this.progress = Math.max(this.progress, progress);
+    }
+
+    void complete(int textLength) {
+        this.textLength = textLength;
+        this.finishedAtMillis = System.currentTimeMillis();
+        moveTo(IngestionStatus.COMPLETED);
+        completion.complete(null);
+    }
+
+    void fail(String errorMessage) {
+        this.errorMessage = errorMessage;
+        this.finishedAtMillis = System.currentTimeMillis();
+        moveTo(IngestionStatus.FAILED);
+        completion.complete(null);
+    }
+
+    DocumentIngestionResponse toResponse() {
+        IngestionStatus current = status;
+        return new DocumentIngestionResponse(interviewId, documentType, current, current.getDescription(),
+                progress, textLength, errorMessage, requestedAt);
+    }
+}
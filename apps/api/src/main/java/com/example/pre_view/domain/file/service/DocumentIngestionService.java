@@ -0,0 +1,340 @@
+package com.example.pre_view.domain.file.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.example.pre_view.common.exception.BusinessException;
+import com.example.pre_view.common.exception.ErrorCode;
+import com.example.pre_view.common.retrieval.DocumentIndexStore;
+import com.example.pre_view.common.retrieval.DocumentType;
+import com.example.pre_view.domain.file.config.DocumentIngestionConfig;
+import com.example.pre_view.domain.file.dto.DocumentIngestionResponse;
+import com.example.pre_view.domain.file.enums.IngestionStatus;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이력서/포트폴리오 업로드 백그라운드 처리 서비스
+ *
+ * 업로드 요청에서는 파일 검증과 저장만 하고 바로 응답하며 (202 Accepted),
+ * 나머지는 가상 스레드에서 추출 → 정리/중복 제거 → 검색 인덱스 생성 → DB 저장 순서로 처리합니다.
+ * - 저장하면서 파일 바이트의 SHA-256을 계산하고, 이미 처리된 파일이면 추출·정리를 건너뛰고 저장된 문서를 연결
+ * - 진행 상태는 면접·문서 유형별로 보관하며 상태 조회 API로 확인
+ * - 같은 문서를 다시 업로드하면 새 작업이 이전 작업을 대체 (이전 작업 결과는 저장하지 않음,
+ *   저장 직전에 면접·문서 유형별 잠금 안에서 다시 확인하므로 늦게 끝난 이전 작업이 새 문서를 덮어쓰지 않음)
+ * - 면접 시작 시 처리 중인 작업이 있을 때만 awaitTimeout까지 대기
+ */
+@Slf4j
+@Service
+public class DocumentIngestionService {
+
+    private static final int ATTACH_LOCK_STRIPES = 32;  // 면접·문서 유형별 저장 잠금 개수
+
+    private final PdfExtractionService pdfExtractionService;
+    private final DocumentIndexStore documentIndexStore;
+    private final FileUploadService fileUploadService;
+    private final DocumentIngestionConfig config;
+
+    private final ConcurrentHashMap<IngestionKey, DocumentIngestion> ingestions = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ReentrantLock[] attachLocks = new ReentrantLock[ATTACH_LOCK_STRIPES];
+
+    // 메트릭
+    private final Timer completedTimer;
+    private final Timer failedTimer;
+    private final Counter reusedCounter;
+
+    private record IngestionKey(Long interviewId, DocumentType documentType) {
+    }
+
+    private record StoredUpload(Path path, String contentHash) {
+    }
+
+    public DocumentIngestionService(PdfExtractionService pdfExtractionService, DocumentIndexStore documentIndexStore,
+            FileUploadService fileUploadService, DocumentIngestionConfig config, MeterRegistry meterRegistry) {
+        this.pdfExtractionService = pdfExtractionService;
+        this.documentIndexStore = documentIndexStore;
+        this.fileUploadService = fileUploadService;
+        this.config = config;
+        for (int i = 0; i < attachLocks.length; i++) {
+            attachLocks[i] = new ReentrantLock();
+        }
+
+        this.completedTimer = Timer.builder("document.ingestion.duration")
+                .description("문서 업로드 백그라운드 처리 시간")
+                .tag("outcome", "completed")
+                .register(meterRegistry);
+        this.failedTimer = Timer.builder("document.ingestion.duration")
+                .description("문서 업로드 백그라운드 처리 시간")
+                .tag("outcome", "failed")
+                .register(meterRegistry);
+        this.reusedCounter = Counter.builder("document.ingestion.reused")
+                .description("이미 처리된 파일이라 추출을 건너뛴 업로드 수")
+                .register(meterRegistry);
+        Gauge.builder("document.ingestion.active", ingestions,
+                        map -> map.values().stream().filter(job -> !job.status().isDone()).count())
+                .description("처리 중인 문서 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 업로드 파일을 검증·저장하고 백그라운드 처리를 시작합니다.
+     *
+     * @param interviewId 면접 ID
+     * @param documentType 문서 유형 (이력서/포트폴리오)
+     * @param file 업로드된 PDF 파일
+     * @return 처리 대기 상태
+     * @throws BusinessException 파일 형식이 올바르지 않거나 저장 실패 시
+     */
+    public DocumentIngestionResponse submit(Long interviewId, DocumentType documentType, MultipartFile file) {
+        log.info("{} 업로드 접수 - interviewId: {}, 파일명: {}, 크기: {} bytes",
+                documentType.getDescription(), interviewId, file.getOriginalFilename(), file.getSize());
+
+        // 1. 파일 검증 (Fail-Fast)
+        pdfExtractionService.validate(file);
+
+        // 2. 요청이 끝나면 multipart 임시 파일이 삭제되므로 처리 전까지 보관할 위치로 저장 (해시 계산 포함)
+        StoredUpload upload = store(interviewId, documentType, file);
+
+        removeExpired();
+        DocumentIngestion ingestion = new DocumentIngestion(interviewId, documentType, upload.path(),
+                upload.contentHash());
+        IngestionKey key = new IngestionKey(interviewId, documentType);
+        DocumentIngestion previous = ingestions.put(key, ingestion);
+        if (previous != null && !previous.status().isDone()) {
+            log.info("처리 중인 {}를 새 업로드로 대체 - interviewId: {}", documentType.getDescription(), interviewId);
+        }
+
+        executor.execute(() -> process(key, ingestion));
+        return ingestion.toResponse();
+    }
+
+    /**
+     * 면접의 문서 처리 상태 조회 (업로드 시각 순)
+     */
+    public List<DocumentIngestionResponse> getStatuses(Long interviewId) {
+        return ingestions.entrySet().stream()
+                .filter(entry -> entry.getKey().interviewId().equals(interviewId))
+                .map(entry -> entry.getValue().toResponse())
+                .sorted(Comparator.comparing(DocumentIngestionResponse::requestedAt))
+                .toList();
+    }
+
+    /**
+     * 처리 중인 문서가 있으면 끝날 때까지 대기 (없으면 바로 반환)
+     *
+     * 실패한 문서는 기다리지 않습니다. 문서 없이도 면접은 진행할 수 있습니다.
+     *
+     * @throws BusinessException awaitTimeout 안에 처리가 끝나지 않은 경우 (DOCUMENT_PROCESSING)
+     */
+    public void awaitCompletion(Long interviewId) {
+        CompletableFuture<?>[] pending = ingestions.entrySet().stream()
+                .filter(entry -> entry.getKey().interviewId().equals(interviewId))
+                .map(Map.Entry::getValue)
+                .filter(job -> !job.status().isDone())
+                .map(DocumentIngestion::completion)
+                .toArray(CompletableFuture[]::new);
+        if (pending.length == 0) {
+            return;
+        }
+
+        log.info("문서 처리 완료 대기 - interviewId: {}, 처리 중: {}개", interviewId, pending.length);
+        try {
+            CompletableFuture.allOf(pending).get(config.getAwaitTimeout(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("문서 처리 대기 시간 초과 - interviewId: {}, timeout: {}ms", interviewId, config.getAwaitTimeout());
+            throw new BusinessException(ErrorCode.DOCUMENT_PROCESSING);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.DOCUMENT_PROCESSING);
+        } catch (ExecutionException e) {
+            // 작업은 실패해도 정상 완료로 끝나므로 발생하지 않음
+            log.warn("문서 처리 대기 중 오류 - interviewId: {}", interviewId, e.getCause());
+        }
+    }
+
+    /**
+     * 백그라운드 처리 파이프라인
+     */
+    private void process(IngestionKey key, DocumentIngestion ingestion) {
+        Timer.Sample sample = Timer.start();
+        DocumentType documentType = key.documentType();
+        try {
+            // 1. 같은 파일이 이미 처리되어 있으면 저장된 문서 재사용, 없으면 추출·정리
+            Optional<String> storedText = fileUploadService.findDocumentText(ingestion.contentHash());
+            String text;
+            if (storedText.isPresent()) {
+                text = storedText.get();
+                reusedCounter.increment();
+                log.info("이미 처리된 {} 재사용 - interviewId: {}, 텍스트 길이: {} 문자",
+                        documentType.getDescription(), key.interviewId(), text.length());
+            } else {
+                text = extractAndClean(ingestion);
+            }
+
+            // 2. 새 업로드로 대체되었으면 결과를 반영하지 않음
+            if (isReplaced(key, ingestion)) {
+                log.info("대체된 {} 처리 결과 폐기 - interviewId: {}", documentType.getDescription(), key.interviewId());
+                ingestion.complete(text.length());
+                sample.stop(completedTimer);
+                return;
+            }
+
+            // 3. 프롬프트 생성 시 재사용할 검색 인덱스 생성 (같은 문서는 면접 간 공유)
+            ingestion.moveTo(IngestionStatus.INDEXING);
+            documentIndexStore.get(text);
+
+            // 4. 문서 저장 및 면접에 연결 (인덱스 생성 중 대체되었으면 저장하지 않음)
+            ingestion.moveTo(IngestionStatus.SAVING);
+            if (!attachIfCurrent(key, ingestion, text)) {
+                log.info("대체된 {} 처리 결과 폐기 - interviewId: {}", documentType.getDescription(), key.interviewId());
+                ingestion.complete(text.length());
+                sample.stop(completedTimer);
+                return;
+            }
+
+            ingestion.complete(text.length());
+            sample.stop(completedTimer);
+            log.info("{} 처리 완료 - interviewId: {}, 텍스트 길이: {} 문자",
+                    documentType.getDescription(), key.interviewId(), text.length());
+        } catch (BusinessException e) {
+            ingestion.fail(e.getMessage());
+            sample.stop(failedTimer);
+            log.warn("{} 처리 실패 - interviewId: {}, code: {}",
+                    documentType.getDescription(), key.interviewId(), e.getErrorCode().getCode());
+        } catch (RuntimeException e) {
+            ingestion.fail(ErrorCode.FILE_READ_ERROR.getMessage());
+            sample.stop(failedTimer);
+            log.error("{} 처리 중 예상치 못한 오류 - interviewId: {}", documentType.getDescription(), key.interviewId(), e);
+        } finally {
+            deleteQuietly(ingestion.storedFile());
+        }
+    }
+
+    /**
+     * 텍스트 추출 후 페이지 번호, 반복 머리글/바닥글, 중복 문단 제거
+     * (페이지 구간 추출 진행률을 EXTRACTING ~ CLEANING 구간에 반영)
+     */
+    private String extractAndClean(DocumentIngestion ingestion) {
+        ingestion.moveTo(IngestionStatus.EXTRACTING);
+        int extractStart = IngestionStatus.EXTRACTING.getProgress();
+        int extractRange = IngestionStatus.CLEANING.getProgress() - extractStart;
+        String extracted = pdfExtractionService.extractText(ingestion.storedFile(),
+                (extractedPages, totalPages) -> ingestion.updateProgress(
+                        extractStart + extractRange * extractedPages / Math.max(1, totalPages) - 1));
+
+        ingestion.moveTo(IngestionStatus.CLEANING);
+        String text = DocumentTextCleaner.clean(extracted);
+        log.debug("문서 텍스트 정리 - 추출: {} 문자, 정리 후: {} 문자", extracted.length(), text.length());
+        return text;
+    }
+
+    /**
+     * 아직 최신 작업일 때만 문서 저장 및 면접 연결
+     *
+     * 같은 면접·문서 유형의 저장은 잠금으로 직렬화하고 잠금 안에서 대체 여부를 다시 확인합니다.
+     * 새 업로드는 이 확인 이후에 등록되더라도 자신의 저장이 나중에 실행되므로 항상 마지막에 반영됩니다.
+     *
+     * @return 저장했으면 true, 새 업로드로 대체되어 저장하지 않았으면 false
+     */
+    private boolean attachIfCurrent(IngestionKey key, DocumentIngestion ingestion, String text) {
+        ReentrantLock lock = attachLocks[Math.floorMod(key.hashCode(), attachLocks.length)];
+        lock.lock();
+        try {
+            if (isReplaced(key, ingestion)) {
+                return false;
+            }
+            attachDocument(key, ingestion.contentHash(), text);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 문서 저장 및 면접 연결 (같은 파일이 동시에 처음 저장되어 유니크 제약에 걸리면 한 번 재시도)
+     */
+    private void attachDocument(IngestionKey key, String contentHash, String text) {
+        try {
+            fileUploadService.attachDocument(key.interviewId(), key.documentType(), contentHash, text);
+        } catch (DataIntegrityViolationException e) {
+            log.info("같은 문서가 동시에 저장됨, 저장된 문서로 재시도 - interviewId: {}", key.interviewId());
+            fileUploadService.attachDocument(key.interviewId(), key.documentType(), contentHash, text);
+        }
+    }
+
+    private boolean isReplaced(IngestionKey key, DocumentIngestion ingestion) {
+        return ingestions.get(key) != ingestion;
+    }
+
+    /**
+     * 업로드 파일을 보관 위치로 복사하면서 SHA-256 계산 (파일을 한 번만 읽음)
+     */
+    private StoredUpload store(Long interviewId, DocumentType documentType, MultipartFile file) {
+        try {
+            Path storageDir = Path.of(config.getStorageDir());
+            Files.createDirectories(storageDir);
+            Path storedFile = storageDir.resolve(
+                    "%d-%s-%s.pdf".formatted(interviewId, documentType.name().toLowerCase(), UUID.randomUUID()));
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+                Files.copy(in, storedFile);
+            }
+            return new StoredUpload(storedFile, HexFormat.of().formatHex(digest.digest()));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        } catch (IOException e) {
+            log.error("업로드 파일 저장 실패 - interviewId: {}, 파일명: {}", interviewId, file.getOriginalFilename(), e);
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_ERROR);
+        }
+    }
+
+    /**
+     * 보관 시간이 지난 완료/실패 상태 정리
+     */
+    private void removeExpired() {
+        long threshold = System.currentTimeMillis() - config.getStatusRetention();
+        ingestions.values().removeIf(job -> job.status().isDone() && job.finishedAtMillis() < threshold);
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("업로드 파일 삭제 실패 - path: {}", path, e);
+        }
+    }
+}
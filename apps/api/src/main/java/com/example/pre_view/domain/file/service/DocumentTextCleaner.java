@@ -0,0 +1,169 @@
+package com.example.pre_view.domain.file.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * PDF에서 추출한 텍스트 정리
+ *
+ * 프롬프트와 검색 인덱스에 의미 없는 내용이 섞이지 않도록 다음을 제거합니다.
+ * - 제어 문자, 줄 끝 공백, 연속된 공백/빈 줄
+ * - 페이지 가장자리(위/아래 EDGE_LINES줄)의 페이지 번호 줄 (예: "3", "- 3 -", "3 / 10")
+ * - 거의 모든 페이지의 가장자리에 반복되는 짧은 머리글/바닥글 줄 (자릿수가 같은 숫자만 다른 줄은 같은 줄로 봄)
+ * - 내용이 같은 긴 중복 문단
+ *
+ * 페이지 구분은 PdfExtractionService.PAGE_SEPARATOR로 판단하며, 본문 중간에 반복되는 짧은 줄
+ * (기술 스택, 기간 등)은 그대로 둡니다.
+ */
+final class DocumentTextCleaner {
+
+    private static final Pattern PAGE_SPLIT = Pattern.compile(Pattern.quote(PdfExtractionService.PAGE_SEPARATOR));
+    private static final Pattern CONTROL_CHARS = Pattern.compile("[\\p{Cntrl}&&[^\\t]]");
+    private static final Pattern INLINE_WHITESPACE = Pattern.compile("[\\t\\u00A0\\u2000-\\u200B\\u3000 ]+");
+    private static final Pattern PAGE_NUMBER = Pattern.compile(
+            "^(?:page\\s*)?[-–]?\\s*\\d{1,3}\\s*(?:(?:/|of)\\s*\\d{1,3})?\\s*[-–]?$", Pattern.CASE_INSENSITIVE);
+    private static final Pattern DIGIT = Pattern.compile("\\d");
+    private static final Pattern HAS_LETTER = Pattern.compile("\\p{L}");
+
+    private static final int EDGE_LINES = 2;             // 머리글/바닥글로 볼 페이지 위/아래 줄 수
+    private static final int MAX_HEADER_LENGTH = 60;
+    private static final int MIN_HEADER_PAGES = 2;
+    private static final int MIN_DEDUP_PARAGRAPH_LENGTH = 60;  // 이보다 짧은 문단은 중복이어도 유지
+
+    private DocumentTextCleaner() {
+    }
+
+    static String clean(String text) {
+        if (text == null || text.isBlank()) {
+            return "";
+        }
+
+        List<Page> pages = new ArrayList<>();
+        for (String page : PAGE_SPLIT.split(text.replace("\r\n", "\n").replace('\r', '\n'), -1)) {
+            pages.add(Page.of(page));
+        }
+        Set<String> repeatedEdges = repeatedEdgeLines(pages);
+
+        Set<String> seenParagraphs = new HashSet<>();
+        StringBuilder result = new StringBuilder(text.length());
+        StringBuilder paragraph = new StringBuilder();
+        for (Page page : pages) {
+            for (int i = 0; i < page.lines().size(); i++) {
+                String line = page.lines().get(i);
+                if (line.isEmpty()) {
+                    appendParagraph(result, paragraph, seenParagraphs);
+                    continue;
+                }
+                if (page.isEdge(i) && (PAGE_NUMBER.matcher(line).matches()
+                        || repeatedEdges.contains(edgeKey(line)))) {
+                    continue;
+                }
+                if (!paragraph.isEmpty()) {
+                    paragraph.append('\n');
+                }
+                paragraph.append(line);
+            }
+        }
+        appendParagraph(result, paragraph, seenParagraphs);
+        return result.toString().strip();
+    }
+
+    /**
+     * 여러 페이지의 가장자리에 반복되는 짧은 줄 (머리글/바닥글로 판단)
+     *
+     * 문자가 있는 줄만 대상으로 하며(숫자만 있는 줄은 PAGE_NUMBER로만 판단), 본문 위치에도 나오는 줄은
+     * 내용으로 보고 유지합니다. 3페이지 이하는 모든 페이지, 그보다 많으면 표지를 제외한 페이지 수 이상
+     * 가장자리에 나타나야 합니다.
+     */
+    private static Set<String> repeatedEdgeLines(List<Page> pages) {
+        List<Page> contentPages = pages.stream().filter(page -> !page.edges().isEmpty()).toList();
+        if (contentPages.size() < MIN_HEADER_PAGES) {
+            return Set.of();
+        }
+        Map<String, Integer> pageCounts = new HashMap<>();
+        Set<String> bodyLines = new HashSet<>();
+        for (Page page : contentPages) {
+            Set<String> edges = new HashSet<>();
+            for (int i = 0; i < page.lines().size(); i++) {
+                String line = page.lines().get(i);
+                if (line.isEmpty()) {
+                    continue;
+                }
+                if (!page.isEdge(i)) {
+                    bodyLines.add(edgeKey(line));
+                } else if (line.length() <= MAX_HEADER_LENGTH && HAS_LETTER.matcher(line).find()) {
+                    edges.add(edgeKey(line));
+                }
+            }
+            edges.forEach(key -> pageCounts.merge(key, 1, Integer::sum));
+        }
+
+        int threshold = contentPages.size() <= 3 ? contentPages.size() : contentPages.size() - 1;
+        Set<String> repeated = new HashSet<>();
+        pageCounts.forEach((key, count) -> {
+            if (count >= threshold && !bodyLines.contains(key)) {
+                repeated.add(key);
+            }
+        });
+        return repeated;
+    }
+
+    /**
+     * 머리글/바닥글 비교용 키 (페이지 번호처럼 자릿수가 같은 숫자만 다른 줄은 같은 줄로 봄)
+     */
+    private static String edgeKey(String line) {
+        return DIGIT.matcher(line).replaceAll("#");
+    }
+
+    private static void appendParagraph(StringBuilder result, StringBuilder paragraph, Set<String> seenParagraphs) {
+        if (paragraph.isEmpty()) {
+            return;
+        }
+        String text = paragraph.toString();
+        paragraph.setLength(0);
+        if (text.length() >= MIN_DEDUP_PARAGRAPH_LENGTH && !seenParagraphs.add(text)) {
+            return;
+        }
+        if (!result.isEmpty()) {
+            result.append("\n\n");
+        }
+        result.append(text);
+    }
+
+    /**
+     * 정리된 페이지 줄과 가장자리(내용이 있는 위/아래 EDGE_LINES줄) 위치
+     */
+    private record Page(List<String> lines, Set<Integer> edges) {
+
+        static Page of(String text) {
+            List<String> lines = new ArrayList<>();
+            List<Integer> contentLines = new ArrayList<>();
+            for (String raw : text.split("\n", -1)) {
+                String line = INLINE_WHITESPACE.matcher(CONTROL_CHARS.matcher(raw).replaceAll(""))
+                        .replaceAll(" ")
+                        .strip();
+                if (!line.isEmpty()) {
+                    contentLines.add(lines.size());
+                }
+                lines.add(line);
+            }
+
+            Set<Integer> edges = new HashSet<>();
+            int count = contentLines.size();
+            for (int i = 0; i < Math.min(EDGE_LINES, count); i++) {
+                edges.add(contentLines.get(i));
+                edges.add(contentLines.get(count - 1 - i));
+            }
+            return new Page(lines, edges);
+        }
+
+        boolean isEdge(int index) {
+            return edges.contains(index);
+        }
+    }
+}
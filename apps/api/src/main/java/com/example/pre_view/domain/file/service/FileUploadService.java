@@ -1,12 +1,22 @@
 package com.example.pre_view.domain.file.service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
 
 import com.example.pre_view.common.exception.BusinessException;
 import com.example.pre_view.common.exception.ErrorCode;
-import com.example.pre_view.domain.interview.dto.InterviewResponse;
+import com.example.pre_view.common.retrieval.DocumentType;
+import com.example.pre_view.domain.file.entity.UploadedDocument;
+import com.example.pre_view.domain.file.repository.UploadedDocumentRepository;
+import com.example.pre_view.domain.interview.dto.LegacyDocumentText;
 import com.example.pre_view.domain.interview.entity.Interview;
 import com.example.pre_view.domain.interview.repository.InterviewRepository;
 
@@ -14,9 +24,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
- * 파일 업로드 관련 비즈니스 로직을 처리하는 서비스
- * - 이력서 PDF 업로드 및 텍스트 추출
- * - 포트폴리오 PDF 업로드 및 텍스트 추출
+ * 업로드 문서 저장 관련 비즈니스 로직을 처리하는 서비스
+ * - 파일 해시로 이미 저장된 문서 조회 (같은 파일 재업로드 시 추출 생략)
+ * - 백그라운드 처리(DocumentIngestionService)가 끝난 문서를 저장하고 면접에 연결
+ * - 문서 참조 도입 전에 면접에 직접 저장된 텍스트를 uploaded_document로 이전 (백필)
  */
 @Slf4j
 @Service
@@ -24,66 +35,98 @@ import lombok.extern.slf4j.Slf4j;
 public class FileUploadService {
 
     private final InterviewRepository interviewRepository;
-    private final PdfExtractionService pdfExtractionService;
-
-    /**
-     * 이력서 PDF 파일 업로드 및 텍스트 추출
-     * 
-     * @param interviewId 면접 ID
-     * @param file 업로드된 PDF 파일
-     * @return 업데이트된 면접 응답 DTO
-     */
-    @Transactional
-    public InterviewResponse uploadResume(Long interviewId, MultipartFile file) {
-        log.info("이력서 업로드 시작 - interviewId: {}, 파일명: {}", interviewId, file.getOriginalFilename());
-        return uploadFile(interviewId, file, "이력서", Interview::updateResumeText);
-    }
+    private final UploadedDocumentRepository uploadedDocumentRepository;
 
     /**
-     * 포트폴리오 PDF 파일 업로드 및 텍스트 추출
-     * 
-     * @param interviewId 면접 ID
-     * @param file 업로드된 PDF 파일
-     * @return 업데이트된 면접 응답 DTO
+     * 파일 해시로 저장된 문서 텍스트 조회
+     *
+     * @param contentHash 업로드 파일 바이트의 SHA-256
+     * @return 저장된 문서 텍스트 (처음 업로드된 파일이면 empty)
      */
-    @Transactional
-    public InterviewResponse uploadPortfolio(Long interviewId, MultipartFile file) {
-        log.info("포트폴리오 업로드 시작 - interviewId: {}, 파일명: {}", interviewId, file.getOriginalFilename());
-        return uploadFile(interviewId, file, "포트폴리오", Interview::updatePortfolioText);
+    @Transactional(readOnly = true)
+    public Optional<String> findDocumentText(String contentHash) {
+        return uploadedDocumentRepository.findByContentHash(contentHash).map(UploadedDocument::getText);
     }
 
     /**
-     * 파일 업로드 공통 로직
+     * 문서를 저장(이미 있으면 재사용)하고 면접에 연결
      *
-     * Fail-Fast 원칙: 파일 검증을 먼저 수행하여 잘못된 파일은 DB 조회 전에 빠르게 실패시킵니다.
+     * 같은 파일이 동시에 처음 업로드되면 content_hash 유니크 제약 위반으로 한쪽이 실패하며,
+     * 호출 측에서 다시 호출하면 먼저 저장된 문서를 재사용합니다.
      *
      * @param interviewId 면접 ID
-     * @param file 업로드된 PDF 파일
-     * @param fileType 파일 유형 (로깅용)
-     * @param updateFunction 인터뷰 엔티티 업데이트 함수 (Interview, String) -> void
-     * @return 업데이트된 면접 응답 DTO
+     * @param documentType 문서 유형 (이력서/포트폴리오)
+     * @param contentHash 업로드 파일 바이트의 SHA-256
+     * @param text 정리된 문서 텍스트 (비어 있으면 면접의 해당 문서 연결을 해제)
+     * @throws BusinessException 면접이 없거나 삭제된 경우 (INTERVIEW_NOT_FOUND)
      */
-    private InterviewResponse uploadFile(
-            Long interviewId,
-            MultipartFile file,
-            String fileType,
-            java.util.function.BiConsumer<Interview, String> updateFunction) {
-
-        // 1. 파일 검증 및 텍스트 추출 먼저 수행 (Fail-Fast)
-        String extractedText = pdfExtractionService.extractText(file);
-
-        // 2. 검증 통과 후 DB 조회
+    @Transactional
+    public void attachDocument(Long interviewId, DocumentType documentType, String contentHash, String text) {
         Interview interview = interviewRepository.findByIdAndDeletedFalse(interviewId)
                 .orElseThrow(() -> {
                     log.warn("면접을 찾을 수 없음 - interviewId: {}", interviewId);
                     return new BusinessException(ErrorCode.INTERVIEW_NOT_FOUND);
                 });
 
-        updateFunction.accept(interview, extractedText);
+        UploadedDocument document = uploadedDocumentRepository.findByContentHash(contentHash)
+                .orElseGet(() -> uploadedDocumentRepository.save(UploadedDocument.builder()
+                        .contentHash(contentHash)
+                        .text(text)
+                        .build()));
+
+        // 텍스트가 없는 문서(스캔 이미지 PDF 등)는 업로드하지 않은 것으로 취급
+        UploadedDocument attached = document.getText().isBlank() ? null : document;
+        switch (documentType) {
+            case RESUME -> interview.updateResumeDocument(attached);
+            case PORTFOLIO -> interview.updatePortfolioDocument(attached);
+        }
+
+        log.info("{} 연결 완료 - interviewId: {}, documentId: {}, 텍스트 길이: {} 문자",
+                documentType.getDescription(), interviewId, document.getId(), document.getText().length());
+    }
+
+    /**
+     * 면접에 직접 저장된 이전 텍스트를 uploaded_document로 옮기고 참조로 연결 (유형별 batchSize건씩)
+     *
+     * 원본 파일이 없으므로 텍스트(UTF-8)의 SHA-256을 문서 해시로 사용하며, 같은 텍스트는 한 문서를 공유합니다.
+     * 빈 텍스트는 문서 없이 비우기만 합니다.
+     * 면접 엔티티를 수정하지 않고 문서 컬럼만 벌크 UPDATE하므로 진행 중인 면접의 @Version과 충돌하지 않습니다.
+     *
+     * @param batchSize 한 번에 옮길 유형별 면접 수
+     * @return 처리한 면접 수 (0이면 남은 데이터 없음)
+     */
+    @Transactional
+    public int backfillLegacyDocuments(int batchSize) {
+        PageRequest page = PageRequest.of(0, batchSize);
+        List<LegacyDocumentText> resumes = interviewRepository.findLegacyResumeTexts(page);
+        for (LegacyDocumentText resume : resumes) {
+            interviewRepository.moveLegacyResumeText(resume.interviewId(), legacyDocument(resume.text()));
+        }
+        List<LegacyDocumentText> portfolios = interviewRepository.findLegacyPortfolioTexts(page);
+        for (LegacyDocumentText portfolio : portfolios) {
+            interviewRepository.moveLegacyPortfolioText(portfolio.interviewId(), legacyDocument(portfolio.text()));
+        }
+        return resumes.size() + portfolios.size();
+    }
 
-        log.info("{} 업로드 완료 - interviewId: {}, 추출된 텍스트 길이: {} 문자",
-                fileType, interviewId, extractedText.length());
+    private UploadedDocument legacyDocument(String text) {
+        if (text.isBlank()) {
+            return null;
+        }
+        String contentHash = sha256(text);
+        return uploadedDocumentRepository.findByContentHash(contentHash)
+                .orElseGet(() -> uploadedDocumentRepository.save(UploadedDocument.builder()
+                        .contentHash(contentHash)
+                        .text(text)
+                        .build()));
+    }
 
-        return InterviewResponse.from(interview);
+    private static String sha256(String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
     }
 }
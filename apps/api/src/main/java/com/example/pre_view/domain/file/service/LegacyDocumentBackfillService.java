@@ -0,0 +1,60 @@
+package com.example.pre_view.domain.file.service;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이전 방식 이력서/포트폴리오 텍스트 백필 서비스
+ *
+ * 문서 참조(uploaded_document) 도입 전에 면접의 resume_text/portfolio_text 컬럼에 저장된 텍스트를
+ * 기동 후 백그라운드에서 BATCH_SIZE건씩 문서로 옮기고 참조로 연결합니다 (면접 version은 올리지 않음).
+ * 옮기기 전까지는 Interview가 이전 컬럼을 대신 읽으므로 백필 중에도 면접 진행에는 영향이 없습니다.
+ * 실패하면 중단하고 다음 기동 시 남은 데이터부터 다시 시도합니다.
+ */
+@Slf4j
+@Service
+public class LegacyDocumentBackfillService {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final FileUploadService fileUploadService;
+    private final ExecutorService executor =
+            Executors.newSingleThreadExecutor(Thread.ofVirtual().name("document-backfill").factory());
+
+    public LegacyDocumentBackfillService(FileUploadService fileUploadService) {
+        this.fileUploadService = fileUploadService;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        executor.execute(this::backfill);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    void backfill() {
+        int total = 0;
+        try {
+            int migrated;
+            do {
+                migrated = fileUploadService.backfillLegacyDocuments(BATCH_SIZE);
+                total += migrated;
+            } while (migrated > 0 && !Thread.currentThread().isInterrupted());
+            if (total > 0) {
+                log.info("이전 이력서/포트폴리오 텍스트 백필 완료 - {}건", total);
+            }
+        } catch (RuntimeException e) {
+            log.error("이전 이력서/포트폴리오 텍스트 백필 실패 - 완료: {}건, 다음 기동 시 재시도", total, e);
+        }
+    }
+}
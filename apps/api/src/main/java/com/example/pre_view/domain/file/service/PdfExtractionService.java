@@ -1,8 +1,19 @@
 package com.example.pre_view.domain.file.service;
 
+import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.io.RandomAccessStreamCache.StreamCacheCreateFunction;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.text.PDFTextStripper;
 import org.springframework.stereotype.Service;
@@ -10,55 +21,195 @@ import org.springframework.web.multipart.MultipartFile;
 
 import com.example.pre_view.common.exception.BusinessException;
 import com.example.pre_view.common.exception.ErrorCode;
+import com.example.pre_view.domain.file.config.PdfExtractionConfig;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * PDF 파일에서 텍스트를 추출하는 서비스
+ *
+ * 대용량 포트폴리오에서도 힙 사용량이 일정하도록 페이지 구간 단위로 나누어 추출합니다.
+ * - 저장된 파일에서 읽고, 문서는 maxMainMemoryBytes까지만 힙에 캐시 (초과분은 PDFBox 스크래치 파일)
+ * - pagesPerTask 페이지씩 나눈 구간을 최대 parallelism개 작업으로 동시에 추출 (PDDocument는 스레드 안전하지 않으므로 작업마다 문서를 따로 엶)
+ * - 구간 결과는 페이지 순서대로 이어 붙이고, maxCharacters에 도달하면 남은 구간은 추출하지 않음
  */
 @Slf4j
 @Service
 public class PdfExtractionService {
 
+    /**
+     * 추출 결과에서 각 페이지 끝에 붙이는 구분자 (머리글/바닥글 판단용, DocumentTextCleaner에서 제거)
+     */
+    public static final String PAGE_SEPARATOR = "\f";
+
     private static final String PDF_CONTENT_TYPE = "application/pdf";
     private static final int MAX_FILE_SIZE = 10 * 1024 * 1024; // 10MB
 
+    private final PdfExtractionConfig config;
+    private final ExecutorService extractionExecutor;
+
+    // 메트릭
+    private final Timer extractionTimer;
+    private final Counter truncatedCounter;
+
+    public PdfExtractionService(PdfExtractionConfig config, MeterRegistry meterRegistry) {
+        this.config = config;
+        this.extractionExecutor = Executors.newFixedThreadPool(Math.max(1, config.getParallelism()),
+                Thread.ofPlatform().name("pdf-extract-", 0).daemon().factory());
+
+        this.extractionTimer = Timer.builder("pdf.extraction.duration")
+                .description("PDF 텍스트 추출 시간")
+                .register(meterRegistry);
+        this.truncatedCounter = Counter.builder("pdf.extraction.truncated")
+                .description("최대 문자 수 도달로 일부 페이지를 추출하지 않은 횟수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        extractionExecutor.shutdownNow();
+    }
+
     /**
-     * PDF 파일에서 텍스트를 추출합니다.
-     * 
-     * @param file 업로드된 PDF 파일
-     * @return 추출된 텍스트
-     * @throws BusinessException 파일 형식이 올바르지 않거나 읽기 실패 시
+     * 추출 진행 상황 리스너 (페이지 구간 하나가 끝날 때마다 호출)
      */
-    public String extractText(MultipartFile file) {
-        log.debug("PDF 텍스트 추출 시작 - 파일명: {}, 크기: {} bytes", file.getOriginalFilename(), file.getSize());
-        validateFile(file);
-
-        try (InputStream inputStream = file.getInputStream()) {
-            byte[] pdfBytes = inputStream.readAllBytes();
-            PDDocument document = org.apache.pdfbox.Loader.loadPDF(pdfBytes);
-            
-            try {
-                PDFTextStripper stripper = new PDFTextStripper();
-                String text = stripper.getText(document);
-
-                log.info("PDF 텍스트 추출 완료 - 파일명: {}, 추출된 텍스트 길이: {} 문자", 
-                        file.getOriginalFilename(), text.length());
-
-                return text.trim();
-            } finally {
-                document.close();
-            }
+    @FunctionalInterface
+    public interface ProgressListener {
+
+        ProgressListener NONE = (extractedPages, totalPages) -> {
+        };
+
+        void onProgress(int extractedPages, int totalPages);
+    }
+
+    /**
+     * 저장된 PDF 파일에서 텍스트를 추출합니다. (업로드 검증을 마친 파일 대상)
+     *
+     * @param pdf PDF 파일 경로
+     * @param listener 페이지 구간 추출 진행 상황 리스너
+     * @return 추출된 텍스트 (최대 maxCharacters자, 페이지 끝마다 PAGE_SEPARATOR)
+     * @throws BusinessException 파일 읽기 실패 시
+     */
+    public String extractText(Path pdf, ProgressListener listener) {
+        Timer.Sample sample = Timer.start();
+        try {
+            String text = extractPages(pdf.toFile(), listener);
+            log.info("PDF 텍스트 추출 완료 - 파일: {}, 추출된 텍스트 길이: {} 문자", pdf.getFileName(), text.length());
+            return text.trim();
         } catch (IOException e) {
-            log.error("PDF 파일 읽기 실패 - 파일명: {}", file.getOriginalFilename(), e);
+            log.error("PDF 파일 읽기 실패 - 파일: {}", pdf.getFileName(), e);
             throw new BusinessException(ErrorCode.FILE_READ_ERROR);
+        } finally {
+            sample.stop(extractionTimer);
+        }
+    }
+
+    /**
+     * 페이지 구간별 병렬 추출 (페이지 순서 유지, 최대 문자 수 도달 시 조기 종료)
+     */
+    private String extractPages(File pdf, ProgressListener listener) throws IOException {
+        int pageCount;
+        try (PDDocument document = load(pdf)) {
+            pageCount = document.getNumberOfPages();
+        }
+
+        int maxCharacters = config.getMaxCharacters();
+        int pagesPerTask = Math.max(1, config.getPagesPerTask());
+        int parallelism = Math.max(1, config.getParallelism());
+
+        StringBuilder text = new StringBuilder();
+        Deque<Future<String>> inFlight = new ArrayDeque<>();
+        Deque<Integer> rangeEnds = new ArrayDeque<>();
+        AtomicBoolean stopped = new AtomicBoolean();
+        int nextPage = 1;
+        try {
+            while (true) {
+                while (inFlight.size() < parallelism && nextPage <= pageCount) {
+                    int startPage = nextPage;
+                    int endPage = Math.min(pageCount, startPage + pagesPerTask - 1);
+                    rangeEnds.add(endPage);
+                    inFlight.add(extractionExecutor.submit(
+                            () -> stopped.get() ? "" : extractRange(pdf, startPage, endPage)));
+                    nextPage = endPage + 1;
+                }
+                if (inFlight.isEmpty()) {
+                    break;
+                }
+
+                text.append(await(inFlight.poll()));
+                listener.onProgress(rangeEnds.poll(), pageCount);
+                if (text.length() >= maxCharacters) {
+                    if (nextPage <= pageCount || !inFlight.isEmpty()) {
+                        truncatedCounter.increment();
+                        log.info("PDF 최대 문자 수 도달, 남은 페이지 추출 생략 - 전체: {}페이지, 최대 문자 수: {}",
+                                pageCount, maxCharacters);
+                    }
+                    text.setLength(maxCharacters);
+                    break;
+                }
+            }
+        } finally {
+            // 시작 전인 작업은 건너뛰게 하고, 실행 중인 작업이 문서를 닫을 때까지 대기 (호출자의 파일 정리 전)
+            stopped.set(true);
+            inFlight.forEach(PdfExtractionService::awaitQuietly);
+        }
+        return text.toString();
+    }
+
+    /**
+     * 지정한 페이지 구간의 텍스트 추출 (작업마다 문서를 따로 엶)
+     */
+    private String extractRange(File pdf, int startPage, int endPage) throws IOException {
+        try (PDDocument document = load(pdf)) {
+            PDFTextStripper stripper = new PDFTextStripper();
+            stripper.setStartPage(startPage);
+            stripper.setEndPage(endPage);
+            stripper.setPageEnd(PAGE_SEPARATOR);
+            return stripper.getText(document);
+        }
+    }
+
+    private PDDocument load(File pdf) throws IOException {
+        StreamCacheCreateFunction streamCache = MemoryUsageSetting
+                .setupMixed(config.getMaxMainMemoryBytes())
+                .streamCache;
+        return Loader.loadPDF(pdf, streamCache);
+    }
+
+    private static String await(Future<String> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("PDF 추출 대기 중 인터럽트", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException("PDF 페이지 추출 실패", e.getCause());
+        }
+    }
+
+    private static void awaitQuietly(Future<String> future) {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // 이미 결과를 사용하지 않는 작업이므로 무시
         }
     }
 
     /**
-     * 파일 유효성 검증
+     * 업로드 파일 유효성 검증 (크기, Content-Type, 확장자)
+     *
+     * @throws BusinessException 빈 파일, 크기 초과, PDF가 아닌 파일인 경우
      */
-    private void validateFile(MultipartFile file) {
+    public void validate(MultipartFile file) {
         if (file == null || file.isEmpty()) {
             log.warn("빈 파일 업로드 시도 - 파일명: {}", file != null ? file.getOriginalFilename() : "null");
             throw new BusinessException(ErrorCode.FILE_UPLOAD_ERROR);
@@ -1,9 +1,13 @@
 package com.example.pre_view.domain.interview.controller;
 
+import java.time.Duration;
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -11,22 +15,31 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.example.pre_view.common.dto.ApiResponse;
+import com.example.pre_view.common.resilience.DeadlineConfig;
+import com.example.pre_view.common.resilience.DeadlineContext;
 import com.example.pre_view.domain.answer.dto.AnswerCreateRequest;
 import com.example.pre_view.domain.answer.dto.AnswerResponse;
 import com.example.pre_view.domain.answer.service.AnswerFacade;
 import com.example.pre_view.domain.auth.annotation.CurrentMemberId;
+import com.example.pre_view.domain.file.dto.DocumentIngestionResponse;
 import com.example.pre_view.domain.interview.dto.InterviewCreateRequest;
 import com.example.pre_view.domain.interview.dto.InterviewResponse;
 import com.example.pre_view.domain.interview.dto.InterviewResultResponse;
 import com.example.pre_view.domain.interview.service.InterviewService;
-import com.example.pre_view.domain.question.dto.QuestionAudioResponse;
 import com.example.pre_view.domain.question.dto.QuestionListResponse;
+import com.example.pre_view.domain.stt.dto.SttStreamStatusResponse;
+import com.example.pre_view.domain.tts.controller.AudioStreamingSupport;
+import com.example.pre_view.domain.tts.dto.SynthesizeRequest;
+import com.example.pre_view.domain.tts.dto.TtsAudio;
+import com.example.pre_view.domain.tts.service.TtsStreamingService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -38,6 +51,7 @@ import lombok.extern.slf4j.Slf4j;
  * 면접 관련 API 컨트롤러
  *
  * 면접 생성, 시작, 질문/답변 관리, 결과 조회 등 면접 전체 흐름을 담당합니다.
+ * 답변 제출 API는 요청 마감 시각을 열어, 하위 STT/AI 호출이 남은 시간 안에서만 타임아웃/재시도하도록 합니다.
  */
 @Slf4j
 @RestController
@@ -46,8 +60,15 @@ import lombok.extern.slf4j.Slf4j;
 @Tag(name = "Interview", description = "면접 API")
 public class InterviewController {
 
+    /**
+     * 클라이언트가 기다릴 최대 시간 (밀리초), 서버 설정보다 짧을 때만 적용
+     */
+    private static final String REQUEST_TIMEOUT_HEADER = "X-Request-Timeout";
+
     private final InterviewService interviewService;
     private final AnswerFacade answerFacade;
+    private final TtsStreamingService ttsStreamingService;
+    private final DeadlineConfig deadlineConfig;
 
     @PostMapping
     @Operation(summary = "면접 생성", description = "새로운 면접을 생성합니다. (질문은 /start 호출 시 생성)")
@@ -69,6 +90,8 @@ public class InterviewController {
             @CurrentMemberId Long memberId
     ) {
         log.info("면접 시작 API 호출 - interviewId: {}, memberId: {}", id, memberId);
+        // 업로드 문서가 아직 처리 중이면 완료까지 대기 (트랜잭션 시작 전)
+        interviewService.awaitDocumentIngestion(id);
         InterviewResponse response = interviewService.startInterview(id, memberId);
         log.info("면접 시작 완료 - interviewId: {}, totalQuestions: {}", id, response.totalQuestions());
         return ResponseEntity.ok(ApiResponse.ok("면접이 시작되었습니다. 질문이 생성되었습니다.", response));
@@ -117,19 +140,44 @@ public class InterviewController {
     }
 
     @GetMapping("/{id}/questions/{questionId}/audio")
-    @Operation(summary = "질문 음성 조회", description = "질문을 음성으로 변환하여 반환합니다.")
-    public ResponseEntity<ApiResponse<QuestionAudioResponse>> getQuestionAudio(
+    @Operation(summary = "질문 음성 조회",
+            description = "질문 음성을 바이너리로 스트리밍합니다. Range 요청과 ETag(If-None-Match)를 지원합니다.")
+    public ResponseEntity<StreamingResponseBody> getQuestionAudio(
             @PathVariable("id") Long id,
             @PathVariable("questionId") Long questionId,
-            @RequestParam(value = "voice", defaultValue = "female_calm") String voice,
+            @RequestParam(value = "voice", required = false) String voice,
             @RequestParam(value = "format", defaultValue = "wav") String format,
+            @RequestHeader HttpHeaders headers,
             @CurrentMemberId Long memberId
     ) {
         log.info("질문 음성 조회 API 호출 - interviewId: {}, questionId: {}, voice: {}, format: {}, memberId: {}",
                 id, questionId, voice, format, memberId);
-        QuestionAudioResponse response = interviewService.getQuestionAudio(id, questionId, memberId, voice, format);
-        log.info("질문 음성 조회 완료 - questionId: {}, duration: {}s", questionId, response.duration());
-        return ResponseEntity.ok(ApiResponse.ok("질문 음성이 생성되었습니다.", response));
+        TtsAudio audio = interviewService.getQuestionAudio(id, questionId, memberId, voice, format);
+        log.info("질문 음성 조회 완료 - questionId: {}, size: {} bytes, duration: {}s",
+                questionId, audio.size(), audio.duration());
+        return AudioStreamingSupport.stream(audio,
+                () -> interviewService.getQuestionAudio(id, questionId, memberId, voice, format), headers);
+    }
+
+    @GetMapping("/{id}/questions/{questionId}/audio/stream")
+    @Operation(summary = "질문 음성 스트리밍",
+            description = "질문을 문장 단위로 합성하며 순서대로 스트리밍합니다. 첫 문장이 준비되는 즉시 재생할 수 있습니다.")
+    public ResponseEntity<StreamingResponseBody> streamQuestionAudio(
+            @PathVariable("id") Long id,
+            @PathVariable("questionId") Long questionId,
+            @RequestParam(value = "voice", required = false) String voice,
+            @RequestParam(value = "format", defaultValue = "wav") String format,
+            @CurrentMemberId Long memberId
+    ) {
+        log.info("질문 음성 스트리밍 API 호출 - interviewId: {}, questionId: {}, voice: {}, format: {}, memberId: {}",
+                id, questionId, voice, format, memberId);
+        SynthesizeRequest request = interviewService.getQuestionSpeechRequest(id, questionId, memberId, voice, format);
+        ttsStreamingService.validate(request);
+
+        StreamingResponseBody body = outputStream -> ttsStreamingService.stream(request, outputStream);
+        return ResponseEntity.ok()
+                .contentType(AudioStreamingSupport.mediaTypeOf(request.format()))
+                .body(body);
     }
 
     @PostMapping("/{id}/questions/{questionId}/answers")
@@ -138,10 +186,14 @@ public class InterviewController {
             @PathVariable("id") Long id,
             @PathVariable("questionId") Long questionId,
             @Valid @RequestBody AnswerCreateRequest request,
+            @RequestHeader(value = REQUEST_TIMEOUT_HEADER, required = false) Long requestTimeout,
             @CurrentMemberId Long memberId
     ) {
         log.info("답변 제출 API 호출 - interviewId: {}, questionId: {}, memberId: {}", id, questionId, memberId);
-        AnswerResponse response = answerFacade.createAnswer(id, questionId, memberId, request);
+        AnswerResponse response;
+        try (DeadlineContext.Scope deadline = openAnswerDeadline(requestTimeout)) {
+            response = answerFacade.createAnswer(id, questionId, memberId, request);
+        }
         log.info("답변 제출 완료 - interviewId: {}, questionId: {}, score: {}",
                 id, questionId, response.score());
         return ResponseEntity.ok(ApiResponse.ok("답변이 제출되었습니다.", response));
@@ -154,16 +206,83 @@ public class InterviewController {
             @PathVariable("questionId") Long questionId,
             @RequestParam("file") MultipartFile audioFile,
             @RequestParam(value = "language", defaultValue = "ko") String language,
+            @RequestHeader(value = REQUEST_TIMEOUT_HEADER, required = false) Long requestTimeout,
             @CurrentMemberId Long memberId
     ) {
         log.info("음성 답변 제출 API 호출 - interviewId: {}, questionId: {}, memberId: {}, 파일명: {}, 언어: {}",
                 id, questionId, memberId, audioFile.getOriginalFilename(), language);
-        AnswerResponse response = answerFacade.createAudioAnswer(id, questionId, memberId, audioFile, language);
+        AnswerResponse response;
+        try (DeadlineContext.Scope deadline = openAnswerDeadline(requestTimeout)) {
+            response = answerFacade.createAudioAnswer(id, questionId, memberId, audioFile, language);
+        }
         log.info("음성 답변 제출 완료 - interviewId: {}, questionId: {}, score: {}",
                 id, questionId, response.score());
         return ResponseEntity.ok(ApiResponse.ok("음성 답변이 제출되었습니다.", response));
     }
 
+    @PostMapping("/{id}/questions/{questionId}/answers/audio/stream")
+    @Operation(summary = "스트리밍 음성 답변 시작",
+            description = "녹음 시작 시 스트리밍 음성 인식 세션을 엽니다. 이후 청크 전송 API로 오디오를 나눠 보냅니다.")
+    public ResponseEntity<ApiResponse<SttStreamStatusResponse>> startAudioAnswerStream(
+            @PathVariable("id") Long id,
+            @PathVariable("questionId") Long questionId,
+            @RequestParam(value = "language", defaultValue = "ko") String language,
+            @CurrentMemberId Long memberId
+    ) {
+        log.info("스트리밍 음성 답변 시작 API 호출 - interviewId: {}, questionId: {}, memberId: {}, 언어: {}",
+                id, questionId, memberId, language);
+        SttStreamStatusResponse response = answerFacade.startAudioAnswerStream(id, questionId, memberId, language);
+        return ResponseEntity.ok(ApiResponse.ok("음성 스트리밍을 시작했습니다.", response));
+    }
+
+    @PostMapping(value = "/{id}/questions/{questionId}/answers/audio/stream/{sessionId}/chunks",
+            consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    @Operation(summary = "스트리밍 음성 청크 전송",
+            description = "녹음 중인 오디오 청크(PCM int16, 16kHz, mono)를 순서대로 전송하고 누적된 부분 전사 결과를 받습니다.")
+    public ResponseEntity<ApiResponse<SttStreamStatusResponse>> appendAudioAnswerChunk(
+            @PathVariable("id") Long id,
+            @PathVariable("questionId") Long questionId,
+            @PathVariable("sessionId") String sessionId,
+            @RequestBody byte[] chunk,
+            @CurrentMemberId Long memberId
+    ) {
+        SttStreamStatusResponse response = answerFacade.appendAudioAnswerChunk(id, questionId, memberId, sessionId, chunk);
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+
+    @PostMapping("/{id}/questions/{questionId}/answers/audio/stream/{sessionId}/complete")
+    @Operation(summary = "스트리밍 음성 답변 제출",
+            description = "녹음을 마치고 누적된 전사 결과를 답변으로 제출합니다.")
+    public ResponseEntity<ApiResponse<AnswerResponse>> completeAudioAnswerStream(
+            @PathVariable("id") Long id,
+            @PathVariable("questionId") Long questionId,
+            @PathVariable("sessionId") String sessionId,
+            @RequestHeader(value = REQUEST_TIMEOUT_HEADER, required = false) Long requestTimeout,
+            @CurrentMemberId Long memberId
+    ) {
+        log.info("스트리밍 음성 답변 제출 API 호출 - interviewId: {}, questionId: {}, memberId: {}, sessionId: {}",
+                id, questionId, memberId, sessionId);
+        AnswerResponse response;
+        try (DeadlineContext.Scope deadline = openAnswerDeadline(requestTimeout)) {
+            response = answerFacade.completeAudioAnswerStream(id, questionId, memberId, sessionId);
+        }
+        log.info("스트리밍 음성 답변 제출 완료 - interviewId: {}, questionId: {}, score: {}",
+                id, questionId, response.score());
+        return ResponseEntity.ok(ApiResponse.ok("음성 답변이 제출되었습니다.", response));
+    }
+
+    @DeleteMapping("/{id}/questions/{questionId}/answers/audio/stream/{sessionId}")
+    @Operation(summary = "스트리밍 음성 답변 취소", description = "진행 중인 음성 스트리밍 세션을 종료합니다.")
+    public ResponseEntity<ApiResponse<Void>> cancelAudioAnswerStream(
+            @PathVariable("id") Long id,
+            @PathVariable("questionId") Long questionId,
+            @PathVariable("sessionId") String sessionId,
+            @CurrentMemberId Long memberId
+    ) {
+        answerFacade.cancelAudioAnswerStream(id, questionId, memberId, sessionId);
+        return ResponseEntity.ok(ApiResponse.ok("음성 스트리밍을 취소했습니다."));
+    }
+
     @GetMapping("/{id}/result")
     @Operation(summary = "면접 결과 조회", description = "면접 결과와 AI 종합 리포트를 조회합니다.")
     public ResponseEntity<ApiResponse<InterviewResultResponse>> getInterviewResult(
@@ -177,31 +296,43 @@ public class InterviewController {
     }
 
     @PostMapping(value = "/{id}/resume", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    @Operation(summary = "이력서 PDF 업로드", description = "이력서 PDF 파일을 업로드하고 텍스트를 추출합니다.")
-    public ResponseEntity<ApiResponse<InterviewResponse>> uploadResume(
+    @Operation(summary = "이력서 PDF 업로드",
+            description = "이력서 PDF 파일을 접수합니다. 텍스트 추출과 색인은 백그라운드에서 진행되며 처리 상태 조회 API로 확인할 수 있습니다.")
+    public ResponseEntity<ApiResponse<DocumentIngestionResponse>> uploadResume(
             @PathVariable("id") Long id,
             @RequestParam("file") MultipartFile file,
             @CurrentMemberId Long memberId
     ) {
         log.info("이력서 업로드 API 호출 - interviewId: {}, memberId: {}, 파일명: {}",
                 id, memberId, file.getOriginalFilename());
-        InterviewResponse response = interviewService.uploadResume(id, memberId, file);
-        log.info("이력서 업로드 완료 - interviewId: {}", id);
-        return ResponseEntity.ok(ApiResponse.ok("이력서가 업로드되었습니다.", response));
+        DocumentIngestionResponse response = interviewService.uploadResume(id, memberId, file);
+        log.info("이력서 업로드 접수 완료 - interviewId: {}", id);
+        return ResponseEntity.accepted().body(ApiResponse.ok("이력서가 업로드되었습니다. 문서를 처리하고 있습니다.", response));
     }
 
     @PostMapping(value = "/{id}/portfolio", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    @Operation(summary = "포트폴리오 PDF 업로드", description = "포트폴리오 PDF 파일을 업로드하고 텍스트를 추출합니다.")
-    public ResponseEntity<ApiResponse<InterviewResponse>> uploadPortfolio(
+    @Operation(summary = "포트폴리오 PDF 업로드",
+            description = "포트폴리오 PDF 파일을 접수합니다. 텍스트 추출과 색인은 백그라운드에서 진행되며 처리 상태 조회 API로 확인할 수 있습니다.")
+    public ResponseEntity<ApiResponse<DocumentIngestionResponse>> uploadPortfolio(
             @PathVariable("id") Long id,
             @RequestParam("file") MultipartFile file,
             @CurrentMemberId Long memberId
     ) {
         log.info("포트폴리오 업로드 API 호출 - interviewId: {}, memberId: {}, 파일명: {}",
                 id, memberId, file.getOriginalFilename());
-        InterviewResponse response = interviewService.uploadPortfolio(id, memberId, file);
-        log.info("포트폴리오 업로드 완료 - interviewId: {}", id);
-        return ResponseEntity.ok(ApiResponse.ok("포트폴리오가 업로드되었습니다.", response));
+        DocumentIngestionResponse response = interviewService.uploadPortfolio(id, memberId, file);
+        log.info("포트폴리오 업로드 접수 완료 - interviewId: {}", id);
+        return ResponseEntity.accepted().body(ApiResponse.ok("포트폴리오가 업로드되었습니다. 문서를 처리하고 있습니다.", response));
+    }
+
+    @GetMapping("/{id}/documents")
+    @Operation(summary = "업로드 문서 처리 상태 조회", description = "이력서/포트폴리오의 처리 단계와 진행률을 조회합니다.")
+    public ResponseEntity<ApiResponse<List<DocumentIngestionResponse>>> getDocumentIngestions(
+            @PathVariable("id") Long id,
+            @CurrentMemberId Long memberId
+    ) {
+        List<DocumentIngestionResponse> response = interviewService.getDocumentIngestions(id, memberId);
+        return ResponseEntity.ok(ApiResponse.ok(response));
     }
 
     @DeleteMapping("/{id}")
@@ -215,4 +346,15 @@ public class InterviewController {
         log.info("면접 삭제 완료 - interviewId: {}", id);
         return ResponseEntity.ok(ApiResponse.ok("면접이 삭제되었습니다."));
     }
+
+    /**
+     * 답변 제출 요청의 마감 시각 시작 (서버 설정과 클라이언트 요청 중 짧은 쪽)
+     */
+    private DeadlineContext.Scope openAnswerDeadline(Long requestTimeout) {
+        long timeout = deadlineConfig.getAnswerTimeout();
+        if (requestTimeout != null && requestTimeout > 0) {
+            timeout = Math.min(timeout, requestTimeout);
+        }
+        return DeadlineContext.open(Duration.ofMillis(timeout));
+    }
 }
@@ -28,12 +28,10 @@ public record InterviewResponse(
     Boolean hasPortfolio
 ) {
     public static InterviewResponse from(Interview interview) {
-        Boolean hasResume = interview.getResumeText() != null 
-                && !interview.getResumeText().isBlank();
-        
-        Boolean hasPortfolio = interview.getPortfolioText() != null 
-                && !interview.getPortfolioText().isBlank();
-        
+        // 문서 본문을 읽지 않도록 참조 여부로 판단 (빈 문서는 참조하지 않음)
+        Boolean hasResume = interview.hasResume();
+        Boolean hasPortfolio = interview.hasPortfolio();
+
         return new InterviewResponse(
             interview.getId(), 
             interview.getTitle(),
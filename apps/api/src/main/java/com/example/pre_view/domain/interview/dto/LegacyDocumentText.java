@@ -0,0 +1,10 @@
+package com.example.pre_view.domain.interview.dto;
+
+/**
+ * 문서 참조 도입 전에 면접에 직접 저장된 이력서/포트폴리오 텍스트 (백필용 조회 결과)
+ */
+public record LegacyDocumentText(
+    Long interviewId,
+    String text
+) {
+}
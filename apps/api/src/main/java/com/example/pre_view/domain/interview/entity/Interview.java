@@ -5,6 +5,7 @@ import java.util.List;
 
 import com.example.pre_view.common.BaseEntity;
 import com.example.pre_view.common.exception.InterviewStateException;
+import com.example.pre_view.domain.file.entity.UploadedDocument;
 import com.example.pre_view.domain.interview.enums.ExperienceLevel;
 import com.example.pre_view.domain.interview.enums.InterviewPhase;
 import com.example.pre_view.domain.interview.enums.InterviewStatus;
@@ -17,10 +18,12 @@ import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Version;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -58,11 +61,26 @@ public class Interview extends BaseEntity {
     @Column(name = "tech_stack")
     private List<String> techStacks = new ArrayList<>();
 
-    @Column(columnDefinition = "TEXT")
-    private String resumeText;
+    /**
+     * 업로드한 이력서/포트폴리오 (같은 파일은 여러 면접이 하나의 문서를 공유)
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "resume_document_id")
+    private UploadedDocument resumeDocument;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "portfolio_document_id")
+    private UploadedDocument portfolioDocument;
+
+    /**
+     * 문서 참조 도입 전에 저장된 이력서/포트폴리오 텍스트
+     * LegacyDocumentBackfillService가 uploaded_document로 옮긴 뒤 비우며, 옮기기 전까지는 조회 시 대신 사용합니다.
+     */
+    @Column(name = "resume_text", columnDefinition = "TEXT")
+    private String legacyResumeText;
 
-    @Column(columnDefinition = "TEXT")
-    private String portfolioText;
+    @Column(name = "portfolio_text", columnDefinition = "TEXT")
+    private String legacyPortfolioText;
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
@@ -85,7 +103,7 @@ public class Interview extends BaseEntity {
 
     @Builder
     public Interview(Long memberId, String title, InterviewType type, Position position, ExperienceLevel level,
-                     List<String> techStacks, String resumeText, String portfolioText,
+                     List<String> techStacks, UploadedDocument resumeDocument, UploadedDocument portfolioDocument,
                      InterviewStatus status, Integer totalQuestions) {
         this.memberId = memberId;
         this.title = title;
@@ -93,19 +111,53 @@ public class Interview extends BaseEntity {
         this.position = position;
         this.level = level;
         this.techStacks = techStacks != null ? techStacks : new ArrayList<>();
-        this.resumeText = resumeText;
-        this.portfolioText = portfolioText;
+        this.resumeDocument = resumeDocument;
+        this.portfolioDocument = portfolioDocument;
         this.status = status != null ? status : InterviewStatus.READY;
         this.currentPhase = null;
         this.totalQuestions = totalQuestions;
     }
 
-    public void updateResumeText(String resumeText) {
-        this.resumeText = resumeText;
+    /**
+     * 이력서 문서 연결 (이전 방식으로 저장된 텍스트는 함께 비움)
+     */
+    public void updateResumeDocument(UploadedDocument resumeDocument) {
+        this.resumeDocument = resumeDocument;
+        this.legacyResumeText = null;
+    }
+
+    /**
+     * 포트폴리오 문서 연결 (이전 방식으로 저장된 텍스트는 함께 비움)
+     */
+    public void updatePortfolioDocument(UploadedDocument portfolioDocument) {
+        this.portfolioDocument = portfolioDocument;
+        this.legacyPortfolioText = null;
+    }
+
+    public boolean hasResume() {
+        return this.resumeDocument != null || hasText(this.legacyResumeText);
+    }
+
+    public boolean hasPortfolio() {
+        return this.portfolioDocument != null || hasText(this.legacyPortfolioText);
+    }
+
+    /**
+     * 이력서 텍스트 (업로드하지 않았으면 null, 아직 옮기지 않은 이전 텍스트가 있으면 그 텍스트)
+     */
+    public String getResumeText() {
+        return this.resumeDocument != null ? this.resumeDocument.getText() : this.legacyResumeText;
+    }
+
+    /**
+     * 포트폴리오 텍스트 (업로드하지 않았으면 null, 아직 옮기지 않은 이전 텍스트가 있으면 그 텍스트)
+     */
+    public String getPortfolioText() {
+        return this.portfolioDocument != null ? this.portfolioDocument.getText() : this.legacyPortfolioText;
     }
 
-    public void updatePortfolioText(String portfolioText) {
-        this.portfolioText = portfolioText;
+    private static boolean hasText(String text) {
+        return text != null && !text.isBlank();
     }
 
     public void start() {
@@ -7,9 +7,12 @@ import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import com.example.pre_view.domain.file.entity.UploadedDocument;
+import com.example.pre_view.domain.interview.dto.LegacyDocumentText;
 import com.example.pre_view.domain.interview.entity.Interview;
 import com.example.pre_view.domain.interview.enums.InterviewStatus;
 
@@ -23,6 +26,40 @@ public interface InterviewRepository extends JpaRepository<Interview, Long> {
 
     Optional<Interview> findByIdAndMemberIdAndDeletedFalse(Long id, Long memberId);
 
+    // ===== 이전 이력서/포트폴리오 텍스트 백필 =====
+    // 엔티티를 읽어 저장하면 @Version이 올라가 진행 중인 면접과 낙관적 락 충돌이 나므로,
+    // 필요한 컬럼만 조회하고 문서 컬럼만 벌크 UPDATE로 바꿉니다 (version은 건드리지 않음).
+
+    /**
+     * 문서 참조 도입 전 방식으로 이력서 텍스트가 남아 있는 면접 조회 (삭제된 면접 포함)
+     */
+    @Query("SELECT new com.example.pre_view.domain.interview.dto.LegacyDocumentText(i.id, i.legacyResumeText) " +
+           "FROM Interview i WHERE i.legacyResumeText IS NOT NULL ORDER BY i.id")
+    List<LegacyDocumentText> findLegacyResumeTexts(Pageable pageable);
+
+    /**
+     * 문서 참조 도입 전 방식으로 포트폴리오 텍스트가 남아 있는 면접 조회 (삭제된 면접 포함)
+     */
+    @Query("SELECT new com.example.pre_view.domain.interview.dto.LegacyDocumentText(i.id, i.legacyPortfolioText) " +
+           "FROM Interview i WHERE i.legacyPortfolioText IS NOT NULL ORDER BY i.id")
+    List<LegacyDocumentText> findLegacyPortfolioTexts(Pageable pageable);
+
+    /**
+     * 이전 이력서 텍스트를 문서 참조로 교체 (그 사이 새 이력서가 연결되어 텍스트가 비워졌으면 변경 없음)
+     */
+    @Modifying
+    @Query("UPDATE Interview i SET i.resumeDocument = :document, i.legacyResumeText = NULL " +
+           "WHERE i.id = :interviewId AND i.legacyResumeText IS NOT NULL")
+    int moveLegacyResumeText(@Param("interviewId") Long interviewId, @Param("document") UploadedDocument document);
+
+    /**
+     * 이전 포트폴리오 텍스트를 문서 참조로 교체 (그 사이 새 포트폴리오가 연결되어 텍스트가 비워졌으면 변경 없음)
+     */
+    @Modifying
+    @Query("UPDATE Interview i SET i.portfolioDocument = :document, i.legacyPortfolioText = NULL " +
+           "WHERE i.id = :interviewId AND i.legacyPortfolioText IS NOT NULL")
+    int moveLegacyPortfolioText(@Param("interviewId") Long interviewId, @Param("document") UploadedDocument document);
+
     // ===== 사용자 통계 쿼리 =====
 
     /**
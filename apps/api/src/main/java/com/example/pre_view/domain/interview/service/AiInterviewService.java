@@ -1,11 +1,14 @@
 package com.example.pre_view.domain.interview.service;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 
 import com.example.pre_view.common.llm.GroqChatService;
+import com.example.pre_view.common.resilience.DeadlineConfig;
+import com.example.pre_view.common.resilience.DeadlineContext;
 import com.example.pre_view.domain.answer.dto.AiFeedbackResponse;
 import com.example.pre_view.domain.answer.entity.Answer;
 import com.example.pre_view.domain.interview.dto.AiInterviewAgentResponse;
@@ -37,6 +40,10 @@ import com.example.pre_view.domain.llm.service.LlmService;
  *
  * llm.enabled=true인 경우 Python LLM 서비스(llm-service:8003) 사용
  * llm.enabled=false인 경우 Groq API 사용
+ *
+ * 재시도(aiServiceRetry)는 하위 LlmService 재시도와 같은 요청 예산(RetryBudget)을 나눠 쓰므로
+ * 계층이 겹쳐도 재시도 횟수가 곱해지지 않고, 서킷 브레이커가 열려 있으면 재시도 없이 바로 Fallback을 반환합니다.
+ * 요청 마감 시각(DeadlineContext)이 임박하면 AI를 호출하지 않고 바로 Fallback을 반환합니다.
  */
 @Slf4j
 @Service
@@ -46,6 +53,7 @@ public class AiInterviewService {
     private final PromptTemplateService promptTemplateService;
     private final LlmService llmService;
     private final LlmConfig llmConfig;
+    private final DeadlineConfig deadlineConfig;
 
     // 메트릭
     private final Timer feedbackTimer;
@@ -55,11 +63,12 @@ public class AiInterviewService {
     private final Counter aiCallFailureCounter;
 
     public AiInterviewService(GroqChatService groqChatService, PromptTemplateService promptTemplateService,
-            LlmService llmService, LlmConfig llmConfig, MeterRegistry meterRegistry) {
+            LlmService llmService, LlmConfig llmConfig, DeadlineConfig deadlineConfig, MeterRegistry meterRegistry) {
         this.promptTemplateService = promptTemplateService;
         this.groqChatService = groqChatService;
         this.llmService = llmService;
         this.llmConfig = llmConfig;
+        this.deadlineConfig = deadlineConfig;
 
         // AI 호출 응답 시간 메트릭
         this.feedbackTimer = Timer.builder("ai.feedback.duration")
@@ -87,6 +96,7 @@ public class AiInterviewService {
     @Retry(name = "aiServiceRetry", fallbackMethod = "recoverFeedback")
     public AiFeedbackResponse generateFeedback(InterviewPhase phase, String question, String answer) {
         log.debug("AI 피드백 생성 시작 - phase: {}, llmEnabled: {}", phase, llmConfig.isEnabled());
+        checkDeadline();
 
         // LLM 서비스 사용 여부 확인
         if (llmConfig.isEnabled()) {
@@ -144,6 +154,7 @@ public class AiInterviewService {
     @Retry(name = "aiServiceRetry", fallbackMethod = "recoverReport")
     public AiReportResponse generateReport(String context, List<Answer> answers) {
         log.debug("AI 리포트 생성 시작 - context: {}, llmEnabled: {}", context, llmConfig.isEnabled());
+        checkDeadline();
 
         // LLM 서비스 사용 여부 확인
         if (llmConfig.isEnabled()) {
@@ -219,6 +230,7 @@ public class AiInterviewService {
      * 
      * Technical/Behavioral 단계에서 사용자의 답변을 평가하고, 다음 질문을 생성할지 또는 다음 단계로 넘어갈지 판단합니다.
      * 
+     * @param interviewId               면접 ID (진행 중 프롬프트 캐싱용, nullable)
      * @param phase                     현재 면접 단계 (TECHNICAL 또는 PERSONALITY)
      * @param previousAnswer            브릿지 질문(Opening 단계의 마지막 질문)에 대한 답변 (nullable)
      * @param interviewContext          면접 컨텍스트 (포지션, 레벨, 기술스택 등)
@@ -232,6 +244,7 @@ public class AiInterviewService {
      */
     @Retry(name = "aiServiceRetry", fallbackMethod = "recoverInterviewStep")
     public AiInterviewAgentResponse processInterviewStep(
+            Long interviewId,
             InterviewPhase phase,
             String previousAnswer,
             String interviewContext,
@@ -243,10 +256,11 @@ public class AiInterviewService {
 
         log.debug("AI 면접 에이전트 단계 처리 시작 - phase: {}, followUpCount: {}, llmEnabled: {}",
                 phase, currentTopicFollowUpCount, llmConfig.isEnabled());
+        checkDeadline();
 
         // LLM 서비스 사용 여부 확인
         if (llmConfig.isEnabled()) {
-            return processInterviewStepWithLlm(phase, previousAnswer, interviewContext, resumeText,
+            return processInterviewStepWithLlm(interviewId, phase, previousAnswer, interviewContext, resumeText,
                     portfolioText, previousQuestions, previousAnswers, currentTopicFollowUpCount);
         }
 
@@ -266,6 +280,8 @@ public class AiInterviewService {
             } else {
                 // 면접 진행 중
                 userPrompt = promptTemplateService.buildInterviewAgentContinuePrompt(
+                        interviewId,
+                        phase,
                         interviewContext,
                         resumeText,
                         portfolioText,
@@ -289,6 +305,7 @@ public class AiInterviewService {
      * LLM 서비스를 사용한 면접 에이전트 처리
      */
     private AiInterviewAgentResponse processInterviewStepWithLlm(
+            Long interviewId,
             InterviewPhase phase,
             String previousAnswer,
             String interviewContext,
@@ -312,6 +329,8 @@ public class AiInterviewService {
         } else {
             // 면접 진행 중
             userPrompt = promptTemplateService.buildInterviewAgentContinuePrompt(
+                    interviewId,
+                    phase,
                     interviewContext,
                     resumeText,
                     portfolioText,
@@ -341,6 +360,13 @@ public class AiInterviewService {
                 llmResponse.evaluation());
     }
 
+    /**
+     * 요청 마감 시각이 임박했으면 AI 호출 없이 Fallback으로 넘김
+     */
+    private void checkDeadline() {
+        DeadlineContext.checkRemaining(Duration.ofMillis(deadlineConfig.getMinAttemptTime()));
+    }
+
     /**
      * LLM 응답의 action 문자열을 InterviewAction enum으로 변환
      */
@@ -362,6 +388,7 @@ public class AiInterviewService {
      * Fallback 질문 생성은 QuestionService.generateFallbackQuestion()에서 전담합니다.
      */
     public AiInterviewAgentResponse recoverInterviewStep(
+            Long interviewId,
             InterviewPhase phase,
             String previousAnswer,
             String interviewContext,
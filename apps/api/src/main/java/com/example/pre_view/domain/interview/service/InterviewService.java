@@ -15,7 +15,9 @@ import com.example.pre_view.common.exception.BusinessException;
 import com.example.pre_view.common.exception.ErrorCode;
 import com.example.pre_view.domain.answer.entity.Answer;
 import com.example.pre_view.domain.answer.repository.AnswerRepository;
-import com.example.pre_view.domain.file.service.FileUploadService;
+import com.example.pre_view.common.retrieval.DocumentType;
+import com.example.pre_view.domain.file.dto.DocumentIngestionResponse;
+import com.example.pre_view.domain.file.service.DocumentIngestionService;
 import com.example.pre_view.domain.interview.dto.AiReportResponse;
 import com.example.pre_view.domain.interview.dto.InterviewCreateRequest;
 import com.example.pre_view.domain.interview.dto.InterviewResponse;
@@ -24,14 +26,13 @@ import com.example.pre_view.domain.interview.entity.Interview;
 import com.example.pre_view.domain.interview.enums.InterviewPhase;
 import com.example.pre_view.domain.interview.enums.InterviewStatus;
 import com.example.pre_view.domain.interview.repository.InterviewRepository;
-import com.example.pre_view.domain.question.dto.QuestionAudioResponse;
 import com.example.pre_view.domain.question.dto.QuestionListResponse;
 import com.example.pre_view.domain.question.entity.Question;
 import com.example.pre_view.domain.question.repository.QuestionRepository;
 import com.example.pre_view.domain.question.service.QuestionService;
 import com.example.pre_view.domain.tts.dto.SynthesizeRequest;
-import com.example.pre_view.domain.tts.dto.SynthesizeResponse;
-import com.example.pre_view.domain.tts.service.TtsService;
+import com.example.pre_view.domain.tts.dto.TtsAudio;
+import com.example.pre_view.domain.tts.service.TtsAudioService;
 import tools.jackson.core.JacksonException;
 import tools.jackson.databind.json.JsonMapper;
 
@@ -53,10 +54,10 @@ public class InterviewService {
     private final QuestionRepository questionRepository;
     private final AnswerRepository answerRepository;
     private final QuestionService questionService;
-    private final FileUploadService fileUploadService;
+    private final DocumentIngestionService documentIngestionService;
     private final InterviewStatusService interviewStatusService;
     private final JsonMapper jsonMapper;
-    private final TtsService ttsService;
+    private final TtsAudioService ttsAudioService;
 
     @CacheEvict(value = "interviewList", key = "#memberId")
     @Transactional
@@ -213,14 +214,40 @@ public class InterviewService {
         }
     }
 
-    public InterviewResponse uploadResume(Long interviewId, Long memberId, MultipartFile file) {
+    /**
+     * 이력서 업로드 접수 (추출·색인·저장은 백그라운드에서 진행)
+     */
+    public DocumentIngestionResponse uploadResume(Long interviewId, Long memberId, MultipartFile file) {
         getInterviewWithAuth(interviewId, memberId);
-        return fileUploadService.uploadResume(interviewId, file);
+        return documentIngestionService.submit(interviewId, DocumentType.RESUME, file);
     }
 
-    public InterviewResponse uploadPortfolio(Long interviewId, Long memberId, MultipartFile file) {
+    /**
+     * 포트폴리오 업로드 접수 (추출·색인·저장은 백그라운드에서 진행)
+     */
+    public DocumentIngestionResponse uploadPortfolio(Long interviewId, Long memberId, MultipartFile file) {
         getInterviewWithAuth(interviewId, memberId);
-        return fileUploadService.uploadPortfolio(interviewId, file);
+        return documentIngestionService.submit(interviewId, DocumentType.PORTFOLIO, file);
+    }
+
+    /**
+     * 업로드 문서 처리 상태 조회
+     */
+    @Transactional(readOnly = true)
+    public List<DocumentIngestionResponse> getDocumentIngestions(Long interviewId, Long memberId) {
+        getInterviewWithAuth(interviewId, memberId);
+        return documentIngestionService.getStatuses(interviewId);
+    }
+
+    /**
+     * 처리 중인 업로드 문서가 있으면 완료까지 대기
+     *
+     * 트랜잭션 밖에서 호출해야 합니다. (대기하는 동안 DB 커넥션을 점유하지 않도록 면접 시작 전에 호출)
+     *
+     * @throws BusinessException 대기 시간 안에 처리가 끝나지 않은 경우 (DOCUMENT_PROCESSING)
+     */
+    public void awaitDocumentIngestion(Long interviewId) {
+        documentIngestionService.awaitCompletion(interviewId);
     }
 
     /**
@@ -231,13 +258,35 @@ public class InterviewService {
      * @param memberId 현재 사용자 ID
      * @param voice 음성 스타일
      * @param format 오디오 포맷
-     * @return 질문 음성 응답
+     * @return 캐시에 저장된 질문 음성 파일 정보
      */
     @Transactional(readOnly = true)
-    public QuestionAudioResponse getQuestionAudio(Long interviewId, Long questionId, Long memberId, String voice, String format) {
+    public TtsAudio getQuestionAudio(Long interviewId, Long questionId, Long memberId, String voice, String format) {
         log.info("질문 음성 조회 시작 - interviewId: {}, questionId: {}, voice: {}, format: {}",
                 interviewId, questionId, voice, format);
 
+        SynthesizeRequest request = getQuestionSpeechRequest(interviewId, questionId, memberId, voice, format);
+
+        // 캐시된 음성 조회 (없으면 TTS 서비스 호출 후 캐시에 저장)
+        TtsAudio audio = ttsAudioService.getOrSynthesize(request);
+
+        log.info("질문 음성 조회 완료 - questionId: {}, duration: {}s", questionId, audio.duration());
+        return audio;
+    }
+
+    /**
+     * 질문 음성 합성 요청 생성 (권한 및 면접 소속 확인 포함)
+     *
+     * @param interviewId 면접 ID
+     * @param questionId 질문 ID
+     * @param memberId 현재 사용자 ID
+     * @param voice 음성 스타일
+     * @param format 오디오 포맷
+     * @return 질문 텍스트에 대한 음성 합성 요청
+     */
+    @Transactional(readOnly = true)
+    public SynthesizeRequest getQuestionSpeechRequest(Long interviewId, Long questionId, Long memberId,
+            String voice, String format) {
         // 1. 면접 권한 확인
         getInterviewWithAuth(interviewId, memberId);
 
@@ -254,23 +303,9 @@ public class InterviewService {
             throw new BusinessException(ErrorCode.ACCESS_DENIED);
         }
 
-        // 3. TTS 서비스 호출
-        log.debug("TTS 서비스 호출 - text length: {}, voice: {}, format: {}",
+        log.debug("질문 음성 요청 - text length: {}, voice: {}, format: {}",
                 question.getContent().length(), voice, format);
-        SynthesizeRequest request = new SynthesizeRequest(question.getContent(), voice, null, format);
-        SynthesizeResponse ttsResponse = ttsService.synthesize(request);
-
-        log.info("질문 음성 조회 완료 - questionId: {}, duration: {}s", questionId, ttsResponse.duration());
-
-        // 4. QuestionAudioResponse 반환
-        return new QuestionAudioResponse(
-                question.getId(),
-                question.getContent(),
-                ttsResponse.audioData(),
-                ttsResponse.format(),
-                ttsResponse.duration(),
-                voice
-        );
+        return new SynthesizeRequest(question.getContent(), voice, null, format);
     }
 
     /**
@@ -17,6 +17,8 @@ import com.example.pre_view.domain.llm.dto.LlmInterviewResponse;
 import com.example.pre_view.domain.llm.dto.LlmReportRequest;
 import com.example.pre_view.domain.llm.dto.LlmReportResponse;
 
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -76,6 +78,8 @@ public class LlmService {
     }
 
     @Retry(name = "llmServiceRetry", fallbackMethod = "generateFeedbackFallback")
+    @CircuitBreaker(name = "llmService")
+    @Bulkhead(name = "llmService")
     public LlmFeedbackResponse generateFeedback(String systemPrompt, String userPrompt) {
         log.debug("LLM 피드백 생성 시작");
 
@@ -109,6 +113,8 @@ public class LlmService {
     }
 
     @Retry(name = "llmServiceRetry", fallbackMethod = "processInterviewStepFallback")
+    @CircuitBreaker(name = "llmService")
+    @Bulkhead(name = "llmService")
     public LlmInterviewResponse processInterviewStep(String systemPrompt, String userPrompt) {
         log.debug("LLM 면접 에이전트 단계 처리 시작");
 
@@ -140,6 +146,8 @@ public class LlmService {
     }
 
     @Retry(name = "llmServiceRetry", fallbackMethod = "generateReportFallback")
+    @CircuitBreaker(name = "llmService")
+    @Bulkhead(name = "llmService")
     public LlmReportResponse generateReport(String systemPrompt, String userPrompt) {
         log.debug("LLM 리포트 생성 시작");
 
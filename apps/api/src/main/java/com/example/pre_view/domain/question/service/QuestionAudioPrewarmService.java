@@ -0,0 +1,207 @@
+package com.example.pre_view.domain.question.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.example.pre_view.domain.tts.config.TtsConfig;
+import com.example.pre_view.domain.tts.dto.SynthesizeRequest;
+import com.example.pre_view.domain.tts.dto.VoiceInfo;
+import com.example.pre_view.domain.tts.service.TtsAudioCache;
+import com.example.pre_view.domain.tts.service.TtsAudioService;
+import com.example.pre_view.domain.tts.service.TtsService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 템플릿/Fallback 질문 음성 사전 합성 서비스
+ *
+ * 고정 문구 질문(OPENING/CLOSING 템플릿, 단계별 Fallback)을 TTS 서비스의 모든 음성으로
+ * 미리 합성해 디스크 캐시에 고정해 두어, 면접 첫 질문부터 TTS 대기 없이 재생되도록 합니다.
+ *
+ * - 애플리케이션 기동 후 백그라운드에서 1회 실행
+ * - 주기적으로 (음성 목록 + 질문 목록) 지문을 비교해 변경 시 재합성
+ * - 관리자 API로 강제 재합성 가능 (캐시 적중 여부와 무관하게 다시 합성해 캐시 파일 교체)
+ */
+@Slf4j
+@Service
+public class QuestionAudioPrewarmService {
+
+    private final QuestionService questionService;
+    private final TtsService ttsService;
+    private final TtsAudioService ttsAudioService;
+    private final TtsAudioCache ttsAudioCache;
+    private final TtsConfig ttsConfig;
+
+    private final ScheduledExecutorService scheduler =
+            Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("tts-prewarm").factory());
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private volatile String lastFingerprint;
+
+    // 메트릭
+    private final Timer prewarmTimer;
+    private final Counter prewarmFailureCounter;
+
+    public QuestionAudioPrewarmService(
+            QuestionService questionService,
+            TtsService ttsService,
+            TtsAudioService ttsAudioService,
+            TtsAudioCache ttsAudioCache,
+            TtsConfig ttsConfig,
+            MeterRegistry meterRegistry
+    ) {
+        this.questionService = questionService;
+        this.ttsService = ttsService;
+        this.ttsAudioService = ttsAudioService;
+        this.ttsAudioCache = ttsAudioCache;
+        this.ttsConfig = ttsConfig;
+
+        this.prewarmTimer = Timer.builder("tts.prewarm.duration")
+                .description("템플릿 질문 음성 사전 합성 소요 시간")
+                .register(meterRegistry);
+        this.prewarmFailureCounter = Counter.builder("tts.prewarm.failure")
+                .description("템플릿 질문 음성 사전 합성 실패 건수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 기동 완료 후 사전 합성 및 변경 감지 주기 작업 등록
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!ttsConfig.isPrewarmEnabled()) {
+            log.info("템플릿 질문 음성 사전 합성 비활성화");
+            return;
+        }
+        scheduler.scheduleWithFixedDelay(() -> prewarm(false),
+                0, ttsConfig.getPrewarmCheckInterval(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 강제 재합성 요청 (음성/템플릿 변경 여부와 무관)
+     *
+     * 이미 캐시된 음성도 다시 합성해 교체하므로, TTS 모델만 바뀐 경우에도 반영됩니다.
+     *
+     * @return 작업 등록 여부 (이미 실행 중이면 false)
+     */
+    public boolean requestRewarm() {
+        if (running.get()) {
+            return false;
+        }
+        scheduler.execute(() -> prewarm(true));
+        return true;
+    }
+
+    private void prewarm(boolean force) {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            List<String> voices = resolveVoices();
+            List<String> texts = questionService.getPresetQuestionTexts();
+            String fingerprint = fingerprint(voices, texts);
+            if (!force && fingerprint.equals(lastFingerprint)) {
+                return;
+            }
+
+            List<SynthesizeRequest> requests = new ArrayList<>();
+            for (String voice : voices) {
+                for (String text : texts) {
+                    requests.add(new SynthesizeRequest(text, voice, null, null));
+                }
+            }
+
+            // 합성 중 LRU 제거로 먼저 만든 음성이 밀려나지 않도록 미리 고정
+            Set<String> keys = new HashSet<>();
+            requests.forEach(request -> keys.add(TtsAudioCache.keyOf(request)));
+            ttsAudioCache.pin(keys);
+
+            log.info("템플릿 질문 음성 사전 합성 시작 - voices: {}, questions: {}", voices.size(), texts.size());
+            Timer.Sample sample = Timer.start();
+            int failed = synthesizeAll(requests, force);
+            sample.stop(prewarmTimer);
+
+            if (failed == 0) {
+                lastFingerprint = fingerprint;
+                log.info("템플릿 질문 음성 사전 합성 완료 - count: {}", requests.size());
+            } else {
+                // 지문을 갱신하지 않아 다음 주기에 재시도
+                log.warn("템플릿 질문 음성 사전 합성 일부 실패 - 실패: {}/{}", failed, requests.size());
+            }
+        } catch (RuntimeException e) {
+            log.warn("템플릿 질문 음성 사전 합성 실패 - error: {}", e.getMessage());
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private int synthesizeAll(List<SynthesizeRequest> requests, boolean force) {
+        int failed = 0;
+        for (SynthesizeRequest request : requests) {
+            try {
+                if (force) {
+                    ttsAudioService.resynthesize(request);
+                } else {
+                    ttsAudioService.getOrSynthesize(request);
+                }
+            } catch (RuntimeException e) {
+                failed++;
+                prewarmFailureCounter.increment();
+                log.debug("템플릿 질문 음성 합성 실패 - voice: {}, error: {}", request.voice(), e.getMessage());
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * TTS 서비스의 음성 목록 조회 (조회 실패 시 기본 음성만 사용)
+     */
+    private List<String> resolveVoices() {
+        try {
+            List<String> voices = ttsService.getVoices().stream()
+                    .map(VoiceInfo::id)
+                    .filter(Objects::nonNull)
+                    .sorted()
+                    .toList();
+            if (!voices.isEmpty()) {
+                return voices;
+            }
+        } catch (RuntimeException e) {
+            log.warn("TTS 음성 목록 조회 실패, 기본 음성으로 사전 합성 - error: {}", e.getMessage());
+        }
+        return List.of(ttsConfig.getDefaultVoice());
+    }
+
+    private String fingerprint(List<String> voices, List<String> texts) {
+        String source = String.join("\u0000", voices) + "\u0001" + String.join("\u0000", texts);
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(source.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,6 +21,7 @@ import com.example.pre_view.domain.interview.service.AiInterviewService;
 import com.example.pre_view.domain.question.dto.QuestionListResponse;
 import com.example.pre_view.domain.question.entity.Question;
 import com.example.pre_view.domain.question.repository.QuestionRepository;
+import com.example.pre_view.domain.tts.service.TtsAudioService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -35,10 +37,60 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class QuestionService {
 
+    /**
+     * OPENING 템플릿 질문 그룹 (인사 + 자기소개 / 지원 동기 / 기술·프로젝트 소개)
+     */
+    private static final List<List<String>> OPENING_TEMPLATE_GROUPS = List.of(
+            List.of(
+                    "안녕하세요. 오늘 면접을 위해 시간 내어주셔서 감사합니다. 먼저 간단하게 자기소개 부탁드립니다.",
+                    "안녕하세요. 먼저 본인을 소개해주시겠어요?",
+                    "안녕하세요. 간단하게 자기소개와 함께 본인의 강점을 말씀해주시겠어요?"),
+            List.of(
+                    "지원하신 포지션에 대한 관심과 지원 동기를 말씀해주시겠어요?",
+                    "이 포지션에 지원하게 된 이유와 관심을 가지게 된 계기를 말씀해주시겠어요?",
+                    "저희 회사와 이 직무에 지원하신 이유를 말씀해주시겠어요?"),
+            List.of(
+                    "가장 자신 있는 기술이 무엇인지, 또는 가장 기억에 남는 프로젝트 하나를 소개해주시겠어요?",
+                    "본인이 가장 자신 있다고 생각하는 기술 스택과 그 이유를 말씀해주시겠어요?",
+                    "지금까지 진행한 프로젝트 중 가장 인상 깊었던 프로젝트를 하나 소개해주시겠어요?"));
+
+    /**
+     * CLOSING 템플릿 질문 그룹 (입사 후 목표 / 마지막 하고 싶은 말)
+     */
+    private static final List<List<String>> CLOSING_TEMPLATE_GROUPS = List.of(
+            List.of(
+                    "입사 후 어떤 목표를 가지고 계신지 말씀해주시겠어요?",
+                    "입사 후 1년, 3년 후의 목표나 비전을 말씀해주시겠어요?",
+                    "저희 회사에서 이루고 싶은 목표와 기여하고 싶은 부분을 말씀해주시겠어요?"),
+            List.of(
+                    "네, 잘 들었습니다. 마지막으로 못다 한 이야기가 있거나 꼭 하고 싶은 말씀이 있다면 편하게 해주세요.",
+                    "면접을 마치기 전에, 본인을 어필할 수 있는 마지막 기회를 드리고 싶습니다. 하시고 싶은 말씀이 있으신가요?",
+                    "긴 시간 고생하셨습니다. 끝으로 하고 싶은 말씀이 있다면 듣고 마무리하겠습니다."));
+
+    /**
+     * 기술 면접 Fallback 질문 목록 (기본 CS 질문)
+     */
+    private static final List<String> TECHNICAL_FALLBACK_QUESTIONS = List.of(
+            "객체지향 프로그래밍의 4가지 특징(캡슐화, 상속, 다형성, 추상화)에 대해 설명해주시고, 실제로 적용해본 경험이 있다면 말씀해주세요.",
+            "RESTful API의 개념과 설계 원칙에 대해 설명해주시고, 실제 프로젝트에서 어떻게 적용하셨는지 말씀해주세요.",
+            "데이터베이스 인덱스의 동작 원리와 장단점에 대해 설명해주시고, 인덱스를 설계할 때 고려했던 점이 있다면 말씀해주세요.");
+
+    /**
+     * 인성 면접 Fallback 질문 목록
+     */
+    private static final List<String> PERSONALITY_FALLBACK_QUESTIONS = List.of(
+            "팀 프로젝트에서 의견 충돌이 발생했을 때 어떻게 해결하셨는지 구체적인 경험을 말씀해주세요.",
+            "프로젝트 진행 중 예상치 못한 문제가 발생했을 때 어떻게 대처하셨는지 경험을 말씀해주세요.",
+            "본인의 가장 큰 강점과 약점은 무엇이라고 생각하시나요? 약점을 극복하기 위해 어떤 노력을 하고 계신가요?");
+
+    private static final String DEFAULT_FALLBACK_QUESTION =
+            "지금까지의 경험 중 가장 도전적이었던 상황과 그것을 어떻게 극복했는지 말씀해주세요.";
+
     private final QuestionRepository questionRepository;
     private final InterviewRepository interviewRepository;
     private final AnswerRepository answerRepository;
     private final AiInterviewService aiInterviewService;
+    private final TtsAudioService ttsAudioService;
 
     /**
      * 면접 시작 시 템플릿 질문들을 생성합니다.
@@ -142,6 +194,7 @@ public class QuestionService {
 
             // 에이전트 호출 (시간이 오래 걸릴 수 있으므로 트랜잭션 밖에서 수행)
             AiInterviewAgentResponse agentResponse = aiInterviewService.processInterviewStep(
+                    interview.getId(),
                     nextPhase,
                     bridgeAnswer, // Opening의 마지막 답변
                     interviewContext,
@@ -194,6 +247,9 @@ public class QuestionService {
             questionRepository.save(aiQuestion);
             log.info("첫 질문 생성 완료 - interviewId: {}, phase: {}, questionId: {}",
                     interview.getId(), nextPhase, aiQuestion.getId());
+
+            // 클라이언트가 음성을 요청하기 전에 합성 시작
+            ttsAudioService.prefetch(questionContent);
         }
     }
 
@@ -222,59 +278,31 @@ public class QuestionService {
      */
     private List<String> getTemplateQuestions(InterviewPhase phase) {
         return switch (phase) {
-            case OPENING -> {
-                // 그룹 1: 인사 + 자기소개
-                List<String> selfIntroQuestions = List.of(
-                        "안녕하세요. 오늘 면접을 위해 시간 내어주셔서 감사합니다. 먼저 간단하게 자기소개 부탁드립니다.",
-                        "안녕하세요. 먼저 본인을 소개해주시겠어요?",
-                        "안녕하세요. 간단하게 자기소개와 함께 본인의 강점을 말씀해주시겠어요?");
-
-                // 그룹 2: 지원 동기
-                List<String> motivationQuestions = List.of(
-                        "지원하신 포지션에 대한 관심과 지원 동기를 말씀해주시겠어요?",
-                        "이 포지션에 지원하게 된 이유와 관심을 가지게 된 계기를 말씀해주시겠어요?",
-                        "저희 회사와 이 직무에 지원하신 이유를 말씀해주시겠어요?");
-
-                // 그룹 3: 기술/프로젝트 소개
-                List<String> techProjectQuestions = List.of(
-                        "가장 자신 있는 기술이 무엇인지, 또는 가장 기억에 남는 프로젝트 하나를 소개해주시겠어요?",
-                        "본인이 가장 자신 있다고 생각하는 기술 스택과 그 이유를 말씀해주시겠어요?",
-                        "지금까지 진행한 프로젝트 중 가장 인상 깊었던 프로젝트를 하나 소개해주시겠어요?");
-
-                // 각 그룹에서 랜덤으로 1개씩 선택
-                List<String> selectedQuestions = List.of(
-                        selectRandom(selfIntroQuestions),
-                        selectRandom(motivationQuestions),
-                        selectRandom(techProjectQuestions));
-
-                yield selectedQuestions;
-            }
-
-            case CLOSING -> {
-                // 그룹 1: 입사 후 목표
-                List<String> goalQuestions = List.of(
-                        "입사 후 어떤 목표를 가지고 계신지 말씀해주시겠어요?",
-                        "입사 후 1년, 3년 후의 목표나 비전을 말씀해주시겠어요?",
-                        "저희 회사에서 이루고 싶은 목표와 기여하고 싶은 부분을 말씀해주시겠어요?");
-
-                // 그룹 2: 마지막 하고 싶은 말
-                List<String> lastAppealQuestions = List.of(
-                        "네, 잘 들었습니다. 마지막으로 못다 한 이야기가 있거나 꼭 하고 싶은 말씀이 있다면 편하게 해주세요.",
-                        "면접을 마치기 전에, 본인을 어필할 수 있는 마지막 기회를 드리고 싶습니다. 하시고 싶은 말씀이 있으신가요?",
-                        "긴 시간 고생하셨습니다. 끝으로 하고 싶은 말씀이 있다면 듣고 마무리하겠습니다.");
-
-                // 각 그룹에서 랜덤으로 1개씩 선택
-                List<String> selectedQuestions = List.of(
-                        selectRandom(goalQuestions),
-                        selectRandom(lastAppealQuestions));
-
-                yield selectedQuestions;
-            }
-
+            // 각 그룹에서 랜덤으로 1개씩 선택
+            case OPENING -> OPENING_TEMPLATE_GROUPS.stream().map(this::selectRandom).toList();
+            case CLOSING -> CLOSING_TEMPLATE_GROUPS.stream().map(this::selectRandom).toList();
             default -> throw new BusinessException(ErrorCode.INVALID_QUESTION_PHASE);
         };
     }
 
+    /**
+     * 고정 문구로 출제될 수 있는 모든 질문 (템플릿 + Fallback)
+     * 음성 사전 합성 대상 목록으로 사용됩니다.
+     *
+     * @return 중복 없는 질문 텍스트 목록
+     */
+    public List<String> getPresetQuestionTexts() {
+        return Stream.of(
+                        OPENING_TEMPLATE_GROUPS.stream().flatMap(List::stream),
+                        CLOSING_TEMPLATE_GROUPS.stream().flatMap(List::stream),
+                        TECHNICAL_FALLBACK_QUESTIONS.stream(),
+                        PERSONALITY_FALLBACK_QUESTIONS.stream(),
+                        Stream.of(DEFAULT_FALLBACK_QUESTION))
+                .flatMap(texts -> texts)
+                .distinct()
+                .toList();
+    }
+
     /**
      * 질문 리스트에서 랜덤으로 1개를 선택하는 헬퍼 메서드
      * 
@@ -357,29 +385,9 @@ public class QuestionService {
      */
     private String getDefaultFallbackQuestion(InterviewPhase phase) {
         return switch (phase) {
-            case TECHNICAL -> selectRandom(getTechnicalFallbackQuestions());
-            case PERSONALITY -> selectRandom(getPersonalityFallbackQuestions());
-            default -> "지금까지의 경험 중 가장 도전적이었던 상황과 그것을 어떻게 극복했는지 말씀해주세요.";
+            case TECHNICAL -> selectRandom(TECHNICAL_FALLBACK_QUESTIONS);
+            case PERSONALITY -> selectRandom(PERSONALITY_FALLBACK_QUESTIONS);
+            default -> DEFAULT_FALLBACK_QUESTION;
         };
     }
-
-    /**
-     * 기술 면접 Fallback 질문 목록 (기본 CS 질문)
-     */
-    private List<String> getTechnicalFallbackQuestions() {
-        return List.of(
-                "객체지향 프로그래밍의 4가지 특징(캡슐화, 상속, 다형성, 추상화)에 대해 설명해주시고, 실제로 적용해본 경험이 있다면 말씀해주세요.",
-                "RESTful API의 개념과 설계 원칙에 대해 설명해주시고, 실제 프로젝트에서 어떻게 적용하셨는지 말씀해주세요.",
-                "데이터베이스 인덱스의 동작 원리와 장단점에 대해 설명해주시고, 인덱스를 설계할 때 고려했던 점이 있다면 말씀해주세요.");
-    }
-
-    /**
-     * 인성 면접 Fallback 질문 목록
-     */
-    private List<String> getPersonalityFallbackQuestions() {
-        return List.of(
-                "팀 프로젝트에서 의견 충돌이 발생했을 때 어떻게 해결하셨는지 구체적인 경험을 말씀해주세요.",
-                "프로젝트 진행 중 예상치 못한 문제가 발생했을 때 어떻게 대처하셨는지 경험을 말씀해주세요.",
-                "본인의 가장 큰 강점과 약점은 무엇이라고 생각하시나요? 약점을 극복하기 위해 어떤 노력을 하고 계신가요?");
-    }
 }
@@ -39,6 +39,46 @@ public class SttConfig {
      */
     private int maxAudioDuration;
 
+    /**
+     * STT 전송 전 오디오 전처리 (16kHz mono 변환, 앞뒤 무음 제거) 사용 여부
+     */
+    private boolean preprocessEnabled = true;
+
+    /**
+     * 무음 판정 임계값 (dBFS, 20ms 구간 RMS 기준)
+     */
+    private double silenceThresholdDb = -45;
+
+    /**
+     * 동시 전사 요청 배치 처리 사용 여부 (STT 서비스 /api/transcribe/batch 필요)
+     */
+    private boolean batchEnabled = true;
+
+    /**
+     * 배치 1회 최대 요청 수
+     */
+    private int batchMaxSize = 4;
+
+    /**
+     * 배치 수집 최대 대기 시간 (밀리초)
+     */
+    private long batchMaxWait = 30;
+
+    /**
+     * 스트리밍 세션 유휴 만료 시간 (밀리초) - 이 시간 동안 청크가 없으면 세션 종료
+     */
+    private long streamIdleTimeout = 30000;
+
+    /**
+     * 스트리밍 종료 후 최종 전사 결과 대기 시간 (밀리초)
+     */
+    private long streamFinalTimeout = 5000;
+
+    /**
+     * 인스턴스당 최대 동시 스트리밍 세션 수 (초과 시 STT_SERVICE_BUSY 503 + Retry-After)
+     */
+    private int maxStreamSessions = 100;
+
     /**
      * STT 서비스용 RestClient 빈 생성
      */
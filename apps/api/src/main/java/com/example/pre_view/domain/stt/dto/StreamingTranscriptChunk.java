@@ -0,0 +1,22 @@
+package com.example.pre_view.domain.stt.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * STT 서비스 WebSocket 전사 메시지 DTO
+ *
+ * 오디오 청크가 일정 길이만큼 쌓일 때마다 부분 결과(is_final=false)가 오고,
+ * 종료 요청 후 남은 오디오의 결과가 최종 결과(is_final=true)로 옵니다.
+ */
+public record StreamingTranscriptChunk(
+
+        @JsonProperty("text")
+        String text,
+
+        @JsonProperty("is_final")
+        Boolean isFinal,
+
+        @JsonProperty("error")
+        String error
+) {
+}
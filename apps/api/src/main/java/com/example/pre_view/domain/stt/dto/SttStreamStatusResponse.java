@@ -0,0 +1,20 @@
+package com.example.pre_view.domain.stt.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 스트리밍 STT 세션 상태 응답 DTO
+ */
+@Schema(description = "스트리밍 음성 인식 세션 상태")
+public record SttStreamStatusResponse(
+
+        @Schema(description = "스트리밍 세션 ID", example = "3f1c2a9e-6b7d-4e1a-9c55-0d2f8e7b1a44")
+        String sessionId,
+
+        @Schema(description = "지금까지 전송된 오디오 크기 (바이트)", example = "96000")
+        long receivedBytes,
+
+        @Schema(description = "지금까지 누적된 부분 전사 텍스트", example = "안녕하세요, 저는 백엔드")
+        String partialText
+) {
+}
@@ -0,0 +1,365 @@
+package com.example.pre_view.domain.stt.service;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.example.pre_view.domain.stt.config.SttConfig;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * STT 전송 전 오디오 전처리
+ *
+ * JDK(javax.sound.sampled)로 디코딩 가능한 비압축 오디오(WAV/AIFF/AU)를
+ * STT 모델 입력 형식(16kHz, mono, 16bit PCM WAV)으로 변환하고 앞뒤 무음을 잘라냅니다.
+ * - 다운믹스: 모든 채널 평균
+ * - 리샘플링: 다운샘플은 구간 평균(간단한 저역 통과), 업샘플은 선형 보간
+ * - 무음 제거: 20ms 구간 RMS가 임계값 미만인 앞뒤 구간 제거 (경계에 여유 구간 유지)
+ *
+ * 변환 결과로 재생 길이를 알 수 있어 원격 호출 전에 길이 검증이 가능합니다.
+ * webm/ogg/mp3/m4a 등 압축 형식은 순수 Java 디코더가 없어 원본 그대로 전달합니다.
+ * 전체 샘플을 힙에 올리지 않고 블록 단위로 읽어 임시 파일에 기록합니다.
+ */
+@Slf4j
+@Component
+public class AudioPreprocessor {
+
+    static final int TARGET_SAMPLE_RATE = 16000;
+
+    private static final int WAV_HEADER_SIZE = 44;
+    private static final int READ_BLOCK_FRAMES = 4096;
+
+    // 무음 판정 구간 (20ms) 및 발화 경계 여유 구간 (200ms)
+    private static final int WINDOW_SAMPLES = TARGET_SAMPLE_RATE / 50;
+    private static final int PADDING_WINDOWS = 10;
+
+    private static final MediaType AUDIO_WAV = MediaType.parseMediaType("audio/wav");
+
+    private final SttConfig sttConfig;
+
+    // 메트릭
+    private final Timer preprocessTimer;
+    private final Counter savedBytesCounter;
+    private final Counter passthroughCounter;
+
+    public AudioPreprocessor(SttConfig sttConfig, MeterRegistry meterRegistry) {
+        this.sttConfig = sttConfig;
+
+        this.preprocessTimer = Timer.builder("stt.preprocess.duration")
+                .description("STT 오디오 전처리 소요 시간")
+                .register(meterRegistry);
+        this.savedBytesCounter = Counter.builder("stt.preprocess.saved.bytes")
+                .description("전처리로 줄어든 STT 전송 바이트 수")
+                .register(meterRegistry);
+        this.passthroughCounter = Counter.builder("stt.preprocess.passthrough")
+                .description("디코딩할 수 없어 원본 그대로 전송한 오디오 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * STT 전송용 오디오 준비
+     *
+     * @param audioFile 업로드된 오디오 파일
+     * @param originalContentType 원본 Content-Type (원본을 그대로 보낼 때 사용)
+     * @return 전처리 결과 (사용 후 close 필요)
+     */
+    public PreparedAudio prepare(MultipartFile audioFile, MediaType originalContentType) throws IOException {
+        PreparedAudio passthrough = new PreparedAudio(
+                audioFile.getResource(), originalContentType, audioFile.getSize(), null, null);
+        if (!sttConfig.isPreprocessEnabled()) {
+            return passthrough;
+        }
+
+        Timer.Sample sample = Timer.start();
+        try (InputStream source = new BufferedInputStream(audioFile.getInputStream());
+             AudioInputStream decoded = openPcm16(source)) {
+            if (decoded == null) {
+                passthroughCounter.increment();
+                log.debug("전처리 불가 형식, 원본 전송 - 파일명: {}", audioFile.getOriginalFilename());
+                return passthrough;
+            }
+
+            Path tempFile = Files.createTempFile("stt-", ".wav");
+            try {
+                long dataSize = convert(decoded, tempFile);
+                long size = WAV_HEADER_SIZE + dataSize;
+                double duration = (double) dataSize / (TARGET_SAMPLE_RATE * 2);
+
+                savedBytesCounter.increment(Math.max(0, audioFile.getSize() - size));
+                log.info("STT 오디오 전처리 완료 - 원본: {} bytes ({}Hz, {}ch), 변환: {} bytes, 길이: {}초",
+                        audioFile.getSize(), (int) decoded.getFormat().getSampleRate(),
+                        decoded.getFormat().getChannels(), size, String.format("%.2f", duration));
+                return new PreparedAudio(new FileSystemResource(tempFile), AUDIO_WAV, size, duration, tempFile);
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(tempFile);
+                throw e;
+            }
+        } finally {
+            sample.stop(preprocessTimer);
+        }
+    }
+
+    /**
+     * 16bit signed little-endian PCM 스트림으로 열기 (디코딩할 수 없으면 null)
+     */
+    private AudioInputStream openPcm16(InputStream source) throws IOException {
+        AudioInputStream original;
+        try {
+            original = AudioSystem.getAudioInputStream(source);
+        } catch (UnsupportedAudioFileException e) {
+            return null;
+        }
+
+        AudioFormat format = original.getFormat();
+        if (format.getSampleRate() <= 0 || format.getChannels() <= 0) {
+            original.close();
+            return null;
+        }
+        AudioFormat pcm16 = new AudioFormat(AudioFormat.Encoding.PCM_SIGNED, format.getSampleRate(), 16,
+                format.getChannels(), format.getChannels() * 2, format.getSampleRate(), false);
+        if (format.matches(pcm16)) {
+            return original;
+        }
+        try {
+            return AudioSystem.getAudioInputStream(pcm16, original);
+        } catch (IllegalArgumentException e) {
+            // JDK가 변환을 지원하지 않는 인코딩
+            original.close();
+            return null;
+        }
+    }
+
+    /**
+     * 다운믹스 → 리샘플링 → 무음 제거 후 WAV 파일로 기록
+     *
+     * @return 기록된 PCM 데이터 크기 (바이트)
+     */
+    private long convert(AudioInputStream input, Path target) throws IOException {
+        AudioFormat format = input.getFormat();
+        int channels = format.getChannels();
+        int frameSize = channels * 2;
+
+        try (FileChannel output = FileChannel.open(target, StandardOpenOption.WRITE)) {
+            output.position(WAV_HEADER_SIZE);
+            SilenceTrimmer trimmer = new SilenceTrimmer(output, silenceThreshold());
+            Resampler resampler = new Resampler(format.getSampleRate(), trimmer);
+
+            byte[] buffer = new byte[READ_BLOCK_FRAMES * frameSize];
+            ByteBuffer frames = ByteBuffer.wrap(buffer).order(ByteOrder.LITTLE_ENDIAN);
+            int pending = 0;
+            int read;
+            while ((read = input.read(buffer, pending, buffer.length - pending)) > 0) {
+                int available = pending + read;
+                int complete = available - available % frameSize;
+                for (int offset = 0; offset < complete; offset += frameSize) {
+                    int sum = 0;
+                    for (int channel = 0; channel < channels; channel++) {
+                        sum += frames.getShort(offset + channel * 2);
+                    }
+                    resampler.accept(sum / (double) channels);
+                }
+                // 블록 경계에 걸친 프레임 조각은 다음 읽기로 이월
+                pending = available - complete;
+                System.arraycopy(buffer, complete, buffer, 0, pending);
+            }
+
+            long dataSize = trimmer.finish();
+            output.truncate(WAV_HEADER_SIZE + dataSize);
+            output.write(wavHeader(dataSize), 0);
+            return dataSize;
+        }
+    }
+
+    /**
+     * 무음 판정 RMS 임계값 (dBFS → 16bit 진폭)
+     */
+    private double silenceThreshold() {
+        return Short.MAX_VALUE * Math.pow(10, sttConfig.getSilenceThresholdDb() / 20.0);
+    }
+
+    private static ByteBuffer wavHeader(long dataSize) {
+        ByteBuffer header = ByteBuffer.allocate(WAV_HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(0x46464952);                      // "RIFF"
+        header.putInt((int) (36 + dataSize));
+        header.putInt(0x45564157);                      // "WAVE"
+        header.putInt(0x20746d66);                      // "fmt "
+        header.putInt(16);
+        header.putShort((short) 1);                     // PCM
+        header.putShort((short) 1);                     // mono
+        header.putInt(TARGET_SAMPLE_RATE);
+        header.putInt(TARGET_SAMPLE_RATE * 2);          // byte rate
+        header.putShort((short) 2);                     // block align
+        header.putShort((short) 16);                    // bits per sample
+        header.putInt(0x61746164);                      // "data"
+        header.putInt((int) dataSize);
+        header.flip();
+        return header;
+    }
+
+    /**
+     * 스트리밍 리샘플러 (입력 샘플을 받아 16kHz 샘플을 다음 단계로 전달)
+     */
+    private static final class Resampler {
+
+        private final double step;
+        private final SilenceTrimmer next;
+
+        // 다운샘플: 현재 출력 구간의 합계/개수
+        private double sum;
+        private int count;
+        private double boundary;
+
+        // 업샘플: 직전 입력 샘플과 다음 출력 위치
+        private double previous;
+        private long inputIndex;
+        private double outputPosition;
+
+        Resampler(float sourceRate, SilenceTrimmer next) {
+            this.step = sourceRate / TARGET_SAMPLE_RATE;
+            this.next = next;
+            this.boundary = step;
+        }
+
+        void accept(double value) throws IOException {
+            if (step >= 1.0) {
+                // 출력 한 샘플에 해당하는 입력 구간을 평균
+                sum += value;
+                count++;
+                inputIndex++;
+                if (inputIndex >= boundary) {
+                    next.accept(sum / count);
+                    sum = 0;
+                    count = 0;
+                    boundary += step;
+                }
+                return;
+            }
+
+            // 직전 샘플과 현재 샘플 사이의 출력 위치를 선형 보간
+            if (inputIndex == 0) {
+                previous = value;
+            }
+            while (outputPosition <= inputIndex) {
+                double fraction = outputPosition - (inputIndex - 1);
+                next.accept(inputIndex == 0 ? value : previous + (value - previous) * fraction);
+                outputPosition += step;
+            }
+            previous = value;
+            inputIndex++;
+        }
+    }
+
+    /**
+     * 앞뒤 무음 제거 후 16bit PCM으로 기록
+     *
+     * 첫 발화 구간 이전은 여유 구간만큼만 보관하다가 버리고,
+     * 마지막 발화 구간 이후는 기록하되 종료 시 여유 구간 뒤를 잘라냅니다.
+     */
+    private static final class SilenceTrimmer {
+
+        private final FileChannel output;
+        private final double threshold;
+
+        private final ByteBuffer window = ByteBuffer.allocate(WINDOW_SAMPLES * 2).order(ByteOrder.LITTLE_ENDIAN);
+        private final ByteBuffer[] leading = new ByteBuffer[PADDING_WINDOWS];
+        private int leadingCount;
+        private int leadingStart;
+
+        private double energy;
+        private boolean voiced;
+        private long written;
+        private long lastVoicedEnd;
+
+        SilenceTrimmer(FileChannel output, double threshold) {
+            this.output = output;
+            this.threshold = threshold;
+        }
+
+        void accept(double value) throws IOException {
+            short sample = (short) Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, Math.round(value)));
+            window.putShort(sample);
+            energy += (double) sample * sample;
+            if (!window.hasRemaining()) {
+                flushWindow();
+            }
+        }
+
+        /**
+         * 남은 구간 처리 후 최종 데이터 크기 반환
+         */
+        long finish() throws IOException {
+            if (window.position() > 0) {
+                flushWindow();
+            }
+            if (!voiced) {
+                // 발화가 감지되지 않으면 STT가 판단하도록 보관한 구간만 기록
+                for (int i = 0; i < leadingCount; i++) {
+                    write(leading[(leadingStart + i) % PADDING_WINDOWS]);
+                }
+                return written;
+            }
+            return Math.min(written, lastVoicedEnd + (long) PADDING_WINDOWS * WINDOW_SAMPLES * 2);
+        }
+
+        private void flushWindow() throws IOException {
+            int samples = window.position() / 2;
+            boolean loud = Math.sqrt(energy / samples) >= threshold;
+            window.flip();
+            energy = 0;
+
+            if (!voiced && !loud) {
+                // 첫 발화 전: 최근 구간만 여유 구간으로 보관
+                ByteBuffer copy = ByteBuffer.allocate(window.remaining());
+                copy.put(window).flip();
+                if (leadingCount == PADDING_WINDOWS) {
+                    leading[leadingStart] = copy;
+                    leadingStart = (leadingStart + 1) % PADDING_WINDOWS;
+                } else {
+                    leading[(leadingStart + leadingCount) % PADDING_WINDOWS] = copy;
+                    leadingCount++;
+                }
+                window.clear();
+                return;
+            }
+
+            if (!voiced) {
+                voiced = true;
+                for (int i = 0; i < leadingCount; i++) {
+                    write(leading[(leadingStart + i) % PADDING_WINDOWS]);
+                }
+                leadingCount = 0;
+            }
+            write(window);
+            if (loud) {
+                lastVoicedEnd = written;
+            }
+            window.clear();
+        }
+
+        private void write(ByteBuffer buffer) throws IOException {
+            while (buffer.hasRemaining()) {
+                written += output.write(buffer);
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.pre_view.domain.stt.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+
+/**
+ * STT 전송용으로 전처리된 오디오
+ *
+ * @param resource 전송할 오디오 (변환 결과 임시 파일 또는 원본 업로드 파일)
+ * @param contentType 전송할 Content-Type
+ * @param size 전송할 크기 (바이트)
+ * @param duration 로컬에서 계산한 재생 길이 (초), 디코딩할 수 없는 형식이면 null
+ * @param tempFile 변환 결과 임시 파일 (원본을 그대로 보내면 null)
+ */
+record PreparedAudio(Resource resource, MediaType contentType, long size, Double duration, Path tempFile)
+        implements AutoCloseable {
+
+    @Override
+    public void close() {
+        if (tempFile == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(tempFile);
+        } catch (IOException e) {
+            // 임시 디렉토리 정리에 맡김
+        }
+    }
+}
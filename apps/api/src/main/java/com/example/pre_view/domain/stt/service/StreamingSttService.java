@@ -0,0 +1,258 @@
+package com.example.pre_view.domain.stt.service;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.stereotype.Service;
+
+import com.example.pre_view.common.exception.BusinessException;
+import com.example.pre_view.common.exception.ErrorCode;
+import com.example.pre_view.common.exception.ServiceBusyException;
+import com.example.pre_view.common.resilience.DeadlineContext;
+import com.example.pre_view.common.resilience.RetryBudgetConfig;
+import com.example.pre_view.domain.stt.config.SttConfig;
+import com.example.pre_view.domain.stt.dto.SttStreamStatusResponse;
+import com.example.pre_view.domain.stt.dto.TranscriptionResponse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * 스트리밍 STT 서비스
+ *
+ * 사용자가 말하는 동안 오디오 청크를 받아 STT 서비스 WebSocket(/ws/transcribe)으로 바로 전달하고,
+ * 부분 전사 결과를 서버에 누적합니다. 녹음이 끝나면 남은 짧은 구간만 전사하면 되므로
+ * 전체 파일 업로드 후 전사하는 방식보다 답변 제출 시 대기 시간이 크게 줄어듭니다.
+ *
+ * - 오디오 형식: PCM int16, 16kHz, mono (STT 서비스 WebSocket 프로토콜과 동일)
+ * - 세션은 인스턴스 메모리에 보관되므로 같은 세션의 요청은 같은 인스턴스로 라우팅되어야 함
+ * - 일정 시간 청크가 없으면 세션을 정리
+ * - 동시 세션 수는 연결 전에 슬롯을 원자적으로 예약해 제한 (세션이 정리될 때 반환)
+ */
+@Slf4j
+@Service
+public class StreamingSttService {
+
+    // PCM int16 16kHz mono 기준 초당 바이트 수
+    private static final int BYTES_PER_SECOND = 16000 * 2;
+
+    // 청크 1개 최대 크기 (약 16초 분량)
+    private static final int MAX_CHUNK_BYTES = 512 * 1024;
+
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(5);
+    private static final long REAP_INTERVAL_MILLIS = 5000;
+
+    private final SttConfig sttConfig;
+    private final RetryBudgetConfig retryBudgetConfig;
+    private final JsonMapper objectMapper;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(CONNECT_TIMEOUT)
+            .build();
+
+    private final ConcurrentHashMap<String, SttStreamSession> sessions = new ConcurrentHashMap<>();
+    // 예약된 세션 슬롯 수 (연결 중인 세션 포함)
+    private final AtomicInteger reservedSessions = new AtomicInteger();
+    private final ScheduledExecutorService reaper =
+            Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("stt-stream-reaper").factory());
+
+    // 메트릭
+    private final Timer finalizeTimer;
+    private final Counter finalTimeoutCounter;
+    private final Counter expiredCounter;
+
+    public StreamingSttService(SttConfig sttConfig, RetryBudgetConfig retryBudgetConfig, JsonMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        this.sttConfig = sttConfig;
+        this.retryBudgetConfig = retryBudgetConfig;
+        this.objectMapper = objectMapper;
+
+        this.finalizeTimer = Timer.builder("stt.stream.finalize")
+                .description("녹음 종료부터 최종 전사 결과까지의 시간")
+                .register(meterRegistry);
+        this.finalTimeoutCounter = Counter.builder("stt.stream.final.timeout")
+                .description("최종 전사 결과 대기 시간 초과로 부분 결과를 사용한 건수")
+                .register(meterRegistry);
+        this.expiredCounter = Counter.builder("stt.stream.expired")
+                .description("유휴 시간 초과로 정리된 스트리밍 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("stt.stream.sessions", sessions, ConcurrentHashMap::size)
+                .description("진행 중인 스트리밍 STT 세션 수")
+                .register(meterRegistry);
+
+        reaper.scheduleWithFixedDelay(this::expireIdleSessions,
+                REAP_INTERVAL_MILLIS, REAP_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 스트리밍 세션 시작 (STT 서비스 WebSocket 연결)
+     *
+     * @param interviewId 면접 ID
+     * @param questionId 질문 ID
+     * @param memberId 현재 사용자 ID
+     * @param language 언어 코드 (ko, en, ja, zh)
+     * @return 세션 상태
+     */
+    public SttStreamStatusResponse start(Long interviewId, Long questionId, Long memberId, String language) {
+        // 확인과 등록 사이에 동시 요청이 끼어들지 않도록 연결 전에 슬롯을 먼저 예약
+        int reserved = reservedSessions.incrementAndGet();
+        if (reserved > sttConfig.getMaxStreamSessions()) {
+            reservedSessions.decrementAndGet();
+            log.warn("스트리밍 STT 세션 수 초과 - current: {}, max: {}",
+                    reserved - 1, sttConfig.getMaxStreamSessions());
+            throw new ServiceBusyException(ErrorCode.STT_SERVICE_BUSY, retryBudgetConfig.getRejectedRetryAfterSeconds());
+        }
+
+        String sessionId = UUID.randomUUID().toString();
+        SttStreamSession session = new SttStreamSession(
+                sessionId, memberId, interviewId, questionId, language, objectMapper);
+        try {
+            session.attach(httpClient.newWebSocketBuilder()
+                    .connectTimeout(CONNECT_TIMEOUT)
+                    .buildAsync(streamUri(language), session)
+                    .get(CONNECT_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+        } catch (InterruptedException e) {
+            reservedSessions.decrementAndGet();
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.STT_SERVICE_ERROR);
+        } catch (Exception e) {
+            reservedSessions.decrementAndGet();
+            log.error("스트리밍 STT 연결 실패 - error: {}", e.getMessage());
+            throw new BusinessException(ErrorCode.STT_SERVICE_ERROR);
+        }
+
+        sessions.put(sessionId, session);
+        log.info("스트리밍 STT 세션 시작 - sessionId: {}, interviewId: {}, questionId: {}, 언어: {}",
+                sessionId, interviewId, questionId, language);
+        return new SttStreamStatusResponse(sessionId, 0, "");
+    }
+
+    /**
+     * 오디오 청크 전달
+     *
+     * @param sessionId 세션 ID
+     * @param chunk PCM int16 16kHz mono 오디오 청크
+     * @return 누적된 부분 전사 결과를 포함한 세션 상태
+     */
+    public SttStreamStatusResponse append(String sessionId, Long interviewId, Long questionId, Long memberId,
+            byte[] chunk) {
+        SttStreamSession session = getOwnedSession(sessionId, interviewId, questionId, memberId);
+
+        if (chunk.length > MAX_CHUNK_BYTES) {
+            log.warn("스트리밍 STT 청크 크기 초과 - sessionId: {}, size: {}", sessionId, chunk.length);
+            throw new BusinessException(ErrorCode.STT_AUDIO_TOO_LARGE);
+        }
+        if (session.receivedBytes() + chunk.length > (long) sttConfig.getMaxAudioDuration() * BYTES_PER_SECOND) {
+            log.warn("스트리밍 STT 오디오 길이 초과 - sessionId: {}, max: {}초",
+                    sessionId, sttConfig.getMaxAudioDuration());
+            close(session);
+            throw new BusinessException(ErrorCode.STT_AUDIO_TOO_LONG);
+        }
+
+        try {
+            session.send(chunk);
+        } catch (RuntimeException e) {
+            log.error("스트리밍 STT 청크 전달 실패 - sessionId: {}, error: {}", sessionId, e.getMessage());
+            close(session);
+            throw new BusinessException(ErrorCode.STT_SERVICE_ERROR);
+        }
+        return new SttStreamStatusResponse(sessionId, session.receivedBytes(), session.partialText());
+    }
+
+    /**
+     * 녹음 종료 후 최종 전사 결과 반환 (세션 종료)
+     *
+     * @param sessionId 세션 ID
+     * @return 전사 결과
+     */
+    public TranscriptionResponse finish(String sessionId, Long interviewId, Long questionId, Long memberId) {
+        SttStreamSession session = getOwnedSession(sessionId, interviewId, questionId, memberId);
+        remove(session);
+
+        Timer.Sample sample = Timer.start();
+        // 요청 마감 시각이 있으면 남은 시간 안에서만 최종 전사를 기다림 (이후 부분 결과 사용)
+        String text = session.finish(
+                DeadlineContext.timeoutFor(Duration.ofMillis(sttConfig.getStreamFinalTimeout())).toMillis());
+        sample.stop(finalizeTimer);
+        if (!session.isFinalReceived()) {
+            finalTimeoutCounter.increment();
+        }
+
+        double duration = (double) session.receivedBytes() / BYTES_PER_SECOND;
+        log.info("스트리밍 STT 세션 완료 - sessionId: {}, 텍스트 길이: {}, 오디오 길이: {}초",
+                sessionId, text.length(), duration);
+        return new TranscriptionResponse(text, session.getLanguage(), duration, null);
+    }
+
+    /**
+     * 녹음 취소 (세션 종료)
+     */
+    public void cancel(String sessionId, Long interviewId, Long questionId, Long memberId) {
+        SttStreamSession session = getOwnedSession(sessionId, interviewId, questionId, memberId);
+        close(session);
+        log.info("스트리밍 STT 세션 취소 - sessionId: {}", sessionId);
+    }
+
+    private SttStreamSession getOwnedSession(String sessionId, Long interviewId, Long questionId, Long memberId) {
+        SttStreamSession session = sessions.get(sessionId);
+        if (session == null || !session.isOwnedBy(memberId, interviewId, questionId)) {
+            log.warn("스트리밍 STT 세션을 찾을 수 없음 - sessionId: {}, memberId: {}", sessionId, memberId);
+            throw new BusinessException(ErrorCode.STT_STREAM_NOT_FOUND);
+        }
+        return session;
+    }
+
+    private void close(SttStreamSession session) {
+        remove(session);
+        session.abort();
+    }
+
+    /**
+     * 세션 목록에서 제거하고 슬롯 반환 (동시에 여러 번 호출되어도 한 번만 반환)
+     */
+    private void remove(SttStreamSession session) {
+        if (sessions.remove(session.getId(), session)) {
+            reservedSessions.decrementAndGet();
+        }
+    }
+
+    private void expireIdleSessions() {
+        long idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sttConfig.getStreamIdleTimeout());
+        sessions.values().forEach(session -> {
+            if (session.idleNanos() > idleTimeoutNanos) {
+                close(session);
+                expiredCounter.increment();
+                log.info("유휴 스트리밍 STT 세션 정리 - sessionId: {}", session.getId());
+            }
+        });
+    }
+
+    /**
+     * STT 서비스 URL(http/https)을 WebSocket URL(ws/wss)로 변환
+     */
+    private URI streamUri(String language) {
+        String baseUrl = sttConfig.getServiceUrl() != null ? sttConfig.getServiceUrl() : "http://localhost:8001";
+        String wsBaseUrl = baseUrl.replaceFirst("^http", "ws").replaceAll("/+$", "");
+        return URI.create(wsBaseUrl + "/ws/transcribe?language="
+                + URLEncoder.encode(language, StandardCharsets.UTF_8));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        reaper.shutdownNow();
+        sessions.values().forEach(this::close);
+    }
+}
@@ -1,38 +1,80 @@
 package com.example.pre_view.domain.stt.service;
 
 import java.io.IOException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.jspecify.annotations.NonNull;
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.http.client.MultipartBodyBuilder;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.example.pre_view.common.batch.MicroBatcher;
 import com.example.pre_view.common.exception.BusinessException;
 import com.example.pre_view.common.exception.ErrorCode;
+import com.example.pre_view.common.resilience.Deadline;
+import com.example.pre_view.common.resilience.DeadlineConfig;
+import com.example.pre_view.common.resilience.DeadlineContext;
+import com.example.pre_view.common.resilience.RetryBudgetConfig;
+import com.example.pre_view.common.resilience.UpstreamFailures;
 import com.example.pre_view.domain.stt.config.SttConfig;
 import com.example.pre_view.domain.stt.dto.SttHealthResponse;
 import com.example.pre_view.domain.stt.dto.TranscriptionResponse;
 
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * STT 서비스
  *
  * Python stt-service와 통신하여 음성 인식 기능을 제공합니다.
+ * 배치가 활성화되면 같은 언어의 동시 전사 요청을 짧게 모아 한 번의 배치 호출로 보냅니다.
+ * 전사 호출은 서킷 브레이커(sttService)와 벌크헤드로 보호되어, STT 서버 장애 시 바로 503으로 응답합니다.
+ * 요청 마감 시각이 있으면 남은 시간 안에서만 전사 결과를 기다립니다.
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class SttService {
 
     private final RestClient sttRestClient;
+    private final HttpClient httpClient;
     private final SttConfig sttConfig;
+    private final AudioPreprocessor audioPreprocessor;
+    private final RetryBudgetConfig retryBudgetConfig;
+    private final DeadlineConfig deadlineConfig;
+    private final MicroBatcher<PreparedAudio, TranscriptionResponse> batcher;
+
+    public SttService(RestClient sttRestClient, SttConfig sttConfig, AudioPreprocessor audioPreprocessor,
+            RetryBudgetConfig retryBudgetConfig, DeadlineConfig deadlineConfig, MeterRegistry meterRegistry) {
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        this.sttRestClient = sttConfig.getTimeout() > 0
+                ? withReadTimeout(sttRestClient, Duration.ofMillis(sttConfig.getTimeout()))
+                : sttRestClient;
+        this.sttConfig = sttConfig;
+        this.audioPreprocessor = audioPreprocessor;
+        this.retryBudgetConfig = retryBudgetConfig;
+        this.deadlineConfig = deadlineConfig;
+        this.batcher = sttConfig.isBatchEnabled()
+                ? new MicroBatcher<>("stt", sttConfig.getBatchMaxSize(), sttConfig.getBatchMaxWait(),
+                        this::transcribeBatch, meterRegistry)
+                : null;
+    }
 
     /**
      * 오디오 파일을 텍스트로 변환
@@ -41,39 +83,37 @@ public class SttService {
      * @param language 언어 코드 (ko, en 등)
      * @return 전사 결과
      */
-    @Retry(name = "sttServiceRetry")
+    @Retry(name = "sttServiceRetry", fallbackMethod = "recoverTranscribe")
+    @CircuitBreaker(name = "sttService")
+    @Bulkhead(name = "sttService")
     public TranscriptionResponse transcribe(@NonNull MultipartFile audioFile, @NonNull String language) {
         log.info("STT 전사 요청 시작 - 파일명: {}, 크기: {} bytes, 언어: {}",
                 audioFile.getOriginalFilename(), audioFile.getSize(), language);
 
-        // 파일 크기 검증
-        validateAudioSize(audioFile);
+        // 요청 마감 시각이 임박했으면 호출하지 않음
+        DeadlineContext.checkRemaining(Duration.ofMillis(deadlineConfig.getMinAttemptTime()));
 
+        // 16kHz mono 변환 및 무음 제거 (디코딩 가능한 형식만)
+        PreparedAudio audio = prepare(audioFile);
+        boolean handedOff = false;
         try {
-            // MultipartBodyBuilder로 multipart/form-data 구성
-            MultipartBodyBuilder builder = new MultipartBodyBuilder();
-            builder.part("file", new ByteArrayResource(audioFile.getBytes()) {
-                @Override
-                public String getFilename() {
-                    return audioFile.getOriginalFilename();
-                }
-            });
-            builder.part("language", language);
-
-            // STT 서비스 호출
-            TranscriptionResponse response = sttRestClient.post()
-                    .uri("/api/transcribe")
-                    .contentType(MediaType.MULTIPART_FORM_DATA)
-                    .body(builder.build())
-                    .retrieve()
-                    .body(TranscriptionResponse.class);
+            // 파일 크기/길이 검증 (원격 호출 전)
+            validateAudioSize(audioFile, audio.size());
+            validateAudioDuration(audio.duration());
 
-            if (response == null) {
-                log.error("STT 서비스 응답이 null입니다.");
-                throw new BusinessException(ErrorCode.STT_SERVICE_ERROR);
+            // STT 서비스 호출 (배치 사용 시 동시 요청과 묶어서 호출)
+            TranscriptionResponse response;
+            if (batcher != null) {
+                CompletableFuture<TranscriptionResponse> future = batcher.submit(language, audio);
+                // 마감 초과로 먼저 반환해도 배치 호출은 임시 파일을 계속 읽으므로, 배치가 끝난 뒤 정리
+                future.whenComplete((result, error) -> audio.close());
+                handedOff = true;
+                response = awaitBatch(future);
+            } else {
+                response = transcribeSingle(audio, language, clientForDeadline());
             }
 
-            // 오디오 길이 검증 (응답 후)
+            // 로컬에서 길이를 알 수 없었던 형식은 응답으로 검증
             validateAudioDuration(response.duration());
 
             log.info("STT 전사 완료 - 텍스트 길이: {}, 신뢰도: {}, 오디오 길이: {}초",
@@ -81,15 +121,132 @@ public class SttService {
 
             return response;
 
-        } catch (IOException e) {
-            log.error("오디오 파일 읽기 실패 - 파일명: {}", audioFile.getOriginalFilename(), e);
-            throw new BusinessException(ErrorCode.FILE_READ_ERROR);
         } catch (BusinessException e) {
             throw e;
         } catch (Exception e) {
             log.error("STT 서비스 호출 실패", e);
             throw new BusinessException(ErrorCode.STT_SERVICE_ERROR);
+        } finally {
+            if (!handedOff) {
+                audio.close();
+            }
+        }
+    }
+
+    /**
+     * transcribe의 Fallback 메서드
+     * 입력 오류는 그대로, 서킷/벌크헤드 거부는 503 + Retry-After로 응답합니다.
+     */
+    public TranscriptionResponse recoverTranscribe(MultipartFile audioFile, String language, Exception e) {
+        if (!UpstreamFailures.isClientError(e)) {
+            log.error("STT 전사 실패 (모든 재시도 실패) - 파일명: {}, error: {}",
+                    audioFile.getOriginalFilename(), e.getMessage());
+        }
+        throw UpstreamFailures.toBusinessException(e, ErrorCode.STT_SERVICE_ERROR, ErrorCode.STT_SERVICE_BUSY,
+                retryBudgetConfig.getRejectedRetryAfterSeconds());
+    }
+
+    /**
+     * 단건 전사 호출
+     */
+    private TranscriptionResponse transcribeSingle(PreparedAudio audio, String language, RestClient client) {
+        // MultipartBodyBuilder로 multipart/form-data 구성
+        // 파일의 InputStream을 요청 본문으로 바로 복사 (getBytes()로 힙에 올리지 않음)
+        MultipartBodyBuilder builder = new MultipartBodyBuilder();
+        builder.part("file", audio.resource())
+                .contentType(audio.contentType());
+        builder.part("language", language);
+
+        TranscriptionResponse response = client.post()
+                .uri("/api/transcribe")
+                .contentType(MediaType.MULTIPART_FORM_DATA)
+                .body(builder.build())
+                .retrieve()
+                .body(TranscriptionResponse.class);
+
+        if (response == null) {
+            log.error("STT 서비스 응답이 null입니다.");
+            throw new BusinessException(ErrorCode.STT_SERVICE_ERROR);
+        }
+        return response;
+    }
+
+    /**
+     * 배치 처리: 1건이면 단건 엔드포인트, 여러 건이면 배치 엔드포인트 호출
+     * 서비스에서 실패한 항목은 null로 표시됩니다.
+     */
+    private List<TranscriptionResponse> transcribeBatch(String language, List<PreparedAudio> audios) {
+        if (audios.size() == 1) {
+            return List.of(transcribeSingle(audios.get(0), language, sttRestClient));
+        }
+
+        MultipartBodyBuilder builder = new MultipartBodyBuilder();
+        audios.forEach(audio -> builder.part("files", audio.resource()).contentType(audio.contentType()));
+        builder.part("language", language);
+
+        BatchTranscriptionResponse response = sttRestClient.post()
+                .uri("/api/transcribe/batch")
+                .contentType(MediaType.MULTIPART_FORM_DATA)
+                .body(builder.build())
+                .retrieve()
+                .body(BatchTranscriptionResponse.class);
+
+        if (response == null || response.results() == null || response.results().size() != audios.size()) {
+            log.error("STT 배치 응답이 요청과 일치하지 않습니다 - size: {}", audios.size());
+            throw new BusinessException(ErrorCode.STT_SERVICE_ERROR);
+        }
+        log.info("STT 배치 전사 완료 - size: {}, 처리 시간: {}초", audios.size(), response.duration());
+
+        List<TranscriptionResponse> results = new ArrayList<>(audios.size());
+        for (int i = 0; i < audios.size(); i++) {
+            BatchTranscriptionItem item = response.results().get(i);
+            if (item == null || item.error() != null || item.text() == null) {
+                log.warn("STT 배치 항목 전사 실패 - index: {}, error: {}", i, item != null ? item.error() : null);
+                results.add(null);
+                continue;
+            }
+            // 로컬에서 길이를 알 수 없었던 형식(webm 등)은 서비스가 디코딩한 길이를 사용
+            Double duration = item.duration() != null ? item.duration() : audios.get(i).duration();
+            results.add(new TranscriptionResponse(item.text(), item.language(), duration, null));
+        }
+        return results;
+    }
+
+    /**
+     * 배치 결과 대기 (요청 마감 시각이 있으면 남은 시간까지만 대기, 배치 호출 자체는 계속 진행)
+     */
+    private TranscriptionResponse awaitBatch(CompletableFuture<TranscriptionResponse> future) throws Exception {
+        TranscriptionResponse response;
+        try {
+            Optional<Deadline> deadline = DeadlineContext.current();
+            response = deadline.isPresent()
+                    ? future.get(deadline.get().remaining().toMillis(), TimeUnit.MILLISECONDS)
+                    : future.get();
+        } catch (TimeoutException e) {
+            log.warn("요청 마감 시각까지 STT 배치 결과를 받지 못함");
+            throw new BusinessException(ErrorCode.REQUEST_DEADLINE_EXCEEDED);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+        if (response == null) {
+            throw new BusinessException(ErrorCode.STT_SERVICE_ERROR);
         }
+        return response;
+    }
+
+    /**
+     * 요청 마감 시각에 맞춘 RestClient (남은 시간이 설정 타임아웃보다 짧을 때만 별도 생성)
+     */
+    private RestClient clientForDeadline() {
+        Duration configured = Duration.ofMillis(sttConfig.getTimeout() > 0 ? sttConfig.getTimeout() : Long.MAX_VALUE);
+        Duration timeout = DeadlineContext.timeoutFor(configured);
+        return timeout.compareTo(configured) < 0 ? withReadTimeout(sttRestClient, timeout) : sttRestClient;
+    }
+
+    private RestClient withReadTimeout(RestClient client, Duration timeout) {
+        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
+        factory.setReadTimeout(Duration.ofMillis(Math.max(1, timeout.toMillis())));
+        return client.mutate().requestFactory(factory).build();
     }
 
     /**
@@ -123,12 +280,41 @@ public class SttService {
     }
 
     /**
-     * 오디오 파일 크기 검증
+     * STT 전송용 오디오 준비 (전처리 실패 시 원본 그대로 전송)
      */
-    private void validateAudioSize(MultipartFile audioFile) {
-        if (audioFile.getSize() > sttConfig.getMaxAudioSize()) {
+    private PreparedAudio prepare(MultipartFile audioFile) {
+        MediaType contentType = resolveContentType(audioFile);
+        try {
+            return audioPreprocessor.prepare(audioFile, contentType);
+        } catch (IOException | RuntimeException e) {
+            log.warn("STT 오디오 전처리 실패, 원본 전송 - 파일명: {}, error: {}",
+                    audioFile.getOriginalFilename(), e.getMessage());
+            return new PreparedAudio(audioFile.getResource(), contentType, audioFile.getSize(), null, null);
+        }
+    }
+
+    /**
+     * 업로드 파일의 Content-Type (없으면 application/octet-stream)
+     */
+    private MediaType resolveContentType(MultipartFile audioFile) {
+        String contentType = audioFile.getContentType();
+        if (contentType == null || contentType.isBlank()) {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+        try {
+            return MediaType.parseMediaType(contentType);
+        } catch (IllegalArgumentException e) {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+    }
+
+    /**
+     * 오디오 파일 크기 검증 (전처리 후 실제 전송 크기 기준)
+     */
+    private void validateAudioSize(MultipartFile audioFile, long size) {
+        if (size > sttConfig.getMaxAudioSize()) {
             log.warn("오디오 파일 크기 초과 - 파일명: {}, 크기: {} bytes, 최대: {} bytes",
-                    audioFile.getOriginalFilename(), audioFile.getSize(), sttConfig.getMaxAudioSize());
+                    audioFile.getOriginalFilename(), size, sttConfig.getMaxAudioSize());
             throw new BusinessException(ErrorCode.STT_AUDIO_TOO_LARGE);
         }
     }
@@ -143,4 +329,17 @@ public class SttService {
             throw new BusinessException(ErrorCode.STT_AUDIO_TOO_LONG);
         }
     }
+
+    @PreDestroy
+    public void shutdown() {
+        if (batcher != null) {
+            batcher.close();
+        }
+    }
+
+    record BatchTranscriptionItem(String text, String language, Double duration, String error) {
+    }
+
+    record BatchTranscriptionResponse(List<BatchTranscriptionItem> results, Double duration) {
+    }
 }
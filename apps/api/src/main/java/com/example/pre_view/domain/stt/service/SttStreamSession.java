@@ -0,0 +1,224 @@
+package com.example.pre_view.domain.stt.service;
+
+import java.net.http.WebSocket;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.example.pre_view.domain.stt.dto.StreamingTranscriptChunk;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * 스트리밍 STT 세션 (STT 서비스 WebSocket 연결 1개)
+ *
+ * 클라이언트가 보낸 PCM 청크를 그대로 STT 서비스로 전달하고,
+ * 서비스가 보내는 부분 전사 결과를 순서대로 누적합니다.
+ * 청크 사이 겹침 구간(overlap) 때문에 반복되는 단어는 이어 붙일 때 제거합니다.
+ */
+@Slf4j
+final class SttStreamSession implements WebSocket.Listener {
+
+    private static final String END_MESSAGE = "{\"type\":\"end\"}";
+
+    // 겹침 구간에서 반복될 수 있는 최대 단어 수 (0.5초 분량)
+    private static final int MAX_OVERLAP_WORDS = 6;
+
+    @Getter
+    private final String id;
+    @Getter
+    private final Long memberId;
+    @Getter
+    private final Long interviewId;
+    @Getter
+    private final Long questionId;
+    @Getter
+    private final String language;
+
+    private final JsonMapper objectMapper;
+    private final ReentrantLock sendLock = new ReentrantLock();
+    private final List<String> words = new ArrayList<>();
+    private final StringBuilder messageBuffer = new StringBuilder();
+    private final CompletableFuture<String> finalTranscript = new CompletableFuture<>();
+
+    private volatile WebSocket webSocket;
+    private volatile long receivedBytes;
+    private volatile long lastActivityNanos = System.nanoTime();
+    private volatile boolean finalReceived;
+
+    SttStreamSession(String id, Long memberId, Long interviewId, Long questionId, String language,
+            JsonMapper objectMapper) {
+        this.id = id;
+        this.memberId = memberId;
+        this.interviewId = interviewId;
+        this.questionId = questionId;
+        this.language = language;
+        this.objectMapper = objectMapper;
+    }
+
+    void attach(WebSocket webSocket) {
+        this.webSocket = webSocket;
+    }
+
+    boolean isOwnedBy(Long memberId, Long interviewId, Long questionId) {
+        return this.memberId.equals(memberId)
+                && this.interviewId.equals(interviewId)
+                && this.questionId.equals(questionId);
+    }
+
+    long receivedBytes() {
+        return receivedBytes;
+    }
+
+    long idleNanos() {
+        return System.nanoTime() - lastActivityNanos;
+    }
+
+    boolean isFinalReceived() {
+        return finalReceived;
+    }
+
+    /**
+     * 오디오 청크 전달 (전송 완료까지 대기, 동시 전송은 순서대로 처리)
+     */
+    void send(byte[] chunk) {
+        sendLock.lock();
+        try {
+            lastActivityNanos = System.nanoTime();
+            webSocket.sendBinary(ByteBuffer.wrap(chunk), true).join();
+            receivedBytes += chunk.length;
+        } finally {
+            sendLock.unlock();
+        }
+    }
+
+    /**
+     * 종료 메시지 전송 후 최종 전사 결과 대기
+     * 제한 시간 안에 최종 결과가 오지 않으면 지금까지 누적된 부분 결과를 반환합니다.
+     *
+     * @param timeoutMillis 최종 결과 대기 시간 (밀리초)
+     * @return 전사 텍스트
+     */
+    String finish(long timeoutMillis) {
+        sendLock.lock();
+        try {
+            webSocket.sendText(END_MESSAGE, true).join();
+        } catch (RuntimeException e) {
+            log.warn("스트리밍 STT 종료 메시지 전송 실패 - sessionId: {}, error: {}", id, e.getMessage());
+        } finally {
+            sendLock.unlock();
+        }
+
+        try {
+            return finalTranscript.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("스트리밍 STT 최종 결과 대기 시간 초과, 부분 결과 사용 - sessionId: {}", id);
+            return partialText();
+        } catch (ExecutionException e) {
+            return partialText();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return partialText();
+        } finally {
+            abort();
+        }
+    }
+
+    void abort() {
+        WebSocket current = webSocket;
+        if (current != null) {
+            current.abort();
+        }
+        finalTranscript.complete(partialText());
+    }
+
+    String partialText() {
+        synchronized (words) {
+            return String.join(" ", words);
+        }
+    }
+
+    @Override
+    public void onOpen(WebSocket webSocket) {
+        webSocket.request(1);
+    }
+
+    @Override
+    public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+        messageBuffer.append(data);
+        if (last) {
+            String message = messageBuffer.toString();
+            messageBuffer.setLength(0);
+            handleMessage(message);
+        }
+        webSocket.request(1);
+        return null;
+    }
+
+    @Override
+    public CompletionStage<?> onClose(WebSocket webSocket, int statusCode, String reason) {
+        finalTranscript.complete(partialText());
+        return null;
+    }
+
+    @Override
+    public void onError(WebSocket webSocket, Throwable error) {
+        log.warn("스트리밍 STT 연결 오류 - sessionId: {}, error: {}", id, error.getMessage());
+        finalTranscript.complete(partialText());
+    }
+
+    private void handleMessage(String message) {
+        StreamingTranscriptChunk chunk;
+        try {
+            chunk = objectMapper.readValue(message, StreamingTranscriptChunk.class);
+        } catch (JacksonException e) {
+            log.warn("스트리밍 STT 메시지 파싱 실패 - sessionId: {}, error: {}", id, e.getMessage());
+            return;
+        }
+
+        if (chunk.error() != null) {
+            log.warn("스트리밍 STT 부분 전사 실패 - sessionId: {}, error: {}", id, chunk.error());
+        } else if (chunk.text() != null) {
+            appendText(chunk.text());
+        }
+
+        if (Boolean.TRUE.equals(chunk.isFinal())) {
+            finalReceived = true;
+            finalTranscript.complete(partialText());
+        }
+    }
+
+    /**
+     * 부분 전사 결과를 이어 붙이며, 이전 결과 끝과 겹치는 단어는 제거
+     */
+    void appendText(String text) {
+        List<String> incoming = Arrays.stream(text.trim().split("\\s+"))
+                .filter(word -> !word.isEmpty())
+                .toList();
+        if (incoming.isEmpty()) {
+            return;
+        }
+
+        synchronized (words) {
+            int overlap = 0;
+            int max = Math.min(MAX_OVERLAP_WORDS, Math.min(words.size(), incoming.size()));
+            for (int size = max; size > 0; size--) {
+                if (words.subList(words.size() - size, words.size()).equals(incoming.subList(0, size))) {
+                    overlap = size;
+                    break;
+                }
+            }
+            words.addAll(incoming.subList(overlap, incoming.size()));
+        }
+    }
+}
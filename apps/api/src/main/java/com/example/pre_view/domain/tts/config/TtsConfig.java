@@ -3,6 +3,8 @@ package com.example.pre_view.domain.tts.config;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import com.example.pre_view.domain.tts.dto.SynthesizeRequest;
+
 import lombok.Getter;
 import lombok.Setter;
 
@@ -34,6 +36,60 @@ public class TtsConfig {
 
     /**
      * 기본 음성 스타일 (기본값: female_calm)
+     * 음성을 지정하지 않은 요청(질문 사전 합성, 클라이언트 요청)은 모두 이 값으로 합성·캐시됩니다.
      */
     private String defaultVoice = "female_calm";
+
+    /**
+     * 합성 음성 캐시 디렉토리 (기본값: {java.io.tmpdir}/pre-view/tts-cache)
+     */
+    private String cacheDir = System.getProperty("java.io.tmpdir") + "/pre-view/tts-cache";
+
+    /**
+     * 합성 음성 캐시 최대 크기 (바이트, 기본값: 512MB), 초과 시 LRU 제거
+     */
+    private long cacheMaxBytes = 512L * 1024 * 1024;
+
+    /**
+     * 템플릿/Fallback 질문 음성 사전 합성 여부 (기본값: true)
+     */
+    private boolean prewarmEnabled = true;
+
+    /**
+     * 음성/템플릿 목록 변경 확인 주기 (밀리초, 기본값: 10분), 변경 시 재합성
+     */
+    private long prewarmCheckInterval = 600000;
+
+    /**
+     * 스트리밍 합성 시 동시에 합성할 최대 문장 수 (기본값: 3)
+     */
+    private int streamParallelism = 3;
+
+    /**
+     * 동시 합성 요청 배치 처리 사용 여부 (TTS 서비스 /api/synthesize/batch 필요)
+     */
+    private boolean batchEnabled = true;
+
+    /**
+     * 배치 1회 최대 요청 수 (기본값: 8)
+     */
+    private int batchMaxSize = 8;
+
+    /**
+     * 배치 수집 최대 대기 시간 (밀리초, 기본값: 20)
+     */
+    private long batchMaxWait = 20;
+
+    /**
+     * 음성을 지정하지 않은 요청에 기본 음성 적용
+     *
+     * 기본 음성은 이 설정에서만 결정합니다. 사전 합성과 클라이언트 요청이 같은 캐시 키를 쓰도록
+     * 요청을 받는 서비스(TtsAudioService, TtsService)가 처리 전에 호출합니다.
+     */
+    public SynthesizeRequest withDefaultVoice(SynthesizeRequest request) {
+        if (request.voice() != null && !request.voice().isBlank()) {
+            return request;
+        }
+        return new SynthesizeRequest(request.text(), defaultVoice, request.speed(), request.format());
+    }
 }
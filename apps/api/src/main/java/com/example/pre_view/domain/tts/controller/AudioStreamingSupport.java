@@ -0,0 +1,143 @@
+package com.example.pre_view.domain.tts.controller;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.NoSuchFileException;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.example.pre_view.common.exception.BusinessException;
+import com.example.pre_view.common.exception.ErrorCode;
+import com.example.pre_view.domain.tts.dto.TtsAudio;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 캐시된 음성 파일 스트리밍 응답 생성
+ *
+ * - ETag: 콘텐츠 주소(캐시 키), If-None-Match 일치 시 304
+ * - Range: 단일 바이트 범위 요청 시 206 (다중 범위는 전체 응답)
+ * - 본문: 파일 채널에서 응답 스트림으로 직접 전송 (힙에 전체를 올리지 않음)
+ * - 조회 후 파일을 열기 전에 캐시 용량 초과로 제거되었으면 resolver로 다시 조회(재합성)하여 한 번 재시도
+ */
+@Slf4j
+public final class AudioStreamingSupport {
+
+    public static final String AUDIO_DURATION_HEADER = "X-Audio-Duration";
+
+    private AudioStreamingSupport() {
+    }
+
+    /**
+     * 음성 파일 응답 생성
+     *
+     * @param audio 조회된 음성
+     * @param resolver 파일이 제거되었을 때 음성을 다시 조회하는 함수 (캐시 미스이면 재합성)
+     * @param requestHeaders 요청 헤더 (If-None-Match, Range, If-Range)
+     * @throws BusinessException 파일을 열 수 없는 경우 (TTS_SERVICE_ERROR)
+     */
+    public static ResponseEntity<StreamingResponseBody> stream(TtsAudio audio, Supplier<TtsAudio> resolver,
+            HttpHeaders requestHeaders) {
+        TtsAudio current = audio;
+        try {
+            try {
+                return respond(current, requestHeaders);
+            } catch (NoSuchFileException e) {
+                log.info("캐시된 음성 파일이 응답 전에 제거되어 다시 조회 - key: {}", current.key());
+                current = resolver.get();
+                return respond(current, requestHeaders);
+            }
+        } catch (IOException e) {
+            log.error("캐시된 음성 파일 열기 실패 - key: {}, error: {}", current.key(), e.getMessage());
+            throw new BusinessException(ErrorCode.TTS_SERVICE_ERROR);
+        }
+    }
+
+    private static ResponseEntity<StreamingResponseBody> respond(TtsAudio audio, HttpHeaders requestHeaders)
+            throws IOException {
+        String etag = "\"" + audio.key() + "\"";
+        long length = audio.size();
+
+        String ifNoneMatch = requestHeaders.getFirst(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && (ifNoneMatch.trim().equals("*") || ifNoneMatch.contains(etag))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        long start = 0;
+        long end = length - 1;
+        boolean partial = false;
+
+        // If-Range가 현재 ETag와 다르면 Range를 무시하고 전체 응답
+        String rangeHeader = requestHeaders.getFirst(HttpHeaders.RANGE);
+        String ifRange = requestHeaders.getFirst(HttpHeaders.IF_RANGE);
+        if (rangeHeader != null && (ifRange == null || ifRange.equals(etag))) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(rangeHeader);
+            } catch (IllegalArgumentException e) {
+                ranges = List.of();
+            }
+
+            if (ranges.size() == 1) {
+                HttpRange range = ranges.get(0);
+                start = range.getRangeStart(length);
+                end = Math.min(range.getRangeEnd(length), length - 1);
+                if (start >= length || start > end) {
+                    return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                            .header(HttpHeaders.CONTENT_RANGE, "bytes */" + length)
+                            .build();
+                }
+                partial = true;
+            }
+        }
+
+        // 응답 작성 전에 파일을 열어 두어, 이후 캐시 제거가 일어나도 끝까지 전송
+        FileChannel channel = FileChannel.open(audio.path());
+
+        long position = start;
+        long count = end - start + 1;
+        StreamingResponseBody body = outputStream -> {
+            try (FileChannel source = channel) {
+                WritableByteChannel target = Channels.newChannel(outputStream);
+                long transferred = 0;
+                while (transferred < count) {
+                    long written = source.transferTo(position + transferred, count - transferred, target);
+                    if (written <= 0) {
+                        break;
+                    }
+                    transferred += written;
+                }
+                outputStream.flush();
+            }
+        };
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(partial ? HttpStatus.PARTIAL_CONTENT : HttpStatus.OK)
+                .contentType(mediaTypeOf(audio.format()))
+                .contentLength(count)
+                .eTag(etag)
+                .cacheControl(CacheControl.maxAge(Duration.ofDays(1)).cachePrivate())
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (partial) {
+            builder.header(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+        if (audio.duration() != null) {
+            builder.header(AUDIO_DURATION_HEADER, String.valueOf(audio.duration()));
+        }
+        return builder.body(body);
+    }
+
+    public static MediaType mediaTypeOf(String format) {
+        return "mp3".equals(format) ? MediaType.parseMediaType("audio/mpeg") : MediaType.parseMediaType("audio/wav");
+    }
+}
@@ -3,20 +3,24 @@ package com.example.pre_view.domain.tts.controller;
 import java.util.List;
 
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.example.pre_view.common.dto.ApiResponse;
 import com.example.pre_view.domain.tts.dto.SynthesizeRequest;
 import com.example.pre_view.domain.tts.dto.SynthesizeResponse;
+import com.example.pre_view.domain.tts.dto.TtsAudio;
 import com.example.pre_view.domain.tts.dto.TtsHealthResponse;
 import com.example.pre_view.domain.tts.dto.VoiceInfo;
+import com.example.pre_view.domain.tts.service.TtsAudioService;
 import com.example.pre_view.domain.tts.service.TtsService;
+import com.example.pre_view.domain.tts.service.TtsStreamingService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -37,6 +41,8 @@ import lombok.extern.slf4j.Slf4j;
 public class TtsController {
 
     private final TtsService ttsService;
+    private final TtsAudioService ttsAudioService;
+    private final TtsStreamingService ttsStreamingService;
 
     @PostMapping("/synthesize")
     @Operation(summary = "음성 합성 (Base64)", description = "텍스트를 음성으로 변환하고 Base64로 인코딩하여 반환합니다.")
@@ -53,26 +59,35 @@ public class TtsController {
     }
 
     @PostMapping("/synthesize/binary")
-    @Operation(summary = "음성 합성 (바이너리)", description = "텍스트를 음성으로 변환하고 바이너리로 반환합니다.")
-    public ResponseEntity<byte[]> synthesizeBinary(
-            @Valid @RequestBody SynthesizeRequest request
+    @Operation(summary = "음성 합성 (바이너리)",
+            description = "텍스트를 음성으로 변환하고 바이너리로 스트리밍합니다. Range 요청과 ETag(If-None-Match)를 지원합니다.")
+    public ResponseEntity<StreamingResponseBody> synthesizeBinary(
+            @Valid @RequestBody SynthesizeRequest request,
+            @RequestHeader HttpHeaders headers
     ) {
         log.info("바이너리 음성 합성 API 호출 - text length: {}, voice: {}, format: {}",
                 request.text().length(), request.voice(), request.format());
 
-        byte[] audioData = ttsService.synthesizeBinary(request);
+        TtsAudio audio = ttsAudioService.getOrSynthesize(request);
 
-        // Content-Type 설정 (wav 또는 mp3)
-        String contentType = "wav".equals(request.format())
-                ? "audio/wav"
-                : "audio/mpeg";
+        log.info("바이너리 음성 합성 완료 - size: {} bytes, format: {}", audio.size(), audio.format());
+        return AudioStreamingSupport.stream(audio, () -> ttsAudioService.getOrSynthesize(request), headers);
+    }
 
-        log.info("바이너리 음성 합성 완료 - size: {} bytes, format: {}", audioData.length, request.format());
+    @PostMapping("/synthesize/stream")
+    @Operation(summary = "음성 합성 (문장 단위 스트리밍)",
+            description = "텍스트를 문장 단위로 합성하며 순서대로 스트리밍합니다. 첫 문장이 준비되는 즉시 재생할 수 있습니다.")
+    public ResponseEntity<StreamingResponseBody> synthesizeStream(
+            @Valid @RequestBody SynthesizeRequest request
+    ) {
+        log.info("스트리밍 음성 합성 API 호출 - text length: {}, voice: {}, format: {}",
+                request.text().length(), request.voice(), request.format());
+        ttsStreamingService.validate(request);
 
+        StreamingResponseBody body = outputStream -> ttsStreamingService.stream(request, outputStream);
         return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_TYPE, contentType)
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"speech." + request.format() + "\"")
-                .body(audioData);
+                .contentType(AudioStreamingSupport.mediaTypeOf(request.format()))
+                .body(body);
     }
 
     @GetMapping("/voices")
@@ -19,7 +19,7 @@ public record SynthesizeRequest(
         @Schema(description = "합성할 텍스트", example = "안녕하세요. 면접에 오신 것을 환영합니다.")
         String text,
 
-        @Schema(description = "음성 스타일 (female_calm, male_professional 등)", example = "female_calm", defaultValue = "female_calm")
+        @Schema(description = "음성 스타일 (female_calm, male_professional 등, 생략 시 서버 기본 음성)", example = "female_calm")
         String voice,
 
         @DecimalMin(value = "0.5", message = "속도는 0.5 이상이어야 합니다.")
@@ -33,11 +33,9 @@ public record SynthesizeRequest(
 ) {
     /**
      * 기본값이 적용된 생성자
+     * 음성은 비워 두면 TtsConfig.withDefaultVoice로 서버 기본 음성(tts.default-voice)이 적용됩니다.
      */
     public SynthesizeRequest {
-        if (voice == null || voice.isBlank()) {
-            voice = "female_calm";
-        }
         if (speed == null) {
             speed = 1.0;
         }
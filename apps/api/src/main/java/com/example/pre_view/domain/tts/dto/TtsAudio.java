@@ -0,0 +1,23 @@
+package com.example.pre_view.domain.tts.dto;
+
+import java.nio.file.Path;
+
+/**
+ * 디스크에 저장된 합성 음성
+ *
+ * @param key 콘텐츠 주소 (SHA-256(text, voice, speed, format))
+ * @param path 음성 파일 경로
+ * @param size 파일 크기 (바이트)
+ * @param format 오디오 포맷 (wav 또는 mp3)
+ * @param duration 오디오 길이 (초, 알 수 없으면 null)
+ * @param sampleRate 샘플레이트 (Hz, 알 수 없으면 null)
+ */
+public record TtsAudio(
+        String key,
+        Path path,
+        long size,
+        String format,
+        Double duration,
+        Integer sampleRate
+) {
+}
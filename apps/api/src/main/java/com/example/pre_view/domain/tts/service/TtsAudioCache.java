@@ -0,0 +1,292 @@
+package com.example.pre_view.domain.tts.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+
+import com.example.pre_view.domain.tts.config.TtsConfig;
+import com.example.pre_view.domain.tts.dto.SynthesizeRequest;
+import com.example.pre_view.domain.tts.dto.TtsAudio;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 합성 음성 디스크 캐시 (콘텐츠 주소 방식)
+ *
+ * 질문 텍스트는 저장 후 바뀌지 않으므로 (text, voice, speed, format)의 해시를 키로
+ * 합성 결과를 파일로 보관하고, 같은 요청은 TTS 서비스 호출 없이 파일을 그대로 제공합니다.
+ *
+ * 저장 구조:
+ * - {cacheDir}/{key}.{format}: 오디오 바이너리
+ * - {cacheDir}/{key}.meta: 포맷, 길이, 샘플레이트 (재시작 시 인덱스 복구용)
+ *
+ * 메모리에는 LRU 인덱스만 두고, 총 크기가 상한을 넘으면 가장 오래 사용되지 않은 파일부터 삭제합니다.
+ * 고정(pin)된 키는 사전 합성된 템플릿 음성이므로 LRU 제거 대상에서 제외합니다.
+ */
+@Slf4j
+@Component
+public class TtsAudioCache {
+
+    private static final String META_EXTENSION = ".meta";
+
+    private final Path cacheDir;
+    private final long maxBytes;
+
+    // accessOrder=true: get 시 최근 사용 순으로 재정렬 (LRU)
+    private final LinkedHashMap<String, TtsAudio> index = new LinkedHashMap<>(64, 0.75f, true);
+    private long totalBytes;
+    private volatile Set<String> pinnedKeys = Set.of();
+
+    // 메트릭
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+
+    public TtsAudioCache(TtsConfig ttsConfig, MeterRegistry meterRegistry) {
+        this.cacheDir = Path.of(ttsConfig.getCacheDir());
+        this.maxBytes = ttsConfig.getCacheMaxBytes();
+
+        this.hitCounter = Counter.builder("tts.cache.hit")
+                .description("TTS 음성 캐시 적중 횟수")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("tts.cache.miss")
+                .description("TTS 음성 캐시 미스 횟수")
+                .register(meterRegistry);
+        this.evictionCounter = Counter.builder("tts.cache.eviction")
+                .description("용량 초과로 제거된 TTS 음성 파일 수")
+                .register(meterRegistry);
+        Gauge.builder("tts.cache.size.bytes", this, cache -> cache.totalBytes)
+                .description("TTS 음성 캐시 총 크기")
+                .register(meterRegistry);
+
+        loadIndex();
+    }
+
+    /**
+     * 합성 요청의 콘텐츠 주소 계산
+     */
+    public static String keyOf(SynthesizeRequest request) {
+        String source = String.join("\u0000",
+                request.text(), request.voice(), String.valueOf(request.speed()), request.format());
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(source.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * LRU 제거 대상에서 제외할 키 지정 (기존 고정 키 목록을 대체)
+     */
+    public void pin(Set<String> keys) {
+        this.pinnedKeys = Set.copyOf(keys);
+    }
+
+    /**
+     * 캐시 조회
+     */
+    public Optional<TtsAudio> get(String key) {
+        TtsAudio audio;
+        synchronized (index) {
+            audio = index.get(key);
+        }
+
+        if (audio == null) {
+            missCounter.increment();
+            return Optional.empty();
+        }
+        if (!Files.exists(audio.path())) {
+            // 외부에서 파일이 삭제된 경우 인덱스에서도 제거
+            remove(key);
+            missCounter.increment();
+            return Optional.empty();
+        }
+
+        hitCounter.increment();
+        return Optional.of(audio);
+    }
+
+    /**
+     * 합성 결과 저장 (임시 파일에 쓴 뒤 원자적으로 이동)
+     */
+    public TtsAudio put(String key, String format, byte[] audioData, Double duration, Integer sampleRate) {
+        return put(key, format, out -> out.write(audioData), duration, sampleRate);
+    }
+
+    /**
+     * 합성 결과 저장 (스트림에서 바로 파일로 복사, 힙에 전체를 올리지 않음)
+     */
+    public TtsAudio put(String key, String format, InputStream audioStream, Double duration, Integer sampleRate) {
+        return put(key, format, audioStream::transferTo, duration, sampleRate);
+    }
+
+    private TtsAudio put(String key, String format, AudioWriter writer, Double duration, Integer sampleRate) {
+        Path target = cacheDir.resolve(key + "." + format);
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(cacheDir, key, ".tmp");
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                writer.write(out);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            // 바이너리 응답에는 길이/샘플레이트가 없으므로 WAV 헤더에서 계산
+            if ("wav".equals(format) && (duration == null || sampleRate == null)) {
+                Optional<WavHeader> wavHeader = WavHeader.read(target);
+                if (wavHeader.isPresent()) {
+                    duration = duration != null ? duration : wavHeader.get().duration();
+                    sampleRate = sampleRate != null ? sampleRate : wavHeader.get().sampleRate();
+                }
+            }
+            writeMeta(key, format, duration, sampleRate);
+
+            TtsAudio audio = new TtsAudio(key, target, Files.size(target), format, duration, sampleRate);
+            register(audio);
+            log.debug("TTS 음성 캐시 저장 - key: {}, size: {} bytes", key, audio.size());
+            return audio;
+        } catch (IOException e) {
+            throw new UncheckedIOException("TTS 음성 캐시 저장 실패 - key: " + key, e);
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                    // 이동 완료 후에는 임시 파일이 없으므로 무시
+                }
+            }
+        }
+    }
+
+    private void register(TtsAudio audio) {
+        List<TtsAudio> evicted = new ArrayList<>();
+        synchronized (index) {
+            TtsAudio previous = index.put(audio.key(), audio);
+            if (previous != null) {
+                totalBytes -= previous.size();
+            }
+            totalBytes += audio.size();
+
+            Iterator<Map.Entry<String, TtsAudio>> iterator = index.entrySet().iterator();
+            while (totalBytes > maxBytes && iterator.hasNext()) {
+                TtsAudio eldest = iterator.next().getValue();
+                if (eldest.key().equals(audio.key()) || pinnedKeys.contains(eldest.key())) {
+                    continue;
+                }
+                iterator.remove();
+                totalBytes -= eldest.size();
+                evicted.add(eldest);
+            }
+        }
+
+        // 파일 삭제는 락 밖에서 수행 (스트리밍 중인 파일은 열린 핸들로 계속 읽힘)
+        evicted.forEach(this::deleteFiles);
+        if (!evicted.isEmpty()) {
+            evictionCounter.increment(evicted.size());
+            log.info("TTS 음성 캐시 용량 초과로 {}개 제거 - 현재 크기: {} bytes", evicted.size(), totalBytes);
+        }
+    }
+
+    private void remove(String key) {
+        TtsAudio removed;
+        synchronized (index) {
+            removed = index.remove(key);
+            if (removed != null) {
+                totalBytes -= removed.size();
+            }
+        }
+        if (removed != null) {
+            deleteFiles(removed);
+        }
+    }
+
+    private void writeMeta(String key, String format, Double duration, Integer sampleRate) throws IOException {
+        Properties meta = new Properties();
+        meta.setProperty("format", format);
+        if (duration != null) {
+            meta.setProperty("duration", String.valueOf(duration));
+        }
+        if (sampleRate != null) {
+            meta.setProperty("sampleRate", String.valueOf(sampleRate));
+        }
+        try (OutputStream out = Files.newOutputStream(cacheDir.resolve(key + META_EXTENSION))) {
+            meta.store(out, null);
+        }
+    }
+
+    private void deleteFiles(TtsAudio audio) {
+        try {
+            Files.deleteIfExists(audio.path());
+            Files.deleteIfExists(cacheDir.resolve(audio.key() + META_EXTENSION));
+        } catch (IOException e) {
+            log.warn("TTS 음성 캐시 파일 삭제 실패 - key: {}, error: {}", audio.key(), e.getMessage());
+        }
+    }
+
+    /**
+     * 재시작 시 디스크의 캐시 파일로 인덱스 복구 (수정 시각 순으로 LRU 순서 근사)
+     */
+    private void loadIndex() {
+        try {
+            Files.createDirectories(cacheDir);
+            List<Path> metaFiles;
+            try (Stream<Path> files = Files.list(cacheDir)) {
+                metaFiles = files.filter(path -> path.toString().endsWith(META_EXTENSION))
+                        .sorted((a, b) -> Long.compare(a.toFile().lastModified(), b.toFile().lastModified()))
+                        .toList();
+            }
+
+            for (Path metaFile : metaFiles) {
+                String fileName = metaFile.getFileName().toString();
+                String key = fileName.substring(0, fileName.length() - META_EXTENSION.length());
+                Properties meta = new Properties();
+                try (InputStream in = Files.newInputStream(metaFile)) {
+                    meta.load(in);
+                }
+
+                String format = meta.getProperty("format");
+                Path audioPath = cacheDir.resolve(key + "." + format);
+                if (format == null || !Files.exists(audioPath)) {
+                    Files.deleteIfExists(metaFile);
+                    continue;
+                }
+
+                String duration = meta.getProperty("duration");
+                String sampleRate = meta.getProperty("sampleRate");
+                register(new TtsAudio(key, audioPath, Files.size(audioPath), format,
+                        duration != null ? Double.valueOf(duration) : null,
+                        sampleRate != null ? Integer.valueOf(sampleRate) : null));
+            }
+            log.info("TTS 음성 캐시 로드 완료 - dir: {}, count: {}, size: {} bytes", cacheDir, index.size(), totalBytes);
+        } catch (IOException e) {
+            log.warn("TTS 음성 캐시 인덱스 로드 실패 - dir: {}, error: {}", cacheDir, e.getMessage());
+        }
+    }
+
+    @FunctionalInterface
+    private interface AudioWriter {
+        void write(OutputStream out) throws IOException;
+    }
+}
@@ -0,0 +1,231 @@
+package com.example.pre_view.domain.tts.service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.stereotype.Service;
+
+import com.example.pre_view.common.batch.MicroBatcher;
+import com.example.pre_view.common.exception.BusinessException;
+import com.example.pre_view.common.exception.ErrorCode;
+import com.example.pre_view.domain.tts.config.TtsConfig;
+import com.example.pre_view.domain.tts.dto.SynthesizeRequest;
+import com.example.pre_view.domain.tts.dto.TtsAudio;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 캐시 우선 TTS 음성 제공 서비스
+ *
+ * 캐시에 있으면 TTS 서비스를 호출하지 않고 저장된 파일을 반환하고,
+ * 없으면 합성 후 캐시에 저장합니다.
+ *
+ * 같은 키의 합성이 이미 진행 중이면 새로 합성하지 않고 진행 중인 작업에 합류합니다.
+ * 질문 저장 시점에 prefetch로 미리 합성을 시작해 두면, 클라이언트의 음성 요청은
+ * 캐시 적중 또는 진행 중 작업 합류로 처리됩니다.
+ *
+ * 배치가 활성화되면 서로 다른 키의 동시 합성 요청을 짧게 모아 TTS 서비스에
+ * 한 번의 배치 호출로 보냅니다 (GPU 배치 추론).
+ */
+@Slf4j
+@Service
+public class TtsAudioService {
+
+    private final TtsService ttsService;
+    private final TtsAudioCache ttsAudioCache;
+    private final TtsConfig ttsConfig;
+
+    private static final String BATCH_KEY = "synthesize";
+
+    // 키별 진행 중인 합성 작업
+    private final ConcurrentHashMap<String, CompletableFuture<TtsAudio>> inFlight = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final MicroBatcher<SynthesizeRequest, TtsAudio> batcher;
+
+    // 메트릭
+    private final Counter joinedCounter;
+
+    public TtsAudioService(TtsService ttsService, TtsAudioCache ttsAudioCache, TtsConfig ttsConfig,
+            MeterRegistry meterRegistry) {
+        this.ttsService = ttsService;
+        this.ttsAudioCache = ttsAudioCache;
+        this.ttsConfig = ttsConfig;
+
+        this.joinedCounter = Counter.builder("tts.inflight.joined")
+                .description("진행 중인 합성 작업에 합류한 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("tts.inflight.size", inFlight, ConcurrentHashMap::size)
+                .description("진행 중인 TTS 합성 작업 수")
+                .register(meterRegistry);
+
+        this.batcher = ttsConfig.isBatchEnabled()
+                ? new MicroBatcher<>("tts", ttsConfig.getBatchMaxSize(), ttsConfig.getBatchMaxWait(),
+                        this::synthesizeBatch, meterRegistry)
+                : null;
+    }
+
+    /**
+     * 캐시된 음성 조회, 없으면 합성 후 저장 (진행 중인 작업이 있으면 합류)
+     *
+     * @param request 음성 합성 요청
+     * @return 캐시에 저장된 음성 파일 정보
+     */
+    public TtsAudio getOrSynthesize(SynthesizeRequest request) {
+        return await(getOrSynthesizeAsync(request));
+    }
+
+    /**
+     * 캐시를 조회하지 않고 다시 합성해 캐시 파일을 교체 (관리자 강제 재합성용)
+     *
+     * 교체 전까지는 기존 캐시 파일이 그대로 제공되며, 같은 키의 합성이 이미 진행 중이면 합류합니다.
+     *
+     * @param request 음성 합성 요청
+     * @return 새로 저장된 음성 파일 정보
+     */
+    public TtsAudio resynthesize(SynthesizeRequest request) {
+        SynthesizeRequest resolved = ttsConfig.withDefaultVoice(request);
+        return await(synthesizeAsync(TtsAudioCache.keyOf(resolved), resolved));
+    }
+
+    /**
+     * 기본 음성으로 비동기 합성 시작 (질문 저장 직후 호출)
+     *
+     * @param text 질문 텍스트
+     */
+    public void prefetch(String text) {
+        getOrSynthesizeAsync(new SynthesizeRequest(text)).whenComplete((audio, e) -> {
+            if (e != null) {
+                log.warn("TTS 사전 합성 실패 - text length: {}, error: {}", text.length(), e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 캐시된 음성 조회 또는 비동기 합성 시작 (진행 중인 작업이 있으면 합류)
+     *
+     * @param request 음성 합성 요청 (음성을 지정하지 않으면 기본 음성)
+     * @return 캐시에 저장될 음성 파일 정보
+     */
+    public CompletableFuture<TtsAudio> getOrSynthesizeAsync(SynthesizeRequest request) {
+        SynthesizeRequest resolved = ttsConfig.withDefaultVoice(request);
+        String key = TtsAudioCache.keyOf(resolved);
+
+        Optional<TtsAudio> cached = ttsAudioCache.get(key);
+        if (cached.isPresent()) {
+            log.debug("TTS 음성 캐시 적중 - key: {}", key);
+            return CompletableFuture.completedFuture(cached.get());
+        }
+        return synthesizeAsync(key, resolved);
+    }
+
+    /**
+     * 비동기 합성 시작 (같은 키의 작업이 진행 중이면 합류)
+     */
+    private CompletableFuture<TtsAudio> synthesizeAsync(String key, SynthesizeRequest resolved) {
+        CompletableFuture<TtsAudio> created = new CompletableFuture<>();
+        CompletableFuture<TtsAudio> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            joinedCounter.increment();
+            log.debug("진행 중인 TTS 합성에 합류 - key: {}", key);
+            return existing;
+        }
+
+        if (batcher != null) {
+            submitBatch(key, resolved, created);
+            return created;
+        }
+
+        executor.execute(() -> {
+            try {
+                created.complete(synthesizeAndStore(key, resolved));
+            } catch (Throwable e) {
+                created.completeExceptionally(e);
+            } finally {
+                // 캐시 저장 이후에 제거하므로, 이후 요청은 캐시에서 조회됨
+                inFlight.remove(key, created);
+            }
+        });
+        return created;
+    }
+
+    /**
+     * 배치에 합성 요청 등록 (배치 처리 중 캐시에 저장된 뒤 완료)
+     */
+    private void submitBatch(String key, SynthesizeRequest request, CompletableFuture<TtsAudio> created) {
+        // 한 항목 때문에 배치 전체가 실패하지 않도록 길이는 미리 검증
+        if (request.text().length() > ttsConfig.getMaxTextLength()) {
+            log.warn("TTS 텍스트 길이 초과 - length: {}, max: {}",
+                    request.text().length(), ttsConfig.getMaxTextLength());
+            inFlight.remove(key, created);
+            created.completeExceptionally(new BusinessException(ErrorCode.TTS_TEXT_TOO_LONG));
+            return;
+        }
+
+        batcher.submit(BATCH_KEY, request).whenComplete((audio, e) -> {
+            if (e != null) {
+                created.completeExceptionally(e);
+            } else if (audio == null) {
+                log.error("TTS 배치 항목 합성 실패 - key: {}", key);
+                created.completeExceptionally(new BusinessException(ErrorCode.TTS_SERVICE_ERROR));
+            } else {
+                created.complete(audio);
+            }
+            inFlight.remove(key, created);
+        });
+    }
+
+    /**
+     * 배치 처리: 1건이면 단건 엔드포인트, 여러 건이면 배치 엔드포인트 호출
+     */
+    private List<TtsAudio> synthesizeBatch(String batchKey, List<SynthesizeRequest> requests) {
+        if (requests.size() == 1) {
+            SynthesizeRequest request = requests.get(0);
+            return List.of(synthesizeAndStore(TtsAudioCache.keyOf(request), request));
+        }
+
+        List<TtsService.AudioSink> sinks = requests.stream()
+                .map(request -> (TtsService.AudioSink) stream -> ttsAudioCache.put(
+                        TtsAudioCache.keyOf(request), request.format(), stream, null, null))
+                .toList();
+        return ttsService.synthesizeBatch(requests, sinks);
+    }
+
+    private TtsAudio synthesizeAndStore(String key, SynthesizeRequest request) {
+        // 응답 본문을 캐시 파일로 바로 복사 (Base64/힙 전체 복사 없음)
+        TtsAudio audio = ttsService.synthesizeBinary(request,
+                stream -> ttsAudioCache.put(key, request.format(), stream, null, null));
+        if (audio == null) {
+            log.error("TTS 음성 합성 응답이 비어 있음 - key: {}", key);
+            throw new BusinessException(ErrorCode.TTS_SERVICE_ERROR);
+        }
+        return audio;
+    }
+
+    private TtsAudio await(CompletableFuture<TtsAudio> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new BusinessException(ErrorCode.TTS_SERVICE_ERROR);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        if (batcher != null) {
+            batcher.close();
+        }
+    }
+}
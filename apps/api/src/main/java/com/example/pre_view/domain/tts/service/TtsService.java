@@ -1,21 +1,30 @@
 package com.example.pre_view.domain.tts.service;
 
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.Duration;
-import java.util.Base64;
+import java.util.ArrayList;
 import java.util.List;
 
-import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClient;
 
 import com.example.pre_view.common.exception.BusinessException;
 import com.example.pre_view.common.exception.ErrorCode;
+import com.example.pre_view.common.resilience.RetryBudgetConfig;
+import com.example.pre_view.common.resilience.UpstreamFailures;
 import com.example.pre_view.domain.tts.config.TtsConfig;
 import com.example.pre_view.domain.tts.dto.SynthesizeRequest;
 import com.example.pre_view.domain.tts.dto.SynthesizeResponse;
+import com.example.pre_view.domain.tts.dto.TtsAudio;
 import com.example.pre_view.domain.tts.dto.TtsHealthResponse;
 import com.example.pre_view.domain.tts.dto.VoiceInfo;
 
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -26,12 +35,15 @@ import lombok.extern.slf4j.Slf4j;
  * TTS 서비스
  *
  * Python TTS 서비스(tts-service:8002)와 통신하여 텍스트를 음성으로 변환합니다.
+ * 합성 호출은 서킷 브레이커(ttsService)와 벌크헤드로 보호되어, TTS 서버가 느려져도
+ * 다른 AI 경로와 공유하는 요청 처리 용량을 모두 점유하지 않습니다.
  */
 @Slf4j
 @Service
 public class TtsService {
 
     private final TtsConfig ttsConfig;
+    private final RetryBudgetConfig retryBudgetConfig;
     private final RestClient restClient;
 
     // 메트릭
@@ -39,8 +51,9 @@ public class TtsService {
     private final Counter ttsCallSuccessCounter;
     private final Counter ttsCallFailureCounter;
 
-    public TtsService(TtsConfig ttsConfig, MeterRegistry meterRegistry) {
+    public TtsService(TtsConfig ttsConfig, RetryBudgetConfig retryBudgetConfig, MeterRegistry meterRegistry) {
         this.ttsConfig = ttsConfig;
+        this.retryBudgetConfig = retryBudgetConfig;
         this.restClient = RestClient.builder()
                 .baseUrl(ttsConfig.getServiceUrl())
                 .build();
@@ -64,14 +77,17 @@ public class TtsService {
      * @return Base64 인코딩된 오디오 데이터
      */
     @Retry(name = "ttsServiceRetry", fallbackMethod = "recoverSynthesize")
+    @CircuitBreaker(name = "ttsService")
+    @Bulkhead(name = "ttsService")
     public SynthesizeResponse synthesize(SynthesizeRequest request) {
+        SynthesizeRequest resolved = ttsConfig.withDefaultVoice(request);
         log.debug("TTS 음성 합성 시작 - text length: {}, voice: {}, speed: {}, format: {}",
-                request.text().length(), request.voice(), request.speed(), request.format());
+                resolved.text().length(), resolved.voice(), resolved.speed(), resolved.format());
 
         // 텍스트 길이 검증
-        if (request.text().length() > ttsConfig.getMaxTextLength()) {
+        if (resolved.text().length() > ttsConfig.getMaxTextLength()) {
             log.warn("TTS 텍스트 길이 초과 - length: {}, max: {}",
-                    request.text().length(), ttsConfig.getMaxTextLength());
+                    resolved.text().length(), ttsConfig.getMaxTextLength());
             throw new BusinessException(ErrorCode.TTS_TEXT_TOO_LONG);
         }
 
@@ -79,7 +95,7 @@ public class TtsService {
             try {
                 SynthesizeResponse response = restClient.post()
                         .uri("/api/synthesize")
-                        .body(request)
+                        .body(resolved)
                         .retrieve()
                         .body(SynthesizeResponse.class);
 
@@ -88,7 +104,7 @@ public class TtsService {
                         response.duration(), response.format(), response.sampleRate());
                 return response;
             } catch (Exception e) {
-                log.error("TTS 음성 합성 실패 - voice: {}, error: {}", request.voice(), e.getMessage(), e);
+                log.error("TTS 음성 합성 실패 - voice: {}, error: {}", resolved.voice(), e.getMessage(), e);
                 ttsCallFailureCounter.increment();
                 throw new BusinessException(ErrorCode.TTS_SERVICE_ERROR);
             }
@@ -97,22 +113,28 @@ public class TtsService {
 
     /**
      * synthesize의 Fallback 메서드
-     * 모든 재시도 실패 시 호출됨
+     * 모든 재시도 실패 또는 서킷/벌크헤드 거부 시 호출됨
      */
     public SynthesizeResponse recoverSynthesize(SynthesizeRequest request, Exception e) {
         log.error("TTS 음성 합성 실패 (모든 재시도 실패) - text length: {}", request.text().length(), e);
         ttsCallFailureCounter.increment();
-        throw new BusinessException(ErrorCode.TTS_SERVICE_ERROR);
+        throw toFailure(e);
     }
 
     /**
-     * 텍스트를 음성으로 변환 (바이너리 응답)
+     * 텍스트를 음성으로 변환 (바이너리 스트림 응답)
+     *
+     * TTS 서비스의 바이너리 엔드포인트 응답 본문을 그대로 sink에 넘겨,
+     * Base64 인코딩이나 힙 전체 복사 없이 저장할 수 있도록 합니다.
      *
      * @param request 음성 합성 요청
-     * @return 바이너리 오디오 데이터
+     * @param sink 오디오 스트림 저장 처리
+     * @return sink가 저장한 음성 파일 정보
      */
     @Retry(name = "ttsServiceRetry", fallbackMethod = "recoverSynthesizeBinary")
-    public byte[] synthesizeBinary(SynthesizeRequest request) {
+    @CircuitBreaker(name = "ttsService")
+    @Bulkhead(name = "ttsService")
+    public TtsAudio synthesizeBinary(SynthesizeRequest request, AudioSink sink) {
         log.debug("TTS 바이너리 음성 합성 시작 - text length: {}, voice: {}",
                 request.text().length(), request.voice());
 
@@ -125,14 +147,19 @@ public class TtsService {
 
         return synthesizeTimer.record(() -> {
             try {
-                // Base64 응답을 받아서 디코딩
-                SynthesizeResponse response = synthesize(request);
-                byte[] audioBytes = Base64.getDecoder().decode(response.audioData());
-
-                log.info("TTS 바이너리 음성 합성 완료 - size: {} bytes", audioBytes.length);
-                return audioBytes;
-            } catch (BusinessException e) {
-                throw e; // 이미 처리된 예외는 그대로 전파
+                TtsAudio audio = restClient.post()
+                        .uri("/api/synthesize/binary")
+                        .body(request)
+                        .exchange((clientRequest, clientResponse) -> {
+                            if (clientResponse.getStatusCode().isError()) {
+                                throw new IllegalStateException("TTS 서비스 응답 오류: " + clientResponse.getStatusCode());
+                            }
+                            return sink.write(clientResponse.getBody());
+                        });
+
+                ttsCallSuccessCounter.increment();
+                log.info("TTS 바이너리 음성 합성 완료 - size: {} bytes, format: {}", audio.size(), audio.format());
+                return audio;
             } catch (Exception e) {
                 log.error("TTS 바이너리 음성 합성 실패 - error: {}", e.getMessage(), e);
                 ttsCallFailureCounter.increment();
@@ -144,10 +171,80 @@ public class TtsService {
     /**
      * synthesizeBinary의 Fallback 메서드
      */
-    public byte[] recoverSynthesizeBinary(SynthesizeRequest request, Exception e) {
+    public TtsAudio recoverSynthesizeBinary(SynthesizeRequest request, AudioSink sink, Exception e) {
         log.error("TTS 바이너리 음성 합성 실패 (모든 재시도 실패) - text length: {}", request.text().length(), e);
         ttsCallFailureCounter.increment();
-        throw new BusinessException(ErrorCode.TTS_SERVICE_ERROR);
+        throw toFailure(e);
+    }
+
+    /**
+     * 여러 텍스트를 한 번의 배치 호출로 음성 변환 (바이너리 스트림 응답)
+     *
+     * TTS 서비스 배치 엔드포인트는 요청 순서대로 [4바이트 길이][오디오]를 이어 붙여 응답하므로,
+     * 항목별 구간을 각 sink에 순서대로 넘겨 힙 복사 없이 저장합니다.
+     * 서비스에서 인코딩에 실패한 항목(길이 -1)은 결과 목록에 null로 표시됩니다.
+     *
+     * @param requests 음성 합성 요청 목록
+     * @param sinks 요청과 같은 순서의 오디오 스트림 저장 처리
+     * @return 요청 순서대로의 저장된 음성 파일 정보 (실패 항목은 null)
+     */
+    @Retry(name = "ttsServiceRetry", fallbackMethod = "recoverSynthesizeBatch")
+    @CircuitBreaker(name = "ttsService")
+    @Bulkhead(name = "ttsService")
+    public List<TtsAudio> synthesizeBatch(List<SynthesizeRequest> requests, List<AudioSink> sinks) {
+        log.debug("TTS 배치 음성 합성 시작 - size: {}", requests.size());
+
+        return synthesizeTimer.record(() -> {
+            try {
+                List<TtsAudio> results = restClient.post()
+                        .uri("/api/synthesize/batch")
+                        .body(new BatchSynthesizeRequest(requests))
+                        .exchange((clientRequest, clientResponse) -> {
+                            if (clientResponse.getStatusCode().isError()) {
+                                throw new IllegalStateException("TTS 서비스 응답 오류: " + clientResponse.getStatusCode());
+                            }
+                            DataInputStream body = new DataInputStream(clientResponse.getBody());
+                            List<TtsAudio> audios = new ArrayList<>(requests.size());
+                            for (int i = 0; i < requests.size(); i++) {
+                                int length = body.readInt();
+                                if (length < 0) {
+                                    audios.add(null);
+                                    continue;
+                                }
+                                LimitedInputStream item = new LimitedInputStream(body, length);
+                                audios.add(sinks.get(i).write(item));
+                                item.skipRemaining();
+                            }
+                            return audios;
+                        });
+
+                ttsCallSuccessCounter.increment();
+                log.info("TTS 배치 음성 합성 완료 - size: {}", results.size());
+                return results;
+            } catch (Exception e) {
+                log.error("TTS 배치 음성 합성 실패 - size: {}, error: {}", requests.size(), e.getMessage(), e);
+                ttsCallFailureCounter.increment();
+                throw new BusinessException(ErrorCode.TTS_SERVICE_ERROR);
+            }
+        });
+    }
+
+    /**
+     * synthesizeBatch의 Fallback 메서드
+     */
+    public List<TtsAudio> recoverSynthesizeBatch(List<SynthesizeRequest> requests, List<AudioSink> sinks,
+            Exception e) {
+        log.error("TTS 배치 음성 합성 실패 (모든 재시도 실패) - size: {}", requests.size(), e);
+        ttsCallFailureCounter.increment();
+        throw toFailure(e);
+    }
+
+    /**
+     * Fallback 예외 변환 (입력 오류는 그대로, 서킷/벌크헤드 거부는 503 + Retry-After)
+     */
+    private BusinessException toFailure(Exception e) {
+        return UpstreamFailures.toBusinessException(e, ErrorCode.TTS_SERVICE_ERROR, ErrorCode.TTS_SERVICE_BUSY,
+                retryBudgetConfig.getRejectedRetryAfterSeconds());
     }
 
     /**
@@ -159,12 +256,14 @@ public class TtsService {
         log.debug("TTS 음성 목록 조회 시작");
 
         try {
-            List<VoiceInfo> voices = restClient.get()
+            // TTS 서비스는 {"voices": [...]} 형태로 응답
+            VoiceListResponse response = restClient.get()
                     .uri("/api/voices")
                     .retrieve()
-                    .body(new ParameterizedTypeReference<List<VoiceInfo>>() {});
+                    .body(VoiceListResponse.class);
+            List<VoiceInfo> voices = response != null && response.voices() != null ? response.voices() : List.of();
 
-            log.info("TTS 음성 목록 조회 완료 - count: {}", voices != null ? voices.size() : 0);
+            log.info("TTS 음성 목록 조회 완료 - count: {}", voices.size());
             return voices;
         } catch (Exception e) {
             log.error("TTS 음성 목록 조회 실패 - error: {}", e.getMessage(), e);
@@ -194,4 +293,73 @@ public class TtsService {
             throw new BusinessException(ErrorCode.TTS_SERVICE_ERROR);
         }
     }
+
+    record VoiceListResponse(List<VoiceInfo> voices) {
+    }
+
+    record BatchSynthesizeRequest(List<SynthesizeRequest> items) {
+    }
+
+    /**
+     * 배치 응답 본문에서 한 항목 구간만 읽는 스트림 (닫아도 원본 스트림은 유지)
+     */
+    private static final class LimitedInputStream extends FilterInputStream {
+
+        private long remaining;
+
+        private LimitedInputStream(InputStream in, long length) {
+            super(in);
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int value = in.read();
+            if (value >= 0) {
+                remaining--;
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int read = in.read(buffer, offset, (int) Math.min(length, remaining));
+            if (read > 0) {
+                remaining -= read;
+            }
+            return read;
+        }
+
+        @Override
+        public void close() {
+            // 다음 항목을 읽어야 하므로 원본 스트림은 닫지 않음
+        }
+
+        private void skipRemaining() throws IOException {
+            while (remaining > 0) {
+                long skipped = in.skip(remaining);
+                if (skipped <= 0) {
+                    if (in.read() < 0) {
+                        throw new EOFException("TTS 배치 응답이 예상보다 짧습니다.");
+                    }
+                    skipped = 1;
+                }
+                remaining -= skipped;
+            }
+        }
+    }
+
+    /**
+     * 바이너리 오디오 스트림 저장 처리
+     */
+    @FunctionalInterface
+    public interface AudioSink {
+        TtsAudio write(InputStream audio) throws IOException;
+    }
 }
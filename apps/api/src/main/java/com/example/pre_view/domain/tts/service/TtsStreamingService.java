@@ -0,0 +1,245 @@
+package com.example.pre_view.domain.tts.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.springframework.stereotype.Service;
+
+import com.example.pre_view.common.exception.BusinessException;
+import com.example.pre_view.common.exception.ErrorCode;
+import com.example.pre_view.domain.tts.config.TtsConfig;
+import com.example.pre_view.domain.tts.dto.SynthesizeRequest;
+import com.example.pre_view.domain.tts.dto.TtsAudio;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 문장 단위 스트리밍 TTS 서비스
+ *
+ * 긴 텍스트를 문장 단위로 나눠 최대 streamParallelism개씩 앞서 합성하고,
+ * 합성이 끝난 순서가 아닌 문장 순서대로 응답 스트림에 이어 씁니다.
+ * 첫 문장이 준비되는 즉시 재생을 시작할 수 있어 전체 합성 시간만큼 기다리지 않습니다.
+ *
+ * 출력 형식:
+ * - wav: 첫 문장의 헤더를 길이 미정(0xFFFFFFFF)으로 바꿔 한 번만 쓰고, 이후 문장은 PCM 데이터만 이어 씀
+ * - mp3: 문장별 MP3를 그대로 이어 씀 (프레임 단위 재생 가능)
+ *
+ * 문장별 음성도 콘텐츠 주소 캐시에 저장되므로, 같은 문장은 다시 합성하지 않습니다.
+ *
+ * 문장 합성 실패나 클라이언트 연결 종료로 중단되면 아직 쓰지 않은 문장의 대기(future)를 취소합니다.
+ * 합성 작업 자체는 같은 문장을 기다리는 다른 요청과 공유되므로 중단하지 않고 캐시에 저장되게 둡니다.
+ */
+@Slf4j
+@Service
+public class TtsStreamingService {
+
+    // 문장 끝 문자 뒤의 공백, 또는 줄바꿈 기준으로 분리
+    private static final Pattern SENTENCE_BOUNDARY = Pattern.compile("(?<=[.!?。！？])\\s+|\\n+");
+
+    // 너무 짧은 문장은 앞 문장에 붙여 합성 호출 수를 줄임
+    private static final int MIN_SEGMENT_LENGTH = 15;
+
+    private static final int UNKNOWN_LENGTH = 0xFFFFFFFF;
+
+    private final TtsAudioService ttsAudioService;
+    private final TtsAudioCache ttsAudioCache;
+    private final TtsConfig ttsConfig;
+
+    // 메트릭
+    private final Timer timeToFirstAudioTimer;
+    private final Timer streamTimer;
+
+    public TtsStreamingService(TtsAudioService ttsAudioService, TtsAudioCache ttsAudioCache, TtsConfig ttsConfig,
+            MeterRegistry meterRegistry) {
+        this.ttsAudioService = ttsAudioService;
+        this.ttsAudioCache = ttsAudioCache;
+        this.ttsConfig = ttsConfig;
+
+        this.timeToFirstAudioTimer = Timer.builder("tts.stream.time-to-first-audio")
+                .description("스트리밍 요청부터 첫 음성 전송까지의 시간")
+                .register(meterRegistry);
+        this.streamTimer = Timer.builder("tts.stream.duration")
+                .description("스트리밍 TTS 전체 전송 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 텍스트 길이 검증 (응답 시작 전에 호출)
+     */
+    public void validate(SynthesizeRequest request) {
+        if (request.text().length() > ttsConfig.getMaxTextLength()) {
+            log.warn("TTS 텍스트 길이 초과 - length: {}, max: {}",
+                    request.text().length(), ttsConfig.getMaxTextLength());
+            throw new BusinessException(ErrorCode.TTS_TEXT_TOO_LONG);
+        }
+    }
+
+    /**
+     * 문장 단위로 합성하며 순서대로 출력 스트림에 기록
+     *
+     * @param request 음성 합성 요청
+     * @param outputStream 응답 스트림
+     */
+    public void stream(SynthesizeRequest request, OutputStream outputStream) throws IOException {
+        Timer.Sample totalSample = Timer.start();
+        long startNanos = System.nanoTime();
+
+        // 전체 문장 음성이 이미 캐시에 있으면 분할 없이 그대로 전송
+        Optional<TtsAudio> whole = ttsAudioCache.get(TtsAudioCache.keyOf(request));
+        if (whole.isPresent()) {
+            transfer(whole.get(), 0, whole.get().size(), Channels.newChannel(outputStream));
+            outputStream.flush();
+            recordFirstAudio(startNanos);
+            totalSample.stop(streamTimer);
+            return;
+        }
+
+        List<SynthesizeRequest> segments = splitSegments(request);
+        log.debug("스트리밍 TTS 시작 - text length: {}, segments: {}", request.text().length(), segments.size());
+
+        int parallelism = Math.max(1, ttsConfig.getStreamParallelism());
+        List<CompletableFuture<TtsAudio>> futures = new ArrayList<>(segments.size());
+        for (int i = 0; i < Math.min(parallelism, segments.size()); i++) {
+            futures.add(lookahead(segments.get(i)));
+        }
+
+        WritableByteChannel target = Channels.newChannel(outputStream);
+        boolean headerWritten = false;
+        int written = 0;
+        try {
+            for (int i = 0; i < segments.size(); i++) {
+                TtsAudio audio = await(futures.get(i));
+
+                // 현재 문장을 쓰는 동안 다음 문장 합성 시작 (파이프라인)
+                int next = i + parallelism;
+                if (next < segments.size()) {
+                    futures.add(lookahead(segments.get(next)));
+                }
+
+                if ("wav".equals(audio.format())) {
+                    headerWritten = writeWavSegment(audio, target, headerWritten);
+                } else {
+                    transfer(audio, 0, audio.size(), target);
+                }
+                outputStream.flush();
+                written++;
+
+                if (i == 0) {
+                    recordFirstAudio(startNanos);
+                }
+            }
+        } finally {
+            // 실패/연결 종료로 중단된 경우 남은 문장의 대기 취소 (정상 완료 시에는 남은 것이 없음)
+            for (int i = written; i < futures.size(); i++) {
+                futures.get(i).cancel(false);
+            }
+            if (written < segments.size()) {
+                log.info("스트리밍 TTS 중단 - 전송: {}/{} 문장", written, segments.size());
+            }
+        }
+
+        totalSample.stop(streamTimer);
+        log.info("스트리밍 TTS 완료 - segments: {}", segments.size());
+    }
+
+    /**
+     * 텍스트를 문장 단위 합성 요청으로 분리
+     */
+    List<SynthesizeRequest> splitSegments(SynthesizeRequest request) {
+        List<String> sentences = new ArrayList<>();
+        for (String part : SENTENCE_BOUNDARY.split(request.text())) {
+            String sentence = part.trim();
+            if (sentence.isEmpty()) {
+                continue;
+            }
+            int last = sentences.size() - 1;
+            if (last >= 0 && sentences.get(last).length() < MIN_SEGMENT_LENGTH) {
+                sentences.set(last, sentences.get(last) + " " + sentence);
+            } else {
+                sentences.add(sentence);
+            }
+        }
+
+        return sentences.stream()
+                .map(sentence -> new SynthesizeRequest(sentence, request.voice(), request.speed(), request.format()))
+                .toList();
+    }
+
+    private boolean writeWavSegment(TtsAudio audio, WritableByteChannel target, boolean headerWritten)
+            throws IOException {
+        try (FileChannel source = FileChannel.open(audio.path())) {
+            WavHeader header = WavHeader.read(source)
+                    .orElseThrow(() -> new IOException("WAV 헤더를 읽을 수 없습니다 - key: " + audio.key()));
+
+            if (!headerWritten) {
+                // 전체 길이를 알 수 없으므로 RIFF/data 크기를 최대값으로 설정
+                ByteBuffer headerBytes = ByteBuffer.allocate((int) header.dataOffset()).order(ByteOrder.LITTLE_ENDIAN);
+                source.read(headerBytes, 0);
+                headerBytes.putInt(4, UNKNOWN_LENGTH);
+                headerBytes.putInt((int) header.dataOffset() - 4, UNKNOWN_LENGTH);
+                headerBytes.flip();
+                while (headerBytes.hasRemaining()) {
+                    target.write(headerBytes);
+                }
+            }
+            transfer(source, header.dataOffset(), header.dataSize(), target);
+        }
+        return true;
+    }
+
+    private void transfer(TtsAudio audio, long position, long count, WritableByteChannel target) throws IOException {
+        try (FileChannel source = FileChannel.open(audio.path())) {
+            transfer(source, position, count, target);
+        }
+    }
+
+    private void transfer(FileChannel source, long position, long count, WritableByteChannel target)
+            throws IOException {
+        long transferred = 0;
+        while (transferred < count) {
+            long written = source.transferTo(position + transferred, count - transferred, target);
+            if (written <= 0) {
+                break;
+            }
+            transferred += written;
+        }
+    }
+
+    /**
+     * 문장 합성 시작 (공유되는 합성 작업과 분리된 복사본을 반환하여, 취소해도 다른 요청에는 영향 없음)
+     */
+    private CompletableFuture<TtsAudio> lookahead(SynthesizeRequest segment) {
+        return ttsAudioService.getOrSynthesizeAsync(segment).copy();
+    }
+
+    private TtsAudio await(CompletableFuture<TtsAudio> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new BusinessException(ErrorCode.TTS_SERVICE_ERROR);
+        }
+    }
+
+    private void recordFirstAudio(long startNanos) {
+        long elapsed = System.nanoTime() - startNanos;
+        timeToFirstAudioTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        log.debug("첫 음성 전송 - {}ms", elapsed / 1_000_000);
+    }
+}
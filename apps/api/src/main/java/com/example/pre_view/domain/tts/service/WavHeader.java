@@ -0,0 +1,77 @@
+package com.example.pre_view.domain.tts.service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * WAV 파일 헤더 정보 (fmt/data 청크)
+ *
+ * @param sampleRate 샘플레이트 (Hz)
+ * @param byteRate 초당 바이트 수
+ * @param dataOffset PCM 데이터 시작 위치
+ * @param dataSize PCM 데이터 크기
+ */
+record WavHeader(int sampleRate, int byteRate, long dataOffset, long dataSize) {
+
+    // WAV 청크 ID (little-endian int)
+    private static final int RIFF = 0x46464952;
+    private static final int WAVE = 0x45564157;
+    private static final int FMT = 0x20746d66;
+    private static final int DATA = 0x61746164;
+
+    /**
+     * 재생 길이 (초)
+     */
+    double duration() {
+        return (double) dataSize / byteRate;
+    }
+
+    static Optional<WavHeader> read(Path path) {
+        try (FileChannel channel = FileChannel.open(path)) {
+            return read(channel);
+        } catch (IOException e) {
+            // 헤더를 읽지 못하면 길이 정보 없이 처리
+            return Optional.empty();
+        }
+    }
+
+    static Optional<WavHeader> read(FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(12).order(ByteOrder.LITTLE_ENDIAN);
+        if (channel.read(header, 0) < 12 || header.getInt(0) != RIFF || header.getInt(8) != WAVE) {
+            return Optional.empty();
+        }
+
+        int sampleRate = 0;
+        int byteRate = 0;
+        long position = 12;
+        ByteBuffer chunk = ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN);
+        while (position + 8 <= channel.size()) {
+            chunk.clear();
+            channel.read(chunk, position);
+            int chunkId = chunk.getInt(0);
+            long chunkSize = Integer.toUnsignedLong(chunk.getInt(4));
+
+            if (chunkId == FMT && chunk.position() >= 16) {
+                sampleRate = chunk.getInt(12);
+                chunk.clear();
+                chunk.limit(8);
+                channel.read(chunk, position + 12);
+                byteRate = chunk.getInt(4);
+            } else if (chunkId == DATA) {
+                if (sampleRate <= 0 || byteRate <= 0) {
+                    return Optional.empty();
+                }
+                // 스트리밍으로 기록된 WAV는 data 크기가 비어 있을 수 있으므로 파일 크기로 보정
+                long dataOffset = position + 8;
+                long dataSize = Math.min(chunkSize, channel.size() - dataOffset);
+                return Optional.of(new WavHeader(sampleRate, byteRate, dataOffset, dataSize));
+            }
+            position += 8 + chunkSize + (chunkSize & 1);
+        }
+        return Optional.empty();
+    }
+}
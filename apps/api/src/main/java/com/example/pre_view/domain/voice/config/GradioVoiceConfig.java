@@ -1,12 +1,13 @@
 package com.example.pre_view.domain.voice.config;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicReference;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
-import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.client.RestClient;
 
 import lombok.Getter;
 import lombok.Setter;
@@ -16,7 +17,8 @@ import lombok.extern.slf4j.Slf4j;
  * Gradio 음성 서비스 설정 (Kaggle 배포용)
  *
  * application.yaml의 gradio.voice.* 속성을 바인딩합니다.
- * 런타임에 URL과 활성화 상태를 동적으로 변경할 수 있습니다.
+ * 여러 Gradio 서버를 백엔드 풀로 등록할 수 있으며, 런타임에 활성화 상태를 동적으로 변경할 수 있습니다.
+ * (런타임 백엔드 추가/제거는 VoiceBackendPool에서 관리)
  */
 @Slf4j
 @Getter
@@ -30,6 +32,26 @@ public class GradioVoiceConfig {
      */
     private String serviceUrl;
 
+    /**
+     * 추가 Gradio 서비스 URL 목록 (serviceUrl과 함께 백엔드 풀을 구성)
+     */
+    private List<String> serviceUrls = new ArrayList<>();
+
+    /**
+     * 백엔드 헬스체크 주기 (밀리초, 기본값: 10초)
+     */
+    private long healthCheckInterval = 10000;
+
+    /**
+     * 연속 실패 시 백엔드를 라우팅에서 제외하는 기준 횟수 (기본값: 3회)
+     */
+    private int failureThreshold = 3;
+
+    /**
+     * 제외된 백엔드를 다시 라우팅에 포함하기 위한 연속 헬스체크 성공 횟수 (기본값: 2회)
+     */
+    private int recoveryThreshold = 2;
+
     /**
      * 타임아웃 (밀리초, 기본값: 60초)
      */
@@ -40,17 +62,24 @@ public class GradioVoiceConfig {
      */
     private boolean enabled = false;
 
-    // 동적 변경을 위한 AtomicReference
-    private final AtomicReference<String> dynamicServiceUrl = new AtomicReference<>();
+    // 동적 변경을 위한 Atomic 값
     private final AtomicBoolean dynamicEnabled = new AtomicBoolean(false);
     private volatile boolean initialized = false;
 
     /**
-     * 동적 URL 가져오기 (런타임 변경 값 우선)
+     * 설정된 전체 백엔드 URL (serviceUrl + serviceUrls, 중복/빈 값 제외)
      */
-    public String getEffectiveServiceUrl() {
-        String dynamic = dynamicServiceUrl.get();
-        return (dynamic != null && !dynamic.isBlank()) ? dynamic : serviceUrl;
+    public List<String> getConfiguredServiceUrls() {
+        Set<String> urls = new LinkedHashSet<>();
+        if (serviceUrl != null && !serviceUrl.isBlank()) {
+            urls.add(serviceUrl);
+        }
+        for (String url : serviceUrls) {
+            if (url != null && !url.isBlank()) {
+                urls.add(url);
+            }
+        }
+        return List.copyOf(urls);
     }
 
     /**
@@ -64,14 +93,6 @@ public class GradioVoiceConfig {
         return dynamicEnabled.get();
     }
 
-    /**
-     * 런타임에 URL 변경
-     */
-    public void setDynamicServiceUrl(String url) {
-        log.info("Gradio 서버 URL 동적 변경: {} -> {}", dynamicServiceUrl.get(), url);
-        dynamicServiceUrl.set(url);
-    }
-
     /**
      * 런타임에 활성화 상태 변경
      */
@@ -80,14 +101,4 @@ public class GradioVoiceConfig {
         dynamicEnabled.set(enabled);
         initialized = true;
     }
-
-    /**
-     * Gradio 서비스용 RestClient 빈 생성
-     */
-    @Bean
-    public RestClient gradioRestClient() {
-        return RestClient.builder()
-                .baseUrl(serviceUrl != null ? serviceUrl : "http://localhost:7860")
-                .build();
-    }
 }
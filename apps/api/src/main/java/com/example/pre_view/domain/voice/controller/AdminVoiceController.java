@@ -2,6 +2,7 @@ package com.example.pre_view.domain.voice.controller;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -9,10 +10,13 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.pre_view.common.dto.ApiResponse;
+import com.example.pre_view.domain.question.service.QuestionAudioPrewarmService;
 import com.example.pre_view.domain.voice.config.GradioVoiceConfig;
+import com.example.pre_view.domain.voice.dto.VoiceBackendRequest;
 import com.example.pre_view.domain.voice.dto.VoiceServerStatus;
 import com.example.pre_view.domain.voice.dto.VoiceServerUpdateRequest;
 import com.example.pre_view.domain.voice.service.GradioVoiceService;
+import com.example.pre_view.domain.voice.service.VoiceBackendPool;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -23,7 +27,7 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * 관리자 음성 서버 설정 API
  *
- * Kaggle/로컬 음성 서버 URL을 동적으로 설정합니다.
+ * Kaggle/로컬 음성 서버(백엔드 풀)를 동적으로 구성하고, 템플릿 질문 음성 재합성을 요청합니다.
  */
 @Slf4j
 @RestController
@@ -35,6 +39,8 @@ public class AdminVoiceController {
 
     private final GradioVoiceService gradioVoiceService;
     private final GradioVoiceConfig gradioVoiceConfig;
+    private final VoiceBackendPool voiceBackendPool;
+    private final QuestionAudioPrewarmService questionAudioPrewarmService;
 
     @GetMapping("/status")
     @Operation(summary = "음성 서버 상태 조회", description = "현재 음성 서버 연결 상태를 조회합니다.")
@@ -48,16 +54,16 @@ public class AdminVoiceController {
     }
 
     @PostMapping("/config")
-    @Operation(summary = "음성 서버 설정 변경", description = "Gradio 서버 URL을 설정하거나 음성 기능을 활성화/비활성화합니다.")
+    @Operation(summary = "음성 서버 설정 변경", description = "Gradio 서버 URL을 설정(백엔드 풀 전체를 해당 URL로 교체)하거나 음성 기능을 활성화/비활성화합니다.")
     public ResponseEntity<ApiResponse<VoiceServerStatus>> updateConfig(
             @Valid @RequestBody VoiceServerUpdateRequest request
     ) {
         log.info("음성 서버 설정 변경 요청 - enabled: {}, url: {}",
                 request.enabled(), request.gradioUrl());
 
-        // URL 업데이트
-        if (request.gradioUrl() != null) {
-            gradioVoiceConfig.setDynamicServiceUrl(request.gradioUrl());
+        // URL 업데이트 (단일 서버 설정: 백엔드 풀을 해당 URL 하나로 교체)
+        if (request.gradioUrl() != null && !request.gradioUrl().isBlank()) {
+            voiceBackendPool.replaceAll(request.gradioUrl());
         }
 
         // 활성화 상태 업데이트
@@ -73,6 +79,32 @@ public class AdminVoiceController {
         return ResponseEntity.ok(ApiResponse.ok("음성 서버 설정이 변경되었습니다.", status));
     }
 
+    @PostMapping("/backends")
+    @Operation(summary = "음성 백엔드 추가", description = "백엔드 풀에 Gradio 서버를 추가합니다.")
+    public ResponseEntity<ApiResponse<VoiceServerStatus>> addBackend(
+            @Valid @RequestBody VoiceBackendRequest request
+    ) {
+        log.info("음성 백엔드 추가 요청 - url: {}", request.url());
+
+        voiceBackendPool.add(request.url());
+
+        return ResponseEntity.ok(ApiResponse.ok("음성 백엔드가 추가되었습니다.", gradioVoiceService.getStatus()));
+    }
+
+    @DeleteMapping("/backends")
+    @Operation(summary = "음성 백엔드 제거", description = "백엔드 풀에서 Gradio 서버를 제거합니다. 처리 중인 요청은 그대로 완료됩니다.")
+    public ResponseEntity<ApiResponse<VoiceServerStatus>> removeBackend(
+            @Valid @RequestBody VoiceBackendRequest request
+    ) {
+        log.info("음성 백엔드 제거 요청 - url: {}", request.url());
+
+        String message = voiceBackendPool.remove(request.url())
+                ? "음성 백엔드가 제거되었습니다."
+                : "등록되지 않은 음성 백엔드입니다.";
+
+        return ResponseEntity.ok(ApiResponse.ok(message, gradioVoiceService.getStatus()));
+    }
+
     @PostMapping("/health-check")
     @Operation(summary = "음성 서버 헬스체크", description = "설정된 Gradio 서버의 연결 상태를 확인합니다.")
     public ResponseEntity<ApiResponse<VoiceServerStatus>> healthCheck() {
@@ -87,4 +119,15 @@ public class AdminVoiceController {
         log.info("음성 서버 헬스체크 완료 - healthy: {}", status.healthy());
         return ResponseEntity.ok(ApiResponse.ok(message, status));
     }
+
+    @PostMapping("/tts-prewarm")
+    @Operation(summary = "템플릿 질문 음성 재합성", description = "템플릿/Fallback 질문 음성을 모든 음성으로 다시 합성해 캐시를 교체합니다. 이미 캐시된 음성도 새로 합성합니다.")
+    public ResponseEntity<ApiResponse<Void>> rewarmTemplateAudio() {
+        log.info("템플릿 질문 음성 재합성 요청");
+
+        if (!questionAudioPrewarmService.requestRewarm()) {
+            return ResponseEntity.accepted().body(ApiResponse.ok("이미 사전 합성이 진행 중입니다."));
+        }
+        return ResponseEntity.accepted().body(ApiResponse.ok("템플릿 질문 음성 재합성을 시작했습니다."));
+    }
 }
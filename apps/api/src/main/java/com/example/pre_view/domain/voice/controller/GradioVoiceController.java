@@ -1,5 +1,10 @@
 package com.example.pre_view.domain.voice.controller;
 
+import java.io.InputStream;
+import java.net.http.HttpResponse;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -7,6 +12,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.example.pre_view.domain.voice.dto.GradioSttResponse;
 import com.example.pre_view.domain.voice.dto.GradioTtsResponse;
@@ -61,6 +67,33 @@ public class GradioVoiceController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 텍스트를 음성으로 변환 (TTS, 오디오 스트리밍)
+     */
+    @PostMapping("/tts/stream")
+    @Operation(summary = "음성 합성 스트리밍 (TTS)", description = "텍스트를 음성으로 변환하고 오디오 파일을 바로 전송합니다.")
+    public ResponseEntity<StreamingResponseBody> synthesizeStream(
+            @RequestParam("text") String text,
+            @RequestParam(value = "language", defaultValue = "Korean") String language) {
+
+        log.info("TTS 스트리밍 요청 - 텍스트 길이: {}, 언어: {}", text.length(), language);
+
+        // 응답 시작 전에 합성을 끝내고 파일을 열어 두어, 실패는 일반 오류 응답으로 처리
+        HttpResponse<InputStream> audio = gradioVoiceService.openSynthesis(text, language);
+        StreamingResponseBody body = outputStream -> {
+            try (InputStream in = audio.body()) {
+                in.transferTo(outputStream);
+            }
+        };
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(audio.headers().firstValue(HttpHeaders.CONTENT_TYPE)
+                        .map(MediaType::parseMediaType)
+                        .orElse(MediaType.parseMediaType("audio/wav")));
+        audio.headers().firstValueAsLong(HttpHeaders.CONTENT_LENGTH).ifPresent(builder::contentLength);
+        return builder.body(body);
+    }
+
     /**
      * 음성 서비스 헬스체크
      */
@@ -0,0 +1,14 @@
+package com.example.pre_view.domain.voice.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+
+/**
+ * 음성 백엔드 추가/제거 요청
+ */
+public record VoiceBackendRequest(
+        @NotBlank(message = "URL은 필수입니다.")
+        @Pattern(regexp = "^https?://.*$", message = "유효한 URL 형식이 아닙니다.")
+        String url
+) {
+}
@@ -0,0 +1,14 @@
+package com.example.pre_view.domain.voice.dto;
+
+/**
+ * 음성 백엔드(Gradio 서버) 개별 상태
+ */
+public record VoiceBackendStatus(
+        String url,
+        boolean available,
+        boolean halfOpen,
+        int outstanding,
+        double ewmaLatencyMillis,
+        int consecutiveFailures
+) {
+}
@@ -1,5 +1,7 @@
 package com.example.pre_view.domain.voice.dto;
 
+import java.util.List;
+
 /**
  * 음성 서버 상태 응답
  */
@@ -8,6 +10,7 @@ public record VoiceServerStatus(
         String gradioUrl,
         boolean available,
         boolean healthy,
-        String message
+        String message,
+        List<VoiceBackendStatus> backends
 ) {
 }
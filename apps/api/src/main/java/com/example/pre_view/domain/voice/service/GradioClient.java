@@ -0,0 +1,373 @@
+package com.example.pre_view.domain.voice.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.client.MultipartBodyBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import com.example.pre_view.domain.voice.config.GradioVoiceConfig;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Gradio 비동기 작업 클라이언트
+ *
+ * Gradio /call API는 (1) POST로 작업을 등록해 event_id를 받고 (2) GET으로 SSE 스트림을 구독해 결과를 받습니다.
+ * - 연결: 하나의 HttpClient를 공유해 keep-alive 연결을 재사용 (풀의 모든 백엔드에 공용)
+ * - 백엔드: 호출자가 VoiceBackendPool에서 고른 백엔드로 요청하며, 작업 취소/결과 파일 조회도 같은 백엔드로 보냄
+ * - SSE: 응답 전체를 문자열로 받지 않고 줄 단위로 구독하며, complete/error 이벤트가 오는 즉시 스트림을 닫음
+ * - 대기열: 대기 순번(rank)이 포함된 이벤트는 리스너로 전달
+ * - 취소: 제한 시간 초과 또는 호출자 요청 시 SSE 구독을 끊고 서버에 취소 요청
+ * - 파일: 결과 오디오 파일은 InputStream으로 열어 호출자가 바로 전달할 수 있도록 함
+ */
+@Slf4j
+@Component
+public class GradioClient {
+
+    private static final String API_PREFIX = "/gradio_api";
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration PING_TIMEOUT = Duration.ofSeconds(5);
+
+    private final GradioVoiceConfig config;
+    private final JsonMapper objectMapper;
+    private final HttpClient httpClient;
+    private final RestClient restClient;
+
+    // 메트릭
+    private final Timer jobTimer;
+    private final Counter cancelledCounter;
+
+    public GradioClient(GradioVoiceConfig config, JsonMapper objectMapper, MeterRegistry meterRegistry) {
+        this.config = config;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(CONNECT_TIMEOUT)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        this.restClient = RestClient.builder()
+                .requestFactory(new JdkClientHttpRequestFactory(httpClient))
+                .build();
+
+        this.jobTimer = Timer.builder("gradio.job.duration")
+                .description("Gradio 작업 등록부터 결과 수신까지의 시간")
+                .register(meterRegistry);
+        this.cancelledCounter = Counter.builder("gradio.job.cancelled")
+                .description("제한 시간 초과 등으로 취소된 Gradio 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Gradio 서버에 파일 업로드 후 서버 측 임시 경로 반환
+     *
+     * @param backend 요청할 백엔드
+     * @param file 업로드할 파일 (업로드 임시 파일에서 바로 스트리밍)
+     * @return 서버 측 파일 경로
+     */
+    public String upload(VoiceBackend backend, Resource file) {
+        MultipartBodyBuilder builder = new MultipartBodyBuilder();
+        builder.part("files", file);
+
+        JsonNode paths = restClient.post()
+                .uri(apiUri(backend, "/upload"))
+                .contentType(MediaType.MULTIPART_FORM_DATA)
+                .body(builder.build())
+                .retrieve()
+                .body(JsonNode.class);
+
+        // 응답 형식: ["/tmp/gradio/xxx/audio.webm"]
+        if (paths == null || !paths.isArray() || paths.isEmpty()) {
+            throw new IllegalStateException("Gradio 파일 업로드 응답이 비어 있습니다: " + paths);
+        }
+        return paths.get(0).asText();
+    }
+
+    /**
+     * 작업 등록 후 SSE 결과 스트림 구독 시작
+     *
+     * @param backend 요청할 백엔드
+     * @param apiName Gradio API 이름 (예: transcribe, synthesize)
+     * @param data 입력 데이터
+     * @param listener 진행/대기열 이벤트 리스너
+     * @return 진행 중인 작업
+     */
+    public GradioJob submit(VoiceBackend backend, String apiName, List<?> data, Consumer<Event> listener) {
+        JsonNode response = restClient.post()
+                .uri(apiUri(backend, "/call/" + apiName))
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Map.of("data", data))
+                .retrieve()
+                .body(JsonNode.class);
+        if (response == null || !response.has("event_id")) {
+            throw new IllegalStateException("Gradio 작업 등록 응답에 event_id가 없습니다: " + response);
+        }
+        String eventId = response.get("event_id").asText();
+        log.debug("Gradio 작업 등록 - backend: {}, api: {}, eventId: {}", backend.getUrl(), apiName, eventId);
+
+        CompletableFuture<JsonNode> result = new CompletableFuture<>();
+        SseSubscriber subscriber = new SseSubscriber(eventId, result, listener, objectMapper);
+        HttpRequest request = HttpRequest.newBuilder(apiUri(backend, "/call/" + apiName + "/" + eventId))
+                .header("Accept", "text/event-stream")
+                .GET()
+                .build();
+        httpClient.sendAsync(request, HttpResponse.BodyHandlers.fromLineSubscriber(subscriber))
+                .whenComplete((httpResponse, e) -> {
+                    if (e != null) {
+                        result.completeExceptionally(e);
+                    } else if (httpResponse.statusCode() >= 400) {
+                        result.completeExceptionally(
+                                new IllegalStateException("Gradio 결과 조회 실패: " + httpResponse.statusCode()));
+                    }
+                });
+
+        return new GradioJob(backend, apiName, eventId, result, () -> {
+            subscriber.cancel();
+            requestCancel(backend, eventId);
+        });
+    }
+
+    /**
+     * 작업 결과 대기 (설정된 타임아웃 초과 시 작업 취소)
+     *
+     * @param job 진행 중인 작업
+     * @return 출력 데이터 배열
+     */
+    public JsonNode await(GradioJob job) throws Exception {
+        Timer.Sample sample = Timer.start();
+        try {
+            return job.result().get(config.getTimeout(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Gradio 작업 시간 초과, 취소 - api: {}, eventId: {}", job.apiName(), job.eventId());
+            cancel(job);
+            throw e;
+        } catch (InterruptedException e) {
+            cancel(job);
+            Thread.currentThread().interrupt();
+            throw e;
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        } finally {
+            sample.stop(jobTimer);
+        }
+    }
+
+    /**
+     * 작업 취소 (SSE 구독 종료 및 서버 취소 요청)
+     */
+    public void cancel(GradioJob job) {
+        cancelledCounter.increment();
+        job.cancel();
+    }
+
+    /**
+     * 결과 파일 열기 (url이 없으면 작업을 처리한 백엔드의 서버 경로로 파일 URL 구성)
+     *
+     * @param job 결과를 만든 작업
+     * @param fileData Gradio FileData ({"url": ..., "path": ...})
+     * @return 파일 본문 스트림 (호출자가 닫아야 함)
+     */
+    public HttpResponse<InputStream> openFile(GradioJob job, JsonNode fileData)
+            throws IOException, InterruptedException {
+        URI uri;
+        if (fileData.hasNonNull("url")) {
+            uri = URI.create(fileData.get("url").asText());
+        } else if (fileData.hasNonNull("path")) {
+            uri = apiUri(job.backend(), "/file=" + URLEncoder.encode(fileData.get("path").asText(), StandardCharsets.UTF_8));
+        } else {
+            throw new IllegalStateException("Gradio 결과에 파일 정보가 없습니다: " + fileData);
+        }
+
+        HttpResponse<InputStream> response = httpClient.send(
+                HttpRequest.newBuilder(uri).timeout(Duration.ofMillis(config.getTimeout())).GET().build(),
+                HttpResponse.BodyHandlers.ofInputStream());
+        if (response.statusCode() >= 400) {
+            response.body().close();
+            throw new IllegalStateException("Gradio 파일 다운로드 실패: " + response.statusCode());
+        }
+        return response;
+    }
+
+    /**
+     * 백엔드 응답 여부 확인 (헬스체크용, 응답이 늦으면 실패로 간주)
+     */
+    public boolean ping(VoiceBackend backend) throws IOException, InterruptedException {
+        HttpResponse<Void> response = httpClient.send(
+                HttpRequest.newBuilder(URI.create(backend.getUrl() + "/")).timeout(PING_TIMEOUT).GET().build(),
+                HttpResponse.BodyHandlers.discarding());
+        return response.statusCode() < 400;
+    }
+
+    private void requestCancel(VoiceBackend backend, String eventId) {
+        // 서버 측 작업 취소는 최선 노력 (지원하지 않는 버전이면 무시)
+        httpClient.sendAsync(HttpRequest.newBuilder(apiUri(backend, "/cancel"))
+                                .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                                .POST(HttpRequest.BodyPublishers.ofString("{\"event_id\":\"" + eventId + "\"}"))
+                                .build(),
+                        HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, e) -> log.debug("Gradio 작업 취소 요청 - eventId: {}, status: {}",
+                        eventId, response != null ? response.statusCode() : e.getMessage()));
+    }
+
+    private URI apiUri(VoiceBackend backend, String path) {
+        return URI.create(backend.getUrl() + API_PREFIX + path);
+    }
+
+    /**
+     * SSE 이벤트
+     *
+     * @param type 이벤트 종류 (generating, complete, error, heartbeat, estimation 등)
+     * @param data 이벤트 데이터 (JSON이 아니면 null)
+     */
+    public record Event(String type, JsonNode data) {
+
+        /**
+         * 대기열 순번 (대기열 이벤트가 아니면 null)
+         */
+        public Integer queueRank() {
+            return data != null && data.hasNonNull("rank") ? data.get("rank").asInt() : null;
+        }
+    }
+
+    /**
+     * SSE 스트림 줄 단위 파서
+     * 빈 줄을 만나면 누적된 event/data로 이벤트 하나를 처리합니다.
+     */
+    static final class SseSubscriber implements Flow.Subscriber<String> {
+
+        private final String eventId;
+        private final CompletableFuture<JsonNode> result;
+        private final Consumer<Event> listener;
+        private final JsonMapper objectMapper;
+
+        private volatile Flow.Subscription subscription;
+        private volatile boolean cancelled;
+        private String eventType;
+        private final StringBuilder data = new StringBuilder();
+
+        SseSubscriber(String eventId, CompletableFuture<JsonNode> result, Consumer<Event> listener,
+                JsonMapper objectMapper) {
+            this.eventId = eventId;
+            this.result = result;
+            this.listener = listener;
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (cancelled) {
+                subscription.cancel();
+                return;
+            }
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(String line) {
+            if (line.isEmpty()) {
+                dispatch();
+            } else if (line.startsWith("event:")) {
+                eventType = line.substring(6).trim();
+            } else if (line.startsWith("data:")) {
+                if (!data.isEmpty()) {
+                    data.append('\n');
+                }
+                data.append(line.substring(5).trim());
+            }
+            // ':'로 시작하는 주석 줄 등은 무시
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            result.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            dispatch();
+            if (!result.isDone()) {
+                result.completeExceptionally(
+                        new IllegalStateException("Gradio 결과 스트림이 결과 없이 종료되었습니다 - eventId: " + eventId));
+            }
+        }
+
+        void cancel() {
+            cancelled = true;
+            result.cancel(false);
+            Flow.Subscription current = subscription;
+            if (current != null) {
+                current.cancel();
+            }
+        }
+
+        private void dispatch() {
+            if (eventType == null && data.isEmpty()) {
+                return;
+            }
+            String type = eventType != null ? eventType : "message";
+            String payload = data.toString();
+            eventType = null;
+            data.setLength(0);
+
+            switch (type) {
+                case "complete" -> {
+                    result.complete(parse(payload));
+                    subscription.cancel();
+                }
+                case "error" -> {
+                    result.completeExceptionally(new IllegalStateException("Gradio 작업 실패: " + payload));
+                    subscription.cancel();
+                }
+                case "heartbeat" -> {
+                }
+                default -> {
+                    Event event = new Event(type, parse(payload));
+                    if (event.queueRank() != null) {
+                        log.debug("Gradio 대기열 - eventId: {}, rank: {}", eventId, event.queueRank());
+                    }
+                    if (listener != null) {
+                        listener.accept(event);
+                    }
+                }
+            }
+        }
+
+        private JsonNode parse(String payload) {
+            if (payload.isEmpty() || "null".equals(payload)) {
+                return null;
+            }
+            try {
+                return objectMapper.readTree(payload);
+            } catch (RuntimeException e) {
+                return null;
+            }
+        }
+    }
+}
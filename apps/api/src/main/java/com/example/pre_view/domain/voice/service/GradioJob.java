@@ -0,0 +1,22 @@
+package com.example.pre_view.domain.voice.service;
+
+import java.util.concurrent.CompletableFuture;
+
+import tools.jackson.databind.JsonNode;
+
+/**
+ * 진행 중인 Gradio 작업
+ *
+ * @param backend 작업을 처리하는 백엔드
+ * @param apiName Gradio API 이름
+ * @param eventId 작업 ID
+ * @param result 출력 데이터 배열 (complete 이벤트 수신 시 완료)
+ * @param canceller SSE 구독 종료 및 서버 취소 요청
+ */
+public record GradioJob(VoiceBackend backend, String apiName, String eventId, CompletableFuture<JsonNode> result,
+        Runnable canceller) {
+
+    void cancel() {
+        canceller.run();
+    }
+}
@@ -1,15 +1,18 @@
 package com.example.pre_view.domain.voice.service;
 
-import java.io.IOException;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.http.MediaType;
-import org.springframework.http.client.MultipartBodyBuilder;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestClient;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.example.pre_view.common.exception.BusinessException;
@@ -19,9 +22,10 @@ import com.example.pre_view.domain.voice.dto.GradioSttResponse;
 import com.example.pre_view.domain.voice.dto.GradioTtsResponse;
 import com.example.pre_view.domain.voice.dto.VoiceServerStatus;
 import tools.jackson.databind.JsonNode;
-import tools.jackson.databind.json.JsonMapper;
 
 import io.github.resilience4j.retry.annotation.Retry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -31,15 +35,32 @@ import lombok.extern.slf4j.Slf4j;
  * Kaggle에 배포된 Gradio 앱의 STT/TTS API를 호출합니다.
  * - STT: Whisper-large-v3 (음성 → 텍스트)
  * - TTS: Qwen3-TTS (텍스트 → 음성)
+ *
+ * 요청마다 VoiceBackendPool에서 백엔드를 골라 보내고, 주기적으로 모든 백엔드에 헬스체크를 수행해
+ * 실패한 백엔드를 라우팅에서 제외/복귀시킵니다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class GradioVoiceService {
 
-    private final RestClient gradioRestClient;
+    private final GradioClient gradioClient;
     private final GradioVoiceConfig config;
-    private final JsonMapper objectMapper;
+    private final VoiceBackendPool backendPool;
+
+    private final ScheduledExecutorService healthProbeExecutor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofVirtual().name("gradio-health-probe").factory());
+
+    @PostConstruct
+    void startHealthProbe() {
+        long interval = Math.max(1000, config.getHealthCheckInterval());
+        healthProbeExecutor.scheduleWithFixedDelay(this::probeBackends, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stopHealthProbe() {
+        healthProbeExecutor.shutdownNow();
+    }
 
     /**
      * 음성을 텍스트로 변환 (STT)
@@ -57,69 +78,35 @@ public class GradioVoiceService {
             return new GradioSttResponse("[음성 인식 테스트] 이것은 mock 응답입니다.", language, 0.95);
         }
 
+        VoiceBackendPool.Lease lease = backendPool.acquire();
+        VoiceBackend backend = lease.backend();
+        boolean success = false;
         try {
-            // Gradio API 호출 (POST /call/transcribe)
-            // Step 1: 파일 업로드 및 호출 시작
-            byte[] audioBytes = audioFile.getBytes();
-            String audioBase64 = Base64.getEncoder().encodeToString(audioBytes);
-
-            // MIME type 결정 (파일 확장자 기반)
-            String filename = audioFile.getOriginalFilename();
-            String mimeType = "audio/wav";  // 기본값
-            if (filename != null) {
-                if (filename.endsWith(".ogg") || filename.endsWith(".webm")) {
-                    mimeType = "audio/ogg";
-                } else if (filename.endsWith(".mp3")) {
-                    mimeType = "audio/mpeg";
-                } else if (filename.endsWith(".m4a")) {
-                    mimeType = "audio/mp4";
-                }
-            }
+            // Step 1: 파일 업로드 (POST /gradio_api/upload)
+            // 업로드 임시 파일을 multipart 본문으로 바로 스트리밍하여 Base64 변환/힙 복사를 피함
+            String uploadedPath = gradioClient.upload(backend, audioFile.getResource());
 
-            Map<String, Object> requestBody = Map.of(
-                "data", List.of(
+            // Step 2: 업로드된 파일 경로로 작업 등록 후 SSE 결과 대기
+            GradioJob job = gradioClient.submit(backend, "transcribe", List.of(
                     Map.of(
-                        "name", filename,
-                        "data", "data:" + mimeType + ";base64," + audioBase64
+                            "path", uploadedPath,
+                            "orig_name", audioFile.getOriginalFilename() != null ? audioFile.getOriginalFilename() : "audio",
+                            "meta", Map.of("_type", "gradio.FileData")
                     ),
                     language
-                )
-            );
+            ), this::logProgress);
+            JsonNode output = gradioClient.await(job);
 
-            RestClient client = createDynamicRestClient();
-
-            String response = client.post()
-                    .uri("/gradio_api/call/transcribe")
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .body(requestBody)
-                    .retrieve()
-                    .body(String.class);
-
-            log.debug("Gradio STT 호출 응답: {}", response);
-
-            // Step 2: event_id로 결과 가져오기
-            JsonNode responseNode = objectMapper.readTree(response);
-            String eventId = responseNode.get("event_id").asText();
-
-            String result = client.get()
-                    .uri("/gradio_api/call/transcribe/" + eventId)
-                    .retrieve()
-                    .body(String.class);
-
-            log.debug("Gradio STT 결과: {}", result);
-
-            // 결과 파싱 (SSE 형식: event: complete\ndata: [...])
-            String text = parseGradioResult(result);
-
-            log.info("Gradio STT 완료 - 텍스트 길이: {}", text.length());
+            String text = output != null && output.isArray() && !output.isEmpty() ? output.get(0).asText() : "";
+            log.info("Gradio STT 완료 - backend: {}, 텍스트 길이: {}", backend.getUrl(), text.length());
+            success = true;
             return new GradioSttResponse(text, language, null);
 
-        } catch (IOException e) {
-            log.error("Gradio STT 실패 - 파일 읽기 오류", e);
-            throw new BusinessException(ErrorCode.STT_SERVICE_ERROR);
         } catch (Exception e) {
-            log.error("Gradio STT 실패", e);
+            log.error("Gradio STT 실패 - backend: {}", backend.getUrl(), e);
             throw new BusinessException(ErrorCode.STT_SERVICE_ERROR);
+        } finally {
+            backendPool.release(lease, success);
         }
     }
 
@@ -139,39 +126,14 @@ public class GradioVoiceService {
             return new GradioTtsResponse(null, "wav", 24000);  // null → 프론트엔드에서 Web Speech API fallback
         }
 
-        try {
-            RestClient client = createDynamicRestClient();
-
-            // Gradio API 호출 (POST /call/synthesize)
-            Map<String, Object> requestBody = Map.of(
-                "data", List.of(text, language)
-            );
-
-            String response = client.post()
-                    .uri("/gradio_api/call/synthesize")
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .body(requestBody)
-                    .retrieve()
-                    .body(String.class);
-
-            log.debug("Gradio TTS 호출 응답: {}", response);
-
-            // event_id로 결과 가져오기
-            JsonNode responseNode = objectMapper.readTree(response);
-            String eventId = responseNode.get("event_id").asText();
-
-            String result = client.get()
-                    .uri("/gradio_api/call/synthesize/" + eventId)
-                    .retrieve()
-                    .body(String.class);
-
-            log.debug("Gradio TTS 결과: {}", result);
-
-            // 결과 파싱 (오디오 파일 경로 또는 Base64)
-            String audioData = parseGradioAudioResult(result);
-
+        try (InputStream audio = openSynthesizedAudio(text, language).body()) {
+            // 기존 클라이언트 호환을 위해 Base64로 응답 (스트리밍은 openSynthesis 사용)
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            try (OutputStream encoder = Base64.getEncoder().wrap(buffer)) {
+                audio.transferTo(encoder);
+            }
             log.info("Gradio TTS 완료");
-            return new GradioTtsResponse(audioData, "wav", 24000);
+            return new GradioTtsResponse(buffer.toString(StandardCharsets.ISO_8859_1), "wav", 24000);
 
         } catch (Exception e) {
             log.error("Gradio TTS 실패", e);
@@ -180,93 +142,88 @@ public class GradioVoiceService {
     }
 
     /**
-     * Gradio SSE 응답 파싱 (텍스트 결과)
+     * 텍스트를 음성으로 변환한 결과 파일 열기 (스트리밍 응답용)
+     *
+     * @param text     변환할 텍스트
+     * @param language 언어 (Korean, English, Japanese)
+     * @return 결과 오디오 파일 응답 (본문 스트림은 호출자가 닫아야 함)
      */
-    private String parseGradioResult(String sseResponse) {
+    public HttpResponse<InputStream> openSynthesis(String text, String language) {
+        log.info("Gradio TTS 스트리밍 요청 - 텍스트 길이: {}, 언어: {}", text.length(), language);
+
+        if (!config.isEffectivelyEnabled()) {
+            throw new BusinessException(ErrorCode.VOICE_SERVER_NOT_AVAILABLE);
+        }
+
         try {
-            // SSE 형식: event: complete\ndata: ["결과텍스트"]
-            String[] lines = sseResponse.split("\n");
-            for (String line : lines) {
-                if (line.startsWith("data: ")) {
-                    String jsonData = line.substring(6);
-                    JsonNode dataNode = objectMapper.readTree(jsonData);
-                    if (dataNode.isArray() && dataNode.size() > 0) {
-                        return dataNode.get(0).asText();
-                    }
-                }
-            }
-            return "";
+            return openSynthesizedAudio(text, language);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.TTS_SERVICE_ERROR);
         } catch (Exception e) {
-            log.warn("Gradio 응답 파싱 실패: {}", sseResponse, e);
-            return sseResponse;
+            log.error("Gradio TTS 실패", e);
+            throw new BusinessException(ErrorCode.TTS_SERVICE_ERROR);
         }
     }
 
     /**
-     * Gradio SSE 응답 파싱 (오디오 결과)
+     * 합성 작업 등록 → SSE 결과 대기 → 결과 파일 열기
+     * (백엔드 사용은 파일 응답을 연 시점에 끝난 것으로 기록)
      */
-    private String parseGradioAudioResult(String sseResponse) {
+    private HttpResponse<InputStream> openSynthesizedAudio(String text, String language) throws Exception {
+        VoiceBackendPool.Lease lease = backendPool.acquire();
+        VoiceBackend backend = lease.backend();
+        boolean success = false;
         try {
-            // SSE 형식: event: complete\ndata: [{"path": "/tmp/xxx.wav", ...}]
-            String[] lines = sseResponse.split("\n");
-            for (String line : lines) {
-                if (line.startsWith("data: ")) {
-                    String jsonData = line.substring(6);
-                    JsonNode dataNode = objectMapper.readTree(jsonData);
-                    if (dataNode.isArray() && dataNode.size() > 0) {
-                        JsonNode audioNode = dataNode.get(0);
-                        if (audioNode.has("url")) {
-                            // URL로 오디오 다운로드
-                            return downloadAudioAsBase64(audioNode.get("url").asText());
-                        } else if (audioNode.has("path")) {
-                            return audioNode.get("path").asText();
-                        }
-                    }
-                }
+            GradioJob job = gradioClient.submit(backend, "synthesize", List.of(text, language), this::logProgress);
+            JsonNode output = gradioClient.await(job);
+            if (output == null || !output.isArray() || output.isEmpty() || output.get(0).isNull()) {
+                throw new IllegalStateException("Gradio TTS 결과가 비어 있습니다.");
             }
-            return "";
-        } catch (Exception e) {
-            log.warn("Gradio 오디오 응답 파싱 실패: {}", sseResponse, e);
-            return "";
+            // 결과 형식: [{"path": "/tmp/xxx.wav", "url": "https://.../file=/tmp/xxx.wav", ...}]
+            HttpResponse<InputStream> response = gradioClient.openFile(job, output.get(0));
+            success = true;
+            return response;
+        } finally {
+            backendPool.release(lease, success);
         }
     }
 
-    /**
-     * 오디오 URL에서 다운로드 후 Base64 인코딩
-     */
-    private String downloadAudioAsBase64(String url) {
-        try {
-            RestClient client = createDynamicRestClient();
-            byte[] audioBytes = client.get()
-                    .uri(url)
-                    .retrieve()
-                    .body(byte[].class);
-
-            return Base64.getEncoder().encodeToString(audioBytes);
-        } catch (Exception e) {
-            log.error("오디오 다운로드 실패: {}", url, e);
-            return "";
+    private void logProgress(GradioClient.Event event) {
+        if (event.queueRank() != null) {
+            log.info("Gradio 대기열 대기 중 - 순번: {}", event.queueRank());
         }
     }
 
     /**
-     * Gradio 서비스 헬스체크
+     * Gradio 서비스 헬스체크 (라우팅 가능한 백엔드가 하나라도 있으면 정상)
+     *
+     * 백엔드에 직접 요청하지 않고 주기적 헬스체크와 실제 요청 결과로 갱신된 백엔드 풀 상태를 그대로 보고합니다.
      */
     public boolean isHealthy() {
+        return config.isEffectivelyEnabled() && backendPool.hasAvailableBackend();
+    }
+
+    /**
+     * 백엔드별 능동 헬스체크 (결과에 따라 백엔드 제외/복귀)
+     */
+    void probeBackends() {
         if (!config.isEffectivelyEnabled()) {
-            return false;
+            return;
         }
 
-        try {
-            RestClient client = createDynamicRestClient();
-            String response = client.get()
-                    .uri("/")
-                    .retrieve()
-                    .body(String.class);
-            return response != null && !response.isEmpty();
-        } catch (Exception e) {
-            log.warn("Gradio 헬스체크 실패", e);
-            return false;
+        for (VoiceBackend backend : backendPool.getBackends()) {
+            boolean healthy;
+            try {
+                healthy = gradioClient.ping(backend);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.debug("Gradio 헬스체크 실패 - backend: {}, error: {}", backend.getUrl(), e.getMessage());
+                healthy = false;
+            }
+            backendPool.recordProbe(backend, healthy);
         }
     }
 
@@ -274,37 +231,21 @@ public class GradioVoiceService {
      * 현재 서버 상태 조회
      */
     public VoiceServerStatus getStatus() {
-        String url = config.getEffectiveServiceUrl();
+        List<String> urls = backendPool.getUrls();
+        String url = urls.isEmpty() ? null : String.join(", ", urls);
         boolean enabled = config.isEffectivelyEnabled();
-        boolean available = enabled && url != null && !url.isBlank();
+        boolean available = enabled && !urls.isEmpty();
 
         boolean healthy = false;
         String message = "음성 서버가 설정되지 않았습니다.";
 
         if (available) {
-            try {
-                healthy = isHealthy();
-                message = healthy ? "정상 연결됨" : "연결 실패";
-            } catch (Exception e) {
-                message = "연결 실패: " + e.getMessage();
-            }
+            healthy = isHealthy();
+            message = healthy ? "정상 연결됨" : "연결 실패 (사용 가능한 백엔드 없음)";
         } else if (!enabled) {
             message = "음성 서버가 비활성화되어 있습니다.";
         }
 
-        return new VoiceServerStatus(enabled, url, available, healthy, message);
-    }
-
-    /**
-     * 동적 URL을 사용하는 RestClient 생성
-     */
-    private RestClient createDynamicRestClient() {
-        String effectiveUrl = config.getEffectiveServiceUrl();
-        if (effectiveUrl == null || effectiveUrl.isBlank()) {
-            effectiveUrl = "http://localhost:7860";
-        }
-        return RestClient.builder()
-                .baseUrl(effectiveUrl)
-                .build();
+        return new VoiceServerStatus(enabled, url, available, healthy, message, backendPool.getStatuses());
     }
 }
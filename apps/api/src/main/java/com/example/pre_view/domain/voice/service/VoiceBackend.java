@@ -0,0 +1,88 @@
+package com.example.pre_view.domain.voice.service;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 음성 백엔드 풀의 Gradio 서버 한 대
+ *
+ * 라우팅에 필요한 상태(처리 중 요청 수, 응답 시간 EWMA, 연속 실패 횟수, 제외 여부, 복귀 진행 상태)를 보관합니다.
+ * 상태 변경은 VoiceBackendPool을 통해서만 이루어집니다.
+ */
+public class VoiceBackend {
+
+    private final String url;
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicInteger consecutiveProbeSuccesses = new AtomicInteger();
+    private final AtomicReference<VoiceBackendPool.Lease> trial = new AtomicReference<>();
+    private volatile double ewmaLatencyMillis = 0;
+    private volatile boolean ejected = false;
+
+    VoiceBackend(String url) {
+        this.url = url;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * 현재 처리 중인 요청 수
+     */
+    public int getOutstanding() {
+        return outstanding.get();
+    }
+
+    /**
+     * 응답 시간 지수 가중 이동 평균 (밀리초, 성공한 요청 기준)
+     */
+    public double getEwmaLatencyMillis() {
+        return ewmaLatencyMillis;
+    }
+
+    public int getConsecutiveFailures() {
+        return consecutiveFailures.get();
+    }
+
+    /**
+     * 라우팅 대상 여부 (연속 실패로 제외되지 않은 상태)
+     */
+    public boolean isAvailable() {
+        return !ejected;
+    }
+
+    /**
+     * 복귀 시험 상태 여부 (제외된 뒤 헬스체크가 한 번 이상 성공했지만 아직 복귀 기준에 못 미친 상태)
+     */
+    public boolean isHalfOpen() {
+        return ejected && consecutiveProbeSuccesses.get() > 0;
+    }
+
+    AtomicInteger outstanding() {
+        return outstanding;
+    }
+
+    AtomicInteger consecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    AtomicInteger consecutiveProbeSuccesses() {
+        return consecutiveProbeSuccesses;
+    }
+
+    /**
+     * 진행 중인 복귀 시험 요청의 임대 (없으면 null)
+     */
+    AtomicReference<VoiceBackendPool.Lease> trial() {
+        return trial;
+    }
+
+    void setEwmaLatencyMillis(double ewmaLatencyMillis) {
+        this.ewmaLatencyMillis = ewmaLatencyMillis;
+    }
+
+    void setEjected(boolean ejected) {
+        this.ejected = ejected;
+    }
+}
@@ -0,0 +1,305 @@
+package com.example.pre_view.domain.voice.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import com.example.pre_view.common.exception.BusinessException;
+import com.example.pre_view.common.exception.ErrorCode;
+import com.example.pre_view.domain.voice.config.GradioVoiceConfig;
+import com.example.pre_view.domain.voice.dto.VoiceBackendStatus;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 음성 백엔드(Gradio 서버) 풀
+ *
+ * 여러 Gradio 서버(Kaggle/Colab 워커 등)에 음성 요청을 분산합니다.
+ * - 라우팅: 처리 중 요청 수가 가장 적은 백엔드 선택, 동률이면 응답 시간 EWMA가 낮은 백엔드
+ * - 제외: 요청 또는 헬스체크가 연속 failureThreshold회 실패하면 라우팅에서 제외
+ * - 복귀: 제외된 백엔드는 헬스체크가 연속 recoveryThreshold회 성공하면 다시 라우팅 대상에 포함
+ *   헬스체크가 한 번 이상 성공한 복귀 시험(half-open) 상태에서는 실제 요청 하나를 시험으로 보내고,
+ *   성공하면 바로 복귀, 실패하면 복귀 진행을 처음부터 다시 시작
+ *   (시험 여부는 acquire가 돌려준 임대(Lease)에 기록되며, 그 임대의 성공만 복귀로 인정.
+ *   제외 전에 시작된 요청이나 복귀 진행이 초기화되기 전의 시험 요청이 성공해도 복귀시키지 않음)
+ * - 모든 백엔드가 제외된 경우에는 요청을 거부하지 않고 전체 백엔드 중에서 선택 (fail-open)
+ * - 메트릭: 백엔드별 처리 중 요청 수, EWMA, 가용 여부, 요청 처리 시간 (backend 태그)
+ */
+@Slf4j
+@Component
+public class VoiceBackendPool {
+
+    private static final double EWMA_ALPHA = 0.3;
+
+    private static final Comparator<VoiceBackend> LEAST_LOADED = Comparator
+            .comparingInt(VoiceBackend::getOutstanding)
+            .thenComparingDouble(VoiceBackend::getEwmaLatencyMillis);
+
+    private final GradioVoiceConfig config;
+    private final MeterRegistry meterRegistry;
+
+    private final List<VoiceBackend> backends = new CopyOnWriteArrayList<>();
+    private final Map<String, List<Meter>> backendMeters = new ConcurrentHashMap<>();
+
+    public VoiceBackendPool(GradioVoiceConfig config, MeterRegistry meterRegistry) {
+        this.config = config;
+        this.meterRegistry = meterRegistry;
+
+        config.getConfiguredServiceUrls().forEach(this::add);
+        Gauge.builder("gradio.backend.count", backends, List::size)
+                .description("음성 백엔드 풀에 등록된 서버 수")
+                .register(meterRegistry);
+        log.info("음성 백엔드 풀 초기화 - backends: {}", getUrls());
+    }
+
+    /**
+     * 요청을 보낼 백엔드 선택 (처리 중 요청 수 증가)
+     * 요청이 끝나면 반환된 임대로 반드시 release를 호출해야 합니다.
+     */
+    public Lease acquire() {
+        List<VoiceBackend> snapshot = List.copyOf(backends);
+        if (snapshot.isEmpty()) {
+            throw new BusinessException(ErrorCode.VOICE_SERVER_NOT_AVAILABLE);
+        }
+
+        // 복귀 시험 중인 백엔드가 있으면 시험 요청 하나를 우선 배정
+        long startNanos = System.nanoTime();
+        for (VoiceBackend backend : snapshot) {
+            if (!backend.isHalfOpen()) {
+                continue;
+            }
+            synchronized (backend) {
+                // 확인 후 배정 사이에 복귀 진행이 초기화되지 않도록 상태 변경과 같은 락에서 배정
+                if (backend.isHalfOpen() && backend.trial().get() == null) {
+                    Lease trial = new Lease(backend, startNanos, true);
+                    backend.trial().set(trial);
+                    backend.outstanding().incrementAndGet();
+                    return trial;
+                }
+            }
+        }
+
+        VoiceBackend selected = snapshot.stream()
+                .filter(VoiceBackend::isAvailable)
+                .min(LEAST_LOADED)
+                .orElse(null);
+        if (selected == null) {
+            log.warn("사용 가능한 음성 백엔드가 없어 전체 백엔드 중에서 선택 - backends: {}", snapshot.size());
+            selected = snapshot.stream().min(LEAST_LOADED).orElseThrow();
+        }
+
+        selected.outstanding().incrementAndGet();
+        return new Lease(selected, startNanos, false);
+    }
+
+    /**
+     * 요청 완료 기록
+     *
+     * @param lease acquire로 받은 임대
+     * @param success 성공 여부
+     */
+    public void release(Lease lease, boolean success) {
+        VoiceBackend backend = lease.backend();
+        backend.outstanding().decrementAndGet();
+
+        long elapsedNanos = System.nanoTime() - lease.startNanos();
+        Timer.builder("gradio.backend.request")
+                .description("음성 백엔드별 요청 처리 시간")
+                .tag("backend", backend.getUrl())
+                .tag("outcome", success ? "success" : "failure")
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        if (success) {
+            double latencyMillis = elapsedNanos / 1_000_000.0;
+            double previous = backend.getEwmaLatencyMillis();
+            backend.setEwmaLatencyMillis(previous == 0
+                    ? latencyMillis
+                    : EWMA_ALPHA * latencyMillis + (1 - EWMA_ALPHA) * previous);
+            markRequestSuccess(lease);
+        } else {
+            markFailure(backend, "요청 실패");
+        }
+    }
+
+    /**
+     * 헬스체크 결과 기록 (제외된 백엔드는 연속 recoveryThreshold회 성공 시 복귀)
+     */
+    public void recordProbe(VoiceBackend backend, boolean healthy) {
+        if (!healthy) {
+            markFailure(backend, "헬스체크 실패");
+            return;
+        }
+        synchronized (backend) {
+            backend.consecutiveFailures().set(0);
+            if (!backend.isAvailable()) {
+                int successes = backend.consecutiveProbeSuccesses().incrementAndGet();
+                if (successes >= Math.max(1, config.getRecoveryThreshold())) {
+                    readmit(backend, "헬스체크 연속 " + successes + "회 성공");
+                }
+            }
+        }
+    }
+
+    /**
+     * 백엔드 추가 (이미 등록된 URL이면 기존 백엔드 반환)
+     */
+    public synchronized VoiceBackend add(String url) {
+        String normalized = normalize(url);
+        VoiceBackend existing = find(normalized);
+        if (existing != null) {
+            return existing;
+        }
+
+        VoiceBackend backend = new VoiceBackend(normalized);
+        backends.add(backend);
+        backendMeters.put(normalized, List.of(
+                Gauge.builder("gradio.backend.outstanding", backend, VoiceBackend::getOutstanding)
+                        .description("음성 백엔드별 처리 중 요청 수")
+                        .tag("backend", normalized)
+                        .register(meterRegistry),
+                Gauge.builder("gradio.backend.latency.ewma", backend, VoiceBackend::getEwmaLatencyMillis)
+                        .description("음성 백엔드별 응답 시간 EWMA (밀리초)")
+                        .tag("backend", normalized)
+                        .register(meterRegistry),
+                Gauge.builder("gradio.backend.available", backend, b -> b.isAvailable() ? 1 : 0)
+                        .description("음성 백엔드 라우팅 대상 여부 (1: 사용 가능, 0: 제외)")
+                        .tag("backend", normalized)
+                        .register(meterRegistry)
+        ));
+        log.info("음성 백엔드 추가 - url: {}", normalized);
+        return backend;
+    }
+
+    /**
+     * 백엔드 제거 (처리 중인 요청은 그대로 완료됨)
+     *
+     * @return 제거 여부
+     */
+    public synchronized boolean remove(String url) {
+        String normalized = normalize(url);
+        VoiceBackend backend = find(normalized);
+        if (backend == null) {
+            return false;
+        }
+
+        backends.remove(backend);
+        List<Meter> meters = backendMeters.remove(normalized);
+        if (meters != null) {
+            meters.forEach(meterRegistry::remove);
+        }
+        log.info("음성 백엔드 제거 - url: {}", normalized);
+        return true;
+    }
+
+    /**
+     * 전체 백엔드를 주어진 URL 하나로 교체 (기존 단일 URL 설정 API 호환)
+     */
+    public synchronized void replaceAll(String url) {
+        String normalized = normalize(url);
+        for (String existing : getUrls()) {
+            if (!existing.equals(normalized)) {
+                remove(existing);
+            }
+        }
+        add(normalized);
+    }
+
+    public List<VoiceBackend> getBackends() {
+        return List.copyOf(backends);
+    }
+
+    public List<String> getUrls() {
+        return backends.stream().map(VoiceBackend::getUrl).toList();
+    }
+
+    /**
+     * 라우팅 가능한 백엔드 존재 여부
+     */
+    public boolean hasAvailableBackend() {
+        return backends.stream().anyMatch(VoiceBackend::isAvailable);
+    }
+
+    public List<VoiceBackendStatus> getStatuses() {
+        List<VoiceBackendStatus> statuses = new ArrayList<>();
+        for (VoiceBackend backend : backends) {
+            statuses.add(new VoiceBackendStatus(
+                    backend.getUrl(),
+                    backend.isAvailable(),
+                    backend.isHalfOpen(),
+                    backend.getOutstanding(),
+                    backend.getEwmaLatencyMillis(),
+                    backend.getConsecutiveFailures()));
+        }
+        return statuses;
+    }
+
+    private void markRequestSuccess(Lease lease) {
+        VoiceBackend backend = lease.backend();
+        synchronized (backend) {
+            backend.consecutiveFailures().set(0);
+            // 지금 진행 중인 시험 요청으로 배정된 임대의 성공만 복귀로 인정
+            if (lease.trial() && backend.trial().get() == lease) {
+                readmit(backend, "시험 요청 성공");
+            }
+        }
+    }
+
+    private void markFailure(VoiceBackend backend, String reason) {
+        synchronized (backend) {
+            int failures = backend.consecutiveFailures().incrementAndGet();
+            if (!backend.isAvailable()) {
+                // 제외/복귀 시험 중 실패하면 복귀 진행을 처음부터 다시 시작
+                resetRecovery(backend);
+                return;
+            }
+            if (failures >= config.getFailureThreshold()) {
+                backend.setEjected(true);
+                resetRecovery(backend);
+                log.warn("음성 백엔드 제외 - url: {}, 연속 실패: {}, 사유: {}", backend.getUrl(), failures, reason);
+            }
+        }
+    }
+
+    private void readmit(VoiceBackend backend, String reason) {
+        backend.setEjected(false);
+        resetRecovery(backend);
+        log.info("음성 백엔드 복귀 - url: {}, 사유: {}", backend.getUrl(), reason);
+    }
+
+    private static void resetRecovery(VoiceBackend backend) {
+        backend.consecutiveProbeSuccesses().set(0);
+        backend.trial().set(null);
+    }
+
+    private VoiceBackend find(String normalizedUrl) {
+        return backends.stream()
+                .filter(backend -> backend.getUrl().equals(normalizedUrl))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static String normalize(String url) {
+        return url.trim().replaceAll("/+$", "");
+    }
+
+    /**
+     * 백엔드 임대 (acquire 한 번에 하나, release로 반납)
+     *
+     * @param backend 요청을 보낼 백엔드
+     * @param startNanos 요청 시작 시각 (System.nanoTime)
+     * @param trial 복귀 시험 요청 여부
+     */
+    public record Lease(VoiceBackend backend, long startNanos, boolean trial) {
+    }
+}
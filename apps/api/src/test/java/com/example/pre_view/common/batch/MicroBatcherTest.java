@@ -0,0 +1,152 @@
+package com.example.pre_view.common.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * MicroBatcher 단위 테스트
+ */
+class MicroBatcherTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<List<String>> handledBatches = new CopyOnWriteArrayList<>();
+    private MicroBatcher<String, String> batcher;
+
+    @AfterEach
+    void tearDown() {
+        if (batcher != null) {
+            batcher.close();
+        }
+    }
+
+    @Test
+    @DisplayName("maxBatchSize개가 모이면 대기 시간 전에 바로 배치를 처리한다")
+    void submit_fullBatch_flushesImmediately() {
+        // given - 대기 시간이 충분히 길어 시간 기준으로는 처리되지 않음
+        batcher = new MicroBatcher<>("test", 3, 60_000, this::upperCase, meterRegistry);
+
+        // when
+        List<CompletableFuture<String>> futures = List.of(
+                batcher.submit("ko", "a"), batcher.submit("ko", "b"), batcher.submit("ko", "c"));
+
+        // then
+        assertThat(CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)))
+                .succeedsWithin(TIMEOUT);
+        assertThat(handledBatches).containsExactly(List.of("a", "b", "c"));
+        assertThat(meterRegistry.summary("test.batch.size").totalAmount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("maxBatchSize보다 적게 모여도 maxWaitMillis가 지나면 배치를 처리한다")
+    void submit_partialBatch_flushesAfterMaxWait() {
+        // given
+        batcher = new MicroBatcher<>("test", 10, 20, this::upperCase, meterRegistry);
+
+        // when
+        CompletableFuture<String> first = batcher.submit("ko", "a");
+        CompletableFuture<String> second = batcher.submit("ko", "b");
+
+        // then
+        assertThat(first).succeedsWithin(TIMEOUT).isEqualTo("A");
+        assertThat(second).succeedsWithin(TIMEOUT).isEqualTo("B");
+        assertThat(handledBatches).containsExactly(List.of("a", "b"));
+    }
+
+    @Test
+    @DisplayName("배치 결과를 요청 순서대로 각 호출자에게 돌려주고, 키가 다르면 따로 묶는다")
+    void submit_fansOutResultsPerKey() {
+        // given
+        batcher = new MicroBatcher<>("test", 2, 60_000, this::upperCase, meterRegistry);
+
+        // when
+        CompletableFuture<String> koFirst = batcher.submit("ko", "a");
+        CompletableFuture<String> enFirst = batcher.submit("en", "x");
+        CompletableFuture<String> koSecond = batcher.submit("ko", "b");
+        CompletableFuture<String> enSecond = batcher.submit("en", "y");
+
+        // then
+        assertThat(koFirst).succeedsWithin(TIMEOUT).isEqualTo("A");
+        assertThat(koSecond).succeedsWithin(TIMEOUT).isEqualTo("B");
+        assertThat(enFirst).succeedsWithin(TIMEOUT).isEqualTo("X");
+        assertThat(enSecond).succeedsWithin(TIMEOUT).isEqualTo("Y");
+        assertThat(handledBatches).containsExactlyInAnyOrder(List.of("a", "b"), List.of("x", "y"));
+    }
+
+    @Test
+    @DisplayName("배치 처리가 실패하면 배치의 모든 요청이 같은 예외로 실패한다")
+    void submit_handlerFailure_failsAllFutures() {
+        // given
+        IllegalStateException failure = new IllegalStateException("backend down");
+        batcher = new MicroBatcher<>("test", 2, 60_000, (key, items) -> {
+            throw failure;
+        }, meterRegistry);
+
+        // when
+        CompletableFuture<String> first = batcher.submit("ko", "a");
+        CompletableFuture<String> second = batcher.submit("ko", "b");
+
+        // then
+        assertThat(first).failsWithin(TIMEOUT).withThrowableThat().withCause(failure);
+        assertThat(second).failsWithin(TIMEOUT).withThrowableThat().withCause(failure);
+    }
+
+    @Test
+    @DisplayName("배치 결과 수가 요청 수와 다르면 모든 요청이 실패한다")
+    void submit_resultSizeMismatch_failsAllFutures() {
+        // given
+        batcher = new MicroBatcher<>("test", 2, 60_000, (key, items) -> List.of("only one"), meterRegistry);
+
+        // when
+        CompletableFuture<String> first = batcher.submit("ko", "a");
+        CompletableFuture<String> second = batcher.submit("ko", "b");
+
+        // then
+        assertThat(first).failsWithin(TIMEOUT).withThrowableThat()
+                .withCauseInstanceOf(IllegalStateException.class);
+        assertThat(second).failsWithin(TIMEOUT).withThrowableThat()
+                .withCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("close 이후의 요청과 모이던 요청은 RejectedExecutionException으로 완료된다")
+    void close_rejectsNewAndPendingRequests() throws InterruptedException {
+        // given
+        CountDownLatch handled = new CountDownLatch(1);
+        batcher = new MicroBatcher<>("test", 10, 60_000, (key, items) -> {
+            handled.countDown();
+            return items;
+        }, meterRegistry);
+        CompletableFuture<String> pending = batcher.submit("ko", "a");
+
+        // when
+        batcher.close();
+        CompletableFuture<String> afterClose = batcher.submit("ko", "b");
+
+        // then
+        assertThat(pending).failsWithin(TIMEOUT).withThrowableThat()
+                .withCauseInstanceOf(RejectedExecutionException.class);
+        assertThat(afterClose).failsWithin(TIMEOUT).withThrowableThat()
+                .withCauseInstanceOf(RejectedExecutionException.class);
+        assertThat(handled.await(50, TimeUnit.MILLISECONDS)).isFalse();
+    }
+
+    private List<String> upperCase(String key, List<String> items) {
+        handledBatches.add(List.copyOf(items));
+        return items.stream().map(String::toUpperCase).toList();
+    }
+}
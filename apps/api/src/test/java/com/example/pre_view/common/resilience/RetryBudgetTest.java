@@ -0,0 +1,156 @@
+package com.example.pre_view.common.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.pre_view.common.exception.BusinessException;
+import com.example.pre_view.common.exception.ErrorCode;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * RetryBudget 단위 테스트
+ *
+ * application.yaml과 같은 구성(aiServiceRetry 3회 → llmServiceRetry 2회)의 Resilience4j Retry를
+ * RetryBudgetAspect처럼 요청 범위로 감싸 실제 시도 횟수와 예산 사용량을 확인합니다.
+ */
+class RetryBudgetTest {
+
+    private static final String OUTER = "aiServiceRetry";
+    private static final String INNER = "llmServiceRetry";
+
+    private MeterRegistry meterRegistry;
+    private RetryBudget retryBudget;
+    private Retry outerRetry;
+    private Retry innerRetry;
+
+    @BeforeEach
+    void setUp() {
+        RetryBudgetConfig config = new RetryBudgetConfig();
+        config.setMaxRetriesPerRequest(2);
+        config.setMaxTokens(20);
+
+        meterRegistry = new SimpleMeterRegistry();
+        retryBudget = new RetryBudget(config, new DeadlineConfig(), meterRegistry);
+        outerRetry = budgetedRetry(OUTER, 3);
+        innerRetry = budgetedRetry(INNER, 2);
+    }
+
+    @Test
+    @DisplayName("중첩된 재시도 계층의 시도 횟수가 곱해지지 않고 요청 예산 안에서 끝난다")
+    void nestedRetries_doNotMultiply() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<String> upstream = () -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("LLM 서버 오류");
+        };
+
+        // when
+        assertThatThrownBy(() -> call(outerRetry, () -> call(innerRetry, upstream)))
+                .isInstanceOf(IllegalStateException.class);
+
+        // then: 최초 1회 + 요청 예산 2회 (예산이 없으면 3 x 2 = 6회)
+        assertThat(calls).hasValue(3);
+        assertThat(tokens()).isEqualTo(18);
+    }
+
+    @Test
+    @DisplayName("계층의 마지막 시도 실패는 예산을 쓰지 않는다")
+    void lastAttempt_doesNotConsumeBudget() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        assertThatThrownBy(() -> call(innerRetry, () -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("LLM 서버 오류");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // then
+        assertThat(calls).hasValue(2);
+        assertThat(tokens()).isEqualTo(19);
+    }
+
+    @Test
+    @DisplayName("서킷 브레이커 거부는 재시도하지 않고 예산도 쓰지 않는다")
+    void circuitBreakerRejection_doesNotConsumeBudget() {
+        assertNotRetried(CallNotPermittedException.createCallNotPermittedException(CircuitBreaker.ofDefaults(INNER)));
+    }
+
+    @Test
+    @DisplayName("벌크헤드 거부는 재시도하지 않고 예산도 쓰지 않는다")
+    void bulkheadRejection_doesNotConsumeBudget() {
+        assertNotRetried(BulkheadFullException.createBulkheadFullException(Bulkhead.ofDefaults(INNER)));
+    }
+
+    @Test
+    @DisplayName("4xx 클라이언트 오류는 재시도하지 않고 예산도 쓰지 않는다")
+    void clientError_doesNotConsumeBudget() {
+        assertNotRetried(new BusinessException(ErrorCode.INVALID_INPUT));
+    }
+
+    /**
+     * 거부/클라이언트 오류가 나도 같은 요청의 이후 서버 오류는 요청 예산 2회를 모두 쓸 수 있어야 함
+     */
+    private void assertNotRetried(RuntimeException failure) {
+        // given
+        AtomicInteger rejectedCalls = new AtomicInteger();
+        AtomicInteger failedCalls = new AtomicInteger();
+
+        // when
+        try (RetryBudget.Scope scope = retryBudget.openScope()) {
+            assertThatThrownBy(() -> call(innerRetry, () -> {
+                rejectedCalls.incrementAndGet();
+                throw failure;
+            })).isSameAs(failure);
+            double tokensAfterRejection = tokens();
+
+            assertThatThrownBy(() -> call(outerRetry, () -> {
+                failedCalls.incrementAndGet();
+                throw new IllegalStateException("AI 서버 오류");
+            })).isInstanceOf(IllegalStateException.class);
+
+            // then
+            assertThat(tokensAfterRejection).isEqualTo(20);
+        }
+        assertThat(rejectedCalls).hasValue(1);
+        assertThat(failedCalls).hasValue(3);
+    }
+
+    private Retry budgetedRetry(String name, int maxAttempts) {
+        return Retry.of(name, RetryConfig.custom()
+                .maxAttempts(maxAttempts)
+                .waitDuration(Duration.ofMillis(1))
+                .retryOnException(e -> retryBudget.tryAcquire(name, maxAttempts, e))
+                .build());
+    }
+
+    /**
+     * RetryBudgetAspect와 같이 재시도 인스턴스 바깥을 요청 범위로 감싸 호출
+     */
+    private <T> T call(Retry retry, Supplier<T> supplier) {
+        try (RetryBudget.Scope scope = retryBudget.openScope()) {
+            return retry.executeSupplier(supplier);
+        }
+    }
+
+    private double tokens() {
+        return meterRegistry.get("resilience.retry.budget.tokens").gauge().value();
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.pre_view.common.retrieval;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Bm25Index 단위 테스트
+ */
+class Bm25IndexTest {
+
+    @Test
+    @DisplayName("빈 줄을 경계로 청크를 나눈다")
+    void build_splitsChunksAtBlankLines() {
+        // when
+        Bm25Index index = Bm25Index.build("주문 결제 시스템을 개발\n\nReact 프론트엔드\n\nKafka를 도입", 150);
+
+        // then
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.chunk(1)).isEqualTo("React 프론트엔드");
+    }
+
+    @Test
+    @DisplayName("청크 크기보다 긴 줄은 잘라서 나누고, 남은 부분은 다음 줄과 합친다")
+    void build_splitsOverLongLines() {
+        // given
+        String longLine = "가".repeat(25);
+
+        // when
+        Bm25Index index = Bm25Index.build(longLine + "\n짧은 줄", 10);
+
+        // then
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(IntStream.range(0, index.size()).map(index::tokens)).allMatch(tokens -> tokens <= 10);
+        assertThat(index.chunk(0) + index.chunk(1) + index.chunk(2)).isEqualTo(longLine + "\n짧은 줄");
+    }
+
+    @Test
+    @DisplayName("영문/숫자는 소문자 단어로, 한글은 2글자 단위로 나눈다")
+    void terms_splitsWordsAndHangulBigrams() {
+        assertThat(Bm25Index.terms("결제시스템을 C++ Kafka를 써"))
+                .containsExactly("결제", "제시", "시스", "스템", "템을", "c++", "kafka", "를", "써");
+    }
+
+    @Test
+    @DisplayName("한글은 띄어쓰기나 조사가 달라도 bigram으로 매칭한다")
+    void score_matchesHangulBigrams() {
+        // given
+        Bm25Index index = Bm25Index.build("주문 결제 시스템을 개발\n\nReact 프론트엔드\n\nKafka를 도입", 150);
+
+        // when
+        double[] hangulScores = index.score("결제시스템 구축");
+        double[] englishScores = index.score("KAFKA");
+
+        // then
+        assertThat(hangulScores[0]).isPositive();
+        assertThat(hangulScores[1]).isZero();
+        assertThat(hangulScores[2]).isZero();
+        assertThat(englishScores[2]).isPositive();
+        assertThat(englishScores[0]).isZero();
+    }
+
+    @Test
+    @DisplayName("텍스트가 없으면 빈 인덱스를 만든다")
+    void build_emptyText() {
+        // when
+        Bm25Index index = Bm25Index.build(null, 150);
+
+        // then
+        assertThat(index.size()).isZero();
+        assertThat(index.score("Java")).isEmpty();
+    }
+}
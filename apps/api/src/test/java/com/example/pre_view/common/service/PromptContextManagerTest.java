@@ -0,0 +1,216 @@
+package com.example.pre_view.common.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.example.pre_view.common.retrieval.DocumentIndexStore;
+import com.example.pre_view.common.retrieval.DocumentType;
+import com.example.pre_view.common.service.PromptContextManager.ConversationHistory;
+import com.example.pre_view.common.service.PromptContextManager.DocumentSelection;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * PromptContextManager 단위 테스트
+ */
+class PromptContextManagerTest {
+
+    private static final int HISTORY_TOKEN_BUDGET = 200;
+
+    private PromptContextConfig config;
+    private PromptContextManager contextManager;
+
+    @BeforeEach
+    void setUp() {
+        config = new PromptContextConfig();
+        config.setHistoryTokenBudget(HISTORY_TOKEN_BUDGET);
+        config.setRecentTurns(2);
+        config.setSummaryTokens(20);
+
+        contextManager = new PromptContextManager(config, new DocumentIndexStore(config, new SimpleMeterRegistry()));
+    }
+
+    @Nested
+    @DisplayName("이력서/포트폴리오 섹션")
+    class SelectDocument {
+
+        // 청크 토큰 수: 18, 12, 24, 17, 19 (합계 90)
+        private static final String RESUME = String.join("\n\n",
+                "Java Spring Boot로 결제 시스템을 개발했습니다.",
+                "등산과 독서를 좋아합니다.",
+                "Kafka 기반 주문 이벤트 처리 파이프라인을 구축했습니다.",
+                "대학 동아리에서 밴드 활동을 했습니다.",
+                "Redis 캐시로 결제 API 응답 시간을 줄였습니다.");
+
+        @BeforeEach
+        void setUp() {
+            config.setChunkTokens(30);
+            config.setDocumentTokenBudget(45);
+            config.setTopicTokenBudget(100);
+        }
+
+        @Test
+        @DisplayName("예산 이내의 문서는 그대로 포함한다")
+        void withinBudget_includesWholeText() {
+            // when
+            DocumentSelection selection = contextManager.selectDocument(DocumentType.RESUME, "Java 백엔드 개발", "Java");
+
+            // then
+            assertThat(selection.section()).isEqualTo("**이력서 내용:**\nJava 백엔드 개발");
+            assertThat(selection.index()).isNull();
+        }
+
+        @Test
+        @DisplayName("관련도 높은 청크부터 예산 안에서 고르고 원래 문서 순서대로 배치한다")
+        void overBudget_selectsRelevantChunksInDocumentOrder() {
+            // when
+            DocumentSelection selection = contextManager.selectDocument(
+                    DocumentType.RESUME, RESUME, "Kafka 주문 이벤트 파이프라인, Java");
+
+            // then
+            assertThat(selection.includedChunks()).isEqualTo(Set.of(0, 2));
+            assertThat(TokenEstimator.estimate(String.join("\n",
+                    selection.index().chunk(0), selection.index().chunk(2))))
+                    .isLessThanOrEqualTo(config.getDocumentTokenBudget());
+            assertThat(selection.section())
+                    .startsWith("**이력서 내용:**\nJava Spring Boot로 결제 시스템을 개발했습니다.\nKafka 기반")
+                    .endsWith("(관련도가 낮은 내용 일부 생략)")
+                    .doesNotContain("등산", "밴드", "Redis");
+        }
+
+        @Test
+        @DisplayName("현재 주제 섹션에는 이미 포함된 청크를 다시 넣지 않는다")
+        void topicSection_excludesIncludedChunks() {
+            // given
+            DocumentSelection selection = contextManager.selectDocument(
+                    DocumentType.RESUME, RESUME, "Kafka 주문 이벤트 파이프라인, Java");
+
+            // when
+            String topic = contextManager.topicSection(List.of(selection), "결제 시스템 성능 개선 경험");
+
+            // then
+            assertThat(topic).isEqualTo("**현재 주제 관련 문서 내용:**\n"
+                    + "- (이력서) Redis 캐시로 결제 API 응답 시간을 줄였습니다.\n");
+        }
+
+        @Test
+        @DisplayName("관련 청크가 없으면 현재 주제 섹션을 만들지 않는다")
+        void topicSection_noRelevantChunk() {
+            // given
+            DocumentSelection selection = contextManager.selectDocument(
+                    DocumentType.RESUME, RESUME, "Kafka 주문 이벤트 파이프라인, Java");
+
+            // when & then
+            assertThat(contextManager.topicSection(List.of(selection), "Kubernetes")).isEmpty();
+            assertThat(contextManager.topicSection(List.of(selection), null)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Q&A 히스토리")
+    class RenderHistory {
+
+        @Test
+        @DisplayName("최근 질문-답변이 길어도 머리말과 생략 안내까지 합쳐 예산을 넘지 않는다")
+        void longRecentTurns_stayWithinBudget() {
+            // given
+            List<String> questions = new ArrayList<>();
+            List<String> answers = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                questions.add("가".repeat(300));
+                answers.add("나".repeat(300));
+            }
+
+            // when
+            String history = contextManager.renderHistory(contextManager.newHistory(), questions, answers);
+
+            // then
+            assertThat(TokenEstimator.estimate(history)).isLessThanOrEqualTo(HISTORY_TOKEN_BUDGET);
+            assertThat(history).contains("(이전 질문 8개 생략)", "[질문 9]", "[질문 10]", "…");
+        }
+
+        @Test
+        @DisplayName("남은 예산만큼 최신 요약부터 포함하고 오래된 요약은 생략한다")
+        void summaries_keepNewestWithinBudget() {
+            // given
+            List<String> questions = new ArrayList<>();
+            List<String> answers = new ArrayList<>();
+            for (int i = 1; i <= 8; i++) {
+                questions.add(i + "번 질문 " + "가".repeat(100));
+                answers.add(i + "번 답변 " + "나".repeat(100));
+            }
+            questions.addAll(List.of("짧은 질문 9", "짧은 질문 10"));
+            answers.addAll(List.of("짧은 답변 9", "짧은 답변 10"));
+
+            // when
+            String history = contextManager.renderHistory(contextManager.newHistory(), questions, answers);
+
+            // then
+            assertThat(TokenEstimator.estimate(history)).isLessThanOrEqualTo(HISTORY_TOKEN_BUDGET);
+            assertThat(history)
+                    .contains("(이전 질문 4개 생략)", "[질문 5 요약] Q: 5번 질문", "[질문 8 요약]")
+                    .contains("짧은 질문 9", "짧은 답변 10")
+                    .doesNotContain("[질문 4 요약]");
+        }
+
+        @Test
+        @DisplayName("이전 호출의 연장이면 기존 요약에 이어서 요약한다")
+        void continuation_appendsSummaries() {
+            // given
+            ConversationHistory state = contextManager.newHistory();
+            List<String> questions = new ArrayList<>(List.of("A1 질문", "A2 질문", "A3 질문", "A4 질문"));
+            List<String> answers = new ArrayList<>(List.of("A1 답변", "A2 답변", "A3 답변", "A4 답변"));
+            contextManager.renderHistory(state, questions, answers);
+
+            // when
+            questions.add("A5 질문");
+            answers.add("A5 답변");
+            String history = contextManager.renderHistory(state, questions, answers);
+
+            // then
+            assertThat(history).contains("[질문 1 요약] Q: A1 질문", "[질문 3 요약] Q: A3 질문", "[질문 5]");
+        }
+
+        @Test
+        @DisplayName("마지막 질문-답변이 이전 호출과 다르면 요약을 처음부터 다시 만든다")
+        void differentHistory_resetsSummaries() {
+            // given
+            ConversationHistory state = contextManager.newHistory();
+            contextManager.renderHistory(state,
+                    List.of("A1 질문", "A2 질문", "A3 질문", "A4 질문"),
+                    List.of("A1 답변", "A2 답변", "A3 답변", "A4 답변"));
+
+            // when
+            String history = contextManager.renderHistory(state,
+                    List.of("B1 질문", "B2 질문", "B3 질문", "B4 질문"),
+                    List.of("B1 답변", "B2 답변", "B3 답변", "B4 답변"));
+
+            // then
+            assertThat(history).contains("[질문 1 요약] Q: B1 질문", "[질문 2 요약] Q: B2 질문")
+                    .doesNotContain("A1", "A2");
+        }
+
+        @Test
+        @DisplayName("같은 개수여도 마지막 답변이 바뀌면 이전 요약을 재사용하지 않는다")
+        void editedLastAnswer_resetsSummaries() {
+            // given
+            ConversationHistory state = contextManager.newHistory();
+            List<String> questions = List.of("A1 질문", "A2 질문", "A3 질문");
+            contextManager.renderHistory(state, questions, List.of("A1 답변", "A2 답변", "A3 답변"));
+
+            // when
+            String history = contextManager.renderHistory(state, questions, List.of("C1 답변", "A2 답변", "C3 답변"));
+
+            // then
+            assertThat(history).contains("[질문 1 요약] Q: A1 질문 / A: C1 답변").doesNotContain("A1 답변");
+        }
+    }
+}
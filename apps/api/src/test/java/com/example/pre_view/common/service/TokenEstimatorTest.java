@@ -0,0 +1,51 @@
+package com.example.pre_view.common.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * TokenEstimator 단위 테스트
+ */
+class TokenEstimatorTest {
+
+    @Test
+    @DisplayName("영문/숫자는 4글자당 1토큰, 한글과 기호는 1글자당 1토큰으로 추정한다")
+    void estimate() {
+        assertThat(TokenEstimator.estimate("Java, Spring!")).isEqualTo(5);
+        assertThat(TokenEstimator.estimate("스프링 부트")).isEqualTo(5);
+        assertThat(TokenEstimator.estimate(null)).isZero();
+    }
+
+    @Test
+    @DisplayName("예산 이내의 텍스트는 그대로 반환한다")
+    void truncate_withinBudget_returnsSameText() {
+        // given
+        String text = "Spring 부트";
+
+        // when & then
+        assertThat(TokenEstimator.truncate(text, 4)).isSameAs(text);
+        assertThat(TokenEstimator.truncate(null, 4)).isNull();
+    }
+
+    @Test
+    @DisplayName("예산을 넘지 않는 가장 긴 앞부분만 남긴다")
+    void truncate_keepsLongestPrefixWithinBudget() {
+        assertThat(TokenEstimator.truncate("abcdefghij", 2)).isEqualTo("abcdefgh");
+        assertThat(TokenEstimator.truncate("Spring 부트", 3)).isEqualTo("Spring 부");
+        assertThat(TokenEstimator.truncate("가나다라", 2)).isEqualTo("가나");
+        assertThat(TokenEstimator.truncate("가나", 0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("서로게이트 쌍 문자는 중간에서 자르지 않는다")
+    void truncate_doesNotSplitSurrogatePair() {
+        // when
+        String truncated = TokenEstimator.truncate("😀😀😀", 2);
+
+        // then
+        assertThat(truncated).isEqualTo("😀😀");
+        assertThat(TokenEstimator.estimate(truncated)).isEqualTo(2);
+    }
+}
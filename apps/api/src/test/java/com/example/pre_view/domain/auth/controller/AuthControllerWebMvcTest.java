@@ -37,7 +37,7 @@ import com.example.pre_view.domain.auth.dto.TokenReissueRequest;
 import com.example.pre_view.domain.auth.dto.TokenResponse;
 import com.example.pre_view.domain.auth.jwt.JwtAuthenticationFilter;
 import com.example.pre_view.domain.auth.jwt.JwtTokenProvider;
-import com.example.pre_view.domain.auth.service.AccessTokenBlacklistService;
+import com.example.pre_view.domain.auth.service.TokenRevocationService;
 import com.example.pre_view.domain.auth.service.AuthService;
 
 import tools.jackson.databind.json.JsonMapper;
@@ -88,7 +88,7 @@ class AuthControllerWebMvcTest {
     private JwtTokenProvider jwtTokenProvider;
 
     @MockitoBean
-    private AccessTokenBlacklistService accessTokenBlacklistService;
+    private TokenRevocationService tokenRevocationService;
 
     private final JsonMapper jsonMapper = JsonMapper.builder().build();
 
@@ -208,7 +208,7 @@ class AuthControllerWebMvcTest {
                 // given
                 LoginRequest request = new LoginRequest("test@example.com", "password123!");
                 TokenResponse tokenResponse = TokenResponse.of("accessToken", "refreshToken");
-                given(authService.login(any(LoginRequest.class))).willReturn(tokenResponse);
+                given(authService.login(any(LoginRequest.class), anyString())).willReturn(tokenResponse);
 
                 // when & then
                 mockMvc.perform(post("/api/v1/auth/login")
@@ -232,7 +232,7 @@ class AuthControllerWebMvcTest {
                 // given
                 LoginRequest request = new LoginRequest("test@example.com", "wrongPassword");
                 willThrow(new BusinessException(ErrorCode.INVALID_CREDENTIALS))
-                        .given(authService).login(any(LoginRequest.class));
+                        .given(authService).login(any(LoginRequest.class), anyString());
 
                 // when & then
                 mockMvc.perform(post("/api/v1/auth/login")
@@ -254,7 +254,7 @@ class AuthControllerWebMvcTest {
                 // given
                 LoginRequest request = new LoginRequest("locked@example.com", "password123!");
                 willThrow(new BusinessException(ErrorCode.ACCOUNT_LOCKED))
-                        .given(authService).login(any(LoginRequest.class));
+                        .given(authService).login(any(LoginRequest.class), anyString());
 
                 // when & then
                 mockMvc.perform(post("/api/v1/auth/login")
@@ -0,0 +1,234 @@
+package com.example.pre_view.domain.auth.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import javax.crypto.SecretKey;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.example.pre_view.domain.auth.config.JwtKeyConfig;
+
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * JwtKeyRing 단위 테스트
+ */
+class JwtKeyRingTest {
+
+    private static final String SECRET = "test-jwt-secret-key-for-unit-tests-minimum-256-bits";
+
+    private final KeyPair previousKeyPair = ed25519KeyPair();
+    private final KeyPair activeKeyPair = ed25519KeyPair();
+
+    @Nested
+    @DisplayName("HS256 모드")
+    class Hs256Test {
+
+        @Test
+        @DisplayName("hs-default kid로 서명하고 kid 없는 기존 토큰도 검증한다")
+        void sign_usesDefaultKid() {
+            // given
+            JwtKeyRing keyRing = new JwtKeyRing(new JwtKeyConfig(), SECRET);
+
+            // when
+            String token = keyRing.sign(Jwts.builder().subject("1")).compact();
+            String legacyToken = Jwts.builder().subject("1").signWith(hmacKey()).compact();
+
+            // then
+            assertThat(parser(keyRing).parseSignedClaims(token).getHeader().getKeyId()).isEqualTo("hs-default");
+            assertThat(parser(keyRing).parseSignedClaims(legacyToken).getPayload().getSubject()).isEqualTo("1");
+            assertThat(keyRing.getJwkSet()).isEqualTo(Map.of("keys", List.of()));
+        }
+    }
+
+    @Nested
+    @DisplayName("EdDSA 모드")
+    class EdDsaTest {
+
+        @Test
+        @DisplayName("active-key-id로 지정한 키로 서명한다")
+        void sign_usesActiveKeyId() {
+            // given
+            JwtKeyRing keyRing = new JwtKeyRing(rotatedConfig(future()), SECRET);
+
+            // when
+            String token = keyRing.sign(Jwts.builder().subject("1")).compact();
+
+            // then
+            var jws = parser(keyRing).parseSignedClaims(token);
+            assertThat(jws.getHeader().getKeyId()).isEqualTo("2026-01");
+            assertThat(jws.getHeader().getAlgorithm()).isEqualTo("EdDSA");
+        }
+
+        @Test
+        @DisplayName("이전 키로 서명된 토큰은 verify-until 전까지만 검증한다")
+        void verify_previousKey_onlyWithinOverlapWindow() {
+            // given
+            String token = Jwts.builder().header().keyId("2025-07").and()
+                    .subject("1")
+                    .signWith(previousKeyPair.getPrivate(), Jwts.SIG.EdDSA)
+                    .compact();
+            JwtKeyRing withinWindow = new JwtKeyRing(rotatedConfig(future()), SECRET);
+            JwtKeyRing afterWindow = new JwtKeyRing(rotatedConfig(past()), SECRET);
+
+            // when & then
+            assertThat(parser(withinWindow).parseSignedClaims(token).getPayload().getSubject()).isEqualTo("1");
+            assertThatThrownBy(() -> parser(afterWindow).parseSignedClaims(token))
+                    .isInstanceOf(JwtException.class)
+                    .hasMessageContaining("2025-07");
+        }
+
+        @Test
+        @DisplayName("전환 전 HS256 토큰은 legacy-hmac-verify-until 전까지 검증 전용으로 허용한다")
+        void verify_legacyHmacToken_onlyWithinOverlapWindow() {
+            // given
+            String token = Jwts.builder().header().keyId("hs-default").and()
+                    .subject("1")
+                    .signWith(hmacKey())
+                    .compact();
+            String tokenWithoutKid = Jwts.builder().subject("1").signWith(hmacKey()).compact();
+            JwtKeyConfig withinWindow = rotatedConfig(future());
+            withinWindow.setLegacyHmacVerifyUntil(future());
+            JwtKeyConfig afterWindow = rotatedConfig(future());
+            afterWindow.setLegacyHmacVerifyUntil(past());
+
+            JwtKeyRing keyRing = new JwtKeyRing(withinWindow, SECRET);
+            JwtKeyRing expiredKeyRing = new JwtKeyRing(afterWindow, SECRET);
+
+            // when & then
+            assertThat(parser(keyRing).parseSignedClaims(token).getPayload().getSubject()).isEqualTo("1");
+            assertThat(parser(keyRing).parseSignedClaims(tokenWithoutKid).getPayload().getSubject()).isEqualTo("1");
+            assertThatThrownBy(() -> parser(expiredKeyRing).parseSignedClaims(token))
+                    .isInstanceOf(JwtException.class);
+            // HS256 키는 서명에 사용하지 않음
+            assertThat(parser(keyRing).parseSignedClaims(keyRing.sign(Jwts.builder().subject("1")).compact())
+                    .getHeader().getKeyId()).isEqualTo("2026-01");
+        }
+
+        @Test
+        @DisplayName("legacy-hmac-verify-until이 없으면 secret이 있어도 HS256 토큰과 kid 없는 토큰을 거부한다")
+        void verify_withoutLegacyVerifyUntil_rejectsHmacAndKidlessTokens() {
+            // given
+            String token = Jwts.builder().header().keyId("hs-default").and()
+                    .subject("1")
+                    .signWith(hmacKey())
+                    .compact();
+            String tokenWithoutKid = Jwts.builder().subject("1").signWith(hmacKey()).compact();
+            JwtKeyRing keyRing = new JwtKeyRing(rotatedConfig(future()), SECRET);
+
+            // when & then
+            assertThatThrownBy(() -> parser(keyRing).parseSignedClaims(token))
+                    .isInstanceOf(JwtException.class)
+                    .hasMessageContaining("hs-default");
+            assertThatThrownBy(() -> parser(keyRing).parseSignedClaims(tokenWithoutKid))
+                    .isInstanceOf(JwtException.class)
+                    .hasMessageContaining("kid");
+        }
+
+        @Test
+        @DisplayName("secret이 없으면 HS256 토큰을 거부한다")
+        void verify_withoutSecret_rejectsHmacToken() {
+            // given
+            String token = Jwts.builder().header().keyId("hs-default").and()
+                    .subject("1")
+                    .signWith(hmacKey())
+                    .compact();
+            JwtKeyRing keyRing = new JwtKeyRing(rotatedConfig(future()), "");
+
+            // when & then
+            assertThatThrownBy(() -> parser(keyRing).parseSignedClaims(token))
+                    .isInstanceOf(JwtException.class)
+                    .hasMessageContaining("hs-default");
+        }
+
+        @Test
+        @DisplayName("JWKS에는 검증 기간 안의 공개 키만 포함하고 HS256 키는 공개하지 않는다")
+        void getJwkSet_exposesUsablePublicKeysOnly() {
+            // given
+            JwtKeyRing keyRing = new JwtKeyRing(rotatedConfig(future()), SECRET);
+            JwtKeyRing afterWindow = new JwtKeyRing(rotatedConfig(past()), SECRET);
+
+            // when
+            List<Map<String, Object>> keys = jwks(keyRing);
+            List<Map<String, Object>> keysAfterWindow = jwks(afterWindow);
+
+            // then
+            assertThat(keys).extracting(jwk -> jwk.get("kid")).containsExactly("2025-07", "2026-01");
+            assertThat(keys).allSatisfy(jwk -> {
+                assertThat(jwk).containsEntry("kty", "OKP")
+                        .containsEntry("crv", "Ed25519")
+                        .containsEntry("alg", "EdDSA")
+                        .containsEntry("use", "sig");
+                assertThat(Base64.getUrlDecoder().decode((String) jwk.get("x"))).hasSize(32);
+            });
+            assertThat(keysAfterWindow).extracting(jwk -> jwk.get("kid")).containsExactly("2026-01");
+        }
+    }
+
+    private JwtKeyConfig rotatedConfig(String previousVerifyUntil) {
+        JwtKeyConfig.Key previous = new JwtKeyConfig.Key();
+        previous.setKid("2025-07");
+        previous.setPublicKey(encode(previousKeyPair.getPublic().getEncoded()));
+        previous.setVerifyUntil(previousVerifyUntil);
+
+        JwtKeyConfig.Key active = new JwtKeyConfig.Key();
+        active.setKid("2026-01");
+        active.setPrivateKey(encode(activeKeyPair.getPrivate().getEncoded()));
+        active.setPublicKey(encode(activeKeyPair.getPublic().getEncoded()));
+
+        JwtKeyConfig config = new JwtKeyConfig();
+        config.setAlgorithm("EdDSA");
+        config.setActiveKeyId("2026-01");
+        config.setKeys(List.of(previous, active));
+        return config;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> jwks(JwtKeyRing keyRing) {
+        return (List<Map<String, Object>>) keyRing.getJwkSet().get("keys");
+    }
+
+    private static JwtParser parser(JwtKeyRing keyRing) {
+        return Jwts.parser().keyLocator(keyRing.keyLocator()).build();
+    }
+
+    private static SecretKey hmacKey() {
+        return Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static KeyPair ed25519KeyPair() {
+        try {
+            return KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String encode(byte[] bytes) {
+        return Base64.getEncoder().encodeToString(bytes);
+    }
+
+    private static String future() {
+        return Instant.now().plus(1, ChronoUnit.DAYS).toString();
+    }
+
+    private static String past() {
+        return Instant.now().minus(1, ChronoUnit.DAYS).toString();
+    }
+}
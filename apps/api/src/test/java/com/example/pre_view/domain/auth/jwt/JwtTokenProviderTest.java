@@ -0,0 +1,44 @@
+package com.example.pre_view.domain.auth.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.pre_view.domain.auth.config.JwtKeyConfig;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * JwtTokenProvider 단위 테스트
+ */
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-jwt-secret-key-for-unit-tests-minimum-256-bits";
+
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        JwtKeyRing keyRing = new JwtKeyRing(new JwtKeyConfig(), SECRET);
+        jwtTokenProvider = new JwtTokenProvider(keyRing, 900_000L, 604_800_000L);
+    }
+
+    @Test
+    @DisplayName("같은 기기에서 연속으로 재발급한 Refresh Token은 매번 다르다")
+    void createRefreshToken_consecutiveRotations_distinctTokens() {
+        // when - 같은 초 안에 연속 재발급
+        String first = jwtTokenProvider.createRefreshToken("1", "device-1");
+        String second = jwtTokenProvider.createRefreshToken("1", "device-1");
+
+        // then
+        assertThat(second).isNotEqualTo(first);
+        Claims firstClaims = jwtTokenProvider.parseClaimsAllowExpired(first);
+        Claims secondClaims = jwtTokenProvider.parseClaimsAllowExpired(second);
+        assertThat(firstClaims.getId()).isNotBlank().isNotEqualTo(secondClaims.getId());
+        assertThat(secondClaims.getSubject()).isEqualTo("1");
+        assertThat(secondClaims.get("sid", String.class)).isEqualTo("device-1");
+        assertThat(jwtTokenProvider.getTokenType(second)).isEqualTo("refresh");
+    }
+}
@@ -18,7 +18,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 import com.example.pre_view.common.exception.BusinessException;
 import com.example.pre_view.common.exception.ErrorCode;
@@ -43,7 +42,7 @@ class AuthServiceTest {
     private RefreshTokenService refreshTokenService;
 
     @Mock
-    private AccessTokenBlacklistService blacklistService;
+    private TokenRevocationService tokenRevocationService;
 
     @Mock
     private LoginAttemptService loginAttemptService;
@@ -52,7 +51,7 @@ class AuthServiceTest {
     private MemberRepository memberRepository;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
 
     @InjectMocks
     private AuthService authService;
@@ -61,6 +60,9 @@ class AuthServiceTest {
     private final String TEST_EMAIL = "test@example.com";
     private final String TEST_PASSWORD = "password123!";
     private final String ENCODED_PASSWORD = "encodedPassword";
+    private final String TEST_IP = "127.0.0.1";
+    private final LoginAttemptService.LoginAttempt attempt =
+            new LoginAttemptService.LoginAttempt("attemptId", "login_attempt:email:" + TEST_EMAIL, "login_attempt:ip:" + TEST_IP);
 
     @BeforeEach
     void setUp() {
@@ -82,7 +84,7 @@ class AuthServiceTest {
             // given
             SignupRequest request = new SignupRequest(TEST_EMAIL, "테스트 유저", TEST_PASSWORD);
             given(memberRepository.existsByEmail(TEST_EMAIL)).willReturn(false);
-            given(passwordEncoder.encode(TEST_PASSWORD)).willReturn(ENCODED_PASSWORD);
+            given(passwordHashingService.encode(TEST_PASSWORD)).willReturn(ENCODED_PASSWORD);
 
             // when
             authService.signup(request);
@@ -116,22 +118,43 @@ class AuthServiceTest {
         void login_withValidCredentials_returnsTokens() {
             // given
             LoginRequest request = new LoginRequest(TEST_EMAIL, TEST_PASSWORD);
-            given(loginAttemptService.isLocked(TEST_EMAIL)).willReturn(false);
+            given(loginAttemptService.acquire(TEST_EMAIL, TEST_IP)).willReturn(attempt);
             given(memberRepository.findByEmail(TEST_EMAIL)).willReturn(Optional.of(testMember));
-            given(passwordEncoder.matches(TEST_PASSWORD, ENCODED_PASSWORD)).willReturn(true);
-            given(jwtTokenProvider.createAccessToken(anyString(), anyString())).willReturn("accessToken");
-            given(jwtTokenProvider.createRefreshToken(anyString())).willReturn("refreshToken");
+            given(passwordHashingService.matches(TEST_PASSWORD, ENCODED_PASSWORD)).willReturn(true);
+            given(jwtTokenProvider.createAccessToken(anyString(), anyString(), anyString())).willReturn("accessToken");
+            given(jwtTokenProvider.createRefreshToken(anyString(), anyString())).willReturn("refreshToken");
 
             // when
-            TokenResponse response = authService.login(request);
+            TokenResponse response = authService.login(request, TEST_IP);
 
             // then
             assertThat(response).isNotNull();
             assertThat(response.accessToken()).isEqualTo("accessToken");
             assertThat(response.refreshToken()).isEqualTo("refreshToken");
 
-            verify(loginAttemptService).resetAttempts(TEST_EMAIL);
-            verify(refreshTokenService).save(anyString(), anyString());
+            verify(loginAttemptService).recordSuccess(attempt);
+            verify(refreshTokenService).save(anyString(), anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("저장된 해시의 cost가 설정과 다르면 로그인 성공 시 재해싱한다")
+        void login_withOutdatedHashCost_rehashesPassword() {
+            // given
+            LoginRequest request = new LoginRequest(TEST_EMAIL, TEST_PASSWORD);
+            given(loginAttemptService.acquire(TEST_EMAIL, TEST_IP)).willReturn(attempt);
+            given(memberRepository.findByEmail(TEST_EMAIL)).willReturn(Optional.of(testMember));
+            given(passwordHashingService.matches(TEST_PASSWORD, ENCODED_PASSWORD)).willReturn(true);
+            given(passwordHashingService.needsRehash(ENCODED_PASSWORD)).willReturn(true);
+            given(passwordHashingService.encode(TEST_PASSWORD)).willReturn("rehashedPassword");
+            given(jwtTokenProvider.createAccessToken(anyString(), anyString(), anyString())).willReturn("accessToken");
+            given(jwtTokenProvider.createRefreshToken(anyString(), anyString())).willReturn("refreshToken");
+
+            // when
+            authService.login(request, TEST_IP);
+
+            // then
+            assertThat(testMember.getPassword()).isEqualTo("rehashedPassword");
+            verify(memberRepository).save(testMember);
         }
 
         @Test
@@ -139,15 +162,15 @@ class AuthServiceTest {
         void login_withInvalidEmail_throwsException() {
             // given
             LoginRequest request = new LoginRequest("wrong@example.com", TEST_PASSWORD);
-            given(loginAttemptService.isLocked("wrong@example.com")).willReturn(false);
+            given(loginAttemptService.acquire("wrong@example.com", TEST_IP)).willReturn(attempt);
             given(memberRepository.findByEmail("wrong@example.com")).willReturn(Optional.empty());
 
             // when & then
-            assertThatThrownBy(() -> authService.login(request))
+            assertThatThrownBy(() -> authService.login(request, TEST_IP))
                     .isInstanceOf(BusinessException.class)
                     .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_CREDENTIALS);
 
-            verify(loginAttemptService).recordFailedAttempt("wrong@example.com");
+            verify(loginAttemptService, never()).recordSuccess(any());
         }
 
         @Test
@@ -155,16 +178,16 @@ class AuthServiceTest {
         void login_withWrongPassword_throwsException() {
             // given
             LoginRequest request = new LoginRequest(TEST_EMAIL, "wrongPassword");
-            given(loginAttemptService.isLocked(TEST_EMAIL)).willReturn(false);
+            given(loginAttemptService.acquire(TEST_EMAIL, TEST_IP)).willReturn(attempt);
             given(memberRepository.findByEmail(TEST_EMAIL)).willReturn(Optional.of(testMember));
-            given(passwordEncoder.matches("wrongPassword", ENCODED_PASSWORD)).willReturn(false);
+            given(passwordHashingService.matches("wrongPassword", ENCODED_PASSWORD)).willReturn(false);
 
             // when & then
-            assertThatThrownBy(() -> authService.login(request))
+            assertThatThrownBy(() -> authService.login(request, TEST_IP))
                     .isInstanceOf(BusinessException.class)
                     .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_CREDENTIALS);
 
-            verify(loginAttemptService).recordFailedAttempt(TEST_EMAIL);
+            verify(loginAttemptService, never()).recordSuccess(any());
         }
 
         @Test
@@ -172,12 +195,17 @@ class AuthServiceTest {
         void login_withLockedAccount_throwsException() {
             // given
             LoginRequest request = new LoginRequest(TEST_EMAIL, TEST_PASSWORD);
-            given(loginAttemptService.isLocked(TEST_EMAIL)).willReturn(true);
+            given(loginAttemptService.acquire(TEST_EMAIL, TEST_IP))
+                    .willThrow(new BusinessException(ErrorCode.ACCOUNT_LOCKED));
 
             // when & then
-            assertThatThrownBy(() -> authService.login(request))
+            assertThatThrownBy(() -> authService.login(request, TEST_IP))
                     .isInstanceOf(BusinessException.class)
                     .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ACCOUNT_LOCKED);
+
+            // 한도 초과 시 비밀번호 검증(BCrypt) 전에 거부
+            verify(memberRepository, never()).findByEmail(anyString());
+            verify(passwordHashingService, never()).matches(anyString(), anyString());
         }
 
         @Test
@@ -186,11 +214,11 @@ class AuthServiceTest {
             // given
             Member oauthMember = Member.createOAuthMember(TEST_EMAIL, "OAuth 유저", null);
             LoginRequest request = new LoginRequest(TEST_EMAIL, TEST_PASSWORD);
-            given(loginAttemptService.isLocked(TEST_EMAIL)).willReturn(false);
+            given(loginAttemptService.acquire(TEST_EMAIL, TEST_IP)).willReturn(attempt);
             given(memberRepository.findByEmail(TEST_EMAIL)).willReturn(Optional.of(oauthMember));
 
             // when & then
-            assertThatThrownBy(() -> authService.login(request))
+            assertThatThrownBy(() -> authService.login(request, TEST_IP))
                     .isInstanceOf(BusinessException.class)
                     .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_LOGIN_METHOD);
         }
@@ -206,14 +234,16 @@ class AuthServiceTest {
             // given
             String refreshToken = "validRefreshToken";
             String memberId = "1";
+            String deviceId = "device-1";
 
             given(jwtTokenProvider.validateToken(refreshToken)).willReturn(true);
             given(jwtTokenProvider.getTokenType(refreshToken)).willReturn("refresh");
             given(jwtTokenProvider.getMemberId(refreshToken)).willReturn(memberId);
-            given(refreshTokenService.validateToken(memberId, refreshToken)).willReturn(true);
+            given(jwtTokenProvider.getDeviceId(refreshToken)).willReturn(deviceId);
+            given(jwtTokenProvider.createRefreshToken(memberId, deviceId)).willReturn("newRefreshToken");
+            given(refreshTokenService.rotate(memberId, deviceId, refreshToken, "newRefreshToken")).willReturn(true);
             given(memberRepository.findById(1L)).willReturn(Optional.of(testMember));
-            given(jwtTokenProvider.createAccessToken(anyString(), anyString())).willReturn("newAccessToken");
-            given(jwtTokenProvider.createRefreshToken(anyString())).willReturn("newRefreshToken");
+            given(jwtTokenProvider.createAccessToken(anyString(), anyString(), anyString())).willReturn("newAccessToken");
 
             // when
             TokenResponse response = authService.reissueToken(refreshToken);
@@ -221,7 +251,7 @@ class AuthServiceTest {
             // then
             assertThat(response.accessToken()).isEqualTo("newAccessToken");
             assertThat(response.refreshToken()).isEqualTo("newRefreshToken");
-            verify(refreshTokenService).save(memberId, "newRefreshToken");
+            verify(refreshTokenService).rotate(memberId, deviceId, refreshToken, "newRefreshToken");
         }
 
         @Test
@@ -257,18 +287,21 @@ class AuthServiceTest {
             // given
             String refreshToken = "stolenToken";
             String memberId = "1";
+            String deviceId = "device-1";
 
             given(jwtTokenProvider.validateToken(refreshToken)).willReturn(true);
             given(jwtTokenProvider.getTokenType(refreshToken)).willReturn("refresh");
             given(jwtTokenProvider.getMemberId(refreshToken)).willReturn(memberId);
-            given(refreshTokenService.validateToken(memberId, refreshToken)).willReturn(false);
+            given(jwtTokenProvider.getDeviceId(refreshToken)).willReturn(deviceId);
+            given(jwtTokenProvider.createRefreshToken(memberId, deviceId)).willReturn("newRefreshToken");
+            given(refreshTokenService.rotate(memberId, deviceId, refreshToken, "newRefreshToken")).willReturn(false);
 
             // when & then
             assertThatThrownBy(() -> authService.reissueToken(refreshToken))
                     .isInstanceOf(BusinessException.class)
                     .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_REFRESH_TOKEN);
 
-            verify(refreshTokenService).delete(memberId);
+            verify(memberRepository, never()).findById(any());
         }
     }
 
@@ -277,8 +310,8 @@ class AuthServiceTest {
     class LogoutTest {
 
         @Test
-        @DisplayName("로그아웃하면 Access Token이 블랙리스트에 등록되고 Refresh Token이 삭제된다")
-        void logout_withValidToken_blacklistsAndDeletesTokens() {
+        @DisplayName("로그아웃하면 현재 세션의 Access Token만 폐기되고 해당 기기의 Refresh Token이 삭제된다")
+        void logout_withValidToken_revokesCurrentSessionOnly() {
             // given
             String accessToken = "validAccessToken";
             String memberId = "1";
@@ -286,18 +319,21 @@ class AuthServiceTest {
 
             given(jwtTokenProvider.getMemberId(accessToken)).willReturn(memberId);
             given(jwtTokenProvider.getRemainingTime(accessToken)).willReturn(remainingTime);
+            given(jwtTokenProvider.getDeviceId(accessToken)).willReturn("device-1");
 
             // when
             authService.logout(accessToken);
 
             // then
-            verify(blacklistService).add(accessToken, memberId, remainingTime);
-            verify(refreshTokenService).delete(memberId);
+            verify(tokenRevocationService).revokeSession(memberId, "device-1");
+            verify(tokenRevocationService, never()).revokeAll(anyString());
+            verify(refreshTokenService).delete(memberId, "device-1");
+            verify(refreshTokenService, never()).deleteAll(anyString());
         }
 
         @Test
-        @DisplayName("만료된 Access Token으로 로그아웃하면 블랙리스트에 등록하지 않는다")
-        void logout_withExpiredToken_skipsBlacklist() {
+        @DisplayName("만료된 Access Token으로 로그아웃하면 토큰 폐기를 생략한다")
+        void logout_withExpiredToken_skipsRevocation() {
             // given
             String expiredToken = "expiredAccessToken";
             String memberId = "1";
@@ -309,8 +345,27 @@ class AuthServiceTest {
             authService.logout(expiredToken);
 
             // then
-            verify(blacklistService, never()).add(anyString(), anyString(), any(Long.class));
-            verify(refreshTokenService).delete(memberId);
+            verify(tokenRevocationService, never()).revokeAll(anyString());
+            verify(tokenRevocationService, never()).revokeSession(anyString(), anyString());
+            verify(refreshTokenService).deleteAll(memberId);
+        }
+
+        @Test
+        @DisplayName("sid 없는 이전 형식 토큰으로 로그아웃하면 회원의 모든 토큰을 폐기한다")
+        void logout_withLegacyTokenWithoutSid_revokesAll() {
+            // given
+            String legacyToken = "legacyAccessToken";
+            String memberId = "1";
+
+            given(jwtTokenProvider.getMemberId(legacyToken)).willReturn(memberId);
+            given(jwtTokenProvider.getRemainingTime(legacyToken)).willReturn(3600000L);
+
+            // when
+            authService.logout(legacyToken);
+
+            // then
+            verify(tokenRevocationService).revokeAll(memberId);
+            verify(refreshTokenService).deleteAll(memberId);
         }
     }
 }
@@ -0,0 +1,122 @@
+package com.example.pre_view.domain.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.pre_view.domain.auth.service.LoginRateLimiter.Limit;
+
+/**
+ * InMemoryLoginRateLimiter 단위 테스트
+ */
+class InMemoryLoginRateLimiterTest {
+
+    private static final Duration WINDOW = Duration.ofMinutes(15);
+    private static final String EMAIL_KEY = "login_attempt:email:test@example.com";
+    private static final String IP_KEY = "login_attempt:ip:127.0.0.1";
+
+    private final InMemoryLoginRateLimiter rateLimiter = new InMemoryLoginRateLimiter();
+
+    @Test
+    @DisplayName("한도까지 허용하고 초과 시 재시도 시간을 반환한다")
+    void tryAcquire_rejectsOverLimit() {
+        // given
+        List<Limit> limits = List.of(new Limit(EMAIL_KEY, 3));
+
+        // when
+        long first = rateLimiter.tryAcquire(limits, WINDOW, "a1");
+        long second = rateLimiter.tryAcquire(limits, WINDOW, "a2");
+        long third = rateLimiter.tryAcquire(limits, WINDOW, "a3");
+        long rejected = rateLimiter.tryAcquire(limits, WINDOW, "a4");
+
+        // then
+        assertThat(List.of(first, second, third)).containsOnly(0L);
+        assertThat(rejected).isPositive().isLessThanOrEqualTo(WINDOW.toMillis());
+    }
+
+    @Test
+    @DisplayName("뒤쪽 키에서 거부되면 앞쪽 키에 기록한 시도를 되돌린다")
+    void tryAcquire_rejectedByLaterKey_rollsBackEarlierKeys() {
+        // given - IP 한도 1회를 먼저 소진
+        rateLimiter.tryAcquire(List.of(new Limit(IP_KEY, 1)), WINDOW, "other");
+
+        // when
+        long rejected = rateLimiter.tryAcquire(
+                List.of(new Limit(EMAIL_KEY, 1), new Limit(IP_KEY, 1)), WINDOW, "a1");
+        long emailOnly = rateLimiter.tryAcquire(List.of(new Limit(EMAIL_KEY, 1)), WINDOW, "a2");
+
+        // then - 이메일 키에는 거부된 시도가 남아 있지 않음
+        assertThat(rejected).isPositive();
+        assertThat(emailOnly).isZero();
+    }
+
+    @Test
+    @DisplayName("release와 reset으로 기록한 시도를 제거한다")
+    void releaseAndReset_freeSlots() {
+        // given
+        List<Limit> limits = List.of(new Limit(EMAIL_KEY, 1));
+        rateLimiter.tryAcquire(limits, WINDOW, "a1");
+
+        // when & then
+        rateLimiter.release(EMAIL_KEY, "a1");
+        assertThat(rateLimiter.tryAcquire(limits, WINDOW, "a2")).isZero();
+
+        rateLimiter.reset(EMAIL_KEY);
+        assertThat(rateLimiter.tryAcquire(limits, WINDOW, "a3")).isZero();
+        assertThat(rateLimiter.tryAcquire(limits, WINDOW, "a4")).isPositive();
+    }
+
+    @Test
+    @DisplayName("윈도우가 지난 키는 정리하고 시도가 남은 키는 유지한다")
+    void tryAcquire_evictsIdleWindows() throws InterruptedException {
+        // given - 정리 기준 수만큼 키를 채운 뒤, 짧은 윈도우 기준으로 모두 지난 시도가 되도록 대기
+        for (int i = 0; i < InMemoryLoginRateLimiter.EVICTION_THRESHOLD; i++) {
+            rateLimiter.tryAcquire(List.of(new Limit("idle:" + i, 5)), WINDOW, "a" + i);
+        }
+        Duration shortWindow = Duration.ofMillis(20);
+        Thread.sleep(50);
+
+        // when
+        rateLimiter.tryAcquire(List.of(new Limit(EMAIL_KEY, 1)), shortWindow, "active");
+
+        // then - 방금 기록한 키만 남음
+        assertThat(rateLimiter.windowCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시 요청에서도 한도를 넘겨 허용하지 않는다")
+    void tryAcquire_concurrent_neverExceedsLimit() throws Exception {
+        // given
+        int maxAttempts = 10;
+        List<Limit> limits = List.of(new Limit(EMAIL_KEY, maxAttempts), new Limit(IP_KEY, maxAttempts * 2));
+        AtomicInteger allowed = new AtomicInteger();
+
+        // when
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                String attemptId = "a" + i;
+                futures.add(executor.submit(() -> {
+                    if (rateLimiter.tryAcquire(limits, WINDOW, attemptId) == 0L) {
+                        allowed.incrementAndGet();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        // then
+        assertThat(allowed).hasValue(maxAttempts);
+    }
+}
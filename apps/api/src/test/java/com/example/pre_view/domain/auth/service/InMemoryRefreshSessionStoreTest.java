@@ -0,0 +1,147 @@
+package com.example.pre_view.domain.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * InMemoryRefreshSessionStore 단위 테스트
+ */
+class InMemoryRefreshSessionStoreTest {
+
+    private static final String MEMBER_ID = "1";
+    private static final long HOUR_MS = 3_600_000L;
+
+    private final InMemoryRefreshSessionStore store = new InMemoryRefreshSessionStore();
+
+    @Nested
+    @DisplayName("세션 교체 (compare-and-set)")
+    class ReplaceTest {
+
+        @Test
+        @DisplayName("저장된 해시와 일치하면 새 해시로 교체하고, 이전 해시로는 다시 교체할 수 없다")
+        void replace_matchingHash_rotates() {
+            // given
+            store.put(MEMBER_ID, "device-1", "hash-1", expiresIn(HOUR_MS), 5);
+
+            // when
+            boolean rotated = store.replace(MEMBER_ID, "device-1", "hash-1", "hash-2", expiresIn(HOUR_MS));
+
+            // then
+            assertThat(rotated).isTrue();
+            assertThat(store.replace(MEMBER_ID, "device-1", "hash-2", "hash-3", expiresIn(HOUR_MS))).isTrue();
+        }
+
+        @Test
+        @DisplayName("이전 해시가 재사용되면 교체하지 않고 해당 기기 세션을 삭제한다")
+        void replace_reusedHash_removesSession() {
+            // given
+            store.put(MEMBER_ID, "device-1", "hash-1", expiresIn(HOUR_MS), 5);
+            store.put(MEMBER_ID, "device-2", "other", expiresIn(HOUR_MS), 5);
+            store.replace(MEMBER_ID, "device-1", "hash-1", "hash-2", expiresIn(HOUR_MS));
+
+            // when
+            boolean reused = store.replace(MEMBER_ID, "device-1", "hash-1", "attacker", expiresIn(HOUR_MS));
+
+            // then - 정상 사용자의 최신 토큰도 무효, 다른 기기는 유지
+            assertThat(reused).isFalse();
+            assertThat(store.replace(MEMBER_ID, "device-1", "hash-2", "hash-3", expiresIn(HOUR_MS))).isFalse();
+            assertThat(store.replace(MEMBER_ID, "device-2", "other", "other-2", expiresIn(HOUR_MS))).isTrue();
+        }
+
+        @Test
+        @DisplayName("만료된 세션은 해시가 일치해도 교체하지 않는다")
+        void replace_expiredSession_fails() {
+            // given - 교체하면서 이미 지난 만료 시각으로 저장
+            store.put(MEMBER_ID, "device-1", "hash-1", expiresIn(HOUR_MS), 5);
+            store.replace(MEMBER_ID, "device-1", "hash-1", "hash-2", System.currentTimeMillis() - 1);
+
+            // when
+            boolean rotated = store.replace(MEMBER_ID, "device-1", "hash-2", "hash-3", expiresIn(HOUR_MS));
+
+            // then
+            assertThat(rotated).isFalse();
+        }
+
+        @Test
+        @DisplayName("세션이 없으면 교체하지 않는다")
+        void replace_unknownSession_fails() {
+            // when & then
+            assertThat(store.replace(MEMBER_ID, "device-1", "hash-1", "hash-2", expiresIn(HOUR_MS))).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("세션 저장")
+    class PutTest {
+
+        @Test
+        @DisplayName("세션 수 상한을 넘으면 만료가 가장 임박한 세션부터 제거한다")
+        void put_overMaxSessions_evictsOldest() {
+            // given
+            store.put(MEMBER_ID, "device-1", "hash-1", expiresIn(HOUR_MS), 2);
+            store.put(MEMBER_ID, "device-2", "hash-2", expiresIn(2 * HOUR_MS), 2);
+
+            // when
+            int evicted = store.put(MEMBER_ID, "device-3", "hash-3", expiresIn(3 * HOUR_MS), 2);
+
+            // then
+            assertThat(evicted).isEqualTo(1);
+            assertThat(store.replace(MEMBER_ID, "device-1", "hash-1", "new", expiresIn(HOUR_MS))).isFalse();
+            assertThat(store.replace(MEMBER_ID, "device-2", "hash-2", "new", expiresIn(HOUR_MS))).isTrue();
+            assertThat(store.replace(MEMBER_ID, "device-3", "hash-3", "new", expiresIn(HOUR_MS))).isTrue();
+        }
+
+        @Test
+        @DisplayName("만료된 세션은 저장 시 정리되며 상한 초과 제거 수에 포함되지 않는다")
+        void put_cleansExpiredSessions() {
+            // given
+            store.put(MEMBER_ID, "device-1", "hash-1", System.currentTimeMillis() - 1, 2);
+            store.put(MEMBER_ID, "device-2", "hash-2", expiresIn(HOUR_MS), 2);
+
+            // when
+            int evicted = store.put(MEMBER_ID, "device-3", "hash-3", expiresIn(2 * HOUR_MS), 2);
+
+            // then
+            assertThat(evicted).isZero();
+            assertThat(store.replace(MEMBER_ID, "device-2", "hash-2", "new", expiresIn(HOUR_MS))).isTrue();
+        }
+
+        @Test
+        @DisplayName("같은 기기로 다시 저장하면 기존 세션을 덮어쓴다")
+        void put_sameDevice_overwrites() {
+            // given
+            store.put(MEMBER_ID, "device-1", "hash-1", expiresIn(HOUR_MS), 1);
+
+            // when
+            int evicted = store.put(MEMBER_ID, "device-1", "hash-2", expiresIn(HOUR_MS), 1);
+
+            // then
+            assertThat(evicted).isZero();
+            assertThat(store.replace(MEMBER_ID, "device-1", "hash-2", "hash-3", expiresIn(HOUR_MS))).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("기기 세션 하나 또는 회원의 모든 세션을 삭제한다")
+    void removeAndRemoveAll() {
+        // given
+        store.put(MEMBER_ID, "device-1", "hash-1", expiresIn(HOUR_MS), 5);
+        store.put(MEMBER_ID, "device-2", "hash-2", expiresIn(HOUR_MS), 5);
+        store.put(MEMBER_ID, "device-3", "hash-3", expiresIn(HOUR_MS), 5);
+
+        // when & then
+        store.remove(MEMBER_ID, "device-1");
+        assertThat(store.replace(MEMBER_ID, "device-1", "hash-1", "new", expiresIn(HOUR_MS))).isFalse();
+        assertThat(store.replace(MEMBER_ID, "device-2", "hash-2", "new-2", expiresIn(HOUR_MS))).isTrue();
+
+        store.removeAll(MEMBER_ID);
+        assertThat(store.replace(MEMBER_ID, "device-3", "hash-3", "new", expiresIn(HOUR_MS))).isFalse();
+    }
+
+    private static long expiresIn(long millis) {
+        return System.currentTimeMillis() + millis;
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.pre_view.domain.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.example.pre_view.common.exception.ErrorCode;
+import com.example.pre_view.common.exception.ServiceBusyException;
+import com.example.pre_view.domain.auth.config.PasswordHashingConfig;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * PasswordHashingService 단위 테스트
+ */
+class PasswordHashingServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PasswordHashingService passwordHashingService;
+
+    @AfterEach
+    void tearDown() {
+        passwordHashingService.shutdown();
+    }
+
+    @Test
+    @DisplayName("전용 풀에서 해싱하고 같은 비밀번호로 검증에 성공한다")
+    void encode_matches() {
+        // given
+        passwordHashingService = createService(new BCryptPasswordEncoder(4), config(4, 1, 1));
+
+        // when
+        String encoded = passwordHashingService.encode("password123");
+
+        // then
+        assertThat(encoded).startsWith("$2a$04$");
+        assertThat(passwordHashingService.matches("password123", encoded)).isTrue();
+        assertThat(passwordHashingService.matches("wrong", encoded)).isFalse();
+    }
+
+    @Test
+    @DisplayName("해싱 스레드와 대기열이 모두 차면 Retry-After와 함께 거부한다")
+    void encode_poolSaturated_rejectsAsBusy() {
+        // given - 스레드 1개, 대기열 1개를 점유하는 해싱 요청
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blockingEncoder = mock(PasswordEncoder.class);
+        given(blockingEncoder.encode(anyString())).willAnswer(invocation -> {
+            release.await();
+            return "encoded";
+        });
+        passwordHashingService = createService(blockingEncoder, config(10, 1, 1));
+
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletableFuture<String> running = CompletableFuture.supplyAsync(
+                    () -> passwordHashingService.encode("first"), callers);
+            CompletableFuture<String> queued = CompletableFuture.supplyAsync(
+                    () -> passwordHashingService.encode("second"), callers);
+            await().atMost(Duration.ofSeconds(5)).until(() ->
+                    meterRegistry.get("auth.password.hashing.active").gauge().value() == 1
+                            && meterRegistry.get("auth.password.hashing.queue.size").gauge().value() == 1);
+
+            // when & then
+            assertThatThrownBy(() -> passwordHashingService.encode("third"))
+                    .isInstanceOf(ServiceBusyException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.AUTH_SERVICE_BUSY)
+                    .hasFieldOrPropertyWithValue("retryAfterSeconds", 2L);
+            assertThat(meterRegistry.counter("auth.password.hashing.rejected").count()).isEqualTo(1);
+
+            // 점유가 풀리면 대기 중이던 요청은 정상 처리
+            release.countDown();
+            assertThat(running.join()).isEqualTo("encoded");
+            assertThat(queued.join()).isEqualTo("encoded");
+        }
+    }
+
+    @Nested
+    @DisplayName("재해싱 필요 여부")
+    class NeedsRehashTest {
+
+        @Test
+        @DisplayName("저장된 해시의 cost가 설정과 다르면 재해싱이 필요하다")
+        void needsRehash_differentCost_true() {
+            // given
+            passwordHashingService = createService(new BCryptPasswordEncoder(4), config(12, 1, 1));
+
+            // when & then
+            assertThat(passwordHashingService.needsRehash("$2a$10$abcdefghijklmnopqrstuu")).isTrue();
+            assertThat(passwordHashingService.needsRehash("$2b$04$abcdefghijklmnopqrstuu")).isTrue();
+        }
+
+        @Test
+        @DisplayName("cost가 설정과 같으면 재해싱이 필요 없다")
+        void needsRehash_sameCost_false() {
+            // given
+            passwordHashingService = createService(new BCryptPasswordEncoder(4), config(12, 1, 1));
+
+            // when & then
+            assertThat(passwordHashingService.needsRehash("$2y$12$abcdefghijklmnopqrstuu")).isFalse();
+        }
+
+        @Test
+        @DisplayName("cost를 읽을 수 없는 형식이면 재해싱하지 않는다")
+        void needsRehash_unparseable_false() {
+            // given
+            passwordHashingService = createService(new BCryptPasswordEncoder(4), config(12, 1, 1));
+
+            // when & then
+            assertThat(passwordHashingService.needsRehash(null)).isFalse();
+            assertThat(passwordHashingService.needsRehash("$2a$1")).isFalse();
+            assertThat(passwordHashingService.needsRehash("{noop}password")).isFalse();
+            assertThat(passwordHashingService.needsRehash("$2a$xx$abcdefghijklmnopqrstuu")).isFalse();
+        }
+
+        @Test
+        @DisplayName("로그인 시 재해싱이 비활성화되면 cost가 달라도 재해싱하지 않는다")
+        void needsRehash_disabled_false() {
+            // given
+            PasswordHashingConfig config = config(12, 1, 1);
+            config.setRehashOnLogin(false);
+            passwordHashingService = createService(new BCryptPasswordEncoder(4), config);
+
+            // when & then
+            assertThat(passwordHashingService.needsRehash("$2a$10$abcdefghijklmnopqrstuu")).isFalse();
+        }
+    }
+
+    private PasswordHashingService createService(PasswordEncoder passwordEncoder, PasswordHashingConfig config) {
+        return new PasswordHashingService(passwordEncoder, config, meterRegistry);
+    }
+
+    private static PasswordHashingConfig config(int bcryptStrength, int poolSize, int queueCapacity) {
+        PasswordHashingConfig config = new PasswordHashingConfig();
+        config.setBcryptStrength(bcryptStrength);
+        config.setPoolSize(poolSize);
+        config.setQueueCapacity(queueCapacity);
+        return config;
+    }
+}
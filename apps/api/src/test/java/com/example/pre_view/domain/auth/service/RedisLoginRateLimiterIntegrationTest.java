@@ -0,0 +1,89 @@
+package com.example.pre_view.domain.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.example.pre_view.domain.auth.service.LoginRateLimiter.Limit;
+import com.example.pre_view.support.IntegrationTestSupport;
+
+/**
+ * RedisLoginRateLimiter 통합 테스트 (Lua 스크립트를 실제 Redis에서 실행)
+ */
+class RedisLoginRateLimiterIntegrationTest extends IntegrationTestSupport {
+
+    private static final Duration WINDOW = Duration.ofMinutes(15);
+
+    @Autowired
+    private RedisLoginRateLimiter rateLimiter;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private String emailKey;
+    private String ipKey;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString();
+        emailKey = "login_attempt:email:" + suffix;
+        ipKey = "login_attempt:ip:" + suffix;
+    }
+
+    @Test
+    @DisplayName("한도까지 허용하고 초과 시 재시도 시간을 반환한다")
+    void tryAcquire_rejectsOverLimit() {
+        // given
+        List<Limit> limits = List.of(new Limit(emailKey, 2));
+
+        // when
+        long first = rateLimiter.tryAcquire(limits, WINDOW, "a1");
+        long second = rateLimiter.tryAcquire(limits, WINDOW, "a2");
+        long rejected = rateLimiter.tryAcquire(limits, WINDOW, "a3");
+
+        // then
+        assertThat(first).isZero();
+        assertThat(second).isZero();
+        assertThat(rejected).isPositive().isLessThanOrEqualTo(WINDOW.toMillis());
+        assertThat(redisTemplate.opsForZSet().size(emailKey)).isEqualTo(2);
+        assertThat(redisTemplate.getExpire(emailKey)).isPositive();
+    }
+
+    @Test
+    @DisplayName("하나의 키라도 한도에 도달하면 어느 키에도 기록하지 않는다")
+    void tryAcquire_rejectedByAnyKey_recordsNothing() {
+        // given
+        rateLimiter.tryAcquire(List.of(new Limit(ipKey, 1)), WINDOW, "other");
+
+        // when
+        long rejected = rateLimiter.tryAcquire(List.of(new Limit(emailKey, 5), new Limit(ipKey, 1)), WINDOW, "a1");
+
+        // then
+        assertThat(rejected).isPositive();
+        assertThat(redisTemplate.opsForZSet().size(emailKey)).isZero();
+    }
+
+    @Test
+    @DisplayName("release와 reset으로 기록한 시도를 제거한다")
+    void releaseAndReset_freeSlots() {
+        // given
+        List<Limit> limits = List.of(new Limit(emailKey, 1));
+        rateLimiter.tryAcquire(limits, WINDOW, "a1");
+
+        // when & then
+        rateLimiter.release(emailKey, "a1");
+        assertThat(rateLimiter.tryAcquire(limits, WINDOW, "a2")).isZero();
+
+        rateLimiter.reset(emailKey);
+        assertThat(redisTemplate.hasKey(emailKey)).isFalse();
+        assertThat(rateLimiter.tryAcquire(limits, WINDOW, "a3")).isZero();
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.pre_view.domain.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.example.pre_view.support.IntegrationTestSupport;
+
+/**
+ * RedisRefreshSessionStore 통합 테스트 (Lua 스크립트를 실제 Redis에서 실행)
+ */
+class RedisRefreshSessionStoreIntegrationTest extends IntegrationTestSupport {
+
+    private static final long HOUR_MS = 3_600_000L;
+
+    @Autowired
+    private RedisRefreshSessionStore store;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private String memberId;
+    private String key;
+
+    @BeforeEach
+    void setUp() {
+        memberId = UUID.randomUUID().toString();
+        key = "refresh_session:" + memberId;
+    }
+
+    @Test
+    @DisplayName("세션 수 상한을 넘으면 만료가 가장 임박한 세션부터 제거하고 키 TTL을 설정한다")
+    void put_overMaxSessions_evictsOldest() {
+        // given
+        store.put(memberId, "device-1", "hash-1", expiresIn(HOUR_MS), 2);
+        store.put(memberId, "device-2", "hash-2", expiresIn(2 * HOUR_MS), 2);
+
+        // when
+        int evicted = store.put(memberId, "device-3", "hash-3", expiresIn(3 * HOUR_MS), 2);
+
+        // then
+        assertThat(evicted).isEqualTo(1);
+        assertThat(redisTemplate.<String, String>opsForHash().keys(key)).containsExactlyInAnyOrder("device-2", "device-3");
+        assertThat(redisTemplate.getExpire(key)).isPositive();
+    }
+
+    @Test
+    @DisplayName("만료된 세션은 저장 시 정리되며 상한 초과 제거 수에 포함되지 않는다")
+    void put_cleansExpiredSessions() {
+        // given
+        redisTemplate.opsForHash().put(key, "expired", "hash-0:" + (System.currentTimeMillis() - 1));
+        store.put(memberId, "device-1", "hash-1", expiresIn(HOUR_MS), 2);
+
+        // when
+        int evicted = store.put(memberId, "device-2", "hash-2", expiresIn(HOUR_MS), 2);
+
+        // then
+        assertThat(evicted).isZero();
+        assertThat(redisTemplate.<String, String>opsForHash().keys(key)).containsExactlyInAnyOrder("device-1", "device-2");
+    }
+
+    @Test
+    @DisplayName("저장된 해시와 일치하면 교체하고, 이전 해시가 재사용되면 해당 기기 세션만 삭제한다")
+    void replace_rotatesAndDetectsReuse() {
+        // given
+        store.put(memberId, "device-1", "hash-1", expiresIn(HOUR_MS), 5);
+        store.put(memberId, "device-2", "other", expiresIn(HOUR_MS), 5);
+
+        // when
+        boolean rotated = store.replace(memberId, "device-1", "hash-1", "hash-2", expiresIn(HOUR_MS));
+        boolean reused = store.replace(memberId, "device-1", "hash-1", "attacker", expiresIn(HOUR_MS));
+
+        // then
+        assertThat(rotated).isTrue();
+        assertThat(reused).isFalse();
+        assertThat(redisTemplate.opsForHash().hasKey(key, "device-1")).isFalse();
+        assertThat(redisTemplate.opsForHash().hasKey(key, "device-2")).isTrue();
+    }
+
+    @Test
+    @DisplayName("만료된 세션은 해시가 일치해도 교체하지 않고 삭제한다")
+    void replace_expiredSession_fails() {
+        // given
+        redisTemplate.opsForHash().put(key, "device-1", "hash-1:" + (System.currentTimeMillis() - 1));
+
+        // when
+        boolean rotated = store.replace(memberId, "device-1", "hash-1", "hash-2", expiresIn(HOUR_MS));
+
+        // then
+        assertThat(rotated).isFalse();
+        assertThat(redisTemplate.opsForHash().hasKey(key, "device-1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("기기 세션 하나 또는 회원의 모든 세션을 삭제한다")
+    void removeAndRemoveAll() {
+        // given
+        store.put(memberId, "device-1", "hash-1", expiresIn(HOUR_MS), 5);
+        store.put(memberId, "device-2", "hash-2", expiresIn(HOUR_MS), 5);
+
+        // when & then
+        store.remove(memberId, "device-1");
+        assertThat(redisTemplate.<String, String>opsForHash().keys(key)).containsExactly("device-2");
+
+        store.removeAll(memberId);
+        assertThat(redisTemplate.hasKey(key)).isFalse();
+    }
+
+    private static long expiresIn(long millis) {
+        return System.currentTimeMillis() + millis;
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.pre_view.domain.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * RefreshTokenService 단위 테스트 (인메모리 세션 저장소 사용)
+ */
+class RefreshTokenServiceTest {
+
+    private static final String MEMBER_ID = "1";
+    private static final long REFRESH_EXPIRATION = 1_209_600_000L;
+
+    private final RefreshTokenService refreshTokenService =
+            new RefreshTokenService(new InMemoryRefreshSessionStore(), REFRESH_EXPIRATION, 2);
+
+    @Test
+    @DisplayName("저장된 토큰으로 재발급하면 새 토큰으로 교체되고, 이후에는 새 토큰으로만 재발급할 수 있다")
+    void rotate_withCurrentToken_succeeds() {
+        // given
+        refreshTokenService.save(MEMBER_ID, "device-1", "refresh-1");
+
+        // when
+        boolean rotated = refreshTokenService.rotate(MEMBER_ID, "device-1", "refresh-1", "refresh-2");
+
+        // then
+        assertThat(rotated).isTrue();
+        assertThat(refreshTokenService.rotate(MEMBER_ID, "device-1", "refresh-2", "refresh-3")).isTrue();
+    }
+
+    @Test
+    @DisplayName("이미 교체된 토큰이 재사용되면 탈취로 보고 해당 기기 세션을 끊는다")
+    void rotate_reusedToken_revokesDeviceSession() {
+        // given
+        refreshTokenService.save(MEMBER_ID, "device-1", "refresh-1");
+        refreshTokenService.save(MEMBER_ID, "device-2", "other-1");
+        refreshTokenService.rotate(MEMBER_ID, "device-1", "refresh-1", "refresh-2");
+
+        // when
+        boolean reused = refreshTokenService.rotate(MEMBER_ID, "device-1", "refresh-1", "stolen-2");
+
+        // then
+        assertThat(reused).isFalse();
+        assertThat(refreshTokenService.rotate(MEMBER_ID, "device-1", "refresh-2", "refresh-3")).isFalse();
+        assertThat(refreshTokenService.rotate(MEMBER_ID, "device-2", "other-1", "other-2")).isTrue();
+    }
+
+    @Test
+    @DisplayName("회원당 세션 수 상한을 넘으면 가장 오래된 기기 세션이 제거된다")
+    void save_overMaxSessions_evictsOldestDevice() throws InterruptedException {
+        // given - 만료 시각이 저장 시각 기준이므로 저장 순서가 곧 만료 순서
+        refreshTokenService.save(MEMBER_ID, "device-1", "refresh-1");
+        Thread.sleep(2);
+        refreshTokenService.save(MEMBER_ID, "device-2", "refresh-2");
+        Thread.sleep(2);
+
+        // when
+        refreshTokenService.save(MEMBER_ID, "device-3", "refresh-3");
+
+        // then
+        assertThat(refreshTokenService.rotate(MEMBER_ID, "device-1", "refresh-1", "new-1")).isFalse();
+        assertThat(refreshTokenService.rotate(MEMBER_ID, "device-2", "refresh-2", "new-2")).isTrue();
+        assertThat(refreshTokenService.rotate(MEMBER_ID, "device-3", "refresh-3", "new-3")).isTrue();
+    }
+
+    @Test
+    @DisplayName("로그아웃한 기기의 토큰으로는 재발급할 수 없고, 전체 삭제 후에는 모든 기기가 재발급할 수 없다")
+    void deleteAndDeleteAll() {
+        // given
+        refreshTokenService.save(MEMBER_ID, "device-1", "refresh-1");
+        refreshTokenService.save(MEMBER_ID, "device-2", "refresh-2");
+
+        // when & then
+        refreshTokenService.delete(MEMBER_ID, "device-1");
+        assertThat(refreshTokenService.rotate(MEMBER_ID, "device-1", "refresh-1", "new-1")).isFalse();
+
+        refreshTokenService.deleteAll(MEMBER_ID);
+        assertThat(refreshTokenService.rotate(MEMBER_ID, "device-2", "refresh-2", "new-2")).isFalse();
+    }
+}
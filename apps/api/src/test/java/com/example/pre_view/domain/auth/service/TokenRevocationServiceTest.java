@@ -0,0 +1,109 @@
+package com.example.pre_view.domain.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.Date;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+/**
+ * TokenRevocationService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationServiceTest {
+
+    private static final String MEMBER_ID = "1";
+    private static final String SESSION_ID = "device-1";
+    private static final String KEY = "token_revoked_before:" + MEMBER_ID;
+    private static final String SESSION_KEY = KEY + ":" + SESSION_ID;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private TokenRevocationService tokenRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        tokenRevocationService = new TokenRevocationService(redisTemplate, 900_000L, 5_000L);
+    }
+
+    @Test
+    @DisplayName("로그아웃 직후 다시 로그인해 발급받은 토큰은 같은 초여도 폐기되지 않는다")
+    void isRevoked_tokenIssuedRightAfterLogout_notRevoked() {
+        // given - 로그아웃 직전에 발급된 토큰
+        Date beforeLogout = new Date(System.currentTimeMillis() - 1);
+
+        // when - 로그아웃 후 즉시 재로그인
+        tokenRevocationService.revokeAll(MEMBER_ID);
+        Date afterLogin = new Date();
+
+        // then
+        assertThat(tokenRevocationService.isRevoked(MEMBER_ID, SESSION_ID, beforeLogout)).isTrue();
+        assertThat(tokenRevocationService.isRevoked(MEMBER_ID, SESSION_ID, afterLogin)).isFalse();
+        verify(valueOperations).set(eq(KEY), anyString(), eq(Duration.ofMillis(900_000L)));
+        verify(valueOperations, never()).get(anyString());
+    }
+
+    @Test
+    @DisplayName("폐기 기록이 없으면 Redis 조회 결과를 캐싱하고 폐기되지 않은 것으로 판단한다")
+    void isRevoked_noRevocation_cachesNegativeResult() {
+        // given
+        given(valueOperations.get(KEY)).willReturn(null);
+
+        // when
+        boolean first = tokenRevocationService.isRevoked(MEMBER_ID, null, new Date());
+        boolean second = tokenRevocationService.isRevoked(MEMBER_ID, null, null);
+
+        // then
+        assertThat(first).isFalse();
+        assertThat(second).isFalse();
+        verify(valueOperations, times(1)).get(KEY);
+    }
+
+    @Test
+    @DisplayName("폐기 기록이 있으면 발급 시각이 없는 토큰은 폐기된 것으로 판단한다")
+    void isRevoked_withoutIssuedAt_revoked() {
+        // given
+        given(valueOperations.get(KEY)).willReturn(String.valueOf(System.currentTimeMillis()));
+
+        // when & then
+        assertThat(tokenRevocationService.isRevoked(MEMBER_ID, null, null)).isTrue();
+    }
+
+    @Test
+    @DisplayName("세션을 폐기하면 그 세션의 토큰만 폐기되고 같은 회원의 다른 세션 토큰은 유효하다")
+    void revokeSession_revokesOnlyThatSession() {
+        // given
+        Date issuedAt = new Date(System.currentTimeMillis() - 1);
+        given(valueOperations.get(KEY)).willReturn(null);
+        given(valueOperations.get(SESSION_KEY + "-other")).willReturn(null);
+
+        // when
+        tokenRevocationService.revokeSession(MEMBER_ID, SESSION_ID);
+
+        // then
+        assertThat(tokenRevocationService.isRevoked(MEMBER_ID, SESSION_ID, issuedAt)).isTrue();
+        assertThat(tokenRevocationService.isRevoked(MEMBER_ID, SESSION_ID + "-other", issuedAt)).isFalse();
+        verify(valueOperations).set(eq(SESSION_KEY), anyString(), eq(Duration.ofMillis(900_000L)));
+        verify(valueOperations, never()).set(eq(KEY), anyString(), any(Duration.class));
+    }
+}
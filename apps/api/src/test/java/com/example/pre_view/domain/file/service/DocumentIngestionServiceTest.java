@@ -0,0 +1,150 @@
+package com.example.pre_view.domain.file.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+
+import com.example.pre_view.common.retrieval.DocumentIndexStore;
+import com.example.pre_view.common.retrieval.DocumentType;
+import com.example.pre_view.domain.file.config.DocumentIngestionConfig;
+import com.example.pre_view.domain.file.dto.DocumentIngestionResponse;
+import com.example.pre_view.domain.file.enums.IngestionStatus;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * DocumentIngestionService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class DocumentIngestionServiceTest {
+
+    private static final Long INTERVIEW_ID = 1L;
+
+    @Mock
+    private PdfExtractionService pdfExtractionService;
+
+    @Mock
+    private DocumentIndexStore documentIndexStore;
+
+    @Mock
+    private FileUploadService fileUploadService;
+
+    @TempDir
+    private Path storageDir;
+
+    private DocumentIngestionService documentIngestionService;
+
+    @BeforeEach
+    void setUp() {
+        DocumentIngestionConfig config = new DocumentIngestionConfig();
+        config.setStorageDir(storageDir.toString());
+        documentIngestionService = new DocumentIngestionService(pdfExtractionService, documentIndexStore,
+                fileUploadService, config, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        documentIngestionService.shutdown();
+    }
+
+    @Test
+    @DisplayName("처리된 적 있는 파일은 추출 없이 저장된 문서를 연결한다")
+    void submit_reusesStoredDocument() {
+        // given
+        byte[] content = "resume".getBytes(StandardCharsets.UTF_8);
+        given(fileUploadService.findDocumentText(sha256(content))).willReturn(Optional.of("이력서 본문"));
+
+        // when
+        documentIngestionService.submit(INTERVIEW_ID, DocumentType.RESUME, pdf(content));
+        documentIngestionService.awaitCompletion(INTERVIEW_ID);
+
+        // then
+        verify(fileUploadService).attachDocument(INTERVIEW_ID, DocumentType.RESUME, sha256(content), "이력서 본문");
+        verify(pdfExtractionService, never()).extractText(any(Path.class), any());
+        assertThat(documentIngestionService.getStatuses(INTERVIEW_ID))
+                .extracting(DocumentIngestionResponse::status)
+                .containsExactly(IngestionStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("인덱스 생성 중 새 업로드로 대체된 작업은 문서를 연결하지 않는다")
+    void submit_replacedDuringIndexing_doesNotAttachStaleDocument() throws InterruptedException {
+        // given
+        byte[] oldContent = "old resume".getBytes(StandardCharsets.UTF_8);
+        byte[] newContent = "new resume".getBytes(StandardCharsets.UTF_8);
+        given(fileUploadService.findDocumentText(sha256(oldContent))).willReturn(Optional.of("이전 이력서"));
+        given(fileUploadService.findDocumentText(sha256(newContent))).willReturn(Optional.of("새 이력서"));
+
+        CountDownLatch indexing = new CountDownLatch(1);
+        CountDownLatch replaced = new CountDownLatch(1);
+        given(documentIndexStore.get(anyString())).willAnswer(invocation -> {
+            if ("이전 이력서".equals(invocation.getArgument(0))) {
+                indexing.countDown();
+                replaced.await();
+            }
+            return null;
+        });
+
+        // when - 이전 작업이 대체 확인(2단계)을 통과하고 인덱스를 만드는 동안 새 파일 업로드
+        documentIngestionService.submit(INTERVIEW_ID, DocumentType.RESUME, pdf(oldContent));
+        assertThat(indexing.await(5, TimeUnit.SECONDS)).isTrue();
+        documentIngestionService.submit(INTERVIEW_ID, DocumentType.RESUME, pdf(newContent));
+        replaced.countDown();
+
+        // 대체된 작업은 상태 조회 대상이 아니므로, 두 작업이 모두 끝나 보관 파일이 삭제될 때까지 대기
+        await().atMost(5, TimeUnit.SECONDS).until(this::storageDirIsEmpty);
+
+        // then
+        verify(fileUploadService).attachDocument(INTERVIEW_ID, DocumentType.RESUME, sha256(newContent), "새 이력서");
+        verify(fileUploadService, never())
+                .attachDocument(eq(INTERVIEW_ID), eq(DocumentType.RESUME), eq(sha256(oldContent)), anyString());
+        assertThat(documentIngestionService.getStatuses(INTERVIEW_ID))
+                .extracting(DocumentIngestionResponse::status)
+                .containsExactly(IngestionStatus.COMPLETED);
+    }
+
+    private boolean storageDirIsEmpty() throws IOException {
+        try (Stream<Path> files = Files.list(storageDir)) {
+            return files.findAny().isEmpty();
+        }
+    }
+
+    private static MockMultipartFile pdf(byte[] content) {
+        return new MockMultipartFile("file", "resume.pdf", "application/pdf", content);
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
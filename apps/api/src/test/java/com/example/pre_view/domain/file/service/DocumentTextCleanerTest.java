@@ -0,0 +1,105 @@
+package com.example.pre_view.domain.file.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * DocumentTextCleaner 단위 테스트
+ */
+class DocumentTextCleanerTest {
+
+    private static final String PAGE = PdfExtractionService.PAGE_SEPARATOR;
+
+    // 페이지마다 머리글/바닥글이 있고, 프로젝트마다 기술 스택·기간 줄이 반복되는 이력서
+    private static final String RESUME = String.join("",
+            """
+            홍길동 | 백엔드 개발자 이력서
+            hong@example.com
+
+            경력
+            2023
+            A사 백엔드 개발
+            Java
+            Spring Boot
+
+            - 1 -
+            """, PAGE,
+            """
+            홍길동 | 백엔드 개발자 이력서
+            프로젝트 1: 주문 시스템
+            2023
+            Java
+            Spring Boot
+            백엔드 개발
+            - 2 -
+            """, PAGE,
+            """
+            홍길동 | 백엔드 개발자 이력서
+            프로젝트 2: 정산 배치
+            2024
+            Java
+            Spring Boot
+            백엔드 개발
+            - 3 -
+            """, PAGE);
+
+    @Test
+    @DisplayName("페이지마다 반복되는 머리글과 페이지 번호를 제거한다")
+    void clean_removesRepeatedHeadersAndPageNumbers() {
+        // when
+        String cleaned = DocumentTextCleaner.clean(RESUME);
+
+        // then
+        assertThat(cleaned).doesNotContain("백엔드 개발자 이력서");
+        assertThat(cleaned).doesNotContain("- 1 -", "- 2 -", "- 3 -");
+        assertThat(cleaned).doesNotContain(PAGE);
+    }
+
+    @Test
+    @DisplayName("본문에서 반복되는 기술 스택, 기간 줄은 유지한다")
+    void clean_keepsRepeatedBodyLines() {
+        // when
+        String cleaned = DocumentTextCleaner.clean(RESUME);
+
+        // then
+        assertThat(countLines(cleaned, "Java")).isEqualTo(3);
+        assertThat(countLines(cleaned, "Spring Boot")).isEqualTo(3);
+        assertThat(countLines(cleaned, "백엔드 개발")).isEqualTo(2);
+        assertThat(countLines(cleaned, "2023")).isEqualTo(2);
+        assertThat(cleaned).contains("2024", "hong@example.com", "프로젝트 1: 주문 시스템", "프로젝트 2: 정산 배치");
+    }
+
+    @Test
+    @DisplayName("페이지 가장자리의 연도 줄은 페이지 번호로 보지 않는다")
+    void clean_keepsYearLineAtPageEdge() {
+        // given
+        String text = "2023\nA사 입사\n" + PAGE + "2024\nB사 이직\n3\n" + PAGE;
+
+        // when
+        String cleaned = DocumentTextCleaner.clean(text);
+
+        // then
+        assertThat(cleaned).contains("2023", "2024").doesNotContain("\n3");
+    }
+
+    @Test
+    @DisplayName("공백과 제어 문자를 정리하고 긴 중복 문단만 제거한다")
+    void clean_normalizesWhitespaceAndDropsLongDuplicateParagraphs() {
+        // given
+        String paragraph = "대용량 트래픽을 처리하기 위해 Redis 캐시와 메시지 큐를 도입하여 주문 API의 평균 응답 시간을 절반으로 줄였습니다.";
+        String text = "자기소개\u0007\r\n\r\n" + paragraph + "\n\n\n\n"
+                + "Java\n\n" + paragraph + "\n\nJava   \n";
+
+        // when
+        String cleaned = DocumentTextCleaner.clean(text);
+
+        // then
+        assertThat(cleaned).isEqualTo("자기소개\n\n" + paragraph + "\n\nJava\n\nJava");
+    }
+
+    private static long countLines(String text, String line) {
+        return text.lines().filter(line::equals).count();
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.pre_view.domain.file.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.pre_view.common.exception.BusinessException;
+import com.example.pre_view.common.exception.ErrorCode;
+import com.example.pre_view.domain.file.config.PdfExtractionConfig;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * PdfExtractionService 페이지 구간 병렬 추출 단위 테스트
+ *
+ * 페이지마다 "Page N" 한 줄이 있는 PDF를 임시 디렉토리에 생성해 사용합니다.
+ */
+class PdfExtractionServiceTest {
+
+    private static final int PAGE_COUNT = 10;
+
+    @TempDir
+    private Path tempDir;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PdfExtractionService pdfExtractionService;
+
+    @AfterEach
+    void tearDown() {
+        pdfExtractionService.shutdown();
+    }
+
+    @Test
+    @DisplayName("여러 구간을 병렬로 추출해도 페이지 순서대로 이어 붙인다")
+    void extractText_parallelRanges_keepsPageOrder() throws IOException {
+        // given
+        pdfExtractionService = createService(30_000, 2, 4);
+        Path pdf = createPdf(PAGE_COUNT);
+
+        // when
+        String text = pdfExtractionService.extractText(pdf, PdfExtractionService.ProgressListener.NONE);
+
+        // then
+        assertThat(pages(text)).containsExactlyElementsOf(
+                IntStream.rangeClosed(1, PAGE_COUNT).mapToObj(page -> "Page " + page).toList());
+    }
+
+    @Test
+    @DisplayName("구간 하나가 끝날 때마다 추출한 마지막 페이지와 전체 페이지 수를 순서대로 알린다")
+    void extractText_reportsProgressPerRange() throws IOException {
+        // given
+        pdfExtractionService = createService(30_000, 4, 2);
+        Path pdf = createPdf(PAGE_COUNT);
+        List<String> progress = new ArrayList<>();
+
+        // when
+        pdfExtractionService.extractText(pdf, (extracted, total) -> progress.add(extracted + "/" + total));
+
+        // then
+        assertThat(progress).containsExactly("4/10", "8/10", "10/10");
+    }
+
+    @Test
+    @DisplayName("최대 문자 수에 도달하면 자르고, 시작하지 않은 남은 구간은 추출하지 않는다")
+    void extractText_maxCharactersReached_skipsRemainingRanges() throws IOException {
+        // given - 페이지당 "Page N" + 줄바꿈 + 구분자 (8자 이상)
+        pdfExtractionService = createService(20, 1, 1);
+        Path pdf = createPdf(PAGE_COUNT);
+        List<Integer> extractedPages = new ArrayList<>();
+
+        // when
+        String text = pdfExtractionService.extractText(pdf, (extracted, total) -> extractedPages.add(extracted));
+
+        // then
+        assertThat(text.length()).isLessThanOrEqualTo(20);
+        assertThat(pages(text)).startsWith("Page 1", "Page 2");
+        assertThat(extractedPages).containsExactly(1, 2, 3);
+        assertThat(meterRegistry.counter("pdf.extraction.truncated").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("구간 추출이 실패하면 파일 읽기 오류로 전달한다")
+    void extractText_rangeFailure_propagatesAsFileReadError() throws IOException {
+        // given - 첫 구간이 끝나면 파일을 손상시켜 다음 구간에서 문서를 열지 못하게 함
+        pdfExtractionService = createService(30_000, 1, 1);
+        Path pdf = createPdf(PAGE_COUNT);
+        PdfExtractionService.ProgressListener corruptAfterFirstRange = (extracted, total) -> {
+            try {
+                Files.write(pdf, "not a pdf".getBytes());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+
+        // when & then
+        assertThatThrownBy(() -> pdfExtractionService.extractText(pdf, corruptAfterFirstRange))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.FILE_READ_ERROR);
+    }
+
+    @Test
+    @DisplayName("PDF가 아닌 파일은 파일 읽기 오류로 거부한다")
+    void extractText_notPdf_throwsFileReadError() throws IOException {
+        // given
+        pdfExtractionService = createService(30_000, 4, 4);
+        Path file = Files.writeString(tempDir.resolve("broken.pdf"), "not a pdf");
+
+        // when & then
+        assertThatThrownBy(() -> pdfExtractionService.extractText(file, PdfExtractionService.ProgressListener.NONE))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.FILE_READ_ERROR);
+    }
+
+    private PdfExtractionService createService(int maxCharacters, int pagesPerTask, int parallelism) {
+        PdfExtractionConfig config = new PdfExtractionConfig();
+        config.setMaxCharacters(maxCharacters);
+        config.setPagesPerTask(pagesPerTask);
+        config.setParallelism(parallelism);
+        return new PdfExtractionService(config, meterRegistry);
+    }
+
+    private Path createPdf(int pageCount) throws IOException {
+        Path pdf = tempDir.resolve("pages-" + pageCount + ".pdf");
+        PDType1Font font = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+        try (PDDocument document = new PDDocument()) {
+            for (int page = 1; page <= pageCount; page++) {
+                PDPage pdPage = new PDPage();
+                document.addPage(pdPage);
+                try (PDPageContentStream content = new PDPageContentStream(document, pdPage)) {
+                    content.beginText();
+                    content.setFont(font, 12);
+                    content.newLineAtOffset(72, 700);
+                    content.showText("Page " + page);
+                    content.endText();
+                }
+            }
+            document.save(pdf.toFile());
+        }
+        return pdf;
+    }
+
+    private static List<String> pages(String text) {
+        return Arrays.stream(text.split(PdfExtractionService.PAGE_SEPARATOR))
+                .map(String::strip)
+                .filter(page -> !page.isEmpty())
+                .toList();
+    }
+}
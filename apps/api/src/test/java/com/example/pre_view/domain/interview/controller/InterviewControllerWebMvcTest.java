@@ -40,6 +40,7 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 import com.example.pre_view.common.exception.BusinessException;
 import com.example.pre_view.common.exception.ErrorCode;
+import com.example.pre_view.common.resilience.DeadlineConfig;
 import com.example.pre_view.domain.answer.dto.AnswerCreateRequest;
 import com.example.pre_view.domain.answer.dto.AnswerResponse;
 import com.example.pre_view.domain.answer.service.AnswerFacade;
@@ -54,6 +55,7 @@ import com.example.pre_view.domain.interview.enums.InterviewType;
 import com.example.pre_view.domain.interview.enums.Position;
 import com.example.pre_view.domain.interview.service.InterviewService;
 import com.example.pre_view.domain.question.dto.QuestionListResponse;
+import com.example.pre_view.domain.tts.service.TtsStreamingService;
 import com.example.pre_view.support.WebMvcTestSupport;
 
 /**
@@ -110,6 +112,12 @@ class InterviewControllerWebMvcTest extends WebMvcTestSupport {
     @MockitoBean
     private AnswerFacade answerFacade;
 
+    @MockitoBean
+    private TtsStreamingService ttsStreamingService;
+
+    @MockitoBean
+    private DeadlineConfig deadlineConfig;
+
     private static final Long TEST_INTERVIEW_ID = 100L;
 
     private InterviewResponse createMockInterviewResponse(
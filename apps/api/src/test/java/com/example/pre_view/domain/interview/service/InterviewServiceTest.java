@@ -5,8 +5,11 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,11 +25,15 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.web.multipart.MultipartFile;
 
 import com.example.pre_view.common.exception.BusinessException;
 import com.example.pre_view.common.exception.ErrorCode;
 import com.example.pre_view.domain.answer.repository.AnswerRepository;
-import com.example.pre_view.domain.file.service.FileUploadService;
+import com.example.pre_view.common.retrieval.DocumentType;
+import com.example.pre_view.domain.file.dto.DocumentIngestionResponse;
+import com.example.pre_view.domain.file.enums.IngestionStatus;
+import com.example.pre_view.domain.file.service.DocumentIngestionService;
 import com.example.pre_view.domain.interview.dto.InterviewCreateRequest;
 import com.example.pre_view.domain.interview.dto.InterviewResponse;
 import com.example.pre_view.domain.interview.entity.Interview;
@@ -62,7 +69,7 @@ class InterviewServiceTest {
     private QuestionService questionService;
 
     @Mock
-    private FileUploadService fileUploadService;
+    private DocumentIngestionService documentIngestionService;
 
     @Mock
     private InterviewStatusService interviewStatusService;
@@ -325,4 +332,45 @@ class InterviewServiceTest {
                     .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INTERVIEW_STATUS);
         }
     }
+
+    @Nested
+    @DisplayName("문서 업로드 테스트")
+    class UploadDocumentTest {
+
+        @Test
+        @DisplayName("이력서를 업로드하면 백그라운드 처리를 접수하고 대기 상태를 반환한다")
+        void uploadResume_withValidInterview_submitsIngestion() {
+            // given
+            MultipartFile file = mock(MultipartFile.class);
+            DocumentIngestionResponse queued = new DocumentIngestionResponse(testInterviewId, DocumentType.RESUME,
+                    IngestionStatus.QUEUED, IngestionStatus.QUEUED.getDescription(), 0, null, null, LocalDateTime.now());
+            given(interviewRepository.findByIdAndMemberIdAndDeletedFalse(testInterviewId, testMemberId))
+                    .willReturn(Optional.of(testInterview));
+            given(documentIngestionService.submit(testInterviewId, DocumentType.RESUME, file))
+                    .willReturn(queued);
+
+            // when
+            DocumentIngestionResponse response = interviewService.uploadResume(testInterviewId, testMemberId, file);
+
+            // then
+            assertThat(response.status()).isEqualTo(IngestionStatus.QUEUED);
+        }
+
+        @Test
+        @DisplayName("권한이 없는 면접에 업로드하면 처리를 접수하지 않는다")
+        void uploadResume_withUnauthorizedUser_doesNotSubmit() {
+            // given
+            MultipartFile file = mock(MultipartFile.class);
+            given(interviewRepository.findByIdAndMemberIdAndDeletedFalse(testInterviewId, testMemberId))
+                    .willReturn(Optional.empty());
+            given(interviewRepository.findByIdAndDeletedFalse(testInterviewId))
+                    .willReturn(Optional.of(testInterview));
+
+            // when & then
+            assertThatThrownBy(() -> interviewService.uploadResume(testInterviewId, testMemberId, file))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ACCESS_DENIED);
+            verify(documentIngestionService, never()).submit(any(), any(), any());
+        }
+    }
 }
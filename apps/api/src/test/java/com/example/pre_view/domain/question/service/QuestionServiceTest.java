@@ -34,6 +34,7 @@ import com.example.pre_view.domain.interview.service.AiInterviewService;
 import com.example.pre_view.domain.question.dto.QuestionListResponse;
 import com.example.pre_view.domain.question.entity.Question;
 import com.example.pre_view.domain.question.repository.QuestionRepository;
+import com.example.pre_view.domain.tts.service.TtsAudioService;
 
 /**
  * QuestionService 단위 테스트
@@ -53,6 +54,9 @@ class QuestionServiceTest {
     @Mock
     private AiInterviewService aiInterviewService;
 
+    @Mock
+    private TtsAudioService ttsAudioService;
+
     @InjectMocks
     private QuestionService questionService;
 
@@ -0,0 +1,170 @@
+package com.example.pre_view.domain.stt.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.sound.sampled.AudioFileFormat;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+
+import com.example.pre_view.domain.stt.config.SttConfig;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * AudioPreprocessor 단위 테스트
+ *
+ * 440Hz 사인파와 무음으로 만든 PCM WAV를 입력으로 사용합니다.
+ */
+class AudioPreprocessorTest {
+
+    private static final MediaType AUDIO_WAV = MediaType.parseMediaType("audio/wav");
+    private static final MediaType AUDIO_WEBM = MediaType.parseMediaType("audio/webm");
+
+    private SttConfig sttConfig;
+    private AudioPreprocessor audioPreprocessor;
+
+    @BeforeEach
+    void setUp() {
+        sttConfig = new SttConfig();
+        audioPreprocessor = new AudioPreprocessor(sttConfig, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("44.1kHz 스테레오 WAV를 길이 그대로 16kHz 모노 16bit WAV로 변환한다")
+    void prepare_convertsToMono16kHz() throws Exception {
+        // given
+        byte[] wav = wav(44100, 2, 0, 1.0, 0);
+
+        // when
+        Path tempFile;
+        try (PreparedAudio prepared = audioPreprocessor.prepare(upload("answer.wav", wav), AUDIO_WAV)) {
+            tempFile = prepared.tempFile();
+
+            // then
+            AudioFormat format = AudioSystem.getAudioFileFormat(tempFile.toFile()).getFormat();
+            assertThat(format.getSampleRate()).isEqualTo(AudioPreprocessor.TARGET_SAMPLE_RATE);
+            assertThat(format.getChannels()).isEqualTo(1);
+            assertThat(format.getSampleSizeInBits()).isEqualTo(16);
+            assertThat(prepared.contentType()).isEqualTo(AUDIO_WAV);
+            assertThat(prepared.duration()).isCloseTo(1.0, within(0.01));
+            assertThat(prepared.size()).isEqualTo(Files.size(tempFile)).isLessThan(wav.length);
+        }
+        assertThat(tempFile).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("8kHz 입력은 선형 보간으로 16kHz로 올린다")
+    void prepare_upsamples() throws Exception {
+        // when
+        try (PreparedAudio prepared = audioPreprocessor.prepare(upload("answer.wav", wav(8000, 1, 0, 1.0, 0)),
+                AUDIO_WAV)) {
+            // then
+            assertThat(prepared.duration()).isCloseTo(1.0, within(0.01));
+        }
+    }
+
+    @Test
+    @DisplayName("앞뒤 무음을 잘라내고 발화 경계에 200ms씩 여유 구간을 남긴다")
+    void prepare_trimsSilenceWithPadding() throws Exception {
+        // given: 무음 1초 + 발화 1초 + 무음 1초
+        byte[] wav = wav(16000, 1, 1.0, 1.0, 1.0);
+
+        // when
+        try (PreparedAudio prepared = audioPreprocessor.prepare(upload("answer.wav", wav), AUDIO_WAV)) {
+            // then
+            assertThat(prepared.duration()).isCloseTo(1.4, within(0.02));
+        }
+    }
+
+    @Test
+    @DisplayName("발화가 없으면 여유 구간만 남긴다")
+    void prepare_silentAudio_keepsPaddingOnly() throws Exception {
+        // when
+        try (PreparedAudio prepared = audioPreprocessor.prepare(upload("answer.wav", wav(16000, 1, 1.0, 0, 0)),
+                AUDIO_WAV)) {
+            // then
+            assertThat(prepared.duration()).isCloseTo(0.2, within(0.01));
+        }
+    }
+
+    @Test
+    @DisplayName("WebM처럼 디코딩할 수 없는 형식은 원본 그대로 전달한다")
+    void prepare_webm_passesThrough() throws Exception {
+        // given: EBML 헤더로 시작하는 WebM 바이트
+        byte[] webm = new byte[2048];
+        webm[0] = 0x1A;
+        webm[1] = 0x45;
+        webm[2] = (byte) 0xDF;
+        webm[3] = (byte) 0xA3;
+        for (int i = 4; i < webm.length; i++) {
+            webm[i] = (byte) (i * 31);
+        }
+
+        // when
+        try (PreparedAudio prepared = audioPreprocessor.prepare(upload("answer.webm", webm), AUDIO_WEBM)) {
+            // then
+            assertThat(prepared.contentType()).isEqualTo(AUDIO_WEBM);
+            assertThat(prepared.size()).isEqualTo(webm.length);
+            assertThat(prepared.duration()).isNull();
+            assertThat(prepared.tempFile()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("전처리가 꺼져 있으면 WAV도 원본 그대로 전달한다")
+    void prepare_disabled_passesThrough() throws Exception {
+        // given
+        sttConfig.setPreprocessEnabled(false);
+        byte[] wav = wav(44100, 2, 0, 1.0, 0);
+
+        // when
+        try (PreparedAudio prepared = audioPreprocessor.prepare(upload("answer.wav", wav), AUDIO_WAV)) {
+            // then
+            assertThat(prepared.size()).isEqualTo(wav.length);
+            assertThat(prepared.duration()).isNull();
+            assertThat(prepared.tempFile()).isNull();
+        }
+    }
+
+    private static MockMultipartFile upload(String filename, byte[] content) {
+        return new MockMultipartFile("audio", filename, null, content);
+    }
+
+    /**
+     * 무음 → 440Hz 사인파 → 무음 순서의 16bit PCM WAV 생성 (모든 채널 같은 값)
+     */
+    private static byte[] wav(float sampleRate, int channels, double leadingSilence, double tone,
+            double trailingSilence) throws Exception {
+        int frames = (int) ((leadingSilence + tone + trailingSilence) * sampleRate);
+        ByteBuffer pcm = ByteBuffer.allocate(frames * channels * 2).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < frames; i++) {
+            double time = i / sampleRate;
+            boolean voiced = time >= leadingSilence && time < leadingSilence + tone;
+            short sample = (short) (voiced ? 8000 * Math.sin(2 * Math.PI * 440 * time) : 0);
+            for (int channel = 0; channel < channels; channel++) {
+                pcm.putShort(sample);
+            }
+        }
+
+        AudioFormat format = new AudioFormat(sampleRate, 16, channels, true, false);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        AudioSystem.write(new AudioInputStream(new ByteArrayInputStream(pcm.array()), format, frames),
+                AudioFileFormat.Type.WAVE, out);
+        return out.toByteArray();
+    }
+}
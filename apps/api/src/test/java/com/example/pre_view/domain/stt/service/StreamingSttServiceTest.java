@@ -0,0 +1,68 @@
+package com.example.pre_view.domain.stt.service;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.pre_view.common.exception.BusinessException;
+import com.example.pre_view.common.exception.ErrorCode;
+import com.example.pre_view.common.exception.ServiceBusyException;
+import com.example.pre_view.common.resilience.RetryBudgetConfig;
+import com.example.pre_view.domain.stt.config.SttConfig;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * StreamingSttService 세션 수 제한 단위 테스트
+ *
+ * STT 서비스 주소는 연결이 거부되는 포트로 두어 WebSocket 연결 실패 경로를 사용합니다.
+ */
+class StreamingSttServiceTest {
+
+    private StreamingSttService streamingSttService;
+
+    @AfterEach
+    void tearDown() {
+        streamingSttService.shutdown();
+    }
+
+    @Test
+    @DisplayName("세션 수가 최대치에 도달하면 연결을 시도하지 않고 Retry-After와 함께 거부한다")
+    void start_sessionLimitReached_rejectsAsBusy() {
+        // given
+        streamingSttService = createService(0);
+
+        // when & then
+        assertThatThrownBy(() -> streamingSttService.start(1L, 1L, 1L, "ko"))
+                .isInstanceOf(ServiceBusyException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.STT_SERVICE_BUSY)
+                .hasFieldOrPropertyWithValue("retryAfterSeconds", 5L);
+    }
+
+    @Test
+    @DisplayName("연결에 실패하면 예약한 세션 슬롯을 반환한다")
+    void start_connectionFailure_releasesReservedSlot() {
+        // given
+        streamingSttService = createService(1);
+
+        // when & then - 슬롯이 반환되지 않으면 두 번째 요청은 세션 수 초과로 거부됨
+        for (int attempt = 0; attempt < 2; attempt++) {
+            assertThatThrownBy(() -> streamingSttService.start(1L, 1L, 1L, "ko"))
+                    .isInstanceOf(BusinessException.class)
+                    .isNotInstanceOf(ServiceBusyException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.STT_SERVICE_ERROR);
+        }
+    }
+
+    private StreamingSttService createService(int maxStreamSessions) {
+        SttConfig sttConfig = new SttConfig();
+        sttConfig.setServiceUrl("http://localhost:1");
+        sttConfig.setMaxStreamSessions(maxStreamSessions);
+
+        return new StreamingSttService(sttConfig, new RetryBudgetConfig(), JsonMapper.builder().build(),
+                new SimpleMeterRegistry());
+    }
+}
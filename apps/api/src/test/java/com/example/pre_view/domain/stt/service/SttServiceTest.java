@@ -0,0 +1,123 @@
+package com.example.pre_view.domain.stt.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.example.pre_view.common.exception.BusinessException;
+import com.example.pre_view.common.exception.ErrorCode;
+import com.example.pre_view.common.resilience.DeadlineConfig;
+import com.example.pre_view.common.resilience.RetryBudgetConfig;
+import com.example.pre_view.domain.stt.config.SttConfig;
+import com.example.pre_view.domain.stt.dto.TranscriptionResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * SttService 단위 테스트
+ *
+ * STT 서비스는 MockRestServiceServer로 대체하고, 전처리는 길이를 알 수 없는 형식(webm)처럼 duration 없이 반환합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class SttServiceTest {
+
+    private static final String BATCH_RESPONSE = """
+            {
+              "results": [
+                {"text": "첫 번째 답변", "language": "ko", "duration": 3.5, "error": null},
+                {"text": "두 번째 답변", "language": "ko", "duration": 75.0, "error": null}
+              ],
+              "duration": 1.2
+            }
+            """;
+
+    @Mock
+    private AudioPreprocessor audioPreprocessor;
+
+    private MockRestServiceServer server;
+    private SttService sttService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        SttConfig sttConfig = new SttConfig();
+        sttConfig.setTimeout(0);  // 타임아웃용 요청 팩토리로 바꾸지 않도록 (Mock 서버 유지)
+        sttConfig.setMaxAudioSize(10_000_000L);
+        sttConfig.setMaxAudioDuration(60);
+        sttConfig.setBatchMaxSize(2);
+        sttConfig.setBatchMaxWait(5_000L);
+
+        RestClient.Builder builder = RestClient.builder().baseUrl("http://stt-service");
+        server = MockRestServiceServer.bindTo(builder).build();
+
+        given(audioPreprocessor.prepare(any(), any())).willAnswer(invocation -> {
+            MultipartFile file = invocation.getArgument(0);
+            return new PreparedAudio(file.getResource(), invocation.getArgument(1), file.getSize(), null, null);
+        });
+
+        sttService = new SttService(builder.build(), sttConfig, audioPreprocessor,
+                new RetryBudgetConfig(), new DeadlineConfig(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("배치 전사는 항목별로 서비스가 알려준 오디오 길이를 사용하고 최대 길이를 넘으면 거부한다")
+    void transcribe_batch_validatesDurationPerItem() {
+        // given
+        server.expect(requestTo("http://stt-service/api/transcribe/batch"))
+                .andExpect(method(HttpMethod.POST))
+                .andRespond(withSuccess(BATCH_RESPONSE, MediaType.APPLICATION_JSON));
+
+        // when - 동시에 들어온 두 요청이 한 배치로 묶임
+        List<TranscriptionResponse> succeeded = new ArrayList<>();
+        List<Throwable> failed = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<CompletableFuture<TranscriptionResponse>> futures = List.of(
+                    CompletableFuture.supplyAsync(() -> sttService.transcribe(webm("a.webm"), "ko"), executor),
+                    CompletableFuture.supplyAsync(() -> sttService.transcribe(webm("b.webm"), "ko"), executor));
+            for (CompletableFuture<TranscriptionResponse> future : futures) {
+                try {
+                    succeeded.add(future.join());
+                } catch (CompletionException e) {
+                    failed.add(e.getCause());
+                }
+            }
+        }
+
+        // then - 배치 내 순서와 관계없이 짧은 항목만 성공
+        server.verify();
+        assertThat(succeeded).singleElement().satisfies(response -> {
+            assertThat(response.text()).isEqualTo("첫 번째 답변");
+            assertThat(response.duration()).isEqualTo(3.5);
+        });
+        assertThat(failed).singleElement()
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.STT_AUDIO_TOO_LONG);
+    }
+
+    private static MockMultipartFile webm(String filename) {
+        return new MockMultipartFile("audio", filename, "audio/webm", new byte[] {1, 2, 3, 4});
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.pre_view.domain.stt.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import java.net.http.WebSocket;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * SttStreamSession 단위 테스트
+ *
+ * STT 서비스 WebSocket은 Mock으로 대체하고, 서비스가 보내는 메시지는 onText로 직접 전달합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class SttStreamSessionTest {
+
+    @Mock
+    private WebSocket webSocket;
+
+    private SttStreamSession session;
+
+    @BeforeEach
+    void setUp() {
+        session = new SttStreamSession("session-1", 1L, 10L, 100L, "ko", JsonMapper.builder().build());
+        session.attach(webSocket);
+    }
+
+    @Nested
+    @DisplayName("부분 전사 결과 누적")
+    class AppendTextTest {
+
+        @Test
+        @DisplayName("겹침 구간 때문에 앞 결과 끝과 반복되는 단어는 한 번만 남긴다")
+        void appendText_removesOverlappingWords() {
+            // when
+            session.appendText("저는 백엔드 개발자로");
+            session.appendText("개발자로 삼 년 일했습니다");
+
+            // then
+            assertThat(session.partialText()).isEqualTo("저는 백엔드 개발자로 삼 년 일했습니다");
+        }
+
+        @Test
+        @DisplayName("여러 단어가 겹치면 가장 긴 겹침을 제거한다")
+        void appendText_removesLongestOverlap() {
+            // when
+            session.appendText("트래픽이 많은 서비스를 운영");
+            session.appendText("서비스를 운영 하면서 배웠습니다");
+
+            // then
+            assertThat(session.partialText()).isEqualTo("트래픽이 많은 서비스를 운영 하면서 배웠습니다");
+        }
+
+        @Test
+        @DisplayName("한 결과 안에서 반복된 단어는 그대로 둔다")
+        void appendText_keepsRepeatsWithinChunk() {
+            // when
+            session.appendText("정말");
+            session.appendText("정말 정말 어려웠습니다");
+
+            // then - 첫 '정말'만 겹침으로 보고 제거
+            assertThat(session.partialText()).isEqualTo("정말 정말 어려웠습니다");
+        }
+
+        @Test
+        @DisplayName("앞 결과 끝에 이미 반복된 단어는 겹친 만큼만 제거하고 모두 남긴다")
+        void appendText_keepsRepeatsBeforeBoundary() {
+            // when
+            session.appendText("very very");
+            session.appendText("very good");
+
+            // then
+            assertThat(session.partialText()).isEqualTo("very very good");
+        }
+
+        @Test
+        @DisplayName("겹치지 않는 결과는 그대로 이어 붙이고 공백만 있는 결과는 무시한다")
+        void appendText_appendsWithoutOverlap() {
+            // when
+            session.appendText("  안녕하세요  ");
+            session.appendText("   ");
+            session.appendText("반갑습니다");
+
+            // then
+            assertThat(session.partialText()).isEqualTo("안녕하세요 반갑습니다");
+        }
+    }
+
+    @Nested
+    @DisplayName("녹음 종료")
+    class FinishTest {
+
+        @Test
+        @DisplayName("종료 메시지 후 최종 결과가 오면 최종 결과까지 이어 붙여 반환한다")
+        void finish_returnsFinalTranscript() {
+            // given
+            session.onText(webSocket, "{\"text\": \"저는 백엔드\", \"is_final\": false}", true);
+            given(webSocket.sendText(anyString(), anyBoolean())).willAnswer(invocation -> {
+                session.onText(webSocket, "{\"text\": \"백엔드 개발자입니다\", \"is_final\": true}", true);
+                return CompletableFuture.completedFuture(webSocket);
+            });
+
+            // when
+            String text = session.finish(1_000);
+
+            // then
+            assertThat(text).isEqualTo("저는 백엔드 개발자입니다");
+            assertThat(session.isFinalReceived()).isTrue();
+            verify(webSocket).abort();
+        }
+
+        @Test
+        @DisplayName("제한 시간 안에 최종 결과가 오지 않으면 부분 결과를 반환한다")
+        void finish_timeout_returnsPartialText() {
+            // given
+            session.onText(webSocket, "{\"text\": \"저는 백엔드\", \"is_final\": false}", true);
+            given(webSocket.sendText(anyString(), anyBoolean()))
+                    .willReturn(CompletableFuture.completedFuture(webSocket));
+
+            // when
+            String text = session.finish(50);
+
+            // then
+            assertThat(text).isEqualTo("저는 백엔드");
+            assertThat(session.isFinalReceived()).isFalse();
+            verify(webSocket).abort();
+        }
+
+        @Test
+        @DisplayName("종료 메시지 전송에 실패해도 연결이 닫히면 부분 결과를 반환한다")
+        void finish_sendFailure_returnsPartialTextOnClose() {
+            // given
+            session.onText(webSocket, "{\"text\": \"저는 백엔드\", \"is_final\": false}", true);
+            given(webSocket.sendText(anyString(), anyBoolean())).willAnswer(invocation -> {
+                session.onClose(webSocket, WebSocket.NORMAL_CLOSURE, "");
+                return CompletableFuture.failedFuture(new IllegalStateException("closed"));
+            });
+
+            // when
+            String text = session.finish(1_000);
+
+            // then
+            assertThat(text).isEqualTo("저는 백엔드");
+            assertThat(session.isFinalReceived()).isFalse();
+        }
+    }
+}
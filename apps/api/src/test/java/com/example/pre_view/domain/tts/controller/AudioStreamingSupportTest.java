@@ -0,0 +1,173 @@
+package com.example.pre_view.domain.tts.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.example.pre_view.common.exception.BusinessException;
+import com.example.pre_view.common.exception.ErrorCode;
+import com.example.pre_view.domain.tts.dto.TtsAudio;
+
+/**
+ * AudioStreamingSupport 단위 테스트
+ */
+class AudioStreamingSupportTest {
+
+    private static final byte[] CONTENT = "0123456789".getBytes(StandardCharsets.US_ASCII);
+
+    @TempDir
+    private Path dir;
+
+    private TtsAudio audio;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        audio = audioAt(dir.resolve("key1.wav"), "key1");
+        Files.write(audio.path(), CONTENT);
+    }
+
+    @Test
+    @DisplayName("Range가 없으면 전체 파일을 200으로 응답한다")
+    void stream_withoutRange_ok() throws IOException {
+        // when
+        ResponseEntity<StreamingResponseBody> response = AudioStreamingSupport.stream(audio, unused(), new HttpHeaders());
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentLength()).isEqualTo(CONTENT.length);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"key1\"");
+        assertThat(response.getHeaders().getFirst(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+        assertThat(response.getHeaders().getFirst(AudioStreamingSupport.AUDIO_DURATION_HEADER)).isEqualTo("1.0");
+        assertThat(body(response)).isEqualTo("0123456789");
+    }
+
+    @Test
+    @DisplayName("단일 Range 요청이면 해당 구간만 206으로 응답한다")
+    void stream_singleRange_partialContent() throws IOException {
+        // given
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RANGE, "bytes=2-5");
+
+        // when
+        ResponseEntity<StreamingResponseBody> response = AudioStreamingSupport.stream(audio, unused(), headers);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.PARTIAL_CONTENT);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 2-5/10");
+        assertThat(response.getHeaders().getContentLength()).isEqualTo(4);
+        assertThat(body(response)).isEqualTo("2345");
+    }
+
+    @Test
+    @DisplayName("If-Range가 현재 ETag와 다르면 Range를 무시하고 전체를 응답한다")
+    void stream_staleIfRange_ok() throws IOException {
+        // given
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RANGE, "bytes=2-5");
+        headers.set(HttpHeaders.IF_RANGE, "\"other\"");
+
+        // when
+        ResponseEntity<StreamingResponseBody> response = AudioStreamingSupport.stream(audio, unused(), headers);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(body(response)).isEqualTo("0123456789");
+    }
+
+    @Test
+    @DisplayName("파일 범위를 벗어난 Range 요청은 416으로 응답한다")
+    void stream_unsatisfiableRange() {
+        // given
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RANGE, "bytes=20-30");
+
+        // when
+        ResponseEntity<StreamingResponseBody> response = AudioStreamingSupport.stream(audio, unused(), headers);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */10");
+        assertThat(response.getBody()).isNull();
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 ETag와 일치하면 본문 없이 304로 응답한다")
+    void stream_matchingIfNoneMatch_notModified() {
+        // given
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch("\"key1\"");
+
+        // when
+        ResponseEntity<StreamingResponseBody> response = AudioStreamingSupport.stream(audio, unused(), headers);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"key1\"");
+        assertThat(response.getBody()).isNull();
+    }
+
+    @Test
+    @DisplayName("응답 전에 파일이 캐시에서 제거되었으면 다시 조회하여 응답한다")
+    void stream_fileEvicted_resolvesAgain() throws IOException {
+        // given
+        Files.delete(audio.path());
+        TtsAudio resynthesized = audioAt(dir.resolve("key1-new.wav"), "key1");
+        Files.write(resynthesized.path(), CONTENT);
+        AtomicInteger resolveCount = new AtomicInteger();
+
+        // when
+        ResponseEntity<StreamingResponseBody> response = AudioStreamingSupport.stream(audio, () -> {
+            resolveCount.incrementAndGet();
+            return resynthesized;
+        }, new HttpHeaders());
+
+        // then
+        assertThat(resolveCount).hasValue(1);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(body(response)).isEqualTo("0123456789");
+    }
+
+    @Test
+    @DisplayName("다시 조회한 파일도 열 수 없으면 TTS_SERVICE_ERROR 예외가 발생한다")
+    void stream_fileMissingAfterRetry_throws() throws IOException {
+        // given
+        Files.delete(audio.path());
+
+        // when & then
+        assertThatThrownBy(() -> AudioStreamingSupport.stream(audio, () -> audio, new HttpHeaders()))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.TTS_SERVICE_ERROR);
+    }
+
+    private static TtsAudio audioAt(Path path, String key) {
+        return new TtsAudio(key, path, CONTENT.length, "wav", 1.0, 16_000);
+    }
+
+    private static Supplier<TtsAudio> unused() {
+        return () -> {
+            throw new AssertionError("파일이 있으면 다시 조회하지 않아야 합니다.");
+        };
+    }
+
+    private static String body(ResponseEntity<StreamingResponseBody> response) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        return out.toString(StandardCharsets.US_ASCII);
+    }
+}
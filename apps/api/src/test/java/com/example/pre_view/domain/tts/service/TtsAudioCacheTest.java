@@ -0,0 +1,123 @@
+package com.example.pre_view.domain.tts.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.pre_view.domain.tts.config.TtsConfig;
+import com.example.pre_view.domain.tts.dto.TtsAudio;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * TtsAudioCache 단위 테스트
+ */
+class TtsAudioCacheTest {
+
+    @TempDir
+    private Path cacheDir;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("저장한 음성을 파일로 보관하고 같은 키로 조회한다")
+    void putAndGet() throws IOException {
+        // given
+        TtsAudioCache cache = newCache(1_000);
+
+        // when
+        TtsAudio stored = cache.put("key1", "mp3", new byte[] {1, 2, 3}, 1.5, 24_000);
+
+        // then
+        assertThat(cache.get("key1")).contains(stored);
+        assertThat(Files.readAllBytes(stored.path())).containsExactly(1, 2, 3);
+        assertThat(stored.size()).isEqualTo(3);
+        assertThat(cache.get("missing")).isEmpty();
+        assertThat(meterRegistry.counter("tts.cache.hit").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("tts.cache.miss").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("용량을 넘으면 가장 오래 사용되지 않은 음성부터 파일과 함께 제거한다")
+    void put_overCapacity_evictsLeastRecentlyUsed() {
+        // given
+        TtsAudioCache cache = newCache(20);
+        TtsAudio first = cache.put("key1", "mp3", new byte[10], null, null);
+        cache.put("key2", "mp3", new byte[10], null, null);
+        cache.get("key1");  // key1을 최근 사용으로 갱신
+
+        // when
+        cache.put("key3", "mp3", new byte[10], null, null);
+
+        // then
+        assertThat(cache.get("key2")).isEmpty();
+        assertThat(cache.get("key1")).isPresent();
+        assertThat(cache.get("key3")).isPresent();
+        assertThat(Files.exists(first.path())).isTrue();
+        assertThat(Files.exists(cacheDir.resolve("key2.mp3"))).isFalse();
+        assertThat(Files.exists(cacheDir.resolve("key2.meta"))).isFalse();
+        assertThat(meterRegistry.counter("tts.cache.eviction").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("고정된 키는 용량을 넘어도 제거하지 않는다")
+    void put_overCapacity_keepsPinnedKeys() {
+        // given
+        TtsAudioCache cache = newCache(20);
+        cache.put("template", "mp3", new byte[10], null, null);
+        cache.put("key2", "mp3", new byte[10], null, null);
+        cache.pin(Set.of("template"));
+
+        // when
+        cache.put("key3", "mp3", new byte[10], null, null);
+
+        // then
+        assertThat(cache.get("template")).isPresent();
+        assertThat(cache.get("key2")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("외부에서 파일이 삭제되면 캐시 미스로 처리한다")
+    void get_fileDeletedExternally_miss() throws IOException {
+        // given
+        TtsAudioCache cache = newCache(1_000);
+        TtsAudio stored = cache.put("key1", "mp3", new byte[] {1}, null, null);
+        Files.delete(stored.path());
+
+        // when & then
+        assertThat(cache.get("key1")).isEmpty();
+        assertThat(Files.exists(cacheDir.resolve("key1.meta"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("재시작 시 디스크의 캐시 파일로 인덱스를 복구한다")
+    void constructor_restoresIndexFromDisk() {
+        // given
+        newCache(1_000).put("key1", "mp3", new byte[] {1, 2}, 2.5, 16_000);
+
+        // when
+        TtsAudioCache restarted = newCache(1_000);
+
+        // then
+        assertThat(restarted.get("key1")).hasValueSatisfying(audio -> {
+            assertThat(audio.format()).isEqualTo("mp3");
+            assertThat(audio.size()).isEqualTo(2);
+            assertThat(audio.duration()).isEqualTo(2.5);
+            assertThat(audio.sampleRate()).isEqualTo(16_000);
+        });
+    }
+
+    private TtsAudioCache newCache(long maxBytes) {
+        TtsConfig config = new TtsConfig();
+        config.setCacheDir(cacheDir.toString());
+        config.setCacheMaxBytes(maxBytes);
+        return new TtsAudioCache(config, meterRegistry);
+    }
+}
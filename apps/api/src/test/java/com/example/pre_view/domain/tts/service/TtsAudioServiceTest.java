@@ -0,0 +1,137 @@
+package com.example.pre_view.domain.tts.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.pre_view.domain.tts.config.TtsConfig;
+import com.example.pre_view.domain.tts.dto.SynthesizeRequest;
+import com.example.pre_view.domain.tts.dto.TtsAudio;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * TtsAudioService 단위 테스트
+ *
+ * TTS 서비스 호출은 Mock으로 대체하고, 캐시는 임시 디렉토리의 실제 TtsAudioCache를 사용합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class TtsAudioServiceTest {
+
+    private static final String QUESTION = "자기소개 부탁드립니다.";
+
+    @TempDir
+    private Path cacheDir;
+
+    @Mock
+    private TtsService ttsService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private TtsAudioService ttsAudioService;
+
+    @BeforeEach
+    void setUp() {
+        TtsConfig ttsConfig = new TtsConfig();
+        ttsConfig.setCacheDir(cacheDir.toString());
+        ttsConfig.setDefaultVoice("male_professional");
+        ttsConfig.setBatchEnabled(false);
+
+        ttsAudioService = new TtsAudioService(ttsService, new TtsAudioCache(ttsConfig, meterRegistry),
+                ttsConfig, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ttsAudioService.shutdown();
+    }
+
+    @Test
+    @DisplayName("사전 합성은 설정된 기본 음성을 사용하고, 음성을 지정하지 않은 요청은 그 캐시를 그대로 사용한다")
+    void prefetch_usesConfiguredDefaultVoice() {
+        // given
+        given(ttsService.synthesizeBinary(any(), any())).willAnswer(invocation -> {
+            TtsService.AudioSink sink = invocation.getArgument(1);
+            return sink.write(new ByteArrayInputStream(new byte[] {1, 2, 3}));
+        });
+
+        // when
+        ttsAudioService.prefetch(QUESTION);
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> meterRegistry.get("tts.inflight.size").gauge().value() == 0);
+        TtsAudio audio = ttsAudioService.getOrSynthesize(new SynthesizeRequest(QUESTION, null, null, "wav"));
+
+        // then
+        ArgumentCaptor<SynthesizeRequest> captor = ArgumentCaptor.forClass(SynthesizeRequest.class);
+        verify(ttsService, times(1)).synthesizeBinary(captor.capture(), any());
+        assertThat(captor.getValue().voice()).isEqualTo("male_professional");
+        assertThat(audio.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("같은 키의 합성이 진행 중이면 새로 합성하지 않고 진행 중인 작업에 합류한다")
+    void getOrSynthesizeAsync_joinsInFlightSynthesis() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(ttsService.synthesizeBinary(any(), any())).willAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            TtsService.AudioSink sink = invocation.getArgument(1);
+            return sink.write(new ByteArrayInputStream(new byte[] {1, 2, 3}));
+        });
+        SynthesizeRequest request = new SynthesizeRequest(QUESTION);
+
+        // when
+        CompletableFuture<TtsAudio> first = ttsAudioService.getOrSynthesizeAsync(request);
+        started.await();
+        CompletableFuture<TtsAudio> second = ttsAudioService.getOrSynthesizeAsync(
+                new SynthesizeRequest(QUESTION, "male_professional", null, null));
+        release.countDown();
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(second.get().size()).isEqualTo(3);
+        verify(ttsService, times(1)).synthesizeBinary(any(), any());
+        assertThat(meterRegistry.counter("tts.inflight.joined").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재합성은 캐시에 있는 음성도 다시 합성해 캐시 파일을 교체한다")
+    void resynthesize_replacesCachedAudio() {
+        // given
+        given(ttsService.synthesizeBinary(any(), any()))
+                .willAnswer(invocation -> invocation.<TtsService.AudioSink>getArgument(1)
+                        .write(new ByteArrayInputStream(new byte[] {1, 2, 3})))
+                .willAnswer(invocation -> invocation.<TtsService.AudioSink>getArgument(1)
+                        .write(new ByteArrayInputStream(new byte[] {4, 5, 6, 7})));
+        SynthesizeRequest request = new SynthesizeRequest(QUESTION);
+        ttsAudioService.getOrSynthesize(request);
+
+        // when
+        TtsAudio replaced = ttsAudioService.resynthesize(request);
+
+        // then
+        verify(ttsService, times(2)).synthesizeBinary(any(), any());
+        assertThat(replaced.size()).isEqualTo(4);
+        assertThat(ttsAudioService.getOrSynthesize(request).size()).isEqualTo(4);
+    }
+}
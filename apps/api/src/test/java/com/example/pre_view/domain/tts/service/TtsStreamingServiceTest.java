@@ -0,0 +1,268 @@
+package com.example.pre_view.domain.tts.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.pre_view.common.exception.BusinessException;
+import com.example.pre_view.common.exception.ErrorCode;
+import com.example.pre_view.domain.tts.config.TtsConfig;
+import com.example.pre_view.domain.tts.dto.SynthesizeRequest;
+import com.example.pre_view.domain.tts.dto.TtsAudio;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * TtsStreamingService 단위 테스트
+ *
+ * 문장별 합성은 Mock TtsAudioService가 임시 디렉토리의 음성 파일을 돌려주는 것으로 대체합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class TtsStreamingServiceTest {
+
+    private static final String FIRST = "첫 번째 문장을 합성하고 있습니다.";
+    private static final String SECOND = "두 번째 문장을 합성하고 있습니다.";
+    private static final String THIRD = "세 번째 문장을 합성하고 있습니다.";
+    private static final int WAV_HEADER_SIZE = 44;
+    private static final int SAMPLE_RATE = 16000;
+
+    @TempDir
+    private Path tempDir;
+
+    @Mock
+    private TtsAudioService ttsAudioService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private TtsAudioCache ttsAudioCache;
+    private TtsStreamingService ttsStreamingService;
+
+    @BeforeEach
+    void setUp() {
+        TtsConfig ttsConfig = new TtsConfig();
+        ttsConfig.setCacheDir(tempDir.toString());
+        ttsConfig.setStreamParallelism(2);
+
+        ttsAudioCache = new TtsAudioCache(ttsConfig, meterRegistry);
+        ttsStreamingService = new TtsStreamingService(ttsAudioService, ttsAudioCache, ttsConfig, meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("문장 분리")
+    class SplitSegmentsTest {
+
+        @Test
+        @DisplayName("15자 미만 문장은 다음 문장과 합치고, 마지막 짧은 문장은 그대로 둔다")
+        void splitSegments_mergesShortSentences() {
+            // given
+            SynthesizeRequest request = new SynthesizeRequest("네. 좋습니다. 자기소개를 간단히 부탁드립니다. 감사합니다.");
+
+            // when
+            List<SynthesizeRequest> segments = ttsStreamingService.splitSegments(request);
+
+            // then
+            assertThat(segments).extracting(SynthesizeRequest::text)
+                    .containsExactly("네. 좋습니다. 자기소개를 간단히 부탁드립니다.", "감사합니다.");
+        }
+
+        @Test
+        @DisplayName("줄바꿈으로도 나누고 빈 줄은 건너뛰며, 음성/속도/포맷은 모든 문장에 그대로 적용한다")
+        void splitSegments_newlines_keepOptions() {
+            // given
+            SynthesizeRequest request = new SynthesizeRequest(
+                    FIRST + "\n\n  \n" + SECOND, "male_professional", 1.2, "mp3");
+
+            // when
+            List<SynthesizeRequest> segments = ttsStreamingService.splitSegments(request);
+
+            // then
+            assertThat(segments).containsExactly(
+                    new SynthesizeRequest(FIRST, "male_professional", 1.2, "mp3"),
+                    new SynthesizeRequest(SECOND, "male_professional", 1.2, "mp3"));
+        }
+
+        @Test
+        @DisplayName("문장 끝 문자 뒤에 공백이 없으면 나누지 않는다")
+        void splitSegments_punctuationWithoutSpace_notSplit() {
+            // given
+            SynthesizeRequest request = new SynthesizeRequest(
+                    "평균 점수는 3.5점으로 합격선보다 높습니다. 다음 질문으로 넘어가 보겠습니다!");
+
+            // when
+            List<SynthesizeRequest> segments = ttsStreamingService.splitSegments(request);
+
+            // then
+            assertThat(segments).extracting(SynthesizeRequest::text)
+                    .containsExactly("평균 점수는 3.5점으로 합격선보다 높습니다.", "다음 질문으로 넘어가 보겠습니다!");
+        }
+    }
+
+    @Test
+    @DisplayName("WAV는 첫 문장 헤더의 RIFF/data 크기를 길이 미정으로 바꿔 한 번만 쓰고 이후 문장은 PCM만 이어 쓴다")
+    void stream_wav_rewritesHeaderOnce() throws IOException {
+        // given
+        byte[] firstPcm = {1, 2, 3, 4};
+        byte[] secondPcm = {5, 6, 7, 8, 9, 10};
+        SynthesizeRequest request = new SynthesizeRequest(FIRST + " " + SECOND);
+        List<SynthesizeRequest> segments = ttsStreamingService.splitSegments(request);
+        given(ttsAudioService.getOrSynthesizeAsync(segments.get(0)))
+                .willReturn(CompletableFuture.completedFuture(wav("first", firstPcm)));
+        given(ttsAudioService.getOrSynthesizeAsync(segments.get(1)))
+                .willReturn(CompletableFuture.completedFuture(wav("second", secondPcm)));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // when
+        ttsStreamingService.stream(request, output);
+
+        // then
+        byte[] bytes = output.toByteArray();
+        ByteBuffer header = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        assertThat(bytes).hasSize(WAV_HEADER_SIZE + firstPcm.length + secondPcm.length);
+        assertThat(header.getInt(4)).isEqualTo(0xFFFFFFFF);
+        assertThat(header.getInt(40)).isEqualTo(0xFFFFFFFF);
+        assertThat(header.getInt(24)).isEqualTo(SAMPLE_RATE);
+        assertThat(Arrays.copyOfRange(bytes, WAV_HEADER_SIZE, bytes.length))
+                .containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+    }
+
+    @Test
+    @DisplayName("전체 텍스트 음성이 캐시에 있으면 문장으로 나누지 않고 그대로 전송한다")
+    void stream_wholeTextCached_sendsAsIs() throws IOException {
+        // given
+        SynthesizeRequest request = new SynthesizeRequest(FIRST + " " + SECOND, null, null, "mp3");
+        ttsAudioCache.put(TtsAudioCache.keyOf(request), "mp3", new byte[] {7, 7, 7}, null, null);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // when
+        ttsStreamingService.stream(request, output);
+
+        // then
+        assertThat(output.toByteArray()).containsExactly(7, 7, 7);
+        verifyNoInteractions(ttsAudioService);
+    }
+
+    @Nested
+    @DisplayName("중단 시 앞서 합성 대기 취소")
+    class LookaheadCancellationTest {
+
+        @Test
+        @DisplayName("클라이언트 연결이 끊기면 쓰지 못한 문장의 대기만 취소하고 공유 합성 작업은 유지한다")
+        void stream_clientDisconnected_cancelsPendingCopies() throws IOException {
+            // given - 동시 합성 2개: 첫 문장을 쓰는 동안 세 번째 문장 합성 시작
+            SynthesizeRequest request = new SynthesizeRequest(FIRST + " " + SECOND + " " + THIRD, null, null, "mp3");
+            List<SynthesizeRequest> segments = ttsStreamingService.splitSegments(request);
+            TrackedFuture first = TrackedFuture.completed(mp3("first"));
+            TrackedFuture second = new TrackedFuture();
+            TrackedFuture third = new TrackedFuture();
+            given(ttsAudioService.getOrSynthesizeAsync(segments.get(0))).willReturn(first);
+            given(ttsAudioService.getOrSynthesizeAsync(segments.get(1))).willReturn(second);
+            given(ttsAudioService.getOrSynthesizeAsync(segments.get(2))).willReturn(third);
+
+            // when & then
+            assertThatThrownBy(() -> ttsStreamingService.stream(request, new DisconnectedOutputStream()))
+                    .isInstanceOf(IOException.class);
+            assertThat(second.copy.isCancelled()).isTrue();
+            assertThat(third.copy.isCancelled()).isTrue();
+            assertThat(second.isCancelled()).isFalse();
+            assertThat(third.isCancelled()).isFalse();
+        }
+
+        @Test
+        @DisplayName("문장 합성이 실패하면 예외를 전달하고 남은 문장의 대기를 취소한다")
+        void stream_segmentFailure_cancelsRemainingCopies() {
+            // given
+            SynthesizeRequest request = new SynthesizeRequest(FIRST + " " + SECOND + " " + THIRD, null, null, "mp3");
+            List<SynthesizeRequest> segments = ttsStreamingService.splitSegments(request);
+            TrackedFuture third = new TrackedFuture();
+            given(ttsAudioService.getOrSynthesizeAsync(segments.get(0)))
+                    .willReturn(CompletableFuture.completedFuture(mp3("first")));
+            given(ttsAudioService.getOrSynthesizeAsync(segments.get(1)))
+                    .willReturn(CompletableFuture.failedFuture(new BusinessException(ErrorCode.TTS_SERVICE_ERROR)));
+            given(ttsAudioService.getOrSynthesizeAsync(segments.get(2))).willReturn(third);
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+            // when & then - 첫 문장은 이미 전송됨
+            assertThatThrownBy(() -> ttsStreamingService.stream(request, output))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.TTS_SERVICE_ERROR);
+            assertThat(output.toByteArray()).containsExactly(1, 2, 3);
+            assertThat(third.copy.isCancelled()).isTrue();
+            assertThat(third.isCancelled()).isFalse();
+        }
+    }
+
+    private TtsAudio mp3(String name) throws IOException {
+        Path path = Files.write(tempDir.resolve(name + ".mp3"), new byte[] {1, 2, 3});
+        return new TtsAudio(name, path, 3, "mp3", null, null);
+    }
+
+    private TtsAudio wav(String name, byte[] pcm) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(WAV_HEADER_SIZE + pcm.length).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put("RIFF".getBytes(StandardCharsets.US_ASCII)).putInt(36 + pcm.length)
+                .put("WAVE".getBytes(StandardCharsets.US_ASCII))
+                .put("fmt ".getBytes(StandardCharsets.US_ASCII)).putInt(16)
+                .putShort((short) 1).putShort((short) 1).putInt(SAMPLE_RATE).putInt(SAMPLE_RATE * 2)
+                .putShort((short) 2).putShort((short) 16)
+                .put("data".getBytes(StandardCharsets.US_ASCII)).putInt(pcm.length)
+                .put(pcm);
+        Path path = Files.write(tempDir.resolve(name + ".wav"), buffer.array());
+        return new TtsAudio(name, path, buffer.capacity(), "wav", null, SAMPLE_RATE);
+    }
+
+    /**
+     * 스트리밍 서비스가 받아 간 복사본을 기록하는 합성 작업 (원본과 복사본의 취소 여부를 따로 확인)
+     */
+    private static final class TrackedFuture extends CompletableFuture<TtsAudio> {
+
+        private CompletableFuture<TtsAudio> copy;
+
+        static TrackedFuture completed(TtsAudio audio) {
+            TrackedFuture future = new TrackedFuture();
+            future.complete(audio);
+            return future;
+        }
+
+        @Override
+        public CompletableFuture<TtsAudio> copy() {
+            copy = super.copy();
+            return copy;
+        }
+    }
+
+    /**
+     * 연결이 끊긴 클라이언트 응답 스트림
+     */
+    private static final class DisconnectedOutputStream extends OutputStream {
+
+        @Override
+        public void write(int b) throws IOException {
+            throw new IOException("Broken pipe");
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            throw new IOException("Broken pipe");
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.example.pre_view.domain.voice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * GradioClient SSE 줄 단위 파서 단위 테스트
+ *
+ * HTTP 연결 없이 구독자에 SSE 줄을 직접 전달해 이벤트 처리를 확인합니다.
+ */
+class GradioSseSubscriberTest {
+
+    private static final String EVENT_ID = "event-1";
+
+    private final JsonMapper objectMapper = JsonMapper.builder().build();
+    private final CompletableFuture<JsonNode> result = new CompletableFuture<>();
+    private final List<GradioClient.Event> events = new ArrayList<>();
+    private final Flow.Subscription subscription = mock(Flow.Subscription.class);
+
+    private GradioClient.SseSubscriber subscriber;
+
+    @BeforeEach
+    void setUp() {
+        subscriber = new GradioClient.SseSubscriber(EVENT_ID, result, events::add, objectMapper);
+    }
+
+    @Nested
+    @DisplayName("결과 이벤트")
+    class ResultEventTest {
+
+        @Test
+        @DisplayName("여러 줄로 나뉜 data를 이어 붙여 complete 결과로 반환하고 스트림을 닫는다")
+        void complete_multiLineData_joinsAndCancelsSubscription() {
+            // given
+            subscriber.onSubscribe(subscription);
+
+            // when
+            feed("event: complete", "data: [\"안녕하세요\",", "data: {\"path\": \"/tmp/audio.wav\"}]", "");
+
+            // then
+            JsonNode output = result.join();
+            assertThat(output.get(0).asText()).isEqualTo("안녕하세요");
+            assertThat(output.get(1).get("path").asText()).isEqualTo("/tmp/audio.wav");
+            verify(subscription).cancel();
+        }
+
+        @Test
+        @DisplayName("error 이벤트는 내용을 담아 작업 실패로 전달하고 스트림을 닫는다")
+        void error_failsResultAndCancelsSubscription() {
+            // given
+            subscriber.onSubscribe(subscription);
+
+            // when
+            feed("event: error", "data: \"CUDA out of memory\"", "");
+
+            // then
+            assertThatThrownBy(result::join)
+                    .isInstanceOf(CompletionException.class)
+                    .cause()
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("CUDA out of memory");
+            verify(subscription).cancel();
+        }
+
+        @Test
+        @DisplayName("마지막 빈 줄 없이 스트림이 끝나도 남은 complete 이벤트를 처리한다")
+        void onComplete_pendingCompleteEvent_dispatches() {
+            // given
+            subscriber.onSubscribe(subscription);
+            feed("event: complete", "data: [\"done\"]");
+
+            // when
+            subscriber.onComplete();
+
+            // then
+            assertThat(result.join().get(0).asText()).isEqualTo("done");
+        }
+
+        @Test
+        @DisplayName("결과 없이 스트림이 끝나면 작업 실패로 처리한다")
+        void onComplete_withoutResult_fails() {
+            // given
+            subscriber.onSubscribe(subscription);
+            feed("event: generating", "data: null", "");
+
+            // when
+            subscriber.onComplete();
+
+            // then
+            assertThatThrownBy(result::join)
+                    .isInstanceOf(CompletionException.class)
+                    .cause()
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining(EVENT_ID);
+        }
+
+        @Test
+        @DisplayName("연결 오류는 그대로 작업 실패로 전달한다")
+        void onError_failsResult() {
+            // given
+            subscriber.onSubscribe(subscription);
+            IllegalStateException failure = new IllegalStateException("connection reset");
+
+            // when
+            subscriber.onError(failure);
+
+            // then
+            assertThatThrownBy(result::join).cause().isSameAs(failure);
+        }
+    }
+
+    @Nested
+    @DisplayName("진행 이벤트")
+    class ProgressEventTest {
+
+        @Test
+        @DisplayName("heartbeat와 주석 줄은 리스너로 전달하지 않고 결과도 완료하지 않는다")
+        void heartbeatAndComments_ignored() {
+            // given
+            subscriber.onSubscribe(subscription);
+
+            // when
+            feed(": keep-alive", "", "event: heartbeat", "data: null", "");
+
+            // then
+            assertThat(events).isEmpty();
+            assertThat(result).isNotDone();
+            verify(subscription, never()).cancel();
+        }
+
+        @Test
+        @DisplayName("대기열 이벤트는 순번과 함께 리스너로 전달하고, event 줄이 없으면 message로 처리한다")
+        void queueAndMessageEvents_deliveredToListener() {
+            // given
+            subscriber.onSubscribe(subscription);
+
+            // when
+            feed("event: estimation", "data: {\"rank\": 2, \"queue_size\": 5}", "");
+            feed("data: not json", "");
+
+            // then
+            assertThat(events).extracting(GradioClient.Event::type).containsExactly("estimation", "message");
+            assertThat(events.get(0).queueRank()).isEqualTo(2);
+            assertThat(events.get(1).data()).isNull();
+            assertThat(result).isNotDone();
+        }
+    }
+
+    @Nested
+    @DisplayName("구독 취소")
+    class CancelTest {
+
+        @Test
+        @DisplayName("구독 시작 시 전체 줄을 요청한다")
+        void onSubscribe_requestsAllLines() {
+            // when
+            subscriber.onSubscribe(subscription);
+
+            // then
+            verify(subscription).request(Long.MAX_VALUE);
+        }
+
+        @Test
+        @DisplayName("구독 전에 취소하면 구독 시작 즉시 스트림을 닫고 줄을 요청하지 않는다")
+        void cancel_beforeSubscribe_cancelsOnSubscribe() {
+            // given
+            subscriber.cancel();
+
+            // when
+            subscriber.onSubscribe(subscription);
+
+            // then
+            verify(subscription).cancel();
+            verify(subscription, never()).request(anyLong());
+            assertThatThrownBy(result::join).isInstanceOf(CancellationException.class);
+        }
+
+        @Test
+        @DisplayName("구독 중에 취소하면 스트림을 닫고 결과를 취소한다")
+        void cancel_afterSubscribe_cancelsSubscription() {
+            // given
+            subscriber.onSubscribe(subscription);
+
+            // when
+            subscriber.cancel();
+
+            // then
+            verify(subscription).cancel();
+            assertThat(result).isCancelled();
+        }
+    }
+
+    private void feed(String... lines) {
+        for (String line : lines) {
+            subscriber.onNext(line);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.pre_view.domain.voice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.pre_view.domain.voice.config.GradioVoiceConfig;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * VoiceBackendPool 제외/복귀 단위 테스트
+ */
+class VoiceBackendPoolTest {
+
+    private static final String PRIMARY = "http://primary";
+    private static final String SECONDARY = "http://secondary";
+
+    private VoiceBackendPool pool;
+    private VoiceBackend primary;
+
+    @BeforeEach
+    void setUp() {
+        GradioVoiceConfig config = new GradioVoiceConfig();
+        config.setServiceUrl(PRIMARY);
+        config.setServiceUrls(List.of(SECONDARY));
+        config.setFailureThreshold(2);
+        config.setRecoveryThreshold(2);
+
+        pool = new VoiceBackendPool(config, new SimpleMeterRegistry());
+        primary = pool.getBackends().get(0);
+    }
+
+    @Test
+    @DisplayName("연속 실패가 기준에 도달하면 라우팅에서 제외한다")
+    void recordProbe_ejectsAfterConsecutiveFailures() {
+        // when
+        pool.recordProbe(primary, false);
+        pool.recordProbe(primary, false);
+
+        // then
+        assertThat(primary.isAvailable()).isFalse();
+        assertThat(primary.isHalfOpen()).isFalse();
+    }
+
+    @Test
+    @DisplayName("제외된 백엔드는 헬스체크가 연속으로 기준 횟수만큼 성공해야 복귀한다")
+    void recordProbe_readmitsAfterConsecutiveSuccesses() {
+        // given
+        eject(primary);
+
+        // when
+        pool.recordProbe(primary, true);
+
+        // then
+        assertThat(primary.isAvailable()).isFalse();
+        assertThat(primary.isHalfOpen()).isTrue();
+
+        // when
+        pool.recordProbe(primary, true);
+
+        // then
+        assertThat(primary.isAvailable()).isTrue();
+        assertThat(primary.isHalfOpen()).isFalse();
+    }
+
+    @Test
+    @DisplayName("복귀 진행 중 헬스체크가 실패하면 처음부터 다시 센다")
+    void recordProbe_failureResetsRecovery() {
+        // given
+        eject(primary);
+        pool.recordProbe(primary, true);
+
+        // when
+        pool.recordProbe(primary, false);
+        pool.recordProbe(primary, true);
+
+        // then
+        assertThat(primary.isAvailable()).isFalse();
+        assertThat(primary.isHalfOpen()).isTrue();
+    }
+
+    @Test
+    @DisplayName("복귀 시험 상태의 백엔드에는 시험 요청을 하나만 보내고, 성공하면 복귀한다")
+    void acquire_sendsSingleTrialRequestToHalfOpenBackend() {
+        // given
+        eject(primary);
+        pool.recordProbe(primary, true);
+
+        // when
+        VoiceBackendPool.Lease trial = pool.acquire();
+        VoiceBackendPool.Lease next = pool.acquire();
+
+        // then
+        assertThat(trial.backend()).isSameAs(primary);
+        assertThat(trial.trial()).isTrue();
+        assertThat(next.backend().getUrl()).isEqualTo(SECONDARY);
+
+        // when
+        pool.release(trial, true);
+
+        // then
+        assertThat(primary.isAvailable()).isTrue();
+    }
+
+    @Test
+    @DisplayName("복귀 시험 요청이 실패하면 다시 제외 상태로 돌아간다")
+    void release_failedTrialReturnsToEjected() {
+        // given
+        eject(primary);
+        pool.recordProbe(primary, true);
+        VoiceBackendPool.Lease trial = pool.acquire();
+
+        // when
+        pool.release(trial, false);
+
+        // then
+        assertThat(primary.isAvailable()).isFalse();
+        assertThat(primary.isHalfOpen()).isFalse();
+        assertThat(pool.acquire().backend().getUrl()).isEqualTo(SECONDARY);
+    }
+
+    @Test
+    @DisplayName("헬스체크 성공 전 제외 상태에서 끝난 요청의 성공만으로는 복귀하지 않는다")
+    void release_successWhileEjectedDoesNotReadmit() {
+        // given
+        VoiceBackendPool.Lease inFlight = pool.acquire();
+        assertThat(inFlight.backend()).isSameAs(primary);
+        eject(primary);
+
+        // when
+        pool.release(inFlight, true);
+
+        // then
+        assertThat(primary.isAvailable()).isFalse();
+    }
+
+    @Test
+    @DisplayName("복귀 시험 상태에서도 제외 전에 시작된 요청의 성공으로는 복귀하지 않고 시험 요청을 기다린다")
+    void release_successOfRequestStartedBeforeEjectionDoesNotReadmitHalfOpen() {
+        // given
+        VoiceBackendPool.Lease inFlight = pool.acquire();
+        assertThat(inFlight.backend()).isSameAs(primary);
+        eject(primary);
+        pool.recordProbe(primary, true);
+
+        // when
+        pool.release(inFlight, true);
+
+        // then
+        assertThat(primary.isAvailable()).isFalse();
+        assertThat(primary.isHalfOpen()).isTrue();
+        assertThat(pool.acquire().trial()).isTrue();
+    }
+
+    @Test
+    @DisplayName("복귀 진행이 초기화되기 전에 배정된 시험 요청은 성공해도 복귀시키지 않는다")
+    void release_staleTrialDoesNotReadmit() {
+        // given
+        eject(primary);
+        pool.recordProbe(primary, true);
+        VoiceBackendPool.Lease staleTrial = pool.acquire();
+        pool.recordProbe(primary, false);
+        pool.recordProbe(primary, true);
+        VoiceBackendPool.Lease currentTrial = pool.acquire();
+
+        // when
+        pool.release(staleTrial, true);
+
+        // then
+        assertThat(primary.isAvailable()).isFalse();
+
+        // when
+        pool.release(currentTrial, true);
+
+        // then
+        assertThat(primary.isAvailable()).isTrue();
+    }
+
+    private void eject(VoiceBackend backend) {
+        pool.recordProbe(backend, false);
+        pool.recordProbe(backend, false);
+        assertThat(backend.isAvailable()).isFalse();
+    }
+}
@@ -10,7 +10,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import com.example.pre_view.domain.auth.jwt.JwtTokenProvider;
 import com.example.pre_view.domain.auth.resolver.CurrentMemberIdArgumentResolver;
-import com.example.pre_view.domain.auth.service.AccessTokenBlacklistService;
+import com.example.pre_view.domain.auth.service.TokenRevocationService;
 
 import tools.jackson.databind.json.JsonMapper;
 
@@ -78,10 +78,10 @@ public abstract class WebMvcTestSupport {
     protected JwtTokenProvider jwtTokenProvider;
 
     /**
-     * Access Token Blacklist 서비스 Mock
+     * 토큰 폐기 서비스 Mock
      */
     @MockitoBean
-    protected AccessTokenBlacklistService accessTokenBlacklistService;
+    protected TokenRevocationService tokenRevocationService;
 
     /**
      * JSON 직렬화 도구
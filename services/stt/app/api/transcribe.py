@@ -2,9 +2,9 @@
 import logging
 import time
 from fastapi import APIRouter, UploadFile, File, HTTPException, Form
-from typing import Optional
+from typing import List, Optional
 
-from ..schemas import TranscriptionResponse
+from ..schemas import TranscriptionResponse, BatchTranscriptionItem, BatchTranscriptionResponse
 from ..core.vibevoice_model import get_model
 from ..core.audio_processor import AudioProcessor
 from ..config import settings
@@ -71,3 +71,58 @@ async def transcribe_file(
     except Exception as e:
         logger.error(f"Transcription failed: {e}", exc_info=True)
         raise HTTPException(status_code=500, detail=f"Transcription failed: {str(e)}")
+
+
+@router.post("/transcribe/batch", response_model=BatchTranscriptionResponse)
+async def transcribe_batch(
+    files: List[UploadFile] = File(..., description="Audio files to transcribe"),
+    language: Optional[str] = Form(None, description="Language code shared by all files")
+):
+    """
+    여러 오디오 파일을 한 번의 배치 추론으로 전사
+
+    - **files**: 오디오 파일 목록 (결과는 같은 순서)
+    - **language**: 언어 코드 (모든 파일 공통, 선택사항)
+
+    디코딩에 실패한 파일은 해당 항목에만 error가 채워지고 나머지는 정상 전사됩니다.
+    항목별 duration은 디코딩된 오디오 길이(초)로, 호출 측의 길이 제한 검증에 사용됩니다.
+    """
+    start_time = time.time()
+    processor = AudioProcessor()
+
+    results: List[Optional[BatchTranscriptionItem]] = [None] * len(files)
+    audios = []
+    indexes = []
+    for index, file in enumerate(files):
+        try:
+            file_ext = "." + file.filename.split(".")[-1].lower() if "." in file.filename else ""
+            if file_ext not in settings.ALLOWED_AUDIO_FORMATS:
+                raise ValueError(f"Unsupported file format: {file_ext}")
+
+            audio_bytes = await file.read()
+            if len(audio_bytes) > settings.MAX_FILE_SIZE:
+                raise ValueError("File too large")
+
+            audios.append(processor.load_audio(audio_bytes))
+            indexes.append(index)
+        except Exception as e:
+            logger.warning(f"Batch item {index} rejected: {e}")
+            results[index] = BatchTranscriptionItem(error=str(e))
+
+    if audios:
+        try:
+            model = get_model()
+            transcribed = model.transcribe_batch(audios, language=language)
+            for index, audio, result in zip(indexes, audios, transcribed):
+                results[index] = BatchTranscriptionItem(
+                    text=result["text"],
+                    language=result.get("language"),
+                    duration=processor.get_audio_duration(audio)
+                )
+        except Exception as e:
+            logger.error(f"Batch transcription failed: {e}", exc_info=True)
+            raise HTTPException(status_code=500, detail=f"Batch transcription failed: {str(e)}")
+
+    duration = time.time() - start_time
+    logger.info(f"Batch transcription completed in {duration:.2f}s: {len(files)} files")
+    return BatchTranscriptionResponse(results=results, duration=duration)
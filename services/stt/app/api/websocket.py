@@ -22,6 +22,7 @@ async def websocket_transcribe(websocket: WebSocket):
 
     Protocol:
     - Client sends: Binary PCM audio chunks (int16, 16kHz, mono)
+    - Client sends: Text {"type": "end"} to finish the stream and receive the final result
     - Server sends: JSON with {"text": "...", "is_final": true/false}
 
     Connection params:
@@ -40,8 +41,27 @@ async def websocket_transcribe(websocket: WebSocket):
 
     try:
         while True:
+            message = await websocket.receive()
+            if message["type"] == "websocket.disconnect":
+                raise WebSocketDisconnect(message.get("code", 1000))
+
+            # End-of-stream control message: flush remaining audio and close
+            if message.get("text") is not None:
+                try:
+                    control = json.loads(message["text"])
+                except ValueError:
+                    control = {}
+                if control.get("type") == "end":
+                    await _send_final(websocket, model, buffer, language)
+                    await websocket.close(code=1000)
+                    logger.info(f"WebSocket stream ended by client: {websocket.client}")
+                    return
+                continue
+
             # Receive audio chunk
-            data = await websocket.receive_bytes()
+            data = message.get("bytes")
+            if not data:
+                continue
 
             # Process PCM chunk
             audio_chunk = processor.process_pcm_chunk(data, dtype="int16")
@@ -73,21 +93,9 @@ async def websocket_transcribe(websocket: WebSocket):
                         )
 
     except WebSocketDisconnect:
-        logger.info(f"WebSocket disconnected: {websocket.client}")
-
-        # Process remaining buffer
-        remaining = buffer.get_remaining()
-        if remaining is not None and len(remaining) > 0:
-            try:
-                result = model.transcribe(remaining, language=language)
-                response = StreamingChunk(
-                    text=result["text"],
-                    is_final=True
-                )
-                await websocket.send_text(response.model_dump_json())
-                logger.info(f"Sent final: {result['text']}")
-            except Exception as e:
-                logger.error(f"Final transcription error: {e}")
+        # Client is gone, so nobody can receive a final result: discard the remaining audio
+        logger.info(f"WebSocket disconnected: {websocket.client}, discarded {buffer.get_buffer_duration():.1f}s of audio")
+        buffer.clear()
 
     except Exception as e:
         logger.error(f"WebSocket error: {e}", exc_info=True)
@@ -95,3 +103,19 @@ async def websocket_transcribe(websocket: WebSocket):
             await websocket.close(code=1011, reason=str(e))
         except:
             pass
+
+
+async def _send_final(websocket: WebSocket, model, buffer: StreamingBuffer, language: Optional[str]):
+    """남은 버퍼를 전사해 최종 결과 전송 (남은 오디오가 없으면 빈 텍스트)"""
+    text = ""
+    remaining = buffer.get_remaining()
+    if remaining is not None and len(remaining) > 0:
+        try:
+            result = model.transcribe(remaining, language=language)
+            text = result["text"]
+        except Exception as e:
+            logger.error(f"Final transcription error: {e}")
+
+    response = StreamingChunk(text=text, is_final=True)
+    await websocket.send_text(response.model_dump_json())
+    logger.info(f"Sent final: {text}")
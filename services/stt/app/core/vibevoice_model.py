@@ -2,7 +2,7 @@
 import logging
 import torch
 from transformers import AutoModelForSpeechSeq2Seq, AutoProcessor, pipeline
-from typing import Optional, Dict, Any
+from typing import Optional, Dict, Any, List
 import numpy as np
 
 from ..config import settings
@@ -99,6 +99,40 @@ class WhisperModel:
             logger.error(f"Transcription failed: {e}")
             raise
 
+    def transcribe_batch(
+        self,
+        audios: List[np.ndarray],
+        language: Optional[str] = None,
+    ) -> List[Dict[str, Any]]:
+        """
+        여러 오디오를 한 번의 파이프라인 호출로 전사 (배치 추론)
+
+        Args:
+            audios: Audio arrays (float32, 16kHz)
+            language: Language code (e.g., 'ko', 'en')
+
+        Returns:
+            List of dicts containing 'text', in input order
+        """
+        if self.pipe is None:
+            raise RuntimeError("Model not loaded. Call load_model() first.")
+
+        generate_kwargs = {}
+        if language:
+            generate_kwargs["language"] = language
+
+        results = self.pipe(
+            audios,
+            batch_size=len(audios),
+            generate_kwargs=generate_kwargs,
+            return_timestamps=False,
+        )
+
+        return [
+            {"text": result["text"].strip(), "language": language}
+            for result in results
+        ]
+
     def is_loaded(self) -> bool:
         """모델 로드 여부 확인"""
         return self.pipe is not None
@@ -2,6 +2,8 @@
 from .transcription import (
     TranscriptionRequest,
     TranscriptionResponse,
+    BatchTranscriptionItem,
+    BatchTranscriptionResponse,
     StreamingChunk,
     HealthResponse
 )
@@ -9,6 +11,8 @@ from .transcription import (
 __all__ = [
     "TranscriptionRequest",
     "TranscriptionResponse",
+    "BatchTranscriptionItem",
+    "BatchTranscriptionResponse",
     "StreamingChunk",
     "HealthResponse"
 ]
@@ -1,6 +1,6 @@
 """Transcription Schemas"""
 from pydantic import BaseModel, Field
-from typing import Optional
+from typing import List, Optional
 from datetime import datetime
 
 
@@ -27,6 +27,20 @@ class TranscriptionResponse(BaseModel):
         }
 
 
+class BatchTranscriptionItem(BaseModel):
+    """Batch transcription item result"""
+    text: Optional[str] = Field(None, description="Transcribed text (null on failure)")
+    language: Optional[str] = Field(None, description="Detected language")
+    duration: Optional[float] = Field(None, description="Audio duration in seconds")
+    error: Optional[str] = Field(None, description="Error message for this item")
+
+
+class BatchTranscriptionResponse(BaseModel):
+    """Batch transcription response (same order as uploaded files)"""
+    results: List[BatchTranscriptionItem] = Field(..., description="Per-file results")
+    duration: float = Field(..., description="Processing duration in seconds")
+
+
 class StreamingChunk(BaseModel):
     """Streaming transcription chunk"""
     text: str = Field(..., description="Partial transcription")
@@ -3,7 +3,9 @@ import logging
 from fastapi import APIRouter, HTTPException
 from fastapi.responses import Response
 
-from app.schemas import SynthesisRequest, SynthesisResponse
+import struct
+
+from app.schemas import BatchSynthesisRequest, SynthesisRequest, SynthesisResponse
 from app.core.qwen_tts import get_tts_instance
 from app.core.audio_encoder import AudioEncoder
 from app.config import settings
@@ -147,3 +149,53 @@ async def synthesize_speech_binary(request: SynthesisRequest):
     except Exception as e:
         logger.error(f"음성 합성 실패: {str(e)}", exc_info=True)
         raise HTTPException(status_code=500, detail=str(e))
+
+
+@router.post("/synthesize/batch")
+async def synthesize_speech_batch(request: BatchSynthesisRequest):
+    """
+    여러 텍스트를 한 번의 배치 추론으로 음성 변환 (바이너리 응답)
+
+    응답 본문은 요청 순서대로 항목마다 [4바이트 big-endian 길이][오디오 바이트]를 이어 붙인 형식입니다.
+    인코딩에 실패한 항목은 길이 -1로 표시되고 오디오 바이트가 없습니다.
+
+    Args:
+        request: 배치 음성 합성 요청
+
+    Returns:
+        Response: 길이 접두 오디오 바이너리 목록
+    """
+    try:
+        logger.info(f"배치 음성 합성 요청 - size: {len(request.items)}")
+
+        tts = get_tts_instance()
+        if not tts._initialized:
+            tts.initialize()
+
+        audios = tts.synthesize_batch(
+            [(item.text, item.voice, item.speed) for item in request.items]
+        )
+
+        body = bytearray()
+        for item, audio_data in zip(request.items, audios):
+            try:
+                if item.format == "mp3":
+                    audio_bytes = AudioEncoder._to_mp3_bytes(audio_data, settings.SAMPLE_RATE).getvalue()
+                else:
+                    audio_bytes = AudioEncoder._to_wav_bytes(audio_data, settings.SAMPLE_RATE).getvalue()
+                body += struct.pack(">i", len(audio_bytes))
+                body += audio_bytes
+            except Exception as e:
+                logger.error(f"배치 항목 인코딩 실패: {str(e)}")
+                body += struct.pack(">i", -1)
+
+        logger.info(f"배치 음성 합성 완료 - size: {len(audios)}, bytes: {len(body)}")
+        return Response(
+            content=bytes(body),
+            media_type="application/octet-stream",
+            headers={"X-Batch-Size": str(len(audios))},
+        )
+
+    except Exception as e:
+        logger.error(f"배치 음성 합성 실패: {str(e)}", exc_info=True)
+        raise HTTPException(status_code=500, detail=str(e))
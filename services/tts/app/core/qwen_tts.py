@@ -1,6 +1,6 @@
 """Qwen3-TTS Model Wrapper"""
 import logging
-from typing import Dict
+from typing import Dict, List, Tuple
 import torch
 import numpy as np
 from transformers import AutoModelForCausalLM, AutoTokenizer
@@ -161,6 +161,70 @@ class QwenTTS:
             logger.error(f"음성 합성 실패: {str(e)}")
             raise RuntimeError(f"TTS 변환 실패: {str(e)}")
 
+    def synthesize_batch(
+        self,
+        items: List[Tuple[str, str, float]],
+    ) -> List[np.ndarray]:
+        """
+        여러 텍스트를 한 번의 모델 호출로 음성 변환 (배치 추론)
+
+        Args:
+            items: (텍스트, 음성 스타일, 속도) 목록
+
+        Returns:
+            List[numpy.ndarray]: 요청 순서대로의 오디오 데이터 (16-bit PCM)
+        """
+        if not self._initialized:
+            self.initialize()
+
+        prompts = []
+        for text, voice, _ in items:
+            if voice not in self.AVAILABLE_VOICES:
+                logger.warning(f"알 수 없는 음성: {voice}, 기본값 사용")
+                voice = settings.DEFAULT_VOICE
+            prompts.append(self._create_prompt(self._preprocess_text(text), voice))
+
+        try:
+            logger.info(f"배치 음성 합성 시작 - size: {len(prompts)}")
+
+            # 생성 모델은 왼쪽 패딩이어야 배치 내 길이가 달라도 이어서 생성됨
+            # (공유 토크나이저이므로 이 호출에서만 바꾸고 원래 값으로 되돌림)
+            padding_side = self.tokenizer.padding_side
+            self.tokenizer.padding_side = "left"
+            try:
+                inputs = self.tokenizer(
+                    prompts,
+                    return_tensors="pt",
+                    padding=True,
+                    truncation=True,
+                    max_length=settings.MAX_TEXT_LENGTH,
+                ).to(self.device)
+            finally:
+                self.tokenizer.padding_side = padding_side
+
+            with torch.no_grad():
+                outputs = self.model.generate(
+                    **inputs,
+                    max_length=512,
+                    do_sample=True,
+                    temperature=0.7,
+                    top_p=0.9,
+                )
+
+            results = []
+            for index, (_, _, speed) in enumerate(items):
+                audio_data = self._extract_audio(outputs[index:index + 1])
+                if speed != 1.0:
+                    audio_data = self._adjust_speed(audio_data, speed)
+                results.append(audio_data)
+
+            logger.info(f"배치 음성 합성 완료 - size: {len(results)}")
+            return results
+
+        except Exception as e:
+            logger.error(f"배치 음성 합성 실패: {str(e)}")
+            raise RuntimeError(f"TTS 배치 변환 실패: {str(e)}")
+
     def _preprocess_text(self, text: str) -> str:
         """텍스트 전처리"""
         # 공백 정리
@@ -1,4 +1,5 @@
 from .synthesis import (
+    BatchSynthesisRequest,
     SynthesisRequest,
     SynthesisResponse,
     VoiceInfo,
@@ -6,6 +7,7 @@ from .synthesis import (
 )
 
 __all__ = [
+    "BatchSynthesisRequest",
     "SynthesisRequest",
     "SynthesisResponse",
     "VoiceInfo",
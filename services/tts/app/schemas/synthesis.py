@@ -37,6 +37,17 @@ class SynthesisRequest(BaseModel):
         return text
 
 
+class BatchSynthesisRequest(BaseModel):
+    """배치 음성 합성 요청"""
+
+    items: list[SynthesisRequest] = Field(
+        ...,
+        description="음성 합성 요청 목록 (응답은 같은 순서)",
+        min_length=1,
+        max_length=32,
+    )
+
+
 class SynthesisResponse(BaseModel):
     """음성 합성 응답"""
 